@@ -22,7 +22,7 @@ function SearchContent() {
     keyword: keyword || undefined,
     minPrice: searchParams.get('minPrice') ? Number(searchParams.get('minPrice')) : undefined,
     maxPrice: searchParams.get('maxPrice') ? Number(searchParams.get('maxPrice')) : undefined,
-    sort: searchParams.get('sort') || 'createdAt',
+    sort: searchParams.get('sort') || 'relevance',
     direction: (searchParams.get('direction') as 'ASC' | 'DESC') || 'DESC',
     page: searchParams.get('page') ? Number(searchParams.get('page')) : 0,
     size: 20,
@@ -39,7 +39,7 @@ function SearchContent() {
     if (newKeyword) params.set('q', newKeyword);
     if (newFilters.minPrice) params.set('minPrice', newFilters.minPrice.toString());
     if (newFilters.maxPrice) params.set('maxPrice', newFilters.maxPrice.toString());
-    if (newFilters.sort && newFilters.sort !== 'createdAt') params.set('sort', newFilters.sort);
+    if (newFilters.sort && newFilters.sort !== 'relevance') params.set('sort', newFilters.sort);
     if (newFilters.direction && newFilters.direction !== 'DESC') params.set('direction', newFilters.direction);
     if (newFilters.page && newFilters.page > 0) params.set('page', newFilters.page.toString());
 
@@ -118,6 +118,7 @@ function SearchContent() {
               <SearchFilters
                 filters={filters}
                 onFilterChange={handleFilterChange}
+                showRelevanceSort
               />
             </div>
           </aside>
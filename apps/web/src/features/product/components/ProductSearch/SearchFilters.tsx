@@ -7,9 +7,11 @@ import type { ProductFilters } from '../../types';
 interface SearchFiltersProps {
   filters: ProductFilters;
   onFilterChange: (filters: ProductFilters) => void;
+  /** 키워드 검색 화면에서 관련도순 정렬 표시 */
+  showRelevanceSort?: boolean;
 }
 
-export function SearchFilters({ filters, onFilterChange }: SearchFiltersProps) {
+export function SearchFilters({ filters, onFilterChange, showRelevanceSort = false }: SearchFiltersProps) {
   const [localMinPrice, setLocalMinPrice] = useState(filters.minPrice?.toString() || '');
   const [localMaxPrice, setLocalMaxPrice] = useState(filters.maxPrice?.toString() || '');
 
@@ -49,6 +51,7 @@ export function SearchFilters({ filters, onFilterChange }: SearchFiltersProps) {
         <h3 className="font-medium text-gray-900 mb-3">정렬</h3>
         <div className="space-y-2">
           {[
+            ...(showRelevanceSort ? [{ label: '관련도순', sort: 'relevance', direction: 'DESC' as const }] : []),
             { label: '최신순', sort: 'createdAt', direction: 'DESC' as const },
             { label: '낮은 가격순', sort: 'price', direction: 'ASC' as const },
             { label: '높은 가격순', sort: 'price', direction: 'DESC' as const },
@@ -7,7 +7,6 @@ import com.ecommerce.cart.domain.event.CartItemRemovedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
@@ -21,7 +20,6 @@ public class CartEventHandler {
     /**
      * 장바구니 아이템 추가 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleCartItemAdded(CartItemAddedEvent event) {
         log.info("장바구니 아이템 추가 이벤트 수신: cartId={}, customerId={}, productId={}, quantity={}",
@@ -31,7 +29,6 @@ public class CartEventHandler {
     /**
      * 장바구니 아이템 삭제 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleCartItemRemoved(CartItemRemovedEvent event) {
         log.info("장바구니 아이템 삭제 이벤트 수신: cartId={}, customerId={}, productId={}",
@@ -41,7 +38,6 @@ public class CartEventHandler {
     /**
      * 장바구니 아이템 수량 변경 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleCartItemQuantityChanged(CartItemQuantityChangedEvent event) {
         log.info("장바구니 아이템 수량 변경 이벤트 수신: cartId={}, customerId={}, productId={}, newQuantity={}",
@@ -51,7 +47,6 @@ public class CartEventHandler {
     /**
      * 장바구니 비우기 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleCartCleared(CartClearedEvent event) {
         log.info("장바구니 비우기 이벤트 수신: cartId={}, customerId={}",
@@ -8,6 +8,7 @@ import com.ecommerce.customer.exception.CustomerBlockedException;
 import com.ecommerce.customer.exception.CustomerNotFoundException;
 import com.ecommerce.customer.exception.InvalidCredentialsException;
 import com.ecommerce.customer.exception.InvalidTokenException;
+import com.ecommerce.customer.infrastructure.security.JwtClaims;
 import com.ecommerce.customer.infrastructure.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -91,16 +92,15 @@ public class AuthService {
         String refreshToken = request.getRefreshToken();
 
         // Refresh Token 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new InvalidTokenException("유효하지 않은 Refresh Token입니다.");
-        }
+        JwtClaims claims = jwtTokenProvider.parseToken(refreshToken)
+                .orElseThrow(() -> new InvalidTokenException("유효하지 않은 Refresh Token입니다."));
 
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
+        if (!claims.isRefreshToken()) {
             throw new InvalidTokenException("Refresh Token이 아닙니다.");
         }
 
         // 고객 조회
-        Long customerId = jwtTokenProvider.getCustomerId(refreshToken);
+        Long customerId = claims.customerId();
         Customer customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> new CustomerNotFoundException(customerId));
 
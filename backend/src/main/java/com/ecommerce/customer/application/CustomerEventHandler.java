@@ -6,7 +6,6 @@ import com.ecommerce.customer.domain.event.CustomerWithdrawnEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
@@ -20,7 +19,6 @@ public class CustomerEventHandler {
     /**
      * 고객 등록 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleCustomerRegistered(CustomerRegisteredEvent event) {
         log.info("고객 등록 이벤트 수신: customerId={}, email={}, name={}",
@@ -33,7 +31,6 @@ public class CustomerEventHandler {
     /**
      * 고객 정보 업데이트 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleCustomerUpdated(CustomerUpdatedEvent event) {
         log.info("고객 정보 업데이트 이벤트 수신: customerId={}, email={}, name={}",
@@ -45,7 +42,6 @@ public class CustomerEventHandler {
     /**
      * 고객 탈퇴 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleCustomerWithdrawn(CustomerWithdrawnEvent event) {
         log.info("고객 탈퇴 이벤트 수신: customerId={}, email={}, reason={}",
@@ -20,6 +20,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 /**
  * Customer Service
  */
@@ -206,10 +208,11 @@ public class CustomerService {
             customerPage = customerRepository.findAll(pageable);
         }
 
-        Page<AdminCustomerListResponse> responsePage = customerPage.map(customer -> {
-            int orderCount = (int) orderRepository.findByCustomerId(customer.getId(), PageRequest.of(0, 1)).getTotalElements();
-            return customerMapper.toAdminListResponse(customer, orderCount);
-        });
+        // 페이지 고객들의 주문 수를 GROUP BY 한 번으로 조회
+        Map<Long, Long> orderCounts = orderRepository.countByCustomerIds(
+                customerPage.getContent().stream().map(Customer::getId).toList());
+        Page<AdminCustomerListResponse> responsePage = customerPage.map(customer ->
+                customerMapper.toAdminListResponse(customer, orderCounts.getOrDefault(customer.getId(), 0L).intValue()));
 
         return PageResponse.of(responsePage);
     }
@@ -221,7 +224,7 @@ public class CustomerService {
         Customer customer = customerRepository.findByIdWithAddresses(customerId)
                 .orElseThrow(() -> new CustomerNotFoundException(customerId));
 
-        int orderCount = (int) orderRepository.findByCustomerId(customerId, PageRequest.of(0, 1)).getTotalElements();
+        int orderCount = (int) orderRepository.countByCustomerId(customerId);
         return customerMapper.toAdminResponse(customer, orderCount);
     }
 
@@ -265,7 +268,7 @@ public class CustomerService {
         Customer savedCustomer = customerRepository.save(customer);
         log.info("Admin 고객 상태 변경: customerId={}, newStatus={}", customerId, request.getStatus());
 
-        int orderCount = (int) orderRepository.findByCustomerId(customerId, PageRequest.of(0, 1)).getTotalElements();
+        int orderCount = (int) orderRepository.countByCustomerId(customerId);
         return customerMapper.toAdminResponse(savedCustomer, orderCount);
     }
 }
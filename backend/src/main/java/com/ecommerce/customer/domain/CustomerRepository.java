@@ -3,6 +3,8 @@ package com.ecommerce.customer.domain;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,6 +24,11 @@ public interface CustomerRepository {
 
     void delete(Customer customer);
 
+    /**
+     * 고객 요약 정보 일괄 조회 (없는 ID 는 결과에서 제외)
+     */
+    List<CustomerSummary> findSummariesByIdIn(Collection<Long> ids);
+
     // Admin용 메서드
     Page<Customer> findAll(Pageable pageable);
 
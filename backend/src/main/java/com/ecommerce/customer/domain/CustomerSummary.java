@@ -0,0 +1,13 @@
+package com.ecommerce.customer.domain;
+
+/**
+ * 고객 요약 정보 (조회 전용)
+ * 다른 도메인의 목록 응답에 고객 이름/연락처만 필요할 때 엔티티와 주소 컬렉션을 읽지 않도록 사용
+ */
+public record CustomerSummary(
+        Long id,
+        String name,
+        String email,
+        String phoneNumber
+) {
+}
@@ -3,11 +3,14 @@ package com.ecommerce.customer.infrastructure.persistence;
 import com.ecommerce.customer.domain.Customer;
 import com.ecommerce.customer.domain.CustomerRepository;
 import com.ecommerce.customer.domain.CustomerStatus;
+import com.ecommerce.customer.domain.CustomerSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -49,6 +52,14 @@ public class CustomerRepositoryImpl implements CustomerRepository {
         jpaCustomerRepository.delete(customer);
     }
 
+    @Override
+    public List<CustomerSummary> findSummariesByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaCustomerRepository.findSummariesByIdIn(ids);
+    }
+
     // Admin용 메서드
     @Override
     public Page<Customer> findAll(Pageable pageable) {
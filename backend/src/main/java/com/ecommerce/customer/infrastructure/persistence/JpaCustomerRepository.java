@@ -2,12 +2,15 @@ package com.ecommerce.customer.infrastructure.persistence;
 
 import com.ecommerce.customer.domain.Customer;
 import com.ecommerce.customer.domain.CustomerStatus;
+import com.ecommerce.customer.domain.CustomerSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,6 +30,10 @@ public interface JpaCustomerRepository extends JpaRepository<Customer, Long> {
 
     Optional<Customer> findByEmailAndStatus(String email, CustomerStatus status);
 
+    @Query("SELECT new com.ecommerce.customer.domain.CustomerSummary(c.id, c.name, c.email, c.phoneNumber) " +
+           "FROM Customer c WHERE c.id IN :ids")
+    List<CustomerSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
     // Admin용 메서드
     Page<Customer> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
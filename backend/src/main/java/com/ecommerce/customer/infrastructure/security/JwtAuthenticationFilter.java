@@ -26,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -33,29 +34,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            if (jwtTokenProvider.isAccessToken(token)) {
-                String email = jwtTokenProvider.getEmail(token);
-                Long customerId = jwtTokenProvider.getCustomerId(token);
-                String role = jwtTokenProvider.getRole(token).name();
-
-                CustomUserPrincipal principal = new CustomUserPrincipal(customerId, email, role);
-
+        if (StringUtils.hasText(token)) {
+            CustomUserPrincipal principal = authenticate(token);
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 principal,
                                 null,
-                                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+                                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + principal.getRole()))
                         );
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("인증 정보 설정: {}", email);
+                log.debug("인증 정보 설정: {}", principal.getEmail());
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Access Token 의 인증 주체 조회
+     * 캐시에 없을 때만 서명 검증과 파싱을 한 번 수행하고 결과를 캐시
+     */
+    private CustomUserPrincipal authenticate(String token) {
+        CustomUserPrincipal cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        JwtClaims claims = jwtTokenProvider.parseToken(token).orElse(null);
+        if (claims == null || !claims.isAccessToken()) {
+            return null;
+        }
+
+        CustomUserPrincipal principal = new CustomUserPrincipal(claims.customerId(), claims.email(), claims.role().name());
+        verifiedTokenCache.put(token, principal, claims.expiresAt());
+        return principal;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
@@ -0,0 +1,26 @@
+package com.ecommerce.customer.infrastructure.security;
+
+import com.ecommerce.customer.domain.CustomerRole;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT 클레임
+ * 토큰을 한 번만 파싱하고 필요한 값을 모두 꺼내 쓰기 위해 사용
+ */
+public record JwtClaims(
+        Long customerId,
+        String email,
+        CustomerRole role,
+        String type,
+        Instant expiresAt
+) {
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
@@ -4,12 +4,14 @@ import com.ecommerce.customer.domain.CustomerRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증
@@ -19,6 +21,7 @@ import java.util.Date;
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
@@ -27,6 +30,7 @@ public class JwtTokenProvider {
             @Value("${jwt.access-token-validity:3600000}") long accessTokenValidityInMilliseconds,
             @Value("${jwt.refresh-token-validity:604800000}") long refreshTokenValidityInMilliseconds) {
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInMilliseconds;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
     }
@@ -67,74 +71,43 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰에서 이메일 추출
+     * 토큰 검증 및 클레임 조회
+     * 서명 검증과 파싱을 한 번만 수행하며, 유효하지 않으면 빈 값
      */
-    public String getEmail(String token) {
-        return parseClaims(token).getSubject();
-    }
-
-    /**
-     * 토큰에서 고객 ID 추출
-     */
-    public Long getCustomerId(String token) {
-        return parseClaims(token).get("customerId", Long.class);
-    }
-
-    /**
-     * 토큰에서 권한 추출
-     */
-    public CustomerRole getRole(String token) {
-        String role = parseClaims(token).get("role", String.class);
-        return role != null ? CustomerRole.valueOf(role) : CustomerRole.CUSTOMER;
-    }
-
-    /**
-     * 토큰 타입 확인 (access/refresh)
-     */
-    public String getTokenType(String token) {
-        return parseClaims(token).get("type", String.class);
-    }
-
-    /**
-     * 토큰 유효성 검증
-     */
-    public boolean validateToken(String token) {
+    public Optional<JwtClaims> parseToken(String token) {
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            String role = claims.get("role", String.class);
+            return Optional.of(new JwtClaims(
+                    claims.get("customerId", Long.class),
+                    claims.getSubject(),
+                    role != null ? CustomerRole.valueOf(role) : CustomerRole.CUSTOMER,
+                    claims.get("type", String.class),
+                    claims.getExpiration().toInstant()));
         } catch (ExpiredJwtException e) {
             log.warn("만료된 JWT 토큰입니다.");
         } catch (UnsupportedJwtException e) {
             log.warn("지원되지 않는 JWT 토큰입니다.");
         } catch (MalformedJwtException e) {
             log.warn("잘못된 JWT 토큰입니다.");
-        } catch (SecurityException e) {
+        } catch (SignatureException e) {
             log.warn("잘못된 JWT 서명입니다.");
+        } catch (JwtException e) {
+            log.warn("유효하지 않은 JWT 토큰입니다: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 비어있습니다.");
         }
-        return false;
+        return Optional.empty();
     }
 
     /**
-     * Access Token인지 확인
-     */
-    public boolean isAccessToken(String token) {
-        return "access".equals(getTokenType(token));
-    }
-
-    /**
-     * Refresh Token인지 확인
+     * 토큰 유효성 검증
      */
-    public boolean isRefreshToken(String token) {
-        return "refresh".equals(getTokenType(token));
+    public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,115 @@
+package com.ecommerce.customer.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검증된 Access Token 캐시
+ * 같은 토큰으로 반복 요청할 때마다 HMAC 서명 검증과 클레임 파싱을 다시 하지 않도록 인증 주체를 보관
+ *
+ * - 토큰 원문 대신 SHA-256 해시를 키로 사용해 메모리에 토큰을 남기지 않음
+ * - 토큰 만료 시각이 지나면 캐시에 있어도 사용하지 않음
+ * - 모든 요청이 거치는 경로라 전역 락 없이 ConcurrentHashMap 으로 조회
+ * - 최대 개수를 넘으면 한 스레드만 정리하며, 만료된 토큰과 만료가 가까운 토큰부터 제거 (최대 개수의 90% 까지)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final ConcurrentMap<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시된 인증 주체 조회 (없거나 만료되었으면 null)
+     */
+    public CustomUserPrincipal get(String token) {
+        ByteBuffer key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.principal;
+    }
+
+    /**
+     * 검증된 토큰의 인증 주체 저장
+     * @param expiresAt 토큰 만료 시각
+     */
+    public void put(String token, CustomUserPrincipal principal, Instant expiresAt) {
+        Entry entry = new Entry(principal, expiresAt.toEpochMilli());
+        if (entry.isExpired(System.currentTimeMillis())) {
+            return;
+        }
+        entries.put(hash(token), entry);
+        if (entries.size() > maxSize) {
+            trim();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.isExpired(now));
+
+            int excess = entries.size() - maxSize * 9 / 10;
+            if (excess > 0) {
+                entries.entrySet().stream()
+                        .sorted(Comparator.comparingLong(e -> e.getValue().expiresAtMillis))
+                        .limit(excess)
+                        .toList()
+                        .forEach(e -> entries.remove(e.getKey(), e.getValue()));
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8))).asReadOnlyBuffer();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final CustomUserPrincipal principal;
+        private final long expiresAtMillis;
+
+        private Entry(CustomUserPrincipal principal, long expiresAtMillis) {
+            this.principal = principal;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.ecommerce.notification.application;
+
+import com.ecommerce.notification.domain.Notification;
+import com.ecommerce.notification.domain.NotificationChannel;
+import com.ecommerce.notification.domain.NotificationRepository;
+import com.ecommerce.notification.domain.event.NotificationSentEvent;
+import com.ecommerce.notification.infrastructure.sender.NotificationSender;
+import com.ecommerce.notification.infrastructure.sender.NotificationSenderRouter;
+import com.ecommerce.shared.infrastructure.DomainEventPublisher;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 알림 발송 파이프라인
+ * 요청된 알림을 저장한 뒤 대기열에 넣고, 마이크로 배치로 모아 채널별로 일괄 발송
+ *
+ * 저장(호출 스레드) → 채널별 sendBatch → 발송 결과 일괄 반영 순으로 처리하며,
+ * 큐가 가득 차면 호출 스레드에서 바로 발송 (백프레셔)
+ *
+ * 대기열은 메모리에만 있으므로 재시작/발송 실패로 남은 PENDING/SENDING 알림은
+ * NotificationRetryScheduler 가 일정 시간 후 다시 발송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationSenderRouter notificationSenderRouter;
+    private final DomainEventPublisher eventPublisher;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    private final BlockingQueue<QueuedNotification> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+
+    /**
+     * 알림 저장 후 발송 대기열에 추가
+     * 저장이 끝난 뒤 반환하므로, 호출한 이벤트 핸들러가 완료되면 알림이 유실되지 않음
+     */
+    public void enqueue(Notification notification) {
+        Long id = notificationRepository.saveAllInBatch(List.of(notification)).get(0);
+        QueuedNotification queued = new QueuedNotification(id, notification);
+
+        if (!queue.offer(queued)) {
+            log.warn("알림 발송 대기열 포화 - 즉시 발송");
+            dispatch(List.of(queued));
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * 대기 중인 알림 발송
+     */
+    @Scheduled(fixedDelayString = "${notification.dispatch.flush-interval-ms:100}")
+    public synchronized void flush() {
+        List<QueuedNotification> batch = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            try {
+                dispatch(batch);
+            } catch (RuntimeException e) {
+                // 저장된 알림은 PENDING 으로 남아 재발송 스케줄러에서 다시 발송
+                log.error("알림 일괄 발송 실패 - 건수: {}", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 이미 저장된 알림 재발송 (재발송 스케줄러용)
+     *
+     * @param notifications 알림 ID → 재발송할 알림
+     */
+    public void redispatch(Map<Long, Notification> notifications) {
+        notifications.values().forEach(notification -> {
+            notification.resetForRetry();
+            notification.startSending();
+        });
+        deliver(notifications);
+    }
+
+    private void dispatch(List<QueuedNotification> batch) {
+        Map<Long, Notification> notifications = new LinkedHashMap<>();
+        batch.forEach(queued -> {
+            queued.notification().startSending();
+            notifications.put(queued.id(), queued.notification());
+        });
+        deliver(notifications);
+    }
+
+    private void deliver(Map<Long, Notification> notifications) {
+        Map<NotificationChannel, Map<Long, Notification>> byChannel = new EnumMap<>(NotificationChannel.class);
+        notifications.forEach((id, notification) -> byChannel
+                .computeIfAbsent(notification.getChannel(), channel -> new LinkedHashMap<>())
+                .put(id, notification));
+
+        List<NotificationSentEvent> sentEvents = new ArrayList<>();
+        byChannel.forEach((channel, channelNotifications) -> {
+            List<Long> ids = new ArrayList<>(channelNotifications.keySet());
+            List<Notification> targets = new ArrayList<>(channelNotifications.values());
+            List<Boolean> sent = sendBatch(channel, targets);
+
+            for (int i = 0; i < targets.size(); i++) {
+                Notification notification = targets.get(i);
+
+                if (sent.get(i)) {
+                    notification.markAsSent();
+                    sentEvents.add(new NotificationSentEvent(ids.get(i), notification.getCustomerId(),
+                            notification.getNotificationType(), notification.getChannel()));
+                } else {
+                    notification.markAsFailed(notificationSenderRouter.find(channel).isPresent()
+                            ? "발송 실패" : "지원하지 않는 알림 채널");
+                }
+                // 엔티티가 등록한 이벤트는 ID 가 없을 수 있으므로 버리고 위에서 만든 이벤트를 발행
+                notification.clearDomainEvents();
+            }
+        });
+
+        notificationRepository.updateSendResultsInBatch(notifications);
+        sentEvents.forEach(event -> unreadNotificationCounter.increment(event.getCustomerId()));
+        sentEvents.forEach(eventPublisher::publishEvent);
+
+        log.info("알림 일괄 발송 - 건수: {}, 성공: {}", notifications.size(), sentEvents.size());
+    }
+
+    private List<Boolean> sendBatch(NotificationChannel channel, List<Notification> notifications) {
+        NotificationSender sender = notificationSenderRouter.find(channel).orElse(null);
+        if (sender == null) {
+            log.error("지원하지 않는 알림 채널: {}", channel);
+            return failedAll(notifications);
+        }
+
+        try {
+            List<Boolean> sent = sender.sendBatch(notifications);
+            if (sent.size() != notifications.size()) {
+                log.error("채널 발송 결과 수 불일치 - 채널: {}, 요청: {}, 결과: {}",
+                        channel, notifications.size(), sent.size());
+                return failedAll(notifications);
+            }
+            return sent;
+        } catch (RuntimeException e) {
+            log.error("채널 일괄 발송 실패 - 채널: {}, 건수: {}", channel, notifications.size(), e);
+            return failedAll(notifications);
+        }
+    }
+
+    private List<Boolean> failedAll(List<Notification> notifications) {
+        return notifications.stream().map(notification -> Boolean.FALSE).toList();
+    }
+
+    private record QueuedNotification(Long id, Notification notification) {
+    }
+}
@@ -8,16 +8,15 @@ import com.ecommerce.order.domain.Order;
 import com.ecommerce.order.domain.OrderRepository;
 import com.ecommerce.order.domain.event.OrderConfirmedEvent;
 import com.ecommerce.order.domain.event.OrderPlacedEvent;
+import com.ecommerce.order.domain.event.OrderSnapshot;
 import com.ecommerce.payment.domain.event.PaymentCompletedEvent;
 import com.ecommerce.promotion.domain.event.CouponIssuedEvent;
-import com.ecommerce.shipping.domain.Shipping;
-import com.ecommerce.shipping.domain.ShippingRepository;
 import com.ecommerce.shipping.domain.event.ShippingDeliveredEvent;
+import com.ecommerce.shipping.domain.event.ShippingSnapshot;
 import com.ecommerce.shipping.domain.event.ShippingStartedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -34,12 +33,10 @@ public class NotificationEventHandler {
     private final NotificationService notificationService;
     private final CustomerRepository customerRepository;
     private final OrderRepository orderRepository;
-    private final ShippingRepository shippingRepository;
 
     /**
      * 주문 접수 이벤트 → 주문 접수 알림
      */
-    @Async
     @EventListener
     public void handleOrderPlaced(OrderPlacedEvent event) {
         log.info("주문 접수 알림 발송 - 주문ID: {}, 고객ID: {}", event.getOrderId(), event.getCustomerId());
@@ -84,20 +81,17 @@ public class NotificationEventHandler {
     /**
      * 주문 확인 이벤트 → 주문 확인 알림
      */
-    @Async
     @EventListener
     public void handleOrderConfirmed(OrderConfirmedEvent event) {
         log.info("주문 확인 알림 발송 - 주문ID: {}, 고객ID: {}", event.getOrderId(), event.getCustomerId());
 
-        Optional<Customer> customer = customerRepository.findById(event.getCustomerId());
-        if (customer.isEmpty()) {
-            return;
-        }
+        OrderSnapshot.Customer customer = event.getSnapshot().customer();
 
         String title = "주문이 확인되었습니다";
         String content = String.format(
-                "주문번호 %s의 결제가 완료되어 주문이 확정되었습니다. 곧 배송이 시작됩니다.",
-                event.getOrderNumber()
+                "주문번호 %s(%s)의 결제가 완료되어 주문이 확정되었습니다. 곧 배송이 시작됩니다.",
+                event.getOrderNumber(),
+                event.getSnapshot().itemSummary()
         );
 
         notificationService.sendNotification(
@@ -111,13 +105,20 @@ public class NotificationEventHandler {
                 "ORDER"
         );
 
+        // 고객 정보를 찾지 못해 이메일이 없으면 이메일은 보내지 않음
+        if (customer.email() == null) {
+            log.warn("고객 이메일이 없어 주문 확인 이메일을 보내지 않습니다 - 주문ID: {}, 고객ID: {}",
+                    event.getOrderId(), event.getCustomerId());
+            return;
+        }
+
         notificationService.sendNotification(
                 event.getCustomerId(),
                 NotificationType.ORDER_CONFIRMED,
                 NotificationChannel.EMAIL,
                 title,
                 content,
-                customer.get().getEmail(),
+                customer.email(),
                 event.getOrderId(),
                 "ORDER"
         );
@@ -126,7 +127,6 @@ public class NotificationEventHandler {
     /**
      * 결제 완료 이벤트 → 결제 완료 알림
      */
-    @Async
     @EventListener
     public void handlePaymentCompleted(PaymentCompletedEvent event) {
         log.info("결제 완료 알림 발송 - 결제ID: {}, 주문ID: {}", event.getPaymentId(), event.getOrderId());
@@ -161,28 +161,18 @@ public class NotificationEventHandler {
     /**
      * 배송 시작 이벤트 → 배송 시작 알림
      */
-    @Async
     @EventListener
     public void handleShippingStarted(ShippingStartedEvent event) {
         log.info("배송 시작 알림 발송 - 배송ID: {}, 주문ID: {}", event.getShippingId(), event.getOrderId());
 
-        // 주문에서 고객 ID 조회
-        Optional<Order> order = orderRepository.findById(event.getOrderId());
-        if (order.isEmpty()) {
-            log.warn("주문을 찾을 수 없습니다. ID: {}", event.getOrderId());
-            return;
-        }
-
-        Long customerId = order.get().getCustomerId();
-
-        Optional<Customer> customer = customerRepository.findById(customerId);
-        if (customer.isEmpty()) {
+        ShippingSnapshot snapshot = event.getSnapshot();
+        if (snapshot.customerId() == null) {
+            log.warn("배송 이벤트에 고객 정보가 없습니다. 배송ID: {}", event.getShippingId());
             return;
         }
 
-        // 배송에서 송장번호 조회
-        Optional<Shipping> shipping = shippingRepository.findById(event.getShippingId());
-        String trackingNumber = shipping.map(Shipping::getTrackingNumber).orElse("조회 중");
+        Long customerId = snapshot.customerId();
+        String trackingNumber = event.getTrackingNumber() != null ? event.getTrackingNumber() : "조회 중";
 
         String title = "배송이 시작되었습니다";
         String content = String.format(
@@ -204,14 +194,14 @@ public class NotificationEventHandler {
         );
 
         // SMS 알림
-        if (customer.get().getPhoneNumber() != null) {
+        if (snapshot.customerPhone() != null) {
             notificationService.sendNotification(
                     customerId,
                     NotificationType.SHIPPING_STARTED,
                     NotificationChannel.SMS,
                     title,
                     content,
-                    customer.get().getPhoneNumber(),
+                    snapshot.customerPhone(),
                     event.getShippingId(),
                     "SHIPPING"
             );
@@ -221,19 +211,17 @@ public class NotificationEventHandler {
     /**
      * 배송 완료 이벤트 → 배송 완료 알림
      */
-    @Async
     @EventListener
     public void handleShippingDelivered(ShippingDeliveredEvent event) {
         log.info("배송 완료 알림 발송 - 배송ID: {}, 주문ID: {}", event.getShippingId(), event.getOrderId());
 
-        // 주문에서 고객 ID 조회
-        Optional<Order> order = orderRepository.findById(event.getOrderId());
-        if (order.isEmpty()) {
-            log.warn("주문을 찾을 수 없습니다. ID: {}", event.getOrderId());
+        ShippingSnapshot snapshot = event.getSnapshot();
+        if (snapshot.customerId() == null) {
+            log.warn("배송 이벤트에 고객 정보가 없습니다. 배송ID: {}", event.getShippingId());
             return;
         }
 
-        Long customerId = order.get().getCustomerId();
+        Long customerId = snapshot.customerId();
 
         String title = "배송이 완료되었습니다";
         String content = "주문하신 상품이 배송 완료되었습니다. 상품을 확인해주세요.";
@@ -264,7 +252,6 @@ public class NotificationEventHandler {
     /**
      * 쿠폰 발급 이벤트 → 쿠폰 발급 알림
      */
-    @Async
     @EventListener
     public void handleCouponIssued(CouponIssuedEvent event) {
         log.info("쿠폰 발급 알림 발송 - 쿠폰ID: {}, 고객ID: {}", event.getCouponId(), event.getCustomerId());
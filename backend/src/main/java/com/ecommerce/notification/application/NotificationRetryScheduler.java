@@ -0,0 +1,174 @@
+package com.ecommerce.notification.application;
+
+import com.ecommerce.notification.domain.Notification;
+import com.ecommerce.notification.domain.NotificationRepository;
+import com.ecommerce.shared.config.AsyncConfig;
+import com.ecommerce.shared.config.SchedulingConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongFunction;
+
+/**
+ * 실패 알림 재발송 스케줄러
+ * 재발송 시각이 도래한 실패 알림을 ID 커서로 페이지 단위 조회하여 재발송
+ *
+ * - 재발송 간격은 Notification.markAsFailed 의 지수 백오프를 따름
+ * - 발송 대기/발송 중 상태로 notification.retry.stalled-timeout-ms 이상 남은 알림도 다시 발송
+ *   (재시작으로 유실된 대기열, 발송 결과 반영 실패)
+ * - 동시에 처리하는 페이지 수를 제한하여 발송 채널에 부하가 몰리지 않도록 함
+ * - 관리자 요청(requestSweep)은 기본 스케줄러에서 비동기로 실행하며, 주기 실행과 동시에 돌지 않음
+ */
+@Slf4j
+@Component
+public class NotificationRetryScheduler {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final Executor executor;
+    private final TaskScheduler taskScheduler;
+    private final int pageSize;
+    private final int maxConcurrency;
+    private final long stalledTimeoutMillis;
+
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public NotificationRetryScheduler(NotificationRepository notificationRepository,
+                                      NotificationDispatcher notificationDispatcher,
+                                      @Qualifier(AsyncConfig.NOTIFICATION_EXECUTOR) Executor executor,
+                                      @Qualifier(SchedulingConfig.TASK_SCHEDULER) TaskScheduler taskScheduler,
+                                      @Value("${notification.retry.page-size:200}") int pageSize,
+                                      @Value("${notification.retry.max-concurrency:4}") int maxConcurrency,
+                                      @Value("${notification.retry.stalled-timeout-ms:300000}") long stalledTimeoutMillis) {
+        this.notificationRepository = notificationRepository;
+        this.notificationDispatcher = notificationDispatcher;
+        this.executor = executor;
+        this.taskScheduler = taskScheduler;
+        this.pageSize = pageSize;
+        this.maxConcurrency = maxConcurrency;
+        this.stalledTimeoutMillis = stalledTimeoutMillis;
+    }
+
+    /**
+     * 재발송 대상 알림 처리
+     * 이미 실행 중이면 건너뜀
+     *
+     * @return 재발송 요청한 알림 수
+     */
+    @Scheduled(fixedDelayString = "${notification.retry.interval-ms:60000}")
+    public int retryDueNotifications() {
+        if (!sweeping.compareAndSet(false, true)) {
+            log.debug("알림 재발송이 이미 진행 중입니다.");
+            return 0;
+        }
+
+        try {
+            return sweep(LocalDateTime.now());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * 재발송 즉시 실행 요청 (관리자용)
+     * 요청 스레드를 붙잡지 않도록 기본 스케줄러에서 실행
+     *
+     * @return 시작했으면 true, 이미 진행 중이면 false
+     */
+    public boolean requestSweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            taskScheduler.schedule(() -> {
+                try {
+                    sweep(LocalDateTime.now());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    log.error("알림 재발송 실패", e);
+                } finally {
+                    sweeping.set(false);
+                }
+            }, Instant.now());
+            return true;
+        } catch (RejectedExecutionException e) {
+            sweeping.set(false);
+            throw e;
+        }
+    }
+
+    private int sweep(LocalDateTime now) throws InterruptedException {
+        LocalDateTime stalledBefore = now.minus(Duration.ofMillis(stalledTimeoutMillis));
+        return sweep(cursor -> notificationRepository.findRetryableAfter(cursor, now, pageSize))
+                + sweep(cursor -> notificationRepository.findStalledAfter(cursor, stalledBefore, pageSize));
+    }
+
+    private int sweep(LongFunction<List<Notification>> pageLoader) throws InterruptedException {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        long cursor = 0L;
+        int total = 0;
+
+        while (true) {
+            List<Notification> page = pageLoader.apply(cursor);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Notification> notifications = new LinkedHashMap<>();
+            page.forEach(notification -> notifications.put(notification.getId(), notification));
+            cursor = page.get(page.size() - 1).getId();
+            total += page.size();
+
+            permits.acquire();
+            try {
+                executor.execute(() -> {
+                    try {
+                        notificationDispatcher.redispatch(notifications);
+                    } catch (RuntimeException e) {
+                        log.error("알림 재발송 실패 - 건수: {}", notifications.size(), e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 발송 Executor 가 포화되면 남은 알림은 재발송 대상으로 남겨 다음 회차에 처리
+                permits.release();
+                total -= page.size();
+                log.warn("알림 발송 Executor 포화 - 남은 재발송은 다음 회차에 처리");
+                break;
+            }
+
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        // 이번 회차의 재발송이 모두 끝날 때까지 대기하여 다음 회차와 겹치지 않도록 함
+        permits.acquire(maxConcurrency);
+        permits.release(maxConcurrency);
+
+        if (total > 0) {
+            log.info("알림 재발송 완료 - 건수: {}", total);
+        }
+        return total;
+    }
+}
@@ -9,6 +9,10 @@ import com.ecommerce.notification.dto.NotificationResponse;
 import com.ecommerce.notification.dto.UnreadCountResponse;
 import com.ecommerce.notification.exception.NotificationNotFoundException;
 import com.ecommerce.notification.infrastructure.sender.NotificationSender;
+import com.ecommerce.notification.infrastructure.sender.NotificationSenderRouter;
+import com.ecommerce.shared.config.AsyncConfig;
+import com.ecommerce.shared.dto.CursorPageResponse;
+import com.ecommerce.shared.dto.PageCursor;
 import com.ecommerce.shared.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,7 +38,10 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
-    private final List<NotificationSender> notificationSenders;
+    private final NotificationSenderRouter notificationSenderRouter;
+    private final NotificationDispatcher notificationDispatcher;
+    private final NotificationRetryScheduler notificationRetryScheduler;
+    private final UnreadNotificationCounter unreadNotificationCounter;
     private final ApplicationEventPublisher eventPublisher;
 
     /**
@@ -64,7 +71,7 @@ public class NotificationService {
     /**
      * 알림 발송 (비동기)
      */
-    @Async
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     @Transactional
     public void sendAsync(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
@@ -85,9 +92,7 @@ public class NotificationService {
     public void send(Notification notification) {
         notification.startSending();
 
-        NotificationSender sender = notificationSenders.stream()
-                .filter(s -> s.supports(notification))
-                .findFirst()
+        NotificationSender sender = notificationSenderRouter.find(notification.getChannel())
                 .orElse(null);
 
         if (sender == null) {
@@ -101,6 +106,7 @@ public class NotificationService {
 
         if (success) {
             notification.markAsSent();
+            unreadNotificationCounter.increment(notification.getCustomerId());
             log.info("알림 발송 성공 - ID: {}, 채널: {}, 타입: {}",
                     notification.getId(),
                     notification.getChannel(),
@@ -137,6 +143,19 @@ public class NotificationService {
         return PageResponse.of(page);
     }
 
+    /**
+     * 내 알림 목록 조회 (커서 페이지네이션)
+     */
+    public CursorPageResponse<NotificationResponse> getMyNotificationsByCursor(Long customerId, String cursor, int size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        List<Notification> notifications = notificationRepository.findByCustomerIdAfter(
+                customerId, PageCursor.createdAtOf(pageCursor), PageCursor.idOf(pageCursor),
+                CursorPageResponse.fetchSizeOf(size));
+
+        return CursorPageResponse.of(notifications, size, notificationMapper::toNotificationResponse,
+                notification -> new PageCursor(notification.getCreatedAt(), notification.getId()));
+    }
+
     /**
      * 채널별 알림 목록 조회
      */
@@ -161,7 +180,8 @@ public class NotificationService {
      * 읽지 않은 알림 개수 조회
      */
     public UnreadCountResponse getUnreadCount(Long customerId) {
-        int count = notificationRepository.countUnreadByCustomerId(customerId);
+        int count = unreadNotificationCounter.get(customerId,
+                () -> notificationRepository.countUnreadByCustomerId(customerId));
         return new UnreadCountResponse(count);
     }
 
@@ -173,37 +193,36 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new NotificationNotFoundException(notificationId));
 
+        boolean wasUnread = notification.isSent() && !notification.isRead();
         notification.markAsRead();
         notificationRepository.save(notification);
+
+        if (wasUnread && notification.isRead()) {
+            unreadNotificationCounter.decrement(notification.getCustomerId());
+        }
     }
 
     /**
      * 모든 알림 읽음 처리
+     * 엔티티를 로딩하지 않고 단일 UPDATE 로 처리
      */
     @Transactional
     public void markAllAsRead(Long customerId) {
-        List<Notification> unreadNotifications = notificationRepository.findUnreadByCustomerId(customerId);
-
-        unreadNotifications.forEach(notification -> {
-            notification.markAsRead();
-            notificationRepository.save(notification);
-        });
+        int updated = notificationRepository.markAllAsReadByCustomerId(customerId, LocalDateTime.now());
+        unreadNotificationCounter.reset(customerId);
+        log.debug("알림 일괄 읽음 처리 - 고객ID: {}, 건수: {}", customerId, updated);
     }
 
     /**
-     * 실패한 알림 재발송
+     * 실패한 알림 재발송 요청
+     * 재발송 시각이 도래한 알림만 대상으로 하며, 스케줄러와 같은 경로로 비동기 처리
+     *
+     * @return 시작했으면 true, 이미 재발송이 진행 중이면 false
      */
-    @Transactional
-    public void retryFailedNotifications() {
-        List<Notification> failedNotifications = notificationRepository.findFailedNotificationsForRetry();
-
-        log.info("재발송 대상 알림 수: {}", failedNotifications.size());
-
-        failedNotifications.forEach(notification -> {
-            notification.resetForRetry();
-            notificationRepository.save(notification);
-            sendAsync(notification.getId());
-        });
+    public boolean retryFailedNotifications() {
+        boolean started = notificationRetryScheduler.requestSweep();
+        log.info("알림 재발송 요청 - 시작 여부: {}", started);
+        return started;
     }
 
     /**
@@ -213,17 +232,18 @@ public class NotificationService {
     public void deleteOldNotifications(int daysOld) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
         notificationRepository.deleteOlderThan(cutoffDate);
+        unreadNotificationCounter.invalidateAll();
         log.info("{}일 이전 알림 삭제 완료", daysOld);
     }
 
     /**
      * 간편 알림 발송 메서드
+     * 알림을 저장한 뒤 발송 파이프라인에 넣고 반환 (발송은 마이크로 배치로 처리)
      */
-    @Transactional
     public void sendNotification(Long customerId, NotificationType type, NotificationChannel channel,
                                   String title, String content, String recipient,
                                   Long referenceId, String referenceType) {
-        NotificationCreateRequest request = NotificationCreateRequest.builder()
+        Notification notification = Notification.builder()
                 .customerId(customerId)
                 .notificationType(type)
                 .channel(channel)
@@ -234,6 +254,6 @@ public class NotificationService {
                 .referenceType(referenceType)
                 .build();
 
-        createAndSend(request);
+        notificationDispatcher.enqueue(notification);
     }
 }
@@ -0,0 +1,118 @@
+package com.ecommerce.notification.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 고객별 읽지 않은 알림 수 캐시
+ * 헤더 폴링마다 COUNT 쿼리를 실행하지 않도록 발송/읽음 시점에 증감하여 유지
+ *
+ * - 캐시에 없으면 DB 에서 조회하여 적재, 최대 개수를 넘으면 가장 오래 조회되지 않은 고객부터 제거 (LRU)
+ * - 캐시에 없는 고객의 증감은 무시 (다음 조회 시 DB 값으로 적재)
+ * - 적재 중 발생한 증감이 누락될 수 있으므로 TTL 이 지나면 DB 에서 다시 조회
+ */
+@Component
+public class UnreadNotificationCounter {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+
+    public UnreadNotificationCounter(@Value("${notification.unread-cache.max-size:100000}") int maxSize,
+                                     @Value("${notification.unread-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > UnreadNotificationCounter.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회
+     * @param loader 캐시에 없을 때 사용할 DB 조회
+     */
+    public int get(Long customerId, IntSupplier loader) {
+        synchronized (entries) {
+            Entry entry = entries.get(customerId);
+            if (entry != null && !entry.isExpired(ttlNanos)) {
+                return entry.count;
+            }
+        }
+
+        // DB 조회는 락 밖에서 수행
+        int count = loader.getAsInt();
+        synchronized (entries) {
+            entries.put(customerId, new Entry(count));
+        }
+        return count;
+    }
+
+    /**
+     * 알림 발송 완료 시 증가
+     */
+    public void increment(Long customerId) {
+        add(customerId, 1);
+    }
+
+    /**
+     * 알림 읽음 처리 시 감소
+     */
+    public void decrement(Long customerId) {
+        add(customerId, -1);
+    }
+
+    /**
+     * 모든 알림 읽음 처리 시 0으로 설정
+     */
+    public void reset(Long customerId) {
+        synchronized (entries) {
+            entries.put(customerId, new Entry(0));
+        }
+    }
+
+    /**
+     * 전체 무효화 (벌크 삭제 등)
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void add(Long customerId, int delta) {
+        synchronized (entries) {
+            Entry entry = entries.get(customerId);
+            if (entry != null) {
+                entry.count = Math.max(0, entry.count + delta);
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private int count;
+        private final long loadedAt = System.nanoTime();
+
+        private Entry(int count) {
+            this.count = count;
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - loadedAt > ttlNanos;
+        }
+    }
+}
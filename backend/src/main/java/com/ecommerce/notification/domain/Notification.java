@@ -16,6 +16,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "notifications", indexes = {
         @Index(name = "idx_notification_customer", columnList = "customer_id"),
+        @Index(name = "idx_notification_customer_status", columnList = "customer_id, status"),
+        @Index(name = "idx_notification_customer_created", columnList = "customer_id, created_at"),
         @Index(name = "idx_notification_type", columnList = "notification_type"),
         @Index(name = "idx_notification_status", columnList = "status"),
         @Index(name = "idx_notification_created", columnList = "created_at DESC")
@@ -24,6 +26,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends AggregateRoot {
 
+    public static final int MAX_RETRY_COUNT = 3;
+    private static final long RETRY_BASE_DELAY_SECONDS = 30;
+
     @Column(name = "customer_id", nullable = false)
     private Long customerId;
 
@@ -66,6 +71,9 @@ public class Notification extends AggregateRoot {
     @Column(name = "retry_count", nullable = false)
     private Integer retryCount;
 
+    @Column(name = "next_retry_at")
+    private LocalDateTime nextRetryAt;
+
     @Builder
     public Notification(Long customerId, NotificationType notificationType,
                         NotificationChannel channel, String title, String content,
@@ -106,11 +114,14 @@ public class Notification extends AggregateRoot {
 
     /**
      * 발송 실패
+     * 재발송은 실패 횟수에 따라 지수적으로 늦춤 (30초, 60초, 120초)
      */
     public void markAsFailed(String reason) {
         this.status = NotificationStatus.FAILED;
         this.failedReason = reason;
         this.retryCount++;
+        this.nextRetryAt = LocalDateTime.now()
+                .plusSeconds(RETRY_BASE_DELAY_SECONDS << Math.min(this.retryCount - 1, 10));
     }
 
     /**
@@ -127,7 +138,7 @@ public class Notification extends AggregateRoot {
      * 재발송 가능 여부
      */
     public boolean canRetry() {
-        return this.status == NotificationStatus.FAILED && this.retryCount < 3;
+        return this.status == NotificationStatus.FAILED && this.retryCount < MAX_RETRY_COUNT;
     }
 
     /**
@@ -137,6 +148,7 @@ public class Notification extends AggregateRoot {
         if (canRetry()) {
             this.status = NotificationStatus.PENDING;
             this.failedReason = null;
+            this.nextRetryAt = null;
         }
     }
 
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -14,10 +15,27 @@ public interface NotificationRepository {
 
     Notification save(Notification notification);
 
+    /**
+     * 알림 일괄 저장 (JDBC 배치)
+     * @return 입력 순서와 같은 순서의 생성된 ID 목록
+     */
+    List<Long> saveAllInBatch(List<Notification> notifications);
+
+    /**
+     * 발송 결과 일괄 반영 (JDBC 배치)
+     */
+    void updateSendResultsInBatch(Map<Long, Notification> notifications);
+
     Optional<Notification> findById(Long id);
 
     Page<Notification> findByCustomerId(Long customerId, Pageable pageable);
 
+    /**
+     * 고객 알림 키셋 조회 (최신순)
+     * 커서(생성일시, ID)보다 오래된 알림을 limit 건 조회, 커서가 null 이면 첫 페이지
+     */
+    List<Notification> findByCustomerIdAfter(Long customerId, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
     Page<Notification> findByCustomerIdAndChannel(Long customerId, NotificationChannel channel, Pageable pageable);
 
     List<Notification> findUnreadByCustomerId(Long customerId);
@@ -26,7 +44,22 @@ public interface NotificationRepository {
 
     List<Notification> findPendingNotifications();
 
-    List<Notification> findFailedNotificationsForRetry();
+    /**
+     * 재발송 시각이 도래한 실패 알림을 ID 커서 기준으로 조회
+     */
+    List<Notification> findRetryableAfter(Long cursor, LocalDateTime now, int limit);
+
+    /**
+     * 발송 대기/발송 중 상태로 일정 시간 이상 남은 알림을 ID 커서 기준으로 조회
+     * (재시작 또는 발송 결과 반영 실패로 발송되지 못한 알림)
+     */
+    List<Notification> findStalledAfter(Long cursor, LocalDateTime updatedBefore, int limit);
+
+    /**
+     * 고객의 읽지 않은 알림 일괄 읽음 처리
+     * @return 읽음 처리된 알림 수
+     */
+    int markAllAsReadByCustomerId(Long customerId, LocalDateTime readAt);
 
     List<Notification> findByReferenceIdAndReferenceType(Long referenceId, String referenceType);
 
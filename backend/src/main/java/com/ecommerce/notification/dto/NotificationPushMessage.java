@@ -0,0 +1,23 @@
+package com.ecommerce.notification.dto;
+
+import com.ecommerce.notification.domain.NotificationType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 스트림(SSE) 푸시 메시지
+ */
+@Getter
+@Builder
+public class NotificationPushMessage {
+
+    private NotificationType notificationType;
+    private String notificationTypeDescription;
+    private String title;
+    private String content;
+    private Long referenceId;
+    private String referenceType;
+    private LocalDateTime pushedAt;
+}
@@ -23,6 +23,25 @@ public interface JpaNotificationRepository extends JpaRepository<Notification, L
     Page<Notification> findByCustomerIdAndChannelOrderByCreatedAtDesc(
             Long customerId, NotificationChannel channel, Pageable pageable);
 
+    /**
+     * 고객 알림 키셋 조회 첫 페이지 (최신순)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.customerId = :customerId " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findLatestByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    /**
+     * 고객 알림 키셋 조회 (최신순, 커서 다음 페이지)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.customerId = :customerId " +
+           "AND (n.createdAt < :cursorCreatedAt " +
+           "     OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findByCustomerIdAfter(@Param("customerId") Long customerId,
+                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
     @Query("SELECT n FROM Notification n WHERE n.customerId = :customerId " +
            "AND n.status IN ('SENT', 'PENDING', 'SENDING') AND n.readAt IS NULL " +
            "ORDER BY n.createdAt DESC")
@@ -34,8 +53,25 @@ public interface JpaNotificationRepository extends JpaRepository<Notification, L
 
     List<Notification> findByStatus(NotificationStatus status);
 
-    @Query("SELECT n FROM Notification n WHERE n.status = 'FAILED' AND n.retryCount < 3")
-    List<Notification> findFailedNotificationsForRetry();
+    @Query("SELECT n FROM Notification n WHERE n.status = 'FAILED' AND n.retryCount < :maxRetryCount " +
+           "AND (n.nextRetryAt IS NULL OR n.nextRetryAt <= :now) AND n.id > :cursor " +
+           "ORDER BY n.id")
+    List<Notification> findRetryableAfter(@Param("cursor") Long cursor,
+                                          @Param("maxRetryCount") int maxRetryCount,
+                                          @Param("now") LocalDateTime now,
+                                          Pageable pageable);
+
+    @Query("SELECT n FROM Notification n WHERE n.status IN ('PENDING', 'SENDING') " +
+           "AND n.updatedAt < :updatedBefore AND n.id > :cursor " +
+           "ORDER BY n.id")
+    List<Notification> findStalledAfter(@Param("cursor") Long cursor,
+                                        @Param("updatedBefore") LocalDateTime updatedBefore,
+                                        Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = 'READ', n.readAt = :readAt, n.updatedAt = :readAt " +
+           "WHERE n.customerId = :customerId AND n.status = 'SENT' AND n.readAt IS NULL")
+    int markAllAsReadByCustomerId(@Param("customerId") Long customerId, @Param("readAt") LocalDateTime readAt);
 
     List<Notification> findByReferenceIdAndReferenceType(Long referenceId, String referenceType);
 
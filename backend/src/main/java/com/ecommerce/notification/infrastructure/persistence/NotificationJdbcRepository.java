@@ -0,0 +1,123 @@
+package com.ecommerce.notification.infrastructure.persistence;
+
+import com.ecommerce.notification.domain.Notification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 발송 파이프라인 전용 JDBC Repository
+ * 마이크로 배치 단위로 알림을 저장하고 발송 결과를 반영
+ */
+@Repository
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (customer_id, notification_type, channel, title, content, recipient, " +
+            "status, reference_id, reference_type, retry_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_RESULT_SQL =
+            "UPDATE notifications SET status = ?, sent_at = ?, failed_reason = ?, retry_count = ?, next_retry_at = ?, " +
+            "    updated_at = ? " +
+            "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 알림 일괄 저장
+     *
+     * @return 입력 순서와 같은 순서의 생성된 ID 목록
+     */
+    public List<Long> insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"id"})) {
+                for (Notification notification : notifications) {
+                    ps.setLong(1, notification.getCustomerId());
+                    ps.setString(2, notification.getNotificationType().name());
+                    ps.setString(3, notification.getChannel().name());
+                    ps.setString(4, notification.getTitle());
+                    ps.setString(5, notification.getContent());
+                    ps.setString(6, notification.getRecipient());
+                    ps.setString(7, notification.getStatus().name());
+                    setNullableLong(ps, 8, notification.getReferenceId());
+                    ps.setString(9, notification.getReferenceType());
+                    ps.setInt(10, notification.getRetryCount());
+                    ps.setTimestamp(11, now);
+                    ps.setTimestamp(12, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(notifications.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != notifications.size()) {
+                    throw new IllegalStateException("생성된 알림 ID 수가 일치하지 않습니다: "
+                            + ids.size() + " / " + notifications.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 발송 결과 일괄 반영
+     *
+     * @param notifications 알림 ID → 발송 결과가 반영된 알림
+     */
+    public void updateResults(Map<Long, Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Notification>> entries = new ArrayList<>(notifications.entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_RESULT_SQL, entries, entries.size(), (ps, entry) -> {
+            Notification notification = entry.getValue();
+            ps.setString(1, notification.getStatus().name());
+            ps.setTimestamp(2, toTimestamp(notification.getSentAt()));
+            ps.setString(3, notification.getFailedReason());
+            ps.setInt(4, notification.getRetryCount());
+            ps.setTimestamp(5, toTimestamp(notification.getNextRetryAt()));
+            ps.setTimestamp(6, now);
+            ps.setLong(7, entry.getKey());
+        });
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    private void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
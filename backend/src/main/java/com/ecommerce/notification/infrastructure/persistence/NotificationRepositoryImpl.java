@@ -6,11 +6,13 @@ import com.ecommerce.notification.domain.NotificationRepository;
 import com.ecommerce.notification.domain.NotificationStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,12 +23,23 @@ import java.util.Optional;
 public class NotificationRepositoryImpl implements NotificationRepository {
 
     private final JpaNotificationRepository jpaNotificationRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
 
     @Override
     public Notification save(Notification notification) {
         return jpaNotificationRepository.save(notification);
     }
 
+    @Override
+    public List<Long> saveAllInBatch(List<Notification> notifications) {
+        return notificationJdbcRepository.insertAll(notifications);
+    }
+
+    @Override
+    public void updateSendResultsInBatch(Map<Long, Notification> notifications) {
+        notificationJdbcRepository.updateResults(notifications);
+    }
+
     @Override
     public Optional<Notification> findById(Long id) {
         return jpaNotificationRepository.findById(id);
@@ -37,6 +50,16 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         return jpaNotificationRepository.findByCustomerIdOrderByCreatedAtDesc(customerId, pageable);
     }
 
+    @Override
+    public List<Notification> findByCustomerIdAfter(Long customerId, LocalDateTime cursorCreatedAt,
+                                                    Long cursorId, int limit) {
+        if (cursorCreatedAt == null) {
+            return jpaNotificationRepository.findLatestByCustomerId(customerId, PageRequest.of(0, limit));
+        }
+        return jpaNotificationRepository.findByCustomerIdAfter(
+                customerId, cursorCreatedAt, cursorId, PageRequest.of(0, limit));
+    }
+
     @Override
     public Page<Notification> findByCustomerIdAndChannel(Long customerId, NotificationChannel channel, Pageable pageable) {
         return jpaNotificationRepository.findByCustomerIdAndChannelOrderByCreatedAtDesc(customerId, channel, pageable);
@@ -58,8 +81,19 @@ public class NotificationRepositoryImpl implements NotificationRepository {
     }
 
     @Override
-    public List<Notification> findFailedNotificationsForRetry() {
-        return jpaNotificationRepository.findFailedNotificationsForRetry();
+    public List<Notification> findRetryableAfter(Long cursor, LocalDateTime now, int limit) {
+        return jpaNotificationRepository.findRetryableAfter(
+                cursor, Notification.MAX_RETRY_COUNT, now, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Notification> findStalledAfter(Long cursor, LocalDateTime updatedBefore, int limit) {
+        return jpaNotificationRepository.findStalledAfter(cursor, updatedBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int markAllAsReadByCustomerId(Long customerId, LocalDateTime readAt) {
+        return jpaNotificationRepository.markAllAsReadByCustomerId(customerId, readAt);
     }
 
     @Override
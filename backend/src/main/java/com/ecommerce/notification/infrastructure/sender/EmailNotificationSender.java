@@ -33,8 +33,8 @@ public class EmailNotificationSender implements NotificationSender {
     }
 
     @Override
-    public boolean supports(Notification notification) {
-        return notification.getChannel() == NotificationChannel.EMAIL;
+    public NotificationChannel getChannel() {
+        return NotificationChannel.EMAIL;
     }
 
     private String truncateContent(String content) {
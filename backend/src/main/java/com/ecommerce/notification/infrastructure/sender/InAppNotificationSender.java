@@ -2,17 +2,29 @@ package com.ecommerce.notification.infrastructure.sender;
 
 import com.ecommerce.notification.domain.Notification;
 import com.ecommerce.notification.domain.NotificationChannel;
+import com.ecommerce.notification.dto.NotificationPushMessage;
+import com.ecommerce.notification.infrastructure.stream.NotificationStreamRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * 인앱 알림 발송 구현체
- * 인앱 알림은 DB에 저장되면 발송 완료로 처리
+ * 인앱 알림은 DB에 저장되면 발송 완료로 처리하고, 스트림에 연결된 고객에게는 즉시 푸시
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class InAppNotificationSender implements NotificationSender {
 
+    static final String PUSH_EVENT_NAME = "notification";
+
+    private final NotificationStreamRegistry notificationStreamRegistry;
+
     @Override
     public boolean send(Notification notification) {
         // 인앱 알림은 DB에 저장되면 발송 완료
@@ -20,11 +32,32 @@ public class InAppNotificationSender implements NotificationSender {
                 notification.getCustomerId(),
                 notification.getTitle());
 
+        push(notification);
         return true;
     }
 
     @Override
-    public boolean supports(Notification notification) {
-        return notification.getChannel() == NotificationChannel.IN_APP;
+    public List<Boolean> sendBatch(List<Notification> notifications) {
+        log.info("인앱 알림 일괄 발송 - 건수: {}", notifications.size());
+        notifications.forEach(this::push);
+        return Collections.nCopies(notifications.size(), Boolean.TRUE);
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.IN_APP;
+    }
+
+    private void push(Notification notification) {
+        notificationStreamRegistry.publish(notification.getCustomerId(), PUSH_EVENT_NAME,
+                NotificationPushMessage.builder()
+                        .notificationType(notification.getNotificationType())
+                        .notificationTypeDescription(notification.getNotificationType().getDescription())
+                        .title(notification.getTitle())
+                        .content(notification.getContent())
+                        .referenceId(notification.getReferenceId())
+                        .referenceType(notification.getReferenceType())
+                        .pushedAt(LocalDateTime.now())
+                        .build());
     }
 }
@@ -31,7 +31,7 @@ public class KakaoNotificationSender implements NotificationSender {
     }
 
     @Override
-    public boolean supports(Notification notification) {
-        return notification.getChannel() == NotificationChannel.KAKAO;
+    public NotificationChannel getChannel() {
+        return NotificationChannel.KAKAO;
     }
 }
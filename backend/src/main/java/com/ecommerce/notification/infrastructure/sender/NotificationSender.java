@@ -1,6 +1,9 @@
 package com.ecommerce.notification.infrastructure.sender;
 
 import com.ecommerce.notification.domain.Notification;
+import com.ecommerce.notification.domain.NotificationChannel;
+
+import java.util.List;
 
 /**
  * 알림 발송 인터페이스
@@ -14,8 +17,27 @@ public interface NotificationSender {
      */
     boolean send(Notification notification);
 
+    /**
+     * 알림 일괄 발송
+     * 대량 발송 API 를 제공하는 채널은 재정의하여 한 번의 호출로 처리
+     * @param notifications 같은 채널의 알림 목록
+     * @return 입력 순서와 같은 순서의 발송 성공 여부
+     */
+    default List<Boolean> sendBatch(List<Notification> notifications) {
+        return notifications.stream()
+                .map(this::send)
+                .toList();
+    }
+
+    /**
+     * 담당 채널
+     */
+    NotificationChannel getChannel();
+
     /**
      * 해당 채널 지원 여부
      */
-    boolean supports(Notification notification);
+    default boolean supports(Notification notification) {
+        return notification.getChannel() == getChannel();
+    }
 }
@@ -0,0 +1,31 @@
+package com.ecommerce.notification.infrastructure.sender;
+
+import com.ecommerce.notification.domain.NotificationChannel;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 채널별 NotificationSender 조회
+ */
+@Component
+public class NotificationSenderRouter {
+
+    private final Map<NotificationChannel, NotificationSender> senders = new EnumMap<>(NotificationChannel.class);
+
+    public NotificationSenderRouter(List<NotificationSender> notificationSenders) {
+        for (NotificationSender sender : notificationSenders) {
+            NotificationSender existing = senders.putIfAbsent(sender.getChannel(), sender);
+            if (existing != null) {
+                throw new IllegalStateException("알림 채널에 발송기가 중복 등록되었습니다: " + sender.getChannel());
+            }
+        }
+    }
+
+    public Optional<NotificationSender> find(NotificationChannel channel) {
+        return Optional.ofNullable(senders.get(channel));
+    }
+}
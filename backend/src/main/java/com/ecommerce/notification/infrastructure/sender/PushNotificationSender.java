@@ -32,8 +32,8 @@ public class PushNotificationSender implements NotificationSender {
     }
 
     @Override
-    public boolean supports(Notification notification) {
-        return notification.getChannel() == NotificationChannel.PUSH;
+    public NotificationChannel getChannel() {
+        return NotificationChannel.PUSH;
     }
 
     private String truncateContent(String content) {
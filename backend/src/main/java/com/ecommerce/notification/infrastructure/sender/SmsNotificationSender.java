@@ -31,8 +31,8 @@ public class SmsNotificationSender implements NotificationSender {
     }
 
     @Override
-    public boolean supports(Notification notification) {
-        return notification.getChannel() == NotificationChannel.SMS;
+    public NotificationChannel getChannel() {
+        return NotificationChannel.SMS;
     }
 
     private String truncateContent(String content) {
@@ -0,0 +1,179 @@
+package com.ecommerce.notification.infrastructure.stream;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 고객별 알림 SSE 스트림 레지스트리
+ * 연결된 고객에게 인앱 알림을 푸시하여 알림 목록/개수 폴링을 대체
+ *
+ * - 연결은 비동기 서블릿(SseEmitter)으로 유지하므로 유휴 연결이 스레드를 점유하지 않음
+ * - 연결별 전송 버퍼는 크기가 제한되며, 가득 차면 느린 클라이언트로 보고 연결을 종료 (재연결 후 REST 로 동기화)
+ * - 전송은 연결별로 직렬화하여 가상 스레드에서 실행하므로 발송 스레드가 느린 클라이언트에 막히지 않음
+ * - 주기적으로 heartbeat 를 보내 프록시 유휴 타임아웃을 막고 끊어진 연결을 정리
+ */
+@Slf4j
+@Component
+public class NotificationStreamRegistry {
+
+    private static final int MAX_CONNECTIONS_PER_CUSTOMER = 5;
+
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final Map<Long, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public NotificationStreamRegistry(@Value("${notification.stream.timeout-ms:1800000}") long timeoutMillis,
+                                      @Value("${notification.stream.buffer-size:100}") int bufferSize) {
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * 스트림 연결
+     */
+    public SseEmitter connect(Long customerId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(customerId, emitter, bufferSize);
+
+        List<Subscription> customerSubscriptions =
+                subscriptions.computeIfAbsent(customerId, id -> new CopyOnWriteArrayList<>());
+        customerSubscriptions.add(subscription);
+        while (customerSubscriptions.size() > MAX_CONNECTIONS_PER_CUSTOMER) {
+            // 오래된 연결부터 종료
+            Subscription oldest = customerSubscriptions.remove(0);
+            oldest.close();
+        }
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> remove(subscription));
+
+        subscription.offer(SseEmitter.event().name("connected").data("ok"));
+        return emitter;
+    }
+
+    /**
+     * 고객에게 이벤트 푸시
+     * 연결되어 있지 않으면 무시
+     */
+    public void publish(Long customerId, String eventName, Object data) {
+        List<Subscription> customerSubscriptions = subscriptions.get(customerId);
+        if (customerSubscriptions == null) {
+            return;
+        }
+        customerSubscriptions.forEach(subscription ->
+                subscription.offer(SseEmitter.event().name(eventName).data(data)));
+    }
+
+    public boolean isConnected(Long customerId) {
+        List<Subscription> customerSubscriptions = subscriptions.get(customerId);
+        return customerSubscriptions != null && !customerSubscriptions.isEmpty();
+    }
+
+    public int connectionCount() {
+        return subscriptions.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 모든 연결에 heartbeat 전송
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscriptions.values().forEach(customerSubscriptions ->
+                customerSubscriptions.forEach(subscription ->
+                        subscription.offer(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.values().forEach(customerSubscriptions ->
+                customerSubscriptions.forEach(Subscription::close));
+        sendExecutor.shutdown();
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.customerId, (id, customerSubscriptions) -> {
+            customerSubscriptions.remove(subscription);
+            return customerSubscriptions.isEmpty() ? null : customerSubscriptions;
+        });
+    }
+
+    /**
+     * 연결 하나의 전송 버퍼
+     */
+    private final class Subscription {
+
+        private final Long customerId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(Long customerId, SseEmitter emitter, int bufferSize) {
+            this.customerId = customerId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                log.debug("알림 스트림 버퍼 초과로 연결 종료 - 고객ID: {}", customerId);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 끊김
+                close();
+            } finally {
+                draining.set(false);
+            }
+
+            // drain 종료 직후 들어온 이벤트 처리
+            if (!closed.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                buffer.clear();
+                remove(this);
+                emitter.complete();
+            }
+        }
+    }
+}
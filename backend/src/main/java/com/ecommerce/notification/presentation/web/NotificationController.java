@@ -1,10 +1,13 @@
 package com.ecommerce.notification.presentation.web;
 
+import com.ecommerce.customer.infrastructure.security.CustomUserPrincipal;
 import com.ecommerce.notification.application.NotificationService;
 import com.ecommerce.notification.domain.NotificationChannel;
 import com.ecommerce.notification.dto.NotificationCreateRequest;
 import com.ecommerce.notification.dto.NotificationResponse;
 import com.ecommerce.notification.dto.UnreadCountResponse;
+import com.ecommerce.notification.infrastructure.stream.NotificationStreamRegistry;
+import com.ecommerce.shared.dto.CursorPageResponse;
 import com.ecommerce.shared.dto.PageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +15,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -21,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -33,6 +39,7 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamRegistry notificationStreamRegistry;
 
     /**
      * 알림 생성 및 발송 (관리자/시스템용)
@@ -64,6 +71,19 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 내 알림 목록 조회 (커서 페이지네이션)
+     */
+    @GetMapping("/my/cursor")
+    public ResponseEntity<CursorPageResponse<NotificationResponse>> getMyNotificationsByCursor(
+            @RequestParam Long customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<NotificationResponse> response =
+                notificationService.getMyNotificationsByCursor(customerId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 채널별 알림 목록 조회
      */
@@ -96,6 +116,16 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 알림 스트림 구독 (SSE)
+     * 인앱 알림이 발송되면 "notification" 이벤트로 푸시
+     * 다른 고객의 스트림을 구독하지 못하도록 인증된 사용자 기준으로 연결
+     */
+    @GetMapping(value = "/my/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMyNotifications(@AuthenticationPrincipal CustomUserPrincipal principal) {
+        return notificationStreamRegistry.connect(principal.getCustomerId());
+    }
+
     /**
      * 알림 읽음 처리
      */
@@ -116,10 +146,13 @@ public class NotificationController {
 
     /**
      * 실패한 알림 재발송 (관리자용)
+     * 백그라운드에서 처리하므로 시작하면 202, 이미 진행 중이면 409
      */
     @PostMapping("/retry-failed")
     public ResponseEntity<Void> retryFailedNotifications() {
-        notificationService.retryFailedNotifications();
-        return ResponseEntity.ok().build();
+        if (!notificationService.retryFailedNotifications()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.accepted().build();
     }
 }
@@ -0,0 +1,87 @@
+package com.ecommerce.order.application;
+
+import com.ecommerce.customer.domain.CustomerRepository;
+import com.ecommerce.customer.domain.CustomerSummary;
+import com.ecommerce.order.domain.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관리자 주문 응답용 고객 정보 조회
+ * 주문마다 고객을 조회하지 않도록 주문들의 고객 ID 를 모아 요약 정보를 한 번에 조회
+ *
+ * - 조회 결과는 요청 하나에서만 사용하는 {@link Customers} 에 보관하며 없는 고객도 기억해 다시 조회하지 않음
+ * - 엔티티 대신 이름/이메일/연락처만 조회하므로 주소 컬렉션은 읽지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderCustomerHydrator {
+
+    private final CustomerRepository customerRepository;
+
+    /**
+     * 주문 목록의 고객 정보 일괄 조회
+     */
+    public Customers hydrate(Collection<Order> orders) {
+        Customers customers = new Customers(customerRepository);
+        customers.load(orders.stream().map(Order::getCustomerId).toList());
+        return customers;
+    }
+
+    /**
+     * 주문 한 건의 고객 정보 조회 (없으면 null)
+     */
+    public CustomerSummary hydrate(Order order) {
+        return hydrate(List.of(order)).get(order.getCustomerId());
+    }
+
+    /**
+     * 요청 단위 고객 정보 보관소 (스레드 간 공유하지 않음)
+     */
+    public static final class Customers {
+
+        private final CustomerRepository customerRepository;
+        private final Map<Long, CustomerSummary> loaded = new HashMap<>();
+
+        private Customers(CustomerRepository customerRepository) {
+            this.customerRepository = customerRepository;
+        }
+
+        /**
+         * 고객 정보 조회 (없으면 null)
+         * 미리 조회하지 않은 ID 는 그때 조회해 보관
+         */
+        public CustomerSummary get(Long customerId) {
+            if (customerId == null) {
+                return null;
+            }
+            if (!loaded.containsKey(customerId)) {
+                load(List.of(customerId));
+            }
+            return loaded.get(customerId);
+        }
+
+        private void load(Collection<Long> customerIds) {
+            Set<Long> missing = new LinkedHashSet<>();
+            for (Long customerId : customerIds) {
+                if (customerId != null && !loaded.containsKey(customerId)) {
+                    missing.add(customerId);
+                }
+            }
+            if (missing.isEmpty()) {
+                return;
+            }
+
+            missing.forEach(customerId -> loaded.put(customerId, null));
+            customerRepository.findSummariesByIdIn(missing)
+                    .forEach(summary -> loaded.put(summary.id(), summary));
+        }
+    }
+}
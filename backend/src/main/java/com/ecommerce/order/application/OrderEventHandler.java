@@ -7,7 +7,6 @@ import com.ecommerce.order.domain.event.OrderPlacedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
@@ -21,7 +20,6 @@ public class OrderEventHandler {
     /**
      * 주문 생성 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleOrderPlaced(OrderPlacedEvent event) {
         log.info("주문 생성 이벤트 수신: orderId={}, orderNumber={}, customerId={}, totalAmount={}",
@@ -34,7 +32,6 @@ public class OrderEventHandler {
     /**
      * 주문 확인 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleOrderConfirmed(OrderConfirmedEvent event) {
         log.info("주문 확인 이벤트 수신: orderId={}, orderNumber={}, paymentId={}",
@@ -47,7 +44,6 @@ public class OrderEventHandler {
     /**
      * 주문 취소 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleOrderCancelled(OrderCancelledEvent event) {
         log.info("주문 취소 이벤트 수신: orderId={}, orderNumber={}, paymentId={}, reason={}",
@@ -60,7 +56,6 @@ public class OrderEventHandler {
     /**
      * 구매 확정 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleOrderCompleted(OrderCompletedEvent event) {
         log.info("구매 확정 이벤트 수신: orderId={}, orderNumber={}, customerId={}",
@@ -1,6 +1,6 @@
 package com.ecommerce.order.application;
 
-import com.ecommerce.customer.domain.Customer;
+import com.ecommerce.customer.domain.CustomerSummary;
 import com.ecommerce.order.domain.Order;
 import com.ecommerce.order.domain.OrderItem;
 import com.ecommerce.order.dto.AdminOrderListResponse;
@@ -71,12 +71,12 @@ public class OrderMapper {
 
     // ========== Admin용 매핑 메서드 ==========
 
-    public AdminOrderListResponse toAdminListResponse(Order order, Customer customer) {
+    public AdminOrderListResponse toAdminListResponse(Order order, CustomerSummary customer) {
         return AdminOrderListResponse.builder()
                 .id(order.getId())
                 .orderNumber(order.getOrderNumber())
-                .customerName(customer != null ? customer.getName() : "알 수 없음")
-                .customerEmail(customer != null ? customer.getEmail() : "")
+                .customerName(customer != null ? customer.name() : "알 수 없음")
+                .customerEmail(customer != null ? customer.email() : "")
                 .status(order.getOrderStatus())
                 .totalAmount(order.getTotalAmount())
                 .itemCount(order.getItemCount())
@@ -85,15 +85,15 @@ public class OrderMapper {
                 .build();
     }
 
-    public AdminOrderResponse toAdminResponse(Order order, Customer customer) {
+    public AdminOrderResponse toAdminResponse(Order order, CustomerSummary customer) {
         return AdminOrderResponse.builder()
                 .id(order.getId())
                 .orderNumber(order.getOrderNumber())
                 .customer(AdminOrderResponse.CustomerInfo.builder()
-                        .id(customer != null ? customer.getId() : null)
-                        .email(customer != null ? customer.getEmail() : "")
-                        .name(customer != null ? customer.getName() : "알 수 없음")
-                        .phone(customer != null ? customer.getPhoneNumber() : null)
+                        .id(customer != null ? customer.id() : null)
+                        .email(customer != null ? customer.email() : "")
+                        .name(customer != null ? customer.name() : "알 수 없음")
+                        .phone(customer != null ? customer.phoneNumber() : null)
                         .build())
                 .status(order.getOrderStatus())
                 .items(toOrderItemResponseList(order.getItems()))
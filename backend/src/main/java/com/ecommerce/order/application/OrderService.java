@@ -4,17 +4,20 @@ import com.ecommerce.cart.domain.Cart;
 import com.ecommerce.cart.domain.CartItem;
 import com.ecommerce.cart.domain.CartRepository;
 import com.ecommerce.cart.exception.CartNotFoundException;
-import com.ecommerce.customer.domain.Customer;
-import com.ecommerce.customer.domain.CustomerRepository;
+import com.ecommerce.customer.domain.CustomerSummary;
 import com.ecommerce.order.domain.Order;
 import com.ecommerce.order.domain.OrderRepository;
 import com.ecommerce.order.domain.OrderStatus;
+import com.ecommerce.order.domain.event.OrderSnapshot;
 import com.ecommerce.order.dto.*;
 import com.ecommerce.order.exception.OrderNotFoundException;
+import com.ecommerce.product.application.StockReservationService;
 import com.ecommerce.product.domain.Product;
 import com.ecommerce.product.domain.ProductRepository;
 import com.ecommerce.product.exception.InsufficientStockException;
 import com.ecommerce.product.exception.ProductNotFoundException;
+import com.ecommerce.shared.dto.CursorPageResponse;
+import com.ecommerce.shared.dto.PageCursor;
 import com.ecommerce.shared.dto.PageResponse;
 import com.ecommerce.shared.infrastructure.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +29,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 /**
@@ -40,7 +48,8 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
-    private final CustomerRepository customerRepository;
+    private final StockReservationService stockReservationService;
+    private final OrderCustomerHydrator orderCustomerHydrator;
     private final OrderMapper orderMapper;
     private final DomainEventPublisher domainEventPublisher;
 
@@ -68,10 +77,11 @@ public class OrderService {
                 .shippingMemo(request.getShippingMemo())
                 .build();
 
-        // 3. 장바구니 아이템 → 주문 아이템 변환 (재고 확인)
+        // 3. 장바구니 아이템 → 주문 아이템 변환 (상품 일괄 조회 후 재고 확인)
+        Map<Long, Product> products = loadProducts(cart.getItems());
+
         for (CartItem cartItem : cart.getItems()) {
-            Product product = productRepository.findById(cartItem.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException(cartItem.getProductId()));
+            Product product = products.get(cartItem.getProductId());
 
             // 재고 확인
             if (!product.hasStock(cartItem.getQuantity())) {
@@ -106,6 +116,27 @@ public class OrderService {
         return orderMapper.toResponse(savedOrder);
     }
 
+    /**
+     * 장바구니 상품 일괄 조회
+     * 아이템 수와 무관하게 IN 절 쿼리 한 번으로 조회하고, 누락된 상품이 있으면 예외
+     */
+    private Map<Long, Product> loadProducts(List<CartItem> cartItems) {
+        Set<Long> productIds = cartItems.stream()
+                .map(CartItem::getProductId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Product> products = productRepository.findAllByIdIn(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        for (Long productId : productIds) {
+            if (!products.containsKey(productId)) {
+                throw new ProductNotFoundException(productId);
+            }
+        }
+
+        return products;
+    }
+
     /**
      * 주문 상세 조회
      */
@@ -139,6 +170,20 @@ public class OrderService {
         return PageResponse.of(responsePage);
     }
 
+    /**
+     * 내 주문 목록 조회 (커서 페이지네이션)
+     */
+    public CursorPageResponse<OrderResponse> getMyOrdersByCursor(Long customerId, OrderSearchRequest request) {
+        PageCursor cursor = PageCursor.decode(request.getCursor());
+        List<Order> orders = orderRepository.findByCustomerIdAfter(
+                customerId, request.getStatus(),
+                PageCursor.createdAtOf(cursor), PageCursor.idOf(cursor),
+                CursorPageResponse.fetchSizeOf(request.getSize()));
+
+        return CursorPageResponse.of(orders, request.getSize(), orderMapper::toResponse,
+                order -> new PageCursor(order.getCreatedAt(), order.getId()));
+    }
+
     /**
      * 주문 확인 (결제 완료 후 호출)
      */
@@ -147,16 +192,20 @@ public class OrderService {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
-        // 재고 차감
-        for (var item : order.getItems()) {
-            Product product = productRepository.findById(item.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException(item.getProductId()));
-            product.decreaseStock(item.getQuantity());
-            productRepository.save(product);
+        // 같은 결제 완료 이벤트가 재전달된 경우
+        if (order.getOrderStatus() != OrderStatus.PENDING && paymentId.equals(order.getPaymentId())) {
+            log.info("이미 확인된 주문: orderId={}, paymentId={}", orderId, paymentId);
+            return orderMapper.toResponse(order);
         }
 
-        // 주문 확인 처리
-        order.confirm(paymentId);
+        // 재고 차감 (조건부 UPDATE 배치)
+        stockReservationService.reserve(order.getProductQuantities());
+
+        // 주문 확인 처리 (배송/알림에서 다시 조회하지 않도록 고객 연락처를 이벤트에 포함)
+        CustomerSummary customer = orderCustomerHydrator.hydrate(order);
+        order.confirm(paymentId, customer != null
+                ? new OrderSnapshot.Customer(customer.id(), customer.name(), customer.email(), customer.phoneNumber())
+                : new OrderSnapshot.Customer(order.getCustomerId(), null, null, null));
 
         Order savedOrder = orderRepository.save(order);
         domainEventPublisher.publishEvents(savedOrder);
@@ -182,12 +231,7 @@ public class OrderService {
         // 이미 결제 완료된 주문이면 재고 복구
         if (order.getOrderStatus() == OrderStatus.CONFIRMED ||
             order.getOrderStatus() == OrderStatus.PREPARING) {
-            for (var item : order.getItems()) {
-                Product product = productRepository.findById(item.getProductId())
-                        .orElseThrow(() -> new ProductNotFoundException(item.getProductId()));
-                product.increaseStock(item.getQuantity());
-                productRepository.save(product);
-            }
+            stockReservationService.release(order.getProductQuantities());
         }
 
         // 주문 취소
@@ -245,14 +289,34 @@ public class OrderService {
             orderPage = orderRepository.findAll(pageable);
         }
 
-        Page<AdminOrderListResponse> responsePage = orderPage.map(order -> {
-            Customer customer = customerRepository.findById(order.getCustomerId()).orElse(null);
-            return orderMapper.toAdminListResponse(order, customer);
-        });
+        OrderCustomerHydrator.Customers customers = orderCustomerHydrator.hydrate(orderPage.getContent());
+        Page<AdminOrderListResponse> responsePage = orderPage.map(order ->
+                orderMapper.toAdminListResponse(order, customers.get(order.getCustomerId())));
 
         return PageResponse.of(responsePage);
     }
 
+    /**
+     * 전체 주문 목록 조회 (Admin, 커서 페이지네이션)
+     * 깊은 페이지도 OFFSET 없이 마지막으로 본 주문 다음부터 조회
+     */
+    public CursorPageResponse<AdminOrderListResponse> getAllOrdersByCursor(AdminOrderSearchRequest request) {
+        PageCursor cursor = PageCursor.decode(request.getCursor());
+        List<Order> orders = orderRepository.searchOrdersAfter(
+                request.getKeyword(),
+                request.getStatus(),
+                request.getStartDate() != null ? request.getStartDate().atStartOfDay() : null,
+                request.getEndDate() != null ? request.getEndDate().atTime(LocalTime.MAX) : null,
+                PageCursor.createdAtOf(cursor),
+                PageCursor.idOf(cursor),
+                CursorPageResponse.fetchSizeOf(request.getSize()));
+
+        OrderCustomerHydrator.Customers customers = orderCustomerHydrator.hydrate(orders);
+        return CursorPageResponse.of(orders, request.getSize(),
+                order -> orderMapper.toAdminListResponse(order, customers.get(order.getCustomerId())),
+                order -> new PageCursor(order.getCreatedAt(), order.getId()));
+    }
+
     /**
      * 주문 상세 조회 (Admin)
      */
@@ -260,8 +324,7 @@ public class OrderService {
         Order order = orderRepository.findByIdWithItems(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
-        Customer customer = customerRepository.findById(order.getCustomerId()).orElse(null);
-        return orderMapper.toAdminResponse(order, customer);
+        return orderMapper.toAdminResponse(order, orderCustomerHydrator.hydrate(order));
     }
 
     /**
@@ -275,12 +338,7 @@ public class OrderService {
         // 취소 처리 시 재고 복구
         if (request.getStatus() == OrderStatus.CANCELLED &&
             (order.getOrderStatus() == OrderStatus.CONFIRMED || order.getOrderStatus() == OrderStatus.PREPARING)) {
-            for (var item : order.getItems()) {
-                Product product = productRepository.findById(item.getProductId())
-                        .orElseThrow(() -> new ProductNotFoundException(item.getProductId()));
-                product.increaseStock(item.getQuantity());
-                productRepository.save(product);
-            }
+            stockReservationService.release(order.getProductQuantities());
         }
 
         order.updateStatusByAdmin(request.getStatus());
@@ -292,8 +350,7 @@ public class OrderService {
         Order savedOrder = orderRepository.save(order);
         log.info("Admin 주문 상태 변경: orderId={}, newStatus={}", orderId, request.getStatus());
 
-        Customer customer = customerRepository.findById(order.getCustomerId()).orElse(null);
-        return orderMapper.toAdminResponse(savedOrder, customer);
+        return orderMapper.toAdminResponse(savedOrder, orderCustomerHydrator.hydrate(savedOrder));
     }
 
     /**
@@ -309,8 +366,7 @@ public class OrderService {
         Order savedOrder = orderRepository.save(order);
         log.info("Admin 배송 정보 업데이트: orderId={}, trackingNumber={}", orderId, request.getTrackingNumber());
 
-        Customer customer = customerRepository.findById(order.getCustomerId()).orElse(null);
-        return orderMapper.toAdminResponse(savedOrder, customer);
+        return orderMapper.toAdminResponse(savedOrder, orderCustomerHydrator.hydrate(savedOrder));
     }
 
     /**
@@ -326,7 +382,6 @@ public class OrderService {
         Order savedOrder = orderRepository.save(order);
         log.info("Admin 메모 업데이트: orderId={}", orderId);
 
-        Customer customer = customerRepository.findById(order.getCustomerId()).orElse(null);
-        return orderMapper.toAdminResponse(savedOrder, customer);
+        return orderMapper.toAdminResponse(savedOrder, orderCustomerHydrator.hydrate(savedOrder));
     }
 }
@@ -4,6 +4,7 @@ import com.ecommerce.order.domain.event.OrderCancelledEvent;
 import com.ecommerce.order.domain.event.OrderCompletedEvent;
 import com.ecommerce.order.domain.event.OrderConfirmedEvent;
 import com.ecommerce.order.domain.event.OrderPlacedEvent;
+import com.ecommerce.order.domain.event.OrderSnapshot;
 import com.ecommerce.shared.domain.AggregateRoot;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -15,7 +16,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * 주문 Aggregate Root
@@ -23,6 +26,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "orders", indexes = {
     @Index(name = "idx_order_customer", columnList = "customerId"),
+    @Index(name = "idx_order_customer_created", columnList = "customerId, createdAt"),
+    @Index(name = "idx_order_created", columnList = "createdAt"),
     @Index(name = "idx_order_status", columnList = "orderStatus"),
     @Index(name = "idx_order_number", columnList = "orderNumber", unique = true)
 })
@@ -137,8 +142,9 @@ public class Order extends AggregateRoot {
 
     /**
      * 주문 확인 (결제 완료 후)
+     * @param customer 이벤트에 담을 고객 연락처
      */
-    public void confirm(Long paymentId) {
+    public void confirm(Long paymentId, OrderSnapshot.Customer customer) {
         if (this.orderStatus != OrderStatus.PENDING) {
             throw new IllegalStateException("주문 대기 상태에서만 확인할 수 있습니다. 현재 상태: " + this.orderStatus);
         }
@@ -147,7 +153,7 @@ public class Order extends AggregateRoot {
         this.paymentId = paymentId;
 
         addDomainEvent(new OrderConfirmedEvent(
-            this.getId(), this.orderNumber, this.customerId, this.paymentId));
+            this.getId(), this.orderNumber, this.customerId, this.paymentId, toSnapshot(customer)));
     }
 
     /**
@@ -192,7 +198,7 @@ public class Order extends AggregateRoot {
         this.completedAt = LocalDateTime.now();
 
         addDomainEvent(new OrderCompletedEvent(
-            this.getId(), this.orderNumber, this.customerId));
+            this.getId(), this.orderNumber, this.customerId, getProductQuantities()));
     }
 
     /**
@@ -243,6 +249,41 @@ public class Order extends AggregateRoot {
                 .sum();
     }
 
+    /**
+     * 상품 요약 문구 (예: "상품A 외 2건")
+     */
+    public String getItemSummary() {
+        return OrderSnapshot.summarize(items.isEmpty() ? null : items.get(0).getProductName(), items.size());
+    }
+
+    /**
+     * 주문 확인 시점의 주문 정보 스냅샷
+     */
+    private OrderSnapshot toSnapshot(OrderSnapshot.Customer customer) {
+        List<OrderSnapshot.Item> itemSnapshots = items.stream()
+                .map(item -> new OrderSnapshot.Item(item.getProductId(), item.getProductName(), item.getQuantity()))
+                .toList();
+        return new OrderSnapshot(
+                this.orderNumber,
+                customer,
+                this.recipientName,
+                this.recipientPhone,
+                this.shippingPostalCode,
+                this.shippingAddress,
+                this.shippingAddressDetail,
+                this.shippingMemo,
+                itemSnapshots,
+                this.totalAmount);
+    }
+
+    /**
+     * 상품별 주문 수량 (상품 ID → 수량)
+     */
+    public Map<Long, Integer> getProductQuantities() {
+        return items.stream()
+                .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity, Integer::sum));
+    }
+
     /**
      * 취소된 주문인지 확인
      */
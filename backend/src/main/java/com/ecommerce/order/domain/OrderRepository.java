@@ -4,6 +4,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,10 +28,28 @@ public interface OrderRepository {
 
     boolean existsByOrderNumber(String orderNumber);
 
+    long countByCustomerId(Long customerId);
+
+    /**
+     * 고객별 주문 수 일괄 조회
+     * 주문이 없는 고객은 결과에 포함되지 않음
+     */
+    Map<Long, Long> countByCustomerIds(Collection<Long> customerIds);
+
+    /**
+     * 고객 주문 키셋 조회 (최신순)
+     * 커서(생성일시, ID)보다 오래된 주문을 limit 건 조회, 커서가 null 이면 첫 페이지
+     */
+    List<Order> findByCustomerIdAfter(Long customerId, OrderStatus status,
+                                      LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
     // Admin용 메서드
     Page<Order> findAll(Pageable pageable);
 
     Page<Order> findByOrderStatus(OrderStatus status, Pageable pageable);
 
     Page<Order> searchOrders(String keyword, OrderStatus status, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    List<Order> searchOrdersAfter(String keyword, OrderStatus status, LocalDateTime startDate, LocalDateTime endDate,
+                                  LocalDateTime cursorCreatedAt, Long cursorId, int limit);
 }
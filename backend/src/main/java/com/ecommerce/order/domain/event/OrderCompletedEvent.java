@@ -3,6 +3,8 @@ package com.ecommerce.order.domain.event;
 import com.ecommerce.shared.domain.BaseDomainEvent;
 import lombok.Getter;
 
+import java.util.Map;
+
 /**
  * 구매 확정 이벤트
  */
@@ -12,11 +14,14 @@ public class OrderCompletedEvent extends BaseDomainEvent {
     private final Long orderId;
     private final String orderNumber;
     private final Long customerId;
+    private final Map<Long, Integer> productQuantities; // 상품 ID → 구매 수량
 
-    public OrderCompletedEvent(Long orderId, String orderNumber, Long customerId) {
+    public OrderCompletedEvent(Long orderId, String orderNumber, Long customerId,
+                               Map<Long, Integer> productQuantities) {
         super();
         this.orderId = orderId;
         this.orderNumber = orderNumber;
         this.customerId = customerId;
+        this.productQuantities = productQuantities;
     }
 }
@@ -5,6 +5,7 @@ import lombok.Getter;
 
 /**
  * 주문 확인 이벤트
+ * 배송 생성과 알림 발송에 필요한 주문 정보를 함께 전달
  */
 @Getter
 public class OrderConfirmedEvent extends BaseDomainEvent {
@@ -13,12 +14,15 @@ public class OrderConfirmedEvent extends BaseDomainEvent {
     private final String orderNumber;
     private final Long customerId;
     private final Long paymentId;
+    private final OrderSnapshot snapshot;
 
-    public OrderConfirmedEvent(Long orderId, String orderNumber, Long customerId, Long paymentId) {
+    public OrderConfirmedEvent(Long orderId, String orderNumber, Long customerId, Long paymentId,
+                               OrderSnapshot snapshot) {
         super();
         this.orderId = orderId;
         this.orderNumber = orderNumber;
         this.customerId = customerId;
         this.paymentId = paymentId;
+        this.snapshot = snapshot;
     }
 }
@@ -0,0 +1,49 @@
+package com.ecommerce.order.domain.event;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 이벤트 발생 시점의 주문 정보 (불변)
+ * 이벤트를 받는 쪽이 주문/고객을 다시 조회하지 않고 배송 생성과 알림 발송에 사용
+ *
+ * @param customer 주문 고객 연락처
+ * @param items    주문 상품 요약
+ */
+public record OrderSnapshot(
+        String orderNumber,
+        Customer customer,
+        String recipientName,
+        String recipientPhone,
+        String postalCode,
+        String address,
+        String addressDetail,
+        String shippingMemo,
+        List<Item> items,
+        BigDecimal totalAmount
+) {
+
+    public OrderSnapshot {
+        items = items != null ? List.copyOf(items) : List.of();
+    }
+
+    /**
+     * 상품 요약 문구 (예: "상품A 외 2건")
+     */
+    public String itemSummary() {
+        return summarize(items.isEmpty() ? null : items.get(0).productName(), items.size());
+    }
+
+    public static String summarize(String firstProductName, int itemCount) {
+        if (itemCount == 0) {
+            return "";
+        }
+        return itemCount == 1 ? firstProductName : firstProductName + " 외 " + (itemCount - 1) + "건";
+    }
+
+    public record Customer(Long customerId, String name, String email, String phoneNumber) {
+    }
+
+    public record Item(Long productId, String productName, int quantity) {
+    }
+}
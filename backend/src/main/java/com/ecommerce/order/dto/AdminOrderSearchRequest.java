@@ -21,4 +21,5 @@ public class AdminOrderSearchRequest {
     private LocalDate endDate;
     private String sortBy = "createdAt";
     private String sortDir = "desc";
+    private String cursor;
 }
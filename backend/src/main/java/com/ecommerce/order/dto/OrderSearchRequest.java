@@ -14,4 +14,5 @@ public class OrderSearchRequest {
     private OrderStatus status;
     private int page = 0;
     private int size = 10;
+    private String cursor;
 }
@@ -0,0 +1,11 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+/**
+ * 고객별 주문 수 조회 결과
+ */
+public interface CustomerOrderCount {
+
+    Long getCustomerId();
+
+    long getOrderCount();
+}
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,6 +33,38 @@ public interface JpaOrderRepository extends JpaRepository<Order, Long> {
 
     boolean existsByOrderNumber(String orderNumber);
 
+    long countByCustomerId(Long customerId);
+
+    @Query("SELECT o.customerId AS customerId, COUNT(o) AS orderCount FROM Order o " +
+           "WHERE o.customerId IN :customerIds GROUP BY o.customerId")
+    List<CustomerOrderCount> countByCustomerIdIn(@Param("customerIds") Collection<Long> customerIds);
+
+    /**
+     * 고객 주문 키셋 조회 첫 페이지 (최신순)
+     */
+    @Query("SELECT o FROM Order o WHERE o.customerId = :customerId " +
+           "AND (:status IS NULL OR o.orderStatus = :status) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findLatestByCustomerId(
+            @Param("customerId") Long customerId,
+            @Param("status") OrderStatus status,
+            Pageable pageable);
+
+    /**
+     * 고객 주문 키셋 조회 (최신순, 커서 다음 페이지)
+     */
+    @Query("SELECT o FROM Order o WHERE o.customerId = :customerId " +
+           "AND (:status IS NULL OR o.orderStatus = :status) " +
+           "AND (o.createdAt < :cursorCreatedAt " +
+           "     OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findByCustomerIdAfter(
+            @Param("customerId") Long customerId,
+            @Param("status") OrderStatus status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
     @Query("SELECT o FROM Order o WHERE o.customerId = :customerId ORDER BY o.createdAt DESC")
     Page<Order> findByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
 
@@ -51,4 +85,40 @@ public interface JpaOrderRepository extends JpaRepository<Order, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable);
+
+    /**
+     * Admin 주문 검색 키셋 조회 첫 페이지 (최신순)
+     */
+    @Query("SELECT o FROM Order o WHERE " +
+           "(:keyword IS NULL OR o.orderNumber LIKE %:keyword% OR o.recipientName LIKE %:keyword%) AND " +
+           "(:status IS NULL OR o.orderStatus = :status) AND " +
+           "(:startDate IS NULL OR o.createdAt >= :startDate) AND " +
+           "(:endDate IS NULL OR o.createdAt <= :endDate) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> searchLatestOrders(
+            @Param("keyword") String keyword,
+            @Param("status") OrderStatus status,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable);
+
+    /**
+     * Admin 주문 검색 키셋 조회 (최신순, 커서 다음 페이지)
+     */
+    @Query("SELECT o FROM Order o WHERE " +
+           "(:keyword IS NULL OR o.orderNumber LIKE %:keyword% OR o.recipientName LIKE %:keyword%) AND " +
+           "(:status IS NULL OR o.orderStatus = :status) AND " +
+           "(:startDate IS NULL OR o.createdAt >= :startDate) AND " +
+           "(:endDate IS NULL OR o.createdAt <= :endDate) AND " +
+           "(o.createdAt < :cursorCreatedAt " +
+           " OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> searchOrdersAfter(
+            @Param("keyword") String keyword,
+            @Param("status") OrderStatus status,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 }
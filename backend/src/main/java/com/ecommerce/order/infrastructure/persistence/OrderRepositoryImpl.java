@@ -5,11 +5,16 @@ import com.ecommerce.order.domain.OrderRepository;
 import com.ecommerce.order.domain.OrderStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Order Repository 구현체
@@ -50,11 +55,35 @@ public class OrderRepositoryImpl implements OrderRepository {
         return jpaOrderRepository.findByCustomerIdAndOrderStatusOrderByCreatedAtDesc(customerId, status, pageable);
     }
 
+    @Override
+    public List<Order> findByCustomerIdAfter(Long customerId, OrderStatus status,
+                                             LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        if (cursorCreatedAt == null) {
+            return jpaOrderRepository.findLatestByCustomerId(customerId, status, PageRequest.of(0, limit));
+        }
+        return jpaOrderRepository.findByCustomerIdAfter(
+                customerId, status, cursorCreatedAt, cursorId, PageRequest.of(0, limit));
+    }
+
     @Override
     public boolean existsByOrderNumber(String orderNumber) {
         return jpaOrderRepository.existsByOrderNumber(orderNumber);
     }
 
+    @Override
+    public long countByCustomerId(Long customerId) {
+        return jpaOrderRepository.countByCustomerId(customerId);
+    }
+
+    @Override
+    public Map<Long, Long> countByCustomerIds(Collection<Long> customerIds) {
+        if (customerIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaOrderRepository.countByCustomerIdIn(customerIds).stream()
+                .collect(Collectors.toMap(CustomerOrderCount::getCustomerId, CustomerOrderCount::getOrderCount));
+    }
+
     // Admin용 메서드
     @Override
     public Page<Order> findAll(Pageable pageable) {
@@ -70,4 +99,14 @@ public class OrderRepositoryImpl implements OrderRepository {
     public Page<Order> searchOrders(String keyword, OrderStatus status, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         return jpaOrderRepository.searchOrders(keyword, status, startDate, endDate, pageable);
     }
+
+    @Override
+    public List<Order> searchOrdersAfter(String keyword, OrderStatus status, LocalDateTime startDate, LocalDateTime endDate,
+                                         LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        if (cursorCreatedAt == null) {
+            return jpaOrderRepository.searchLatestOrders(keyword, status, startDate, endDate, PageRequest.of(0, limit));
+        }
+        return jpaOrderRepository.searchOrdersAfter(
+                keyword, status, startDate, endDate, cursorCreatedAt, cursorId, PageRequest.of(0, limit));
+    }
 }
@@ -4,6 +4,7 @@ import com.ecommerce.customer.infrastructure.security.CustomUserPrincipal;
 import com.ecommerce.order.application.OrderService;
 import com.ecommerce.order.dto.*;
 import com.ecommerce.shared.dto.ApiResponse;
+import com.ecommerce.shared.dto.CursorPageResponse;
 import com.ecommerce.shared.dto.PageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +36,17 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 전체 주문 목록 조회 (Admin, 커서 페이지네이션)
+     * GET /api/v1/orders/cursor
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<AdminOrderListResponse>>> getAllOrdersByCursor(
+            @ModelAttribute AdminOrderSearchRequest request) {
+        CursorPageResponse<AdminOrderListResponse> response = orderService.getAllOrdersByCursor(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 주문 상세 조회 (Admin)
      * GET /api/v1/orders/{orderId}
@@ -109,6 +121,19 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 내 주문 목록 조회 (커서 페이지네이션)
+     * GET /api/v1/orders/me/cursor
+     */
+    @GetMapping("/me/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<OrderResponse>>> getMyOrdersByCursor(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @ModelAttribute OrderSearchRequest searchRequest) {
+        CursorPageResponse<OrderResponse> response =
+                orderService.getMyOrdersByCursor(principal.getCustomerId(), searchRequest);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 내 주문 상세 조회
      * GET /api/v1/orders/me/{orderId}
@@ -4,10 +4,10 @@ import com.ecommerce.order.application.OrderService;
 import com.ecommerce.payment.domain.event.PaymentCompletedEvent;
 import com.ecommerce.payment.domain.event.PaymentFailedEvent;
 import com.ecommerce.payment.domain.event.PaymentRefundedEvent;
+import com.ecommerce.shared.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
@@ -23,7 +23,6 @@ public class PaymentEventHandler {
     /**
      * 결제 완료 이벤트 처리
      */
-    @Async
     @EventListener
     public void handlePaymentCompleted(PaymentCompletedEvent event) {
         log.info("결제 완료 이벤트 수신: paymentId={}, orderId={}, amount={}",
@@ -33,16 +32,16 @@ public class PaymentEventHandler {
             // 주문 확인 처리
             orderService.confirmOrder(event.getOrderId(), event.getPaymentId());
             log.info("주문 확인 처리 완료: orderId={}", event.getOrderId());
-        } catch (Exception e) {
+        } catch (BusinessException e) {
+            // 재고 부족 등 재시도해도 같은 결과인 경우 (그 외 예외는 릴레이가 재전달)
             log.error("주문 확인 처리 실패: orderId={}, error={}", event.getOrderId(), e.getMessage(), e);
-            // TODO: 보상 트랜잭션 또는 재시도 로직
+            // TODO: 보상 트랜잭션
         }
     }
 
     /**
      * 결제 실패 이벤트 처리
      */
-    @Async
     @EventListener
     public void handlePaymentFailed(PaymentFailedEvent event) {
         log.info("결제 실패 이벤트 수신: paymentId={}, orderId={}, reason={}",
@@ -55,7 +54,6 @@ public class PaymentEventHandler {
     /**
      * 환불 완료 이벤트 처리
      */
-    @Async
     @EventListener
     public void handlePaymentRefunded(PaymentRefundedEvent event) {
         log.info("환불 완료 이벤트 수신: paymentId={}, orderId={}, refundAmount={}",
@@ -0,0 +1,299 @@
+package com.ecommerce.payment.application;
+
+import com.ecommerce.payment.domain.Payment;
+import com.ecommerce.payment.domain.PaymentGateway;
+import com.ecommerce.payment.domain.PaymentRepository;
+import com.ecommerce.payment.domain.PaymentStatus;
+import com.ecommerce.payment.infrastructure.gateway.AsyncPaymentGateway;
+import com.ecommerce.shared.config.SchedulingConfig;
+import com.ecommerce.shared.infrastructure.DomainEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 결제 상태 대사 스케줄러
+ * 승인 요청이 오지 않아 처리중에 머문 결제를 PG사 상태 조회 결과로 완료/실패 처리
+ *
+ * - 마지막 변경 이후 일정 시간이 지난 처리중 결제를 ID 커서로 페이지 단위 조회
+ * - 페이지 내 결제의 상태 조회는 동시 호출 수를 제한하여 병렬로 수행하고, 결과는 페이지마다 한 트랜잭션으로 반영
+ * - 반영 시 결제 행을 잠가 승인 요청과 같은 결제를 중복 확정하지 않음
+ * - 금액이 다르거나 PG 에서 환불된 결제, 상태 조회가 max-failures 회 실패한 결제는
+ *   수동 확인 대상으로 표시하고 이후 대사에서 제외
+ * - PG 에서 아직 처리중인 결제는 확인 횟수를 기록하여 stale-after 뒤에 다시 조회하고,
+ *   생성 후 expire-after-minutes 가 지나도 처리중이면 수동 확인 대상으로 표시
+ * - PG 에 기록이 없는 결제(결제창 이탈)는 expire-after-minutes 가 지나면 실패 처리
+ * - payment.reconcile.checked(조회 수), payment.reconcile.resolved(결과별 건수),
+ *   payment.reconcile.backlog(생성 후 stale-after 가 지나도 처리중인 결제 수), payment.reconcile.review-required(수동 확인 대상 수),
+ *   payment.reconcile.sweep(1회 소요 시간) 메트릭 제공
+ */
+@Slf4j
+@Component
+public class PaymentReconciler {
+
+    private final PaymentRepository paymentRepository;
+    private final AsyncPaymentGateway asyncPaymentGateway;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long staleAfterMinutes;
+    private final long expireAfterMinutes;
+    private final int pageSize;
+    private final int maxConcurrency;
+    private final int maxFailures;
+
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    private final Counter checkedCounter;
+    private final Map<Outcome, Counter> resolvedCounters = new EnumMap<>(Outcome.class);
+    private final Timer sweepTimer;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong reviewRequired = new AtomicLong();
+
+    public PaymentReconciler(PaymentRepository paymentRepository,
+                             AsyncPaymentGateway asyncPaymentGateway,
+                             DomainEventPublisher eventPublisher,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${payment.reconcile.stale-after-minutes:10}") long staleAfterMinutes,
+                             @Value("${payment.reconcile.expire-after-minutes:60}") long expireAfterMinutes,
+                             @Value("${payment.reconcile.page-size:100}") int pageSize,
+                             @Value("${payment.reconcile.max-concurrency:8}") int maxConcurrency,
+                             @Value("${payment.reconcile.max-failures:10}") int maxFailures) {
+        this.paymentRepository = paymentRepository;
+        this.asyncPaymentGateway = asyncPaymentGateway;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.staleAfterMinutes = staleAfterMinutes;
+        this.expireAfterMinutes = expireAfterMinutes;
+        this.pageSize = pageSize;
+        this.maxConcurrency = maxConcurrency;
+        this.maxFailures = maxFailures;
+
+        this.checkedCounter = Counter.builder("payment.reconcile.checked")
+                .description("대사를 위해 PG 상태를 조회한 결제 수")
+                .register(meterRegistry);
+        for (Outcome outcome : Outcome.values()) {
+            resolvedCounters.put(outcome, Counter.builder("payment.reconcile.resolved")
+                    .description("대사 결과별 결제 수")
+                    .tag("outcome", outcome.tag)
+                    .register(meterRegistry));
+        }
+        this.sweepTimer = Timer.builder("payment.reconcile.sweep")
+                .description("대사 1회 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("payment.reconcile.backlog", backlog, AtomicLong::get)
+                .description("대사 후에도 처리중으로 남은 결제 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.reconcile.review-required", reviewRequired, AtomicLong::get)
+                .description("대사로 확정하지 못해 수동 확인이 필요한 결제 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리중에 머문 결제 대사
+     * 이미 실행 중이면 건너뜀
+     *
+     * @return PG 상태를 조회한 결제 수
+     */
+    @Scheduled(fixedDelayString = "${payment.reconcile.interval-ms:60000}",
+               initialDelayString = "${payment.reconcile.initial-delay-ms:60000}",
+               scheduler = SchedulingConfig.PAYMENT_RECONCILE_SCHEDULER)
+    public int reconcileStaleProcessing() {
+        if (!sweepLock.tryLock()) {
+            log.debug("결제 대사가 이미 진행 중입니다.");
+            return 0;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime staleBefore = now.minusMinutes(staleAfterMinutes);
+            Timer.Sample sample = Timer.start();
+            int checked = sweep(staleBefore, now.minusMinutes(expireAfterMinutes));
+            sample.stop(sweepTimer);
+            backlog.set(paymentRepository.countStaleProcessing(staleBefore));
+            reviewRequired.set(paymentRepository.countReviewRequired());
+            return checked;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    public long getBacklog() {
+        return backlog.get();
+    }
+
+    private int sweep(LocalDateTime updatedBefore, LocalDateTime expireBefore) throws InterruptedException {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Map<Outcome, Integer> summary = new EnumMap<>(Outcome.class);
+        long cursor = 0L;
+        int total = 0;
+
+        while (true) {
+            List<Payment> page = paymentRepository.findStaleProcessingAfter(cursor, updatedBefore, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            cursor = page.get(page.size() - 1).getId();
+            total += page.size();
+
+            Map<Long, PaymentGateway.PaymentStatusResponse> statuses = queryStatuses(page, permits);
+            checkedCounter.increment(page.size());
+
+            Map<Long, Outcome> outcomes = transactionTemplate.execute(status -> apply(statuses, expireBefore));
+            outcomes.values().forEach(outcome -> {
+                resolvedCounters.get(outcome).increment();
+                summary.merge(outcome, 1, Integer::sum);
+            });
+
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("결제 대사 완료 - 조회: {}, 결과: {}", total, summary);
+        }
+        return total;
+    }
+
+    // 동시 호출 수를 제한하여 상태 조회 (실패한 조회는 결과에서 제외)
+    private Map<Long, PaymentGateway.PaymentStatusResponse> queryStatuses(List<Payment> page, Semaphore permits)
+            throws InterruptedException {
+        Map<Long, CompletableFuture<PaymentGateway.PaymentStatusResponse>> futures = new LinkedHashMap<>();
+        for (Payment payment : page) {
+            permits.acquire();
+            CompletableFuture<PaymentGateway.PaymentStatusResponse> future;
+            try {
+                future = asyncPaymentGateway.getStatus(payment.getPaymentKey());
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            futures.put(payment.getId(), future.whenComplete((response, error) -> permits.release()));
+        }
+
+        Map<Long, PaymentGateway.PaymentStatusResponse> statuses = new LinkedHashMap<>();
+        futures.forEach((paymentId, future) -> {
+            try {
+                statuses.put(paymentId, AsyncPaymentGateway.await(future));
+            } catch (RuntimeException e) {
+                log.warn("결제 대사 상태 조회 실패: paymentId={}, error={}", paymentId, e.getMessage());
+                statuses.put(paymentId, null);
+            }
+        });
+        return statuses;
+    }
+
+    private Map<Long, Outcome> apply(Map<Long, PaymentGateway.PaymentStatusResponse> statuses,
+                                     LocalDateTime expireBefore) {
+        Map<Long, Outcome> outcomes = new LinkedHashMap<>();
+        // 승인 요청(PaymentService.applyConfirmResult)과 같은 결제를 동시에 확정하지 않도록 행 잠금
+        for (Payment payment : paymentRepository.findAllByIdInForUpdate(statuses.keySet())) {
+            Outcome outcome = apply(payment, statuses.get(payment.getId()), expireBefore);
+            switch (outcome) {
+                case COMPLETED, FAILED, EXPIRED -> {
+                    paymentRepository.save(payment);
+                    eventPublisher.publishEvents(payment);
+                }
+                case MISMATCH, ERROR, PENDING, STUCK -> paymentRepository.save(payment);
+                case SKIPPED -> { }
+            }
+            outcomes.put(payment.getId(), outcome);
+        }
+        return outcomes;
+    }
+
+    private Outcome apply(Payment payment, PaymentGateway.PaymentStatusResponse response, LocalDateTime expireBefore) {
+        // 조회 이후 승인 요청 등으로 이미 처리된 경우
+        if (payment.getPaymentStatus() != PaymentStatus.PROCESSING) {
+            return Outcome.SKIPPED;
+        }
+        boolean expired = payment.getCreatedAt().isBefore(expireBefore);
+        if (response != null && response.isNotFound()) {
+            // PG 에 기록이 없으면 승인될 수 없으므로, 결제창에서 돌아올 시간이 지나면 실패 처리
+            if (expired) {
+                payment.fail("결제 시간 만료 (PG 결제 기록 없음)");
+                return Outcome.EXPIRED;
+            }
+            payment.recordReconcileCheck();
+            return Outcome.PENDING;
+        }
+        if (response == null || !response.success() || response.status() == null) {
+            payment.recordReconcileFailure();
+            if (payment.getReconcileFailures() >= maxFailures) {
+                log.error("결제 대사 수동 확인 필요: paymentId={}, 상태 조회 {}회 실패",
+                        payment.getId(), payment.getReconcileFailures());
+                payment.requireReview("PG 상태 조회 " + payment.getReconcileFailures() + "회 실패");
+            }
+            return Outcome.ERROR;
+        }
+
+        switch (response.status()) {
+            case COMPLETED -> {
+                if (response.amount() == null || payment.getAmount().compareTo(response.amount()) != 0) {
+                    log.error("결제 대사 금액 불일치: paymentId={}, amount={}, pgAmount={}",
+                            payment.getId(), payment.getAmount(), response.amount());
+                    payment.requireReview("PG 결제 금액 불일치: " + response.amount());
+                    return Outcome.MISMATCH;
+                }
+                payment.complete(response.transactionId(), response.transactionId());
+                return Outcome.COMPLETED;
+            }
+            case FAILED, CANCELLED -> {
+                payment.fail("PG 결제 상태 대사: " + response.status());
+                return Outcome.FAILED;
+            }
+            case PENDING, PROCESSING -> {
+                if (expired) {
+                    log.error("결제 대사 수동 확인 필요: paymentId={}, {}분 이상 PG 처리중",
+                            payment.getId(), expireAfterMinutes);
+                    payment.requireReview("PG 결제 상태가 " + expireAfterMinutes + "분 이상 " + response.status());
+                    return Outcome.STUCK;
+                }
+                payment.recordReconcileCheck();
+                return Outcome.PENDING;
+            }
+            default -> {
+                log.error("결제 대사 수동 확인 필요: paymentId={}, pgStatus={}", payment.getId(), response.status());
+                payment.requireReview("PG 결제 상태: " + response.status());
+                return Outcome.MISMATCH;
+            }
+        }
+    }
+
+    private enum Outcome {
+        COMPLETED("completed"),
+        FAILED("failed"),
+        PENDING("pending"),
+        EXPIRED("expired"),
+        STUCK("stuck"),
+        MISMATCH("mismatch"),
+        ERROR("error"),
+        SKIPPED("skipped");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+}
@@ -6,17 +6,21 @@ import com.ecommerce.order.exception.OrderNotFoundException;
 import com.ecommerce.payment.domain.Payment;
 import com.ecommerce.payment.domain.PaymentGateway;
 import com.ecommerce.payment.domain.PaymentRepository;
+import com.ecommerce.payment.domain.PaymentStatus;
 import com.ecommerce.payment.dto.*;
 import com.ecommerce.payment.exception.PaymentAlreadyExistsException;
 import com.ecommerce.payment.exception.PaymentNotFoundException;
 import com.ecommerce.payment.exception.PaymentProcessingException;
 import com.ecommerce.payment.exception.PaymentRefundException;
+import com.ecommerce.payment.infrastructure.gateway.AsyncPaymentGateway;
 import com.ecommerce.payment.infrastructure.gateway.TossPaymentGateway;
 import com.ecommerce.shared.infrastructure.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 
@@ -32,9 +36,11 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
     private final PaymentGateway paymentGateway;
+    private final AsyncPaymentGateway asyncPaymentGateway;
     private final TossPaymentGateway tossPaymentGateway;
     private final DomainEventPublisher eventPublisher;
     private final PaymentMapper paymentMapper;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 결제 요청 (결제 초기화)
@@ -102,8 +108,12 @@ public class PaymentService {
 
     /**
      * 결제 승인
+     * PG 승인 호출은 DB 트랜잭션 밖에서 수행하고, 결과만 짧은 트랜잭션으로 반영
+     * (PG 응답을 기다리는 동안 DB 커넥션을 점유하지 않음)
+     *
+     * PG 가 처리 여부를 알려주지 못한 경우(응답 지연, 5xx)는 처리중으로 두고 결제 대사에서 확정
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentResponse confirmPayment(PaymentConfirmRequest request) {
         log.info("결제 승인 시작: paymentKey={}, orderId={}", request.getPaymentKey(), request.getOrderId());
 
@@ -111,37 +121,63 @@ public class PaymentService {
         Payment payment = paymentRepository.findByPaymentKey(request.getPaymentKey())
                 .orElseThrow(() -> new PaymentNotFoundException("paymentKey: " + request.getPaymentKey()));
 
+        // 이미 확정된 결제는 PG 를 다시 호출하지 않음
+        if (payment.isCompleted()) {
+            log.info("이미 승인된 결제: paymentId={}", payment.getId());
+            return paymentMapper.toResponse(payment);
+        }
+        if (payment.getPaymentStatus() != PaymentStatus.PROCESSING && payment.getPaymentStatus() != PaymentStatus.PENDING) {
+            throw new PaymentProcessingException("이미 처리된 결제입니다. 현재 상태: " + payment.getPaymentStatus().getDescription());
+        }
+
         // 금액 검증
         if (payment.getAmount().compareTo(request.getAmount()) != 0) {
             throw new PaymentProcessingException("결제 금액이 일치하지 않습니다.");
         }
 
-        // PG사 결제 승인
+        // PG사 결제 승인 (벌크헤드 한도 초과/응답 지연 시 결제 상태를 바꾸지 않고 예외)
         PaymentGateway.PaymentConfirmRequest pgRequest = new PaymentGateway.PaymentConfirmRequest(
                 request.getPaymentKey(),
                 request.getOrderId(),
                 request.getAmount()
         );
 
-        PaymentGateway.PaymentConfirmResponse pgResponse = paymentGateway.confirm(pgRequest);
+        PaymentGateway.PaymentConfirmResponse pgResponse =
+                AsyncPaymentGateway.await(asyncPaymentGateway.confirm(pgRequest));
+
+        // 승인 결과 반영
+        Payment savedPayment = transactionTemplate.execute(status -> applyConfirmResult(payment.getId(), pgResponse));
 
         if (!pgResponse.success()) {
-            payment.fail(pgResponse.errorMessage());
-            paymentRepository.save(payment);
-            eventPublisher.publishEvents(payment);
             throw new PaymentProcessingException(pgResponse.errorCode(), pgResponse.errorMessage());
         }
 
-        // 결제 완료 처리
-        payment.complete(pgResponse.transactionId(), pgResponse.pgTransactionId());
+        log.info("결제 승인 완료: paymentId={}, transactionId={}", savedPayment.getId(), pgResponse.transactionId());
+
+        return paymentMapper.toResponse(savedPayment);
+    }
+
+    private Payment applyConfirmResult(Long paymentId, PaymentGateway.PaymentConfirmResponse pgResponse) {
+        // 동시 승인 요청/결제 대사와 같은 결제를 두 번 확정하지 않도록 행 잠금 후 상태 재확인
+        Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+                .orElseThrow(() -> new PaymentNotFoundException(paymentId));
+
+        // PG 호출 중 다른 요청이 먼저 처리한 경우 현재 상태 유지
+        if (payment.getPaymentStatus() != PaymentStatus.PROCESSING && payment.getPaymentStatus() != PaymentStatus.PENDING) {
+            log.warn("이미 처리된 결제 승인 결과 무시: paymentId={}, status={}", paymentId, payment.getPaymentStatus());
+            return payment;
+        }
+
+        if (pgResponse.success()) {
+            payment.complete(pgResponse.transactionId(), pgResponse.pgTransactionId());
+        } else {
+            payment.fail(pgResponse.errorMessage());
+        }
         Payment savedPayment = paymentRepository.save(payment);
 
         // 도메인 이벤트 발행
         eventPublisher.publishEvents(savedPayment);
-
-        log.info("결제 승인 완료: paymentId={}, transactionId={}", savedPayment.getId(), pgResponse.transactionId());
-
-        return paymentMapper.toResponse(savedPayment);
+        return savedPayment;
     }
 
     /**
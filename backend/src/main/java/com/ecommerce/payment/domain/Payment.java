@@ -20,6 +20,7 @@ import java.time.LocalDateTime;
 @Table(name = "payments", indexes = {
         @Index(name = "idx_payment_order_id", columnList = "order_id"),
         @Index(name = "idx_payment_status", columnList = "payment_status"),
+        @Index(name = "idx_payment_status_id", columnList = "payment_status, id"),
         @Index(name = "idx_payment_transaction_id", columnList = "transaction_id")
 })
 @Getter
@@ -70,6 +71,18 @@ public class Payment extends AggregateRoot {
     @Column(name = "cancelled_at")
     private LocalDateTime cancelledAt;
 
+    @Column(name = "reconcile_failures", nullable = false)
+    private int reconcileFailures;
+
+    @Column(name = "reconcile_checks", nullable = false)
+    private int reconcileChecks;
+
+    @Column(name = "review_required", nullable = false)
+    private boolean reviewRequired;
+
+    @Column(name = "review_reason", columnDefinition = "TEXT")
+    private String reviewReason;
+
     @Builder
     public Payment(Long orderId, BigDecimal amount, PaymentMethod paymentMethod) {
         this.orderId = orderId;
@@ -181,6 +194,30 @@ public class Payment extends AggregateRoot {
                 .build());
     }
 
+    /**
+     * 결제 대사 중 PG 상태 조회 실패 기록
+     */
+    public void recordReconcileFailure() {
+        this.reconcileFailures++;
+    }
+
+    /**
+     * 결제 대사 중 PG 에서 아직 처리중인 것으로 확인한 횟수 기록
+     * 변경 시각이 갱신되므로 다음 대사는 stale-after 만큼 지난 뒤에 다시 조회
+     */
+    public void recordReconcileCheck() {
+        this.reconcileChecks++;
+    }
+
+    /**
+     * 수동 확인 필요 표시
+     * 대사로 확정할 수 없는 결제를 자동 대사 대상에서 제외 (결제 상태는 유지)
+     */
+    public void requireReview(String reason) {
+        this.reviewRequired = true;
+        this.reviewReason = reason;
+    }
+
     /**
      * 환불 가능 금액 조회
      */
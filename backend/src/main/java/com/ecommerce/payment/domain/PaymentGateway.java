@@ -110,5 +110,13 @@ public interface PaymentGateway {
             String transactionId,
             String errorCode,
             String errorMessage
-    ) {}
+    ) {
+
+        // PG 에 결제 기록이 없음 (결제창에서 이탈하여 승인 전 단계까지 가지 않은 결제)
+        public static final String NOT_FOUND = "NOT_FOUND_PAYMENT";
+
+        public boolean isNotFound() {
+            return NOT_FOUND.equals(errorCode);
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package com.ecommerce.payment.domain;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,6 +14,11 @@ public interface PaymentRepository {
 
     Optional<Payment> findById(Long id);
 
+    /**
+     * 결제 조회 (행 잠금, 상태 변경 전 재확인용)
+     */
+    Optional<Payment> findByIdForUpdate(Long id);
+
     Optional<Payment> findByOrderId(Long orderId);
 
     Optional<Payment> findByPaymentKey(String paymentKey);
@@ -18,4 +26,24 @@ public interface PaymentRepository {
     Optional<Payment> findByTransactionId(String transactionId);
 
     boolean existsByOrderId(Long orderId);
+
+    /**
+     * 결제 목록 조회 (행 잠금, ID 순으로 잠금)
+     */
+    List<Payment> findAllByIdInForUpdate(Collection<Long> ids);
+
+    /**
+     * 마지막 변경 이후 일정 시간이 지난 처리중 결제를 ID 커서 기준으로 조회 (수동 확인 대상 제외)
+     */
+    List<Payment> findStaleProcessingAfter(Long cursor, LocalDateTime updatedBefore, int limit);
+
+    /**
+     * 생성 후 일정 시간이 지나도 처리중인 결제 수 (수동 확인 대상 제외)
+     */
+    long countStaleProcessing(LocalDateTime createdBefore);
+
+    /**
+     * 수동 확인이 필요한 처리중 결제 수
+     */
+    long countReviewRequired();
 }
@@ -0,0 +1,20 @@
+package com.ecommerce.payment.exception;
+
+import com.ecommerce.shared.exception.ServiceUnavailableException;
+
+/**
+ * PG사 호출이 처리되지 못했을 때 발생하는 예외
+ * 동시 호출 한도 초과 또는 연결/응답 지연으로, 결제 상태는 바꾸지 않고 다시 시도하도록 안내
+ */
+public class PaymentGatewayUnavailableException extends ServiceUnavailableException {
+
+    private static final String ERROR_CODE = "PAYMENT_GATEWAY_UNAVAILABLE";
+
+    public PaymentGatewayUnavailableException(String message) {
+        super(ERROR_CODE, message);
+    }
+
+    public PaymentGatewayUnavailableException(String message, Throwable cause) {
+        super(ERROR_CODE, message, cause);
+    }
+}
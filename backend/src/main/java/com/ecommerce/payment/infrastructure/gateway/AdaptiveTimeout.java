@@ -0,0 +1,68 @@
+package com.ecommerce.payment.infrastructure.gateway;
+
+import java.util.Arrays;
+
+/**
+ * 응답 시간 분포 기반 타임아웃
+ * 최근 성공 호출의 응답 시간 백분위수에 배수를 곱해 타임아웃을 정함
+ * (평소 50ms 에 응답하는 PG 를 30초씩 기다리지 않도록 함)
+ *
+ * - 표본이 부족하면 최대값 사용
+ * - 계산값은 최소/최대 범위로 제한
+ */
+public class AdaptiveTimeout {
+
+    private static final int MIN_SAMPLES = 10;
+
+    private final double percentile;
+    private final double multiplier;
+    private final long minMillis;
+    private final long maxMillis;
+
+    // 최근 응답 시간 (ms), 원형 버퍼
+    private final long[] samples;
+    private int count;
+    private int next;
+
+    /**
+     * @param percentile 기준 백분위수 (0~1, 예: 0.99)
+     * @param multiplier 백분위수 응답 시간에 곱할 배수
+     * @param windowSize 보관할 최근 응답 시간 수
+     */
+    public AdaptiveTimeout(double percentile, double multiplier, long minMillis, long maxMillis, int windowSize) {
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.minMillis = minMillis;
+        this.maxMillis = maxMillis;
+        this.samples = new long[windowSize];
+    }
+
+    /**
+     * 응답 시간과 관계없이 항상 같은 값을 쓰는 타임아웃
+     */
+    public static AdaptiveTimeout fixed(long millis) {
+        return new AdaptiveTimeout(1.0, 1.0, millis, millis, MIN_SAMPLES);
+    }
+
+    public synchronized void record(long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    /**
+     * 현재 타임아웃 (ms)
+     */
+    public synchronized long currentMillis() {
+        if (count < MIN_SAMPLES) {
+            return maxMillis;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = Math.max(0, (int) Math.ceil(percentile * count) - 1);
+        long timeout = Math.round(sorted[index] * multiplier);
+        return Math.max(minMillis, Math.min(maxMillis, timeout));
+    }
+}
@@ -0,0 +1,65 @@
+package com.ecommerce.payment.infrastructure.gateway;
+
+import com.ecommerce.payment.domain.PaymentGateway;
+import com.ecommerce.payment.exception.PaymentGatewayUnavailableException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * PG사 비동기 호출
+ * {@link PaymentGateway} 호출을 가상 스레드에서 실행
+ * (동시 호출 한도는 {@link ResilientPaymentGateway} 의 작업별 한도 하나로 제한)
+ */
+@Component
+public class AsyncPaymentGateway {
+
+    private final PaymentGateway paymentGateway;
+    private final ExecutorService executor;
+
+    public AsyncPaymentGateway(PaymentGateway paymentGateway,
+                               @Qualifier(PaymentGatewayConfig.PAYMENT_GATEWAY_EXECUTOR) ExecutorService paymentGatewayExecutor) {
+        this.paymentGateway = paymentGateway;
+        this.executor = paymentGatewayExecutor;
+    }
+
+    public CompletableFuture<PaymentGateway.PaymentConfirmResponse> confirm(PaymentGateway.PaymentConfirmRequest request) {
+        return submit(() -> paymentGateway.confirm(request));
+    }
+
+    public CompletableFuture<PaymentGateway.PaymentCancelResponse> cancel(String paymentKey, String reason) {
+        return submit(() -> paymentGateway.cancel(paymentKey, reason));
+    }
+
+    public CompletableFuture<PaymentGateway.PaymentRefundResponse> refund(String paymentKey, BigDecimal amount, String reason) {
+        return submit(() -> paymentGateway.refund(paymentKey, amount, reason));
+    }
+
+    public CompletableFuture<PaymentGateway.PaymentStatusResponse> getStatus(String paymentKey) {
+        return submit(() -> paymentGateway.getStatus(paymentKey));
+    }
+
+    /**
+     * 호출 결과 대기
+     * 실행 중 발생한 예외는 감싸지 않고 그대로 던짐
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new PaymentGatewayUnavailableException("PG사 호출에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+}
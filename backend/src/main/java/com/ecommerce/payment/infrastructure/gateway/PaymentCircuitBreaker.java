@@ -0,0 +1,135 @@
+package com.ecommerce.payment.infrastructure.gateway;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PG 호출 서킷 브레이커 (최근 N 건 기준 슬라이딩 윈도우)
+ * PG 장애가 이어질 때 호출을 잠시 차단해, 응답을 기다리며 요청 스레드와 커넥션이 묶이지 않도록 함
+ *
+ * - CLOSED: 최근 호출 중 실패율이 임계치 이상이면 OPEN (최소 호출 수를 채운 뒤부터 판단)
+ * - OPEN: 대기 시간 동안 모든 호출 거절, 이후 첫 호출 시 HALF_OPEN
+ * - HALF_OPEN: 정해진 수의 시험 호출만 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ */
+public class PaymentCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenPermittedCalls;
+
+    // 최근 호출 결과 (true = 실패), 원형 버퍼
+    private final boolean[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    /**
+     * @param windowSize             실패율을 계산할 최근 호출 수
+     * @param minimumCalls           실패율 판단에 필요한 최소 호출 수
+     * @param failureRateThreshold   OPEN 으로 전환할 실패율 (0~100)
+     * @param openDurationMillis     OPEN 유지 시간
+     * @param halfOpenPermittedCalls HALF_OPEN 에서 허용할 시험 호출 수
+     */
+    public PaymentCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                                 long openDurationMillis, int halfOpenPermittedCalls) {
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+    }
+
+    /**
+     * 호출 허용 여부
+     * 허용된 호출은 끝난 뒤 반드시 onSuccess 또는 onFailure 를 호출해야 함
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenPermittedCalls) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenPermittedCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && getFailureRate() >= failureRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 최근 호출 실패율 (0~100)
+     */
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : failures * 100.0 / recorded;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+}
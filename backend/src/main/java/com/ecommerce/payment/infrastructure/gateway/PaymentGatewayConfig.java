@@ -1,21 +1,115 @@
 package com.ecommerce.payment.infrastructure.gateway;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Payment Gateway 설정
+ *
+ * - JDK HttpClient 하나를 공유해 PG사 연결을 keep-alive 로 재사용 (요청마다 새 연결을 맺지 않음)
+ * - PG 호출은 가상 스레드에서 실행하므로 응답을 기다리는 동안 플랫폼 스레드를 점유하지 않음
+ * - PaymentGateway 주입 시 {@link ResilientPaymentGateway} 로 감싼 구현체 사용
+ *
+ * 설정: payment.gateway.connect-timeout-ms, payment.gateway.read-timeout-ms,
+ *      payment.gateway.circuit-breaker.*, payment.gateway.timeout.*, payment.gateway.{operation}.max-concurrent,
+ *      payment.gateway.max-wait-ms
  */
 @Configuration
 public class PaymentGatewayConfig {
 
+    public static final String PAYMENT_GATEWAY_EXECUTOR = "paymentGatewayExecutor";
+
+    @Bean(name = PAYMENT_GATEWAY_EXECUTOR, destroyMethod = "close")
+    public ExecutorService paymentGatewayExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("payment-gateway-", 0).factory());
+    }
+
+    @Bean
+    public HttpClient paymentHttpClient(@Qualifier(PAYMENT_GATEWAY_EXECUTOR) ExecutorService paymentGatewayExecutor,
+                                        @Value("${payment.gateway.connect-timeout-ms:3000}") long connectTimeoutMillis) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .executor(paymentGatewayExecutor)
+                .build();
+    }
+
     @Bean
-    public RestTemplate paymentRestTemplate(RestTemplateBuilder builder) {
+    @Primary
+    public ResilientPaymentGateway resilientPaymentGateway(TossPaymentGateway tossPaymentGateway,
+                                                           @Qualifier(PAYMENT_GATEWAY_EXECUTOR) ExecutorService paymentGatewayExecutor,
+                                                           Environment environment,
+                                                           MeterRegistry meterRegistry) {
+        PaymentCircuitBreaker circuitBreaker = new PaymentCircuitBreaker(
+                property(environment, "payment.gateway.circuit-breaker.window-size", Integer.class, 50),
+                property(environment, "payment.gateway.circuit-breaker.minimum-calls", Integer.class, 20),
+                property(environment, "payment.gateway.circuit-breaker.failure-rate-threshold", Double.class, 50.0),
+                property(environment, "payment.gateway.circuit-breaker.open-duration-ms", Long.class, 30_000L),
+                property(environment, "payment.gateway.circuit-breaker.half-open-calls", Integer.class, 5));
+
+        // 적응형 타임아웃 상한은 HTTP 읽기 타임아웃과 같게 둠
+        long readTimeoutMillis = property(environment, "payment.gateway.read-timeout-ms", Long.class, 10_000L);
+        long connectTimeoutMillis = property(environment, "payment.gateway.connect-timeout-ms", Long.class, 3_000L);
+        long maxWaitMillis = property(environment, "payment.gateway.max-wait-ms", Long.class, 200L);
+
+        return new ResilientPaymentGateway(tossPaymentGateway, paymentGatewayExecutor, circuitBreaker,
+                operation -> new ResilientPaymentGateway.OperationPolicy(
+                        property(environment, "payment.gateway." + operation.key() + ".max-concurrent", Integer.class,
+                                defaultMaxConcurrent(operation)),
+                        maxWaitMillis,
+                        isMoneyMoving(operation)
+                                // 돈이 오가는 호출은 도중에 끊지 않고 HTTP 타임아웃이 먼저 나도록 함
+                                ? AdaptiveTimeout.fixed(connectTimeoutMillis + readTimeoutMillis)
+                                : new AdaptiveTimeout(
+                                        property(environment, "payment.gateway.timeout.percentile", Double.class, 0.99),
+                                        property(environment, "payment.gateway.timeout.multiplier", Double.class, 3.0),
+                                        property(environment, "payment.gateway.timeout.min-ms", Long.class, 1_000L),
+                                        readTimeoutMillis,
+                                        property(environment, "payment.gateway.timeout.window-size", Integer.class, 200))),
+                meterRegistry);
+    }
+
+    @Bean
+    public RestTemplate paymentRestTemplate(RestTemplateBuilder builder, HttpClient paymentHttpClient,
+                                            @Value("${payment.gateway.read-timeout-ms:10000}") long readTimeoutMillis) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(paymentHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
         return builder
-                .setConnectTimeout(java.time.Duration.ofSeconds(5))
-                .setReadTimeout(java.time.Duration.ofSeconds(30))
+                .requestFactory(() -> requestFactory)
                 .build();
     }
+
+    // 승인/요청은 주문 흐름에 직접 영향을 주므로 환불/취소/조회보다 많이 허용
+    private static int defaultMaxConcurrent(ResilientPaymentGateway.Operation operation) {
+        return switch (operation) {
+            case INITIATE, CONFIRM -> 20;
+            case CANCEL, REFUND -> 5;
+            case STATUS -> 10;
+        };
+    }
+
+    // 재시도 시 중복 처리될 수 있어 적응형 타임아웃으로 중단하지 않는 작업
+    private static boolean isMoneyMoving(ResilientPaymentGateway.Operation operation) {
+        return switch (operation) {
+            case CONFIRM, CANCEL, REFUND -> true;
+            case INITIATE, STATUS -> false;
+        };
+    }
+
+    private static <T> T property(Environment environment, String key, Class<T> type, T defaultValue) {
+        return environment.getProperty(key, type, defaultValue);
+    }
 }
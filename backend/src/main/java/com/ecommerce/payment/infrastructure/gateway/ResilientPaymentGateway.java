@@ -0,0 +1,212 @@
+package com.ecommerce.payment.infrastructure.gateway;
+
+import com.ecommerce.payment.domain.PaymentGateway;
+import com.ecommerce.payment.exception.PaymentGatewayUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * PG 호출 장애 대응 계층
+ * {@link PaymentGateway} 구현체를 감싸 호출하는 쪽은 그대로 PaymentGateway 로 사용
+ *
+ * - 작업(승인/취소/환불 등)별 동시 호출 한도: 한도가 차면 최대 대기 시간만큼 기다린 뒤 거절 (PG 호출의 유일한 벌크헤드)
+ * - 서킷 브레이커: 최근 호출 실패율이 높으면 PG 를 호출하지 않고 바로 거절
+ * - 타임아웃: 작업별 정책에 따름. 상태 조회는 최근 응답 시간 백분위수로 정하는 적응형 타임아웃,
+ *   승인/취소/환불은 중단하면 PG 처리 여부를 알 수 없으므로 HTTP 타임아웃보다 긴 고정 타임아웃
+ * - PG 가 응답한 실패(카드 거절 등)는 장애로 보지 않으며, 예외(5xx, 해석 불가 응답 포함)/타임아웃만 실패로 집계
+ *
+ * 거절/타임아웃은 PaymentGatewayUnavailableException 으로 알리며 결제 상태는 바꾸지 않음
+ *
+ * 메트릭: payment.gateway.calls(operation, outcome), payment.gateway.rejected(operation, reason),
+ * payment.gateway.timeout(operation), payment.gateway.circuit.state, payment.gateway.circuit.failure-rate
+ */
+@Slf4j
+public class ResilientPaymentGateway implements PaymentGateway {
+
+    public enum Operation {
+        INITIATE, CONFIRM, CANCEL, REFUND, STATUS;
+
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 작업별 정책
+     * @param maxConcurrent 동시 호출 한도
+     * @param maxWaitMillis 한도가 찼을 때 자리를 기다리는 최대 시간
+     * @param timeout       호출 타임아웃
+     */
+    public record OperationPolicy(int maxConcurrent, long maxWaitMillis, AdaptiveTimeout timeout) {
+    }
+
+    private final PaymentGateway delegate;
+    private final ExecutorService executor;
+    private final PaymentCircuitBreaker circuitBreaker;
+    private final Map<Operation, Guard> guards = new EnumMap<>(Operation.class);
+    private final MeterRegistry meterRegistry;
+
+    public ResilientPaymentGateway(PaymentGateway delegate,
+                                   ExecutorService executor,
+                                   PaymentCircuitBreaker circuitBreaker,
+                                   Function<Operation, OperationPolicy> policies,
+                                   MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        for (Operation operation : Operation.values()) {
+            OperationPolicy policy = policies.apply(operation);
+            guards.put(operation, new Guard(operation, policy));
+            Gauge.builder("payment.gateway.timeout", policy.timeout(), AdaptiveTimeout::currentMillis)
+                    .description("현재 적용 중인 PG 호출 타임아웃 (ms)")
+                    .tag("operation", operation.key())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("payment.gateway.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("서킷 브레이커 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+        Gauge.builder("payment.gateway.circuit.failure-rate", circuitBreaker, PaymentCircuitBreaker::getFailureRate)
+                .description("최근 PG 호출 실패율 (%)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public PaymentInitResponse initiate(PaymentInitRequest request) {
+        return call(Operation.INITIATE, () -> delegate.initiate(request));
+    }
+
+    @Override
+    public PaymentConfirmResponse confirm(PaymentConfirmRequest request) {
+        return call(Operation.CONFIRM, () -> delegate.confirm(request));
+    }
+
+    @Override
+    public PaymentCancelResponse cancel(String paymentKey, String reason) {
+        return call(Operation.CANCEL, () -> delegate.cancel(paymentKey, reason));
+    }
+
+    @Override
+    public PaymentRefundResponse refund(String paymentKey, BigDecimal amount, String reason) {
+        return call(Operation.REFUND, () -> delegate.refund(paymentKey, amount, reason));
+    }
+
+    @Override
+    public PaymentStatusResponse getStatus(String paymentKey) {
+        return call(Operation.STATUS, () -> delegate.getStatus(paymentKey));
+    }
+
+    public PaymentCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> T call(Operation operation, Supplier<T> call) {
+        Guard guard = guards.get(operation);
+
+        if (!guard.tryAcquire()) {
+            guard.rejectedByLimit.increment();
+            log.warn("PG 작업별 동시 호출 한도 초과 - operation={}", operation.key());
+            throw new PaymentGatewayUnavailableException("결제 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                guard.rejectedByCircuit.increment();
+                log.warn("PG 서킷 브레이커 OPEN - 호출 거절: operation={}", operation.key());
+                throw new PaymentGatewayUnavailableException("결제 서비스가 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요.");
+            }
+            return execute(guard, call);
+        } finally {
+            guard.permits.release();
+        }
+    }
+
+    private <T> T execute(Guard guard, Supplier<T> call) {
+        long timeoutMillis = guard.policy.timeout().currentMillis();
+        long startedAt = System.nanoTime();
+        Future<T> future = executor.submit(call::get);
+        try {
+            T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            long elapsedNanos = System.nanoTime() - startedAt;
+            circuitBreaker.onSuccess();
+            guard.policy.timeout().record(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            guard.timer("success").record(elapsedNanos, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            guard.timer("timeout").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.warn("PG 호출 타임아웃 - operation={}, timeout={}ms", guard.operation.key(), timeoutMillis);
+            throw new PaymentGatewayUnavailableException("PG사 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            guard.timer("failure").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new PaymentGatewayUnavailableException("PG사 호출에 실패했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            circuitBreaker.onFailure();
+            throw new PaymentGatewayUnavailableException("PG사 호출이 중단되었습니다.", e);
+        }
+    }
+
+    private final class Guard {
+
+        private final Operation operation;
+        private final OperationPolicy policy;
+        private final Semaphore permits;
+        private final Counter rejectedByLimit;
+        private final Counter rejectedByCircuit;
+
+        private Guard(Operation operation, OperationPolicy policy) {
+            this.operation = operation;
+            this.policy = policy;
+            this.permits = new Semaphore(policy.maxConcurrent(), true);
+            this.rejectedByLimit = rejectedCounter("limit");
+            this.rejectedByCircuit = rejectedCounter("circuit_open");
+        }
+
+        private boolean tryAcquire() {
+            try {
+                return permits.tryAcquire(policy.maxWaitMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder("payment.gateway.calls")
+                    .description("PG 호출 시간")
+                    .tag("operation", operation.key())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private Counter rejectedCounter(String reason) {
+            return Counter.builder("payment.gateway.rejected")
+                    .description("PG 를 호출하지 않고 거절한 수")
+                    .tag("operation", operation.key())
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -2,11 +2,16 @@ package com.ecommerce.payment.infrastructure.gateway;
 
 import com.ecommerce.payment.domain.PaymentGateway;
 import com.ecommerce.payment.domain.PaymentStatus;
+import com.ecommerce.payment.exception.PaymentGatewayUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
@@ -14,6 +19,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -35,8 +41,25 @@ public class TossPaymentGateway implements PaymentGateway {
     @Value("${payment.toss.client-key:test_ck_client}")
     private String clientKey;
 
+    // true 이면 Toss API 를 호출하지 않고 성공 응답을 반환 (로컬/테스트 환경)
+    @Value("${payment.toss.mock-enabled:true}")
+    private boolean mockEnabled;
+
     private static final String PROVIDER_NAME = "TOSS";
 
+    // 이전 승인 요청이 이미 처리된 경우 (응답 유실 후 재승인 요청)
+    private static final String ALREADY_PROCESSED_PAYMENT = "ALREADY_PROCESSED_PAYMENT";
+
+    // 4xx 이지만 PG 내부 처리 여부를 알 수 없는 오류 코드
+    private static final Set<String> AMBIGUOUS_ERROR_CODES = Set.of(
+            "PROVIDER_ERROR",
+            "FAILED_PAYMENT_INTERNAL_SYSTEM_PROCESSING",
+            "FAILED_INTERNAL_SYSTEM_PROCESSING",
+            "UNKNOWN_PAYMENT_ERROR");
+
+    // 4xx 이지만 요청이 처리되지 않았을 수 있는 HTTP 상태 (요청 시간 초과, 충돌, 호출 한도 초과)
+    private static final Set<Integer> AMBIGUOUS_STATUS_CODES = Set.of(408, 409, 429);
+
     @Override
     public PaymentInitResponse initiate(PaymentInitRequest request) {
         log.info("Toss 결제 요청 시작: orderId={}, amount={}", request.orderId(), request.amount());
@@ -81,10 +104,20 @@ public class TossPaymentGateway implements PaymentGateway {
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
 
-            // 실제 Toss API 호출 (테스트 환경에서는 Mock 처리)
-            // ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            if (!mockEnabled) {
+                Map<String, Object> response = exchange(url, HttpMethod.POST, entity);
+                log.info("Toss 결제 승인 완료: paymentKey={}, status={}", request.paymentKey(), response.get("status"));
+                return new PaymentConfirmResponse(
+                        true,
+                        (String) response.get("lastTransactionKey"),
+                        (String) response.get("paymentKey"),
+                        toPaymentStatus((String) response.get("status")),
+                        null,
+                        null
+                );
+            }
 
-            // Mock 응답 (실제 연동 시 위 주석 해제)
+            // Mock 응답
             String transactionId = "txn_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
             String pgTransactionId = "pg_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
 
@@ -98,7 +131,23 @@ public class TossPaymentGateway implements PaymentGateway {
                     null,
                     null
             );
-        } catch (Exception e) {
+        } catch (PaymentGatewayUnavailableException e) {
+            throw e;
+        } catch (HttpClientErrorException e) {
+            String errorCode = errorCodeOf(e);
+            if (ALREADY_PROCESSED_PAYMENT.equals(errorCode)) {
+                // 앞선 승인 요청이 이미 처리되었으므로 PG 의 현재 상태로 결과 확정
+                log.warn("Toss 결제 승인 재요청 - 이미 처리된 결제: paymentKey={}", request.paymentKey());
+                return confirmedResult(request.paymentKey());
+            }
+            if (AMBIGUOUS_ERROR_CODES.contains(errorCode) || AMBIGUOUS_STATUS_CODES.contains(e.getStatusCode().value())) {
+                // 승인 여부를 알 수 없으므로 처리중으로 두고 대사에서 확정
+                log.error("Toss 결제 승인 결과 확인 불가: paymentKey={}, status={}, code={}",
+                        request.paymentKey(), e.getStatusCode(), errorCode, e);
+                throw new PaymentGatewayUnavailableException("결제 승인 결과를 확인하지 못했습니다. 잠시 후 다시 확인해주세요.", e);
+            }
+
+            // PG 가 승인을 거절한 경우만 실패로 확정
             log.error("Toss 결제 승인 실패: {}", e.getMessage(), e);
             return new PaymentConfirmResponse(
                     false,
@@ -108,6 +157,10 @@ public class TossPaymentGateway implements PaymentGateway {
                     "CONFIRM_FAILED",
                     e.getMessage()
             );
+        } catch (RuntimeException e) {
+            // 응답을 해석하지 못하면 승인 여부를 알 수 없으므로 처리중으로 두고 대사에서 확정
+            log.error("Toss 결제 승인 결과 확인 불가: paymentKey={}, error={}", request.paymentKey(), e.getMessage(), e);
+            throw new PaymentGatewayUnavailableException("결제 승인 결과를 확인하지 못했습니다. 잠시 후 다시 확인해주세요.", e);
         }
     }
 
@@ -124,8 +177,10 @@ public class TossPaymentGateway implements PaymentGateway {
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
 
-            // 실제 Toss API 호출 (테스트 환경에서는 Mock 처리)
-            // ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            if (!mockEnabled) {
+                Map<String, Object> response = exchange(url, HttpMethod.POST, entity);
+                return new PaymentCancelResponse(true, (String) response.get("lastTransactionKey"), null, null);
+            }
 
             // Mock 응답
             String cancelTransactionId = "cancel_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
@@ -138,7 +193,9 @@ public class TossPaymentGateway implements PaymentGateway {
                     null,
                     null
             );
-        } catch (Exception e) {
+        } catch (PaymentGatewayUnavailableException e) {
+            throw e;
+        } catch (HttpClientErrorException e) {
             log.error("Toss 결제 취소 실패: {}", e.getMessage(), e);
             return new PaymentCancelResponse(
                     false,
@@ -146,6 +203,10 @@ public class TossPaymentGateway implements PaymentGateway {
                     "CANCEL_FAILED",
                     e.getMessage()
             );
+        } catch (RuntimeException e) {
+            // 응답을 해석하지 못한 경우 PG 처리 여부를 알 수 없으므로 장애로 알림
+            log.error("Toss 결제 취소 결과 확인 불가: paymentKey={}, error={}", paymentKey, e.getMessage(), e);
+            throw new PaymentGatewayUnavailableException("결제 취소 결과를 확인하지 못했습니다. 잠시 후 다시 확인해주세요.", e);
         }
     }
 
@@ -163,8 +224,10 @@ public class TossPaymentGateway implements PaymentGateway {
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
 
-            // 실제 Toss API 호출 (테스트 환경에서는 Mock 처리)
-            // ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            if (!mockEnabled) {
+                Map<String, Object> response = exchange(url, HttpMethod.POST, entity);
+                return new PaymentRefundResponse(true, (String) response.get("lastTransactionKey"), amount, null, null);
+            }
 
             // Mock 응답
             String refundTransactionId = "refund_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
@@ -178,7 +241,9 @@ public class TossPaymentGateway implements PaymentGateway {
                     null,
                     null
             );
-        } catch (Exception e) {
+        } catch (PaymentGatewayUnavailableException e) {
+            throw e;
+        } catch (HttpClientErrorException e) {
             log.error("Toss 환불 실패: {}", e.getMessage(), e);
             return new PaymentRefundResponse(
                     false,
@@ -187,6 +252,10 @@ public class TossPaymentGateway implements PaymentGateway {
                     "REFUND_FAILED",
                     e.getMessage()
             );
+        } catch (RuntimeException e) {
+            // 응답을 해석하지 못한 경우 PG 처리 여부를 알 수 없으므로 장애로 알림
+            log.error("Toss 환불 결과 확인 불가: paymentKey={}, error={}", paymentKey, e.getMessage(), e);
+            throw new PaymentGatewayUnavailableException("환불 결과를 확인하지 못했습니다. 잠시 후 다시 확인해주세요.", e);
         }
     }
 
@@ -200,20 +269,32 @@ public class TossPaymentGateway implements PaymentGateway {
             HttpHeaders headers = createHeaders();
             HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-            // 실제 Toss API 호출 (테스트 환경에서는 Mock 처리)
-            // ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
-
-            // Mock 응답
+            if (!mockEnabled) {
+                Map<String, Object> response = exchange(url, HttpMethod.GET, entity);
+                return new PaymentStatusResponse(
+                        true,
+                        toPaymentStatus((String) response.get("status")),
+                        toBigDecimal(response.get("totalAmount")),
+                        toBigDecimal(response.get("totalAmount")).subtract(toBigDecimal(response.get("balanceAmount"))),
+                        (String) response.get("lastTransactionKey"),
+                        null,
+                        null
+                );
+            }
+
+            // Mock 응답 (승인 전 상태로 응답하여 대사 시 임의로 완료 처리되지 않도록 함)
             return new PaymentStatusResponse(
                     true,
-                    PaymentStatus.COMPLETED,
+                    PaymentStatus.PROCESSING,
                     BigDecimal.valueOf(10000),
                     BigDecimal.ZERO,
                     "txn_mock_" + paymentKey.substring(0, 8),
                     null,
                     null
             );
-        } catch (Exception e) {
+        } catch (PaymentGatewayUnavailableException e) {
+            throw e;
+        } catch (HttpClientErrorException e) {
             log.error("Toss 결제 상태 조회 실패: {}", e.getMessage(), e);
             return new PaymentStatusResponse(
                     false,
@@ -221,12 +302,92 @@ public class TossPaymentGateway implements PaymentGateway {
                     null,
                     null,
                     null,
-                    "STATUS_QUERY_FAILED",
+                    e.getStatusCode() == HttpStatus.NOT_FOUND ? PaymentStatusResponse.NOT_FOUND : "STATUS_QUERY_FAILED",
                     e.getMessage()
             );
+        } catch (RuntimeException e) {
+            // 응답을 해석하지 못한 경우 PG 처리 여부를 알 수 없으므로 장애로 알림
+            log.error("Toss 결제 상태 응답 해석 실패: paymentKey={}, error={}", paymentKey, e.getMessage(), e);
+            throw new PaymentGatewayUnavailableException("PG사 결제 상태를 확인하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 이미 처리된 결제의 승인 결과를 PG 상태 조회로 확정
+     * 승인 완료/실패가 아닌 상태는 처리 여부를 알 수 없으므로 대사에서 확정
+     */
+    private PaymentConfirmResponse confirmedResult(String paymentKey) {
+        Map<String, Object> response = exchange(apiUrl + "/v1/payments/" + paymentKey, HttpMethod.GET,
+                new HttpEntity<>(createHeaders()));
+        PaymentStatus status = toPaymentStatus((String) response.get("status"));
+
+        if (status == PaymentStatus.COMPLETED) {
+            return new PaymentConfirmResponse(
+                    true,
+                    (String) response.get("lastTransactionKey"),
+                    (String) response.get("paymentKey"),
+                    PaymentStatus.COMPLETED,
+                    null,
+                    null
+            );
+        }
+        if (status == PaymentStatus.FAILED) {
+            return new PaymentConfirmResponse(false, null, null, PaymentStatus.FAILED,
+                    "CONFIRM_FAILED", "PG사에서 승인되지 않은 결제입니다.");
+        }
+        throw new PaymentGatewayUnavailableException("결제 승인 결과를 확인하지 못했습니다. 잠시 후 다시 확인해주세요.");
+    }
+
+    /**
+     * Toss 오류 응답의 code (해석하지 못하면 null)
+     */
+    private static String errorCodeOf(HttpClientErrorException e) {
+        try {
+            TossError error = e.getResponseBodyAs(TossError.class);
+            return error != null ? error.code() : null;
+        } catch (RuntimeException ignored) {
+            return null;
         }
     }
 
+    private record TossError(String code, String message) {
+    }
+
+    /**
+     * Toss API 호출
+     * 연결 실패/응답 지연/5xx 는 PG 처리 여부를 알 수 없으므로 실패 응답 대신 PaymentGatewayUnavailableException
+     */
+    private Map<String, Object> exchange(String url, HttpMethod method, HttpEntity<?> entity) {
+        try {
+            ResponseEntity<Map<String, Object>> response =
+                    restTemplate.exchange(url, method, entity, new ParameterizedTypeReference<>() {});
+            return response.getBody() != null ? response.getBody() : Map.of();
+        } catch (ResourceAccessException e) {
+            log.warn("Toss API 응답 없음: url={}, error={}", url, e.getMessage());
+            throw new PaymentGatewayUnavailableException("PG사 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (HttpServerErrorException e) {
+            log.warn("Toss API 서버 오류: url={}, status={}", url, e.getStatusCode());
+            throw new PaymentGatewayUnavailableException("PG사에 일시적인 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    private static PaymentStatus toPaymentStatus(String tossStatus) {
+        if (tossStatus == null) {
+            return PaymentStatus.PROCESSING;
+        }
+        return switch (tossStatus) {
+            case "DONE" -> PaymentStatus.COMPLETED;
+            case "CANCELED" -> PaymentStatus.CANCELLED;
+            case "PARTIAL_CANCELED" -> PaymentStatus.PARTIALLY_REFUNDED;
+            case "ABORTED", "EXPIRED" -> PaymentStatus.FAILED;
+            default -> PaymentStatus.PROCESSING;
+        };
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return value instanceof Number number ? new BigDecimal(number.toString()) : BigDecimal.ZERO;
+    }
+
     private HttpHeaders createHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -1,8 +1,16 @@
 package com.ecommerce.payment.infrastructure.persistence;
 
 import com.ecommerce.payment.domain.Payment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -10,6 +18,10 @@ import java.util.Optional;
  */
 public interface JpaPaymentRepository extends JpaRepository<Payment, Long> {
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id = :id")
+    Optional<Payment> findByIdForUpdate(@Param("id") Long id);
+
     Optional<Payment> findByOrderId(Long orderId);
 
     Optional<Payment> findByPaymentKey(String paymentKey);
@@ -17,4 +29,21 @@ public interface JpaPaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByTransactionId(String transactionId);
 
     boolean existsByOrderId(Long orderId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id IN :ids ORDER BY p.id")
+    List<Payment> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM Payment p WHERE p.paymentStatus = 'PROCESSING' AND p.reviewRequired = false " +
+           "AND p.updatedAt < :updatedBefore AND p.id > :cursor ORDER BY p.id")
+    List<Payment> findStaleProcessingAfter(@Param("cursor") Long cursor,
+                                           @Param("updatedBefore") LocalDateTime updatedBefore,
+                                           Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM Payment p WHERE p.paymentStatus = 'PROCESSING' AND p.reviewRequired = false " +
+           "AND p.createdAt < :createdBefore")
+    long countStaleProcessing(@Param("createdBefore") LocalDateTime createdBefore);
+
+    @Query("SELECT COUNT(p) FROM Payment p WHERE p.paymentStatus = 'PROCESSING' AND p.reviewRequired = true")
+    long countReviewRequired();
 }
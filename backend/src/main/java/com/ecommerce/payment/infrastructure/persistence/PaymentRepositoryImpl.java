@@ -3,8 +3,12 @@ package com.ecommerce.payment.infrastructure.persistence;
 import com.ecommerce.payment.domain.Payment;
 import com.ecommerce.payment.domain.PaymentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,6 +30,11 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         return jpaPaymentRepository.findById(id);
     }
 
+    @Override
+    public Optional<Payment> findByIdForUpdate(Long id) {
+        return jpaPaymentRepository.findByIdForUpdate(id);
+    }
+
     @Override
     public Optional<Payment> findByOrderId(Long orderId) {
         return jpaPaymentRepository.findByOrderId(orderId);
@@ -45,4 +54,27 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     public boolean existsByOrderId(Long orderId) {
         return jpaPaymentRepository.existsByOrderId(orderId);
     }
+
+    @Override
+    public List<Payment> findAllByIdInForUpdate(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaPaymentRepository.findAllByIdInForUpdate(ids);
+    }
+
+    @Override
+    public List<Payment> findStaleProcessingAfter(Long cursor, LocalDateTime updatedBefore, int limit) {
+        return jpaPaymentRepository.findStaleProcessingAfter(cursor, updatedBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public long countStaleProcessing(LocalDateTime createdBefore) {
+        return jpaPaymentRepository.countStaleProcessing(createdBefore);
+    }
+
+    @Override
+    public long countReviewRequired() {
+        return jpaPaymentRepository.countReviewRequired();
+    }
 }
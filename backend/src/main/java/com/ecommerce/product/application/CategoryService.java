@@ -10,7 +10,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Category 애플리케이션 서비스
@@ -23,35 +22,32 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ProductMapper productMapper;
+    private final CategoryTreeCache categoryTreeCache;
 
     /**
      * 모든 카테고리 조회
      */
     public List<CategoryResponse> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(productMapper::toCategoryResponse)
-                .collect(Collectors.toList());
+        return categoryTreeCache.get().getAll();
     }
 
     /**
      * 최상위 카테고리 조회
      */
     public List<CategoryResponse> getRootCategories() {
-        return categoryRepository.findByParentIsNull().stream()
-                .map(productMapper::toCategoryResponse)
-                .collect(Collectors.toList());
+        return categoryTreeCache.get().getRoots();
     }
 
     /**
      * 특정 카테고리의 하위 카테고리 조회
      */
     public List<CategoryResponse> getChildCategories(Long parentId) {
-        Category parent = categoryRepository.findById(parentId)
-                .orElseThrow(() -> new CategoryNotFoundException(parentId));
+        CategoryTree tree = categoryTreeCache.get();
+        if (!tree.contains(parentId)) {
+            throw new CategoryNotFoundException(parentId);
+        }
 
-        return categoryRepository.findByParent(parent).stream()
-                .map(productMapper::toCategoryResponse)
-                .collect(Collectors.toList());
+        return tree.getChildren(parentId);
     }
 
     /**
@@ -68,6 +64,8 @@ public class CategoryService {
         Category category = Category.create(name, parent, displayOrder);
         Category savedCategory = categoryRepository.save(category);
 
+        categoryTreeCache.refresh();
+
         log.info("Category created: id={}, name={}", savedCategory.getId(), savedCategory.getName());
 
         return productMapper.toCategoryResponse(savedCategory);
@@ -0,0 +1,190 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.domain.Category;
+import com.ecommerce.product.dto.CategoryResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 트리 스냅샷 (불변)
+ * 생성 시점에 부모/자식/조상/하위 관계를 모두 계산해 두어 조회 시 DB 나 트리 순회 없이 바로 반환
+ *
+ * - 같은 부모 안에서는 표시 순서(없으면 마지막), ID 순으로 정렬
+ * - 부모가 스냅샷에 없는 카테고리는 최상위로 취급
+ */
+public final class CategoryTree {
+
+    private static final Comparator<CategoryResponse> DISPLAY_ORDER = Comparator
+            .comparing(CategoryResponse::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(CategoryResponse::getId);
+
+    private static final CategoryTree EMPTY = new CategoryTree(List.of());
+
+    private final List<CategoryResponse> all;
+    private final List<CategoryResponse> roots;
+    private final Map<Long, CategoryResponse> byId;
+    private final Map<Long, List<CategoryResponse>> children;
+    private final Map<Long, List<Long>> ancestorIds;
+    private final Map<Long, Set<Long>> subtreeIds;
+    private final Map<Long, Integer> heights;
+
+    private CategoryTree(List<CategoryResponse> categories) {
+        List<CategoryResponse> sorted = new ArrayList<>(categories);
+        sorted.sort(DISPLAY_ORDER);
+
+        Map<Long, CategoryResponse> idIndex = new HashMap<>();
+        sorted.forEach(category -> idIndex.put(category.getId(), category));
+
+        List<CategoryResponse> rootList = new ArrayList<>();
+        Map<Long, List<CategoryResponse>> childIndex = new HashMap<>();
+        for (CategoryResponse category : sorted) {
+            Long parentId = category.getParentId();
+            if (parentId == null || !idIndex.containsKey(parentId)) {
+                rootList.add(category);
+            } else {
+                childIndex.computeIfAbsent(parentId, id -> new ArrayList<>()).add(category);
+            }
+        }
+
+        // 최상위부터 내려가며 조상 경로를 만들고, 각 조상의 하위 집합에 자신을 추가
+        Map<Long, List<Long>> ancestorIndex = new HashMap<>();
+        Map<Long, Set<Long>> subtreeIndex = new HashMap<>();
+        Map<Long, Integer> heightIndex = new HashMap<>();
+        List<CategoryResponse> ordered = new ArrayList<>(sorted.size());
+        for (CategoryResponse root : rootList) {
+            collect(root, List.of(), childIndex, ancestorIndex, subtreeIndex, heightIndex, ordered);
+        }
+
+        this.all = Collections.unmodifiableList(ordered);
+        this.roots = Collections.unmodifiableList(rootList);
+        this.byId = Collections.unmodifiableMap(idIndex);
+        this.children = unmodifiableValues(childIndex);
+        this.ancestorIds = Collections.unmodifiableMap(ancestorIndex);
+        this.subtreeIds = Collections.unmodifiableMap(subtreeIndex);
+        this.heights = Collections.unmodifiableMap(heightIndex);
+    }
+
+    public static CategoryTree of(List<CategoryResponse> categories) {
+        return new CategoryTree(categories);
+    }
+
+    public static CategoryTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 전체 카테고리 (최상위부터 깊이 우선 순서)
+     */
+    public List<CategoryResponse> getAll() {
+        return all;
+    }
+
+    public List<CategoryResponse> getRoots() {
+        return roots;
+    }
+
+    public boolean contains(Long categoryId) {
+        return byId.containsKey(categoryId);
+    }
+
+    public CategoryResponse get(Long categoryId) {
+        return byId.get(categoryId);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * 직계 자식 카테고리
+     */
+    public List<CategoryResponse> getChildren(Long categoryId) {
+        return children.getOrDefault(categoryId, List.of());
+    }
+
+    /**
+     * 최상위부터 부모까지의 조상 ID (자신 제외)
+     */
+    public List<Long> getAncestorIds(Long categoryId) {
+        return ancestorIds.getOrDefault(categoryId, List.of());
+    }
+
+    /**
+     * 자신과 모든 하위 카테고리 ID
+     */
+    public Set<Long> getSubtreeIds(Long categoryId) {
+        return subtreeIds.getOrDefault(categoryId, Set.of());
+    }
+
+    /**
+     * 최상위부터 자신까지의 ID 경로 (Category.path 와 같은 형식, 없는 카테고리 = null)
+     */
+    public String getPath(Long categoryId) {
+        if (!contains(categoryId)) {
+            return null;
+        }
+        List<Long> path = new ArrayList<>(getAncestorIds(categoryId));
+        path.add(categoryId);
+        return Category.pathOf(path);
+    }
+
+    /**
+     * 깊이 (최상위 = 0, 없는 카테고리 = -1)
+     */
+    public int getDepth(Long categoryId) {
+        return contains(categoryId) ? getAncestorIds(categoryId).size() : -1;
+    }
+
+    /**
+     * 가장 깊은 하위 카테고리까지의 단계 수 (하위가 없으면 0, 없는 카테고리 = -1)
+     */
+    public int getHeight(Long categoryId) {
+        return heights.getOrDefault(categoryId, -1);
+    }
+
+    private static int collect(CategoryResponse category,
+                               List<Long> ancestors,
+                               Map<Long, List<CategoryResponse>> childIndex,
+                               Map<Long, List<Long>> ancestorIndex,
+                               Map<Long, Set<Long>> subtreeIndex,
+                               Map<Long, Integer> heightIndex,
+                               List<CategoryResponse> ordered) {
+        Long id = category.getId();
+        ordered.add(category);
+        ancestorIndex.put(id, ancestors);
+
+        Set<Long> subtree = new LinkedHashSet<>();
+        subtree.add(id);
+        subtreeIndex.put(id, subtree);
+        ancestors.forEach(ancestorId -> subtreeIndex.get(ancestorId).add(id));
+
+        List<Long> path = new ArrayList<>(ancestors.size() + 1);
+        path.addAll(ancestors);
+        path.add(id);
+        List<Long> childAncestors = List.copyOf(path);
+
+        int height = 0;
+        for (CategoryResponse child : childIndex.getOrDefault(id, List.of())) {
+            height = Math.max(height,
+                    collect(child, childAncestors, childIndex, ancestorIndex, subtreeIndex, heightIndex, ordered) + 1);
+        }
+
+        // 하위 순회가 끝난 뒤 읽기 전용으로 고정
+        subtreeIndex.put(id, Collections.unmodifiableSet(subtree));
+        heightIndex.put(id, height);
+        return height;
+    }
+
+    private static <V> Map<Long, List<V>> unmodifiableValues(Map<Long, List<V>> index) {
+        Map<Long, List<V>> copy = new HashMap<>();
+        index.forEach((key, values) -> copy.put(key, Collections.unmodifiableList(values)));
+        return Collections.unmodifiableMap(copy);
+    }
+}
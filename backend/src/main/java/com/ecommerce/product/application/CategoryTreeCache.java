@@ -0,0 +1,85 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.infrastructure.persistence.CategoryQuerydslRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카테고리 트리 스냅샷 보관소
+ * 조회는 현재 스냅샷을 그대로 사용하고, 카테고리가 변경되면 전체를 다시 읽어 새 스냅샷으로 교체 (copy-on-write)
+ *
+ * - 시작 시 적재하며, 적재 전 조회가 들어오면 그 자리에서 적재
+ * - 변경 트랜잭션 안에서 요청되면 커밋 후 교체하여 롤백된 변경이 반영되지 않도록 함
+ * - 단일 인스턴스를 전제로 하며, 다른 인스턴스의 변경은 반영되지 않음
+ */
+@Slf4j
+@Component
+public class CategoryTreeCache {
+
+    private final CategoryQuerydslRepository categoryQuerydslRepository;
+    private final ProductMapper productMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile CategoryTree tree;
+
+    public CategoryTreeCache(CategoryQuerydslRepository categoryQuerydslRepository,
+                             ProductMapper productMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.categoryQuerydslRepository = categoryQuerydslRepository;
+        this.productMapper = productMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 현재 스냅샷
+     */
+    public CategoryTree get() {
+        CategoryTree current = tree;
+        return current != null ? current : reload();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * 스냅샷 갱신 요청
+     * 트랜잭션 안이면 커밋 후, 아니면 즉시 갱신
+     */
+    public void refresh() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    /**
+     * DB 에서 전체 카테고리를 읽어 스냅샷 교체
+     * 동시에 갱신되어도 마지막에 읽은 스냅샷이 남도록 직렬화
+     */
+    synchronized CategoryTree reload() {
+        CategoryTree loaded = readOnlyTransaction.execute(status -> CategoryTree.of(
+                categoryQuerydslRepository.findCategoryTree().stream()
+                        .map(productMapper::toCategoryResponse)
+                        .toList()));
+        tree = loaded;
+        log.info("카테고리 트리 적재 - 카테고리 수: {}", loaded.size());
+        return loaded;
+    }
+}
@@ -0,0 +1,132 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.domain.ProductRepository;
+import com.ecommerce.product.domain.ProductRepository.CounterDelta;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수/판매량 쓰기 지연 버퍼
+ * 조회/구매 확정마다 products 행을 UPDATE 하지 않고 메모리에 누적한 뒤 주기적으로 일괄 반영
+ *
+ * - 상품별 LongAdder 로 누적하여 인기 상품에 요청이 몰려도 경합이 적음
+ * - 반영 직전에 증가한 값은 드물게 누락될 수 있으며, 정렬용 통계이므로 허용
+ * - 상품 ID 순으로 BATCH_SIZE 개씩 나누어 배치마다 한 트랜잭션으로 반영하고,
+ *   실패하면 반영되지 않은 배치만 버퍼에 되돌려 다음 주기에 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCounterBuffer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+
+    private final ConcurrentMap<Long, LongAdder> viewCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, LongAdder> salesCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 상품 조회 기록
+     */
+    public void recordView(Long productId) {
+        viewCounts.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 판매 수량 기록
+     */
+    public void recordSales(Long productId, long quantity) {
+        if (quantity <= 0) {
+            return;
+        }
+        salesCounts.computeIfAbsent(productId, id -> new LongAdder()).add(quantity);
+    }
+
+    /**
+     * 반영 대기 중인 상품 수
+     */
+    public int pendingSize() {
+        return viewCounts.size() + salesCounts.size();
+    }
+
+    /**
+     * 누적분을 DB 에 반영
+     */
+    @Scheduled(fixedDelayString = "${product.counter.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, long[]> drained = new HashMap<>();
+        drain(viewCounts, drained, 0);
+        drain(salesCounts, drained, 1);
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<Map<Long, CounterDelta>> batches = new ArrayList<>();
+        Map<Long, CounterDelta> batch = new HashMap<>();
+        for (Map.Entry<Long, long[]> entry : new TreeMap<>(drained).entrySet()) {
+            batch.put(entry.getKey(), new CounterDelta(entry.getValue()[0], entry.getValue()[1]));
+            if (batch.size() == BATCH_SIZE) {
+                batches.add(batch);
+                batch = new HashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+
+        for (int i = 0; i < batches.size(); i++) {
+            try {
+                productRepository.addCounters(batches.get(i));
+            } catch (DataAccessException e) {
+                // 이미 커밋된 배치는 제외하고 실패한 배치부터 되돌림
+                List<Map<Long, CounterDelta>> remaining = batches.subList(i, batches.size());
+                log.warn("상품 조회수/판매량 반영 실패, 다음 주기에 재시도 - 상품 수: {}",
+                        remaining.stream().mapToInt(Map::size).sum(), e);
+                remaining.forEach(this::restore);
+                return;
+            }
+        }
+        log.debug("상품 조회수/판매량 반영 - 상품 수: {}", drained.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void restore(Map<Long, CounterDelta> deltas) {
+        deltas.forEach((productId, delta) -> {
+            if (delta.viewCount() > 0) {
+                viewCounts.computeIfAbsent(productId, id -> new LongAdder()).add(delta.viewCount());
+            }
+            recordSales(productId, delta.salesCount());
+        });
+    }
+
+    private void drain(ConcurrentMap<Long, LongAdder> counters, Map<Long, long[]> drained, int index) {
+        for (Long productId : counters.keySet()) {
+            LongAdder adder = counters.remove(productId);
+            if (adder == null) {
+                continue;
+            }
+            long count = adder.sum();
+            if (count > 0) {
+                drained.computeIfAbsent(productId, id -> new long[2])[index] = count;
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.dto.ProductResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 응답 캐시 (read-through)
+ * 상품 상세 조회마다 카테고리/이미지/옵션 fetch join 쿼리를 실행하지 않도록 변환된 응답을 보관
+ *
+ * - 최대 개수를 넘으면 가장 오래 조회되지 않은 상품부터 제거 (LRU), TTL 이 지나면 다시 적재
+ * - 같은 상품을 동시에 적재하면 한 요청만 DB 를 조회하고 나머지는 그 결과를 기다림 (single-flight)
+ * - 적재 중 무효화되면 적재 결과를 캐시에 넣지 않음
+ * - 조회수/판매량은 TTL 동안 갱신되지 않을 수 있음
+ */
+@Component
+public class ProductDetailCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+    private final ConcurrentMap<Long, CompletableFuture<ProductResponse>> loading = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public ProductDetailCache(MeterRegistry meterRegistry,
+                              @Value("${product.detail-cache.max-size:10000}") int maxSize,
+                              @Value("${product.detail-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > ProductDetailCache.this.maxSize) {
+                    ProductDetailCache.this.evictionCounter.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.hitCounter = Counter.builder("product.detail-cache.hit")
+                .description("상품 상세 캐시 적중 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("product.detail-cache.miss")
+                .description("상품 상세 캐시 미적중 수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("product.detail-cache.eviction")
+                .description("최대 개수 초과로 제거된 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("product.detail-cache.size", this, ProductDetailCache::size)
+                .description("캐시된 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상품 상세 조회
+     * @param loader 캐시에 없을 때 사용할 DB 조회 (예외는 캐시하지 않고 그대로 전파)
+     */
+    public ProductResponse get(Long productId, Supplier<ProductResponse> loader) {
+        ProductResponse cached = lookup(productId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+
+        CompletableFuture<ProductResponse> future = new CompletableFuture<>();
+        CompletableFuture<ProductResponse> inFlight = loading.putIfAbsent(productId, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            ProductResponse response = loader.get();
+            // 적재 중 무효화되었으면 loading 에서 이미 빠져 있으므로 저장하지 않음
+            if (loading.remove(productId, future)) {
+                store(productId, response);
+            }
+            future.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            loading.remove(productId, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 상품 캐시 무효화
+     * 트랜잭션 안에서 호출되면 커밋 후 한 번 더 무효화하여, 커밋 전에 다시 적재된 이전 값을 제거
+     */
+    public void evict(Long productId) {
+        evictNow(productId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(productId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void evictAll() {
+        loading.clear();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private ProductResponse lookup(Long productId) {
+        synchronized (entries) {
+            Entry entry = entries.get(productId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(ttlNanos)) {
+                entries.remove(productId);
+                return null;
+            }
+            return entry.response;
+        }
+    }
+
+    private void store(Long productId, ProductResponse response) {
+        synchronized (entries) {
+            entries.put(productId, new Entry(response));
+        }
+    }
+
+    private void evictNow(Long productId) {
+        loading.remove(productId);
+        synchronized (entries) {
+            entries.remove(productId);
+        }
+    }
+
+    private ProductResponse await(CompletableFuture<ProductResponse> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+
+        private final ProductResponse response;
+        private final long loadedAt = System.nanoTime();
+
+        private Entry(ProductResponse response) {
+            this.response = response;
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - loadedAt > ttlNanos;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.product.application;
 
+import com.ecommerce.order.domain.event.OrderCompletedEvent;
 import com.ecommerce.product.domain.event.ProductCreatedEvent;
 import com.ecommerce.product.domain.event.ProductPublishedEvent;
 import com.ecommerce.product.domain.event.ProductStockChangedEvent;
@@ -16,6 +17,10 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ProductEventHandler {
 
+    private final ProductCounterBuffer productCounterBuffer;
+    private final ProductDetailCache productDetailCache;
+    private final ProductSearchCountCache productSearchCountCache;
+
     @EventListener
     public void handleProductCreated(ProductCreatedEvent event) {
         log.info("Product created event handled: productId={}, occurredOn={}",
@@ -30,8 +35,10 @@ public class ProductEventHandler {
         log.info("Product published event handled: productId={}, occurredOn={}",
                 event.getProductId(), event.getOccurredOn());
 
+        productDetailCache.evict(event.getProductId());
+
         // TODO: 추가 비즈니스 로직
-        // 예: 캐시 업데이트, 알림 발송 등
+        // 예: 알림 발송 등
     }
 
     @EventListener
@@ -39,7 +46,25 @@ public class ProductEventHandler {
         log.info("Product stock changed event handled: productId={}, currentStock={}, occurredOn={}",
                 event.getProductId(), event.getCurrentStock(), event.getOccurredOn());
 
+        // 주문 재고 차감 등 ProductService 를 거치지 않는 재고 변경도 이 이벤트로 무효화
+        productDetailCache.evict(event.getProductId());
+        // 재고 소진/재입고로 판매 상태가 바뀌면 상태별 검색 건수도 달라짐
+        if (event.crossesZero()) {
+            productSearchCountCache.invalidateAll();
+        }
+
         // TODO: 추가 비즈니스 로직
-        // 예: 재고 부족 알림, 캐시 업데이트 등
+        // 예: 재고 부족 알림 등
+    }
+
+    /**
+     * 구매 확정 이벤트 → 판매량 누적 (버퍼에 쌓은 뒤 일괄 반영)
+     */
+    @EventListener
+    public void handleOrderCompleted(OrderCompletedEvent event) {
+        if (event.getProductQuantities() == null) {
+            return;
+        }
+        event.getProductQuantities().forEach(productCounterBuffer::recordSales);
     }
 }
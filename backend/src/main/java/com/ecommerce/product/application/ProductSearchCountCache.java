@@ -0,0 +1,142 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.domain.ProductStatus;
+import com.ecommerce.product.dto.ProductSearchRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품 검색 결과 수 캐시 (근사값)
+ * 같은 검색 조건으로 페이지를 넘길 때마다 COUNT 쿼리를 다시 실행하지 않도록 TTL 동안 재사용
+ *
+ * - 정렬/페이지와 무관하게 필터 조건만으로 키를 만들며, 키워드/브랜드는 대소문자와 앞뒤 공백을 무시
+ * - 상품 등록/수정/삭제/판매 시작, 재고 소진/재입고 시 전체 무효화하며, 그 밖의 변경은 TTL 동안 반영되지 않을 수 있음
+ * - 조회 결과로 보정한 건수(마지막 페이지의 정확한 건수, 끝을 넘은 빈 페이지의 상한 등)는 다시 저장하여 다음 요청부터 사용
+ * - 최대 개수를 넘으면 가장 오래 조회되지 않은 조건부터 제거 (LRU)
+ */
+@Component
+public class ProductSearchCountCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<CountKey, Entry> entries;
+
+    public ProductSearchCountCache(@Value("${product.search.count-cache.max-size:10000}") int maxSize,
+                                   @Value("${product.search.count-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CountKey, Entry> eldest) {
+                return size() > ProductSearchCountCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 검색 결과 수 조회
+     * @param loader 캐시에 없거나 만료되었을 때 사용할 COUNT 쿼리
+     */
+    public long get(ProductSearchRequest request, Collection<Long> categoryIds, LongSupplier loader) {
+        CountKey key = CountKey.of(request, categoryIds);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.isExpired(ttlNanos)) {
+                return entry.count;
+            }
+        }
+
+        // COUNT 쿼리는 락 밖에서 수행
+        long count = loader.getAsLong();
+        synchronized (entries) {
+            entries.put(key, new Entry(count));
+        }
+        return count;
+    }
+
+    /**
+     * 조회 결과로 보정한 검색 결과 수 저장
+     */
+    public void put(ProductSearchRequest request, Collection<Long> categoryIds, long count) {
+        CountKey key = CountKey.of(request, categoryIds);
+        synchronized (entries) {
+            entries.put(key, new Entry(count));
+        }
+    }
+
+    /**
+     * 전체 무효화 (상품 변경 시)
+     * 트랜잭션 안이면 커밋 직후 한 번 더 비워, 커밋 전에 다시 채워진 이전 건수를 남기지 않음
+     */
+    public void invalidateAll() {
+        clear();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private record CountKey(ProductStatus status, List<Long> categoryIds, String keyword, String brand,
+                            BigDecimal minPrice, BigDecimal maxPrice) {
+
+        private static CountKey of(ProductSearchRequest request, Collection<Long> categoryIds) {
+            return new CountKey(
+                    request.getStatus(),
+                    categoryIds != null ? categoryIds.stream().sorted().toList() : null,
+                    normalize(request.getKeyword()),
+                    normalize(request.getBrand()),
+                    normalize(request.getMinPrice()),
+                    normalize(request.getMaxPrice()));
+        }
+
+        private static String normalize(String value) {
+            return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+        }
+
+        private static BigDecimal normalize(BigDecimal value) {
+            return value != null ? value.stripTrailingZeros() : null;
+        }
+    }
+
+    private static final class Entry {
+
+        private final long count;
+        private final long loadedAt = System.nanoTime();
+
+        private Entry(long count) {
+            this.count = count;
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - loadedAt > ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.domain.Product;
+import com.ecommerce.product.domain.ProductRepository;
+import com.ecommerce.product.domain.ProductStatus;
+import com.ecommerce.product.domain.event.ProductCreatedEvent;
+import com.ecommerce.product.domain.event.ProductDeletedEvent;
+import com.ecommerce.product.domain.event.ProductPublishedEvent;
+import com.ecommerce.product.domain.event.ProductStockChangedEvent;
+import com.ecommerce.product.domain.event.ProductUpdatedEvent;
+import com.ecommerce.product.infrastructure.search.ProductDocument;
+import com.ecommerce.product.infrastructure.search.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품 검색 색인 갱신
+ * 시작 시 전체 상품을 적재하고, 이후에는 상품 생성/수정/발행/삭제 이벤트로 해당 상품만 다시 색인
+ * 재고 변경은 품절/판매중 전환이 있을 수 있는 경우(재고 0, 또는 품절로 색인된 상품)만 다시 색인
+ *
+ * 이벤트는 아웃박스 릴레이가 커밋 이후 전달하므로 DB 에서 최신 상태를 다시 읽어 색인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexer {
+
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    /**
+     * 전체 상품 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long startedAt = System.currentTimeMillis();
+        int pageNumber = 0;
+        Page<Product> page;
+        do {
+            page = productRepository.findAll(PageRequest.of(pageNumber++, LOAD_PAGE_SIZE, Sort.by("id")));
+            page.forEach(product -> productSearchIndex.index(ProductDocument.from(product)));
+        } while (page.hasNext());
+
+        productSearchIndex.markReady();
+        log.info("상품 검색 색인 적재 완료 - 상품 수: {}, 소요: {}ms",
+                productSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @EventListener
+    public void handleProductCreated(ProductCreatedEvent event) {
+        reindex(event.getProductId());
+    }
+
+    @EventListener
+    public void handleProductUpdated(ProductUpdatedEvent event) {
+        reindex(event.getProductId());
+    }
+
+    @EventListener
+    public void handleProductPublished(ProductPublishedEvent event) {
+        reindex(event.getProductId());
+    }
+
+    @EventListener
+    public void handleProductStockChanged(ProductStockChangedEvent event) {
+        if (event.getCurrentStock() == 0
+                || productSearchIndex.statusOf(event.getProductId()) == ProductStatus.OUT_OF_STOCK) {
+            reindex(event.getProductId());
+        }
+    }
+
+    @EventListener
+    public void handleProductDeleted(ProductDeletedEvent event) {
+        productSearchIndex.remove(event.getProductId());
+    }
+
+    // 색인에 필요한 컬럼만 쓰므로 이미지/옵션을 함께 읽는 findById 대신 단건 IN 조회
+    private void reindex(Long productId) {
+        productRepository.findAllByIdIn(List.of(productId)).stream().findFirst().ifPresentOrElse(
+                product -> productSearchIndex.index(ProductDocument.from(product)),
+                () -> productSearchIndex.remove(productId));
+    }
+}
@@ -5,25 +5,42 @@ import com.ecommerce.product.domain.CategoryRepository;
 import com.ecommerce.product.domain.Product;
 import com.ecommerce.product.domain.ProductRepository;
 import com.ecommerce.product.domain.event.ProductCreatedEvent;
+import com.ecommerce.product.domain.event.ProductDeletedEvent;
+import com.ecommerce.product.domain.event.ProductUpdatedEvent;
+import com.ecommerce.product.infrastructure.persistence.CategoryFilter;
 import com.ecommerce.product.infrastructure.persistence.ProductQuerydslRepository;
+import com.ecommerce.product.infrastructure.search.NGramTokenizer;
+import com.ecommerce.product.infrastructure.search.ProductSearchHits;
+import com.ecommerce.product.infrastructure.search.ProductSearchIndex;
+import com.ecommerce.product.infrastructure.search.ProductSearchQuery;
 import com.ecommerce.product.dto.ProductCreateRequest;
 import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.dto.ProductSearchFacetResponse;
 import com.ecommerce.product.dto.ProductSearchRequest;
 import com.ecommerce.product.dto.ProductUpdateRequest;
 import com.ecommerce.product.dto.StockAdjustmentRequest;
 import com.ecommerce.product.exception.CategoryNotFoundException;
 import com.ecommerce.product.exception.ProductNotFoundException;
+import com.ecommerce.shared.dto.CursorPageResponse;
+import com.ecommerce.shared.dto.PageCursor;
 import com.ecommerce.shared.dto.PageResponse;
 import com.ecommerce.shared.infrastructure.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Product 애플리케이션 서비스
  */
@@ -38,6 +55,12 @@ public class ProductService {
     private final ProductQuerydslRepository productQuerydslRepository;
     private final ProductMapper productMapper;
     private final DomainEventPublisher eventPublisher;
+    private final ProductCounterBuffer productCounterBuffer;
+    private final ProductDetailCache productDetailCache;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSearchCountCache productSearchCountCache;
+    private final StockReservationService stockReservationService;
 
     /**
      * 상품 생성
@@ -69,6 +92,7 @@ public class ProductService {
         // 저장 후 이벤트 발행 (ID가 생성된 후)
         savedProduct.registerEvent(new ProductCreatedEvent(savedProduct.getId()));
         eventPublisher.publishEvents(savedProduct);
+        productSearchCountCache.invalidateAll();
 
         log.info("Product created: id={}, name={}", savedProduct.getId(), savedProduct.getName());
 
@@ -79,10 +103,12 @@ public class ProductService {
      * 상품 조회
      */
     public ProductResponse getProduct(Long productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
+        ProductResponse response = productDetailCache.get(productId, () -> productRepository.findById(productId)
+                .map(productMapper::toResponse)
+                .orElseThrow(() -> new ProductNotFoundException(productId)));
 
-        return productMapper.toResponse(product);
+        productCounterBuffer.recordView(productId);
+        return response;
     }
 
     /**
@@ -104,11 +130,62 @@ public class ProductService {
     public PageResponse<ProductResponse> searchProducts(ProductSearchRequest searchRequest) {
         Pageable pageable = createPageable(searchRequest);
 
-        Page<Product> productPage = productQuerydslRepository.searchProducts(searchRequest, pageable);
+        // 관련도순 키워드 검색은 검색 색인에서 관련도 순 ID 페이지를 받아 일괄 조회
+        if (isRelevanceSort(searchRequest.getSort()) && productSearchIndex.isReady()
+                && NGramTokenizer.isSearchable(searchRequest.getKeyword())) {
+            ProductSearchHits hits = productSearchIndex.search(toSearchQuery(searchRequest, pageable));
+            return PageResponse.of(new PageImpl<>(hydrate(hits.productIds()), pageable, hits.total()));
+        }
 
-        Page<ProductResponse> responsePage = productPage.map(productMapper::toResponse);
+        CategoryFilter categoryFilter = resolveCategoryFilter(searchRequest);
+        ProductSearchRequest.CountMode countMode = searchRequest.getCountMode() != null
+                ? searchRequest.getCountMode() : ProductSearchRequest.CountMode.EXACT;
+
+        return switch (countMode) {
+            case NONE -> PageResponse.ofSlice(productQuerydslRepository
+                    .searchProductsSlice(searchRequest, categoryFilter, pageable)
+                    .map(productMapper::toResponse));
+            case APPROXIMATE -> searchWithApproximateCount(searchRequest, categoryFilter, pageable);
+            case EXACT -> PageResponse.of(productQuerydslRepository
+                    .searchProducts(searchRequest, categoryFilter, pageable)
+                    .map(productMapper::toResponse));
+        };
+    }
 
-        return PageResponse.of(responsePage);
+    /**
+     * 상품 검색 (커서 페이지네이션, 최신순)
+     */
+    public CursorPageResponse<ProductResponse> searchProductsByCursor(ProductSearchRequest searchRequest) {
+        PageCursor cursor = PageCursor.decode(searchRequest.getCursor());
+        List<Product> products = productQuerydslRepository.searchProductsAfter(
+                searchRequest,
+                resolveCategoryFilter(searchRequest),
+                PageCursor.createdAtOf(cursor),
+                PageCursor.idOf(cursor),
+                CursorPageResponse.fetchSizeOf(searchRequest.getSize()));
+
+        return CursorPageResponse.of(products, searchRequest.getSize(), productMapper::toResponse,
+                product -> new PageCursor(product.getCreatedAt(), product.getId()));
+    }
+
+    /**
+     * 검색 조건별 브랜드/카테고리/가격 구간 상품 수 조회
+     * 검색 색인 적재 전이거나 색인으로 찾을 수 없는 검색어(한 글자 단어)는 DB 에서 집계하여 검색 결과와 맞춤
+     */
+    public ProductSearchFacetResponse getSearchFacets(ProductSearchRequest searchRequest) {
+        String keyword = searchRequest.getKeyword();
+        if (!productSearchIndex.isReady()
+                || (keyword != null && !keyword.isBlank() && !NGramTokenizer.isSearchable(keyword))) {
+            return productQuerydslRepository.countFacets(searchRequest, resolveCategoryFilter(searchRequest));
+        }
+
+        ProductSearchHits hits = productSearchIndex.search(toSearchQuery(searchRequest, PageRequest.of(0, 1)));
+        return ProductSearchFacetResponse.builder()
+                .totalElements(hits.total())
+                .brands(hits.brandCounts())
+                .categories(hits.categoryCounts())
+                .priceRanges(hits.priceCounts())
+                .build();
     }
 
     /**
@@ -139,6 +216,10 @@ public class ProductService {
         }
 
         Product savedProduct = productRepository.save(product);
+        savedProduct.registerEvent(new ProductUpdatedEvent(productId));
+        eventPublisher.publishEvents(savedProduct);
+        productDetailCache.evict(productId);
+        productSearchCountCache.invalidateAll();
 
         log.info("Product updated: id={}", productId);
 
@@ -155,6 +236,9 @@ public class ProductService {
         }
 
         productRepository.deleteById(productId);
+        eventPublisher.publishEvent(new ProductDeletedEvent(productId));
+        productDetailCache.evict(productId);
+        productSearchCountCache.invalidateAll();
 
         log.info("Product deleted: id={}", productId);
     }
@@ -171,6 +255,8 @@ public class ProductService {
 
         Product savedProduct = productRepository.save(product);
         eventPublisher.publishEvents(savedProduct);
+        productDetailCache.evict(productId);
+        productSearchCountCache.invalidateAll();
 
         log.info("Product published: id={}", productId);
 
@@ -179,25 +265,115 @@ public class ProductService {
 
     /**
      * 재고 조정
+     * 주문의 재고 차감과 같은 조건부 UPDATE 로 반영하여 동시에 들어온 차감을 덮어쓰지 않음
      */
     @Transactional
     public ProductResponse adjustStock(Long productId, StockAdjustmentRequest request) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
+        if (!productRepository.existsById(productId)) {
+            throw new ProductNotFoundException(productId);
+        }
 
+        Map<Long, Integer> quantities = Map.of(productId, request.getQuantity());
         if (request.getType() == StockAdjustmentRequest.AdjustmentType.INCREASE) {
-            product.increaseStock(request.getQuantity());
+            stockReservationService.release(quantities);
         } else {
-            product.decreaseStock(request.getQuantity());
+            stockReservationService.reserve(quantities);
         }
 
-        Product savedProduct = productRepository.save(product);
-        eventPublisher.publishEvents(savedProduct);
+        // UPDATE 이후에 로딩하여 반영된 재고로 응답
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+        productDetailCache.evict(productId);
+        productSearchCountCache.invalidateAll();
 
         log.info("Stock adjusted: productId={}, type={}, quantity={}",
                 productId, request.getType(), request.getQuantity());
 
-        return productMapper.toResponse(savedProduct);
+        return productMapper.toResponse(product);
+    }
+
+    /**
+     * 검색할 카테고리 조건
+     * 하위 카테고리 포함 시 카테고리 트리 스냅샷의 하위 ID 집합과 경로를 사용하여 재귀 쿼리 없이 조회
+     */
+    private CategoryFilter resolveCategoryFilter(ProductSearchRequest searchRequest) {
+        Long categoryId = searchRequest.getCategoryId();
+        if (categoryId == null || Boolean.FALSE.equals(searchRequest.getIncludeSubcategories())) {
+            return CategoryFilter.of(categoryId);
+        }
+
+        CategoryTree tree = categoryTreeCache.get();
+        // 스냅샷에 아직 반영되지 않은 카테고리는 해당 카테고리만 검색
+        if (!tree.contains(categoryId)) {
+            return CategoryFilter.of(categoryId);
+        }
+        return CategoryFilter.subtree(categoryId, tree.getSubtreeIds(categoryId), tree.getPath(categoryId));
+    }
+
+    /**
+     * 캐시된 전체 건수로 페이지 응답 생성
+     * 조회 결과로 확실히 알 수 있는 경우(마지막 페이지 등)에는 캐시 값을 보정
+     */
+    private PageResponse<ProductResponse> searchWithApproximateCount(ProductSearchRequest searchRequest,
+                                                                     CategoryFilter categoryFilter,
+                                                                     Pageable pageable) {
+        List<Product> products = productQuerydslRepository.findProducts(
+                searchRequest, categoryFilter, pageable.getOffset(), pageable.getPageSize());
+        long total = productSearchCountCache.get(searchRequest, categoryFilter.categoryIds(),
+                () -> productQuerydslRepository.countProducts(searchRequest, categoryFilter));
+
+        // 마지막 페이지면 정확한 건수, 끝을 넘은 빈 페이지면 offset 이 상한,
+        // 캐시 값보다 많이 조회되면 최소 건수로 보정하여 캐시에도 반영
+        long seen = pageable.getOffset() + products.size();
+        long corrected;
+        if (products.isEmpty()) {
+            corrected = Math.min(total, pageable.getOffset());
+        } else if (products.size() < pageable.getPageSize()) {
+            corrected = seen;
+        } else {
+            corrected = Math.max(total, seen);
+        }
+        if (corrected != total) {
+            productSearchCountCache.put(searchRequest, categoryFilter.categoryIds(), corrected);
+            total = corrected;
+        }
+
+        List<ProductResponse> content = products.stream().map(productMapper::toResponse).toList();
+        return PageResponse.of(new PageImpl<>(content, pageable, total));
+    }
+
+    private ProductSearchQuery toSearchQuery(ProductSearchRequest searchRequest, Pageable pageable) {
+        return new ProductSearchQuery(
+                searchRequest.getKeyword(),
+                searchRequest.getStatus(),
+                resolveCategoryFilter(searchRequest).categoryIds(),
+                searchRequest.getBrand(),
+                searchRequest.getMinPrice(),
+                searchRequest.getMaxPrice(),
+                pageable.getOffset(),
+                pageable.getPageSize());
+    }
+
+    /**
+     * 검색 결과 ID 순서대로 상품 일괄 조회
+     */
+    private List<ProductResponse> hydrate(List<Long> productIds) {
+        Map<Long, Product> products = productRepository.findAllByIdIn(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(productMapper::toResponse)
+                .toList();
+    }
+
+    /**
+     * 관련도순 여부 (미지정 포함)
+     * 검색 색인을 쓸 수 없으면 최신순으로 조회
+     */
+    private boolean isRelevanceSort(String sort) {
+        return sort == null || ProductSearchRequest.SORT_RELEVANCE.equalsIgnoreCase(sort);
     }
 
     private Pageable createPageable(ProductSearchRequest searchRequest) {
@@ -205,7 +381,7 @@ public class ProductService {
                 "DESC".equalsIgnoreCase(searchRequest.getDirection())
                         ? Sort.Direction.DESC
                         : Sort.Direction.ASC,
-                searchRequest.getSort()
+                isRelevanceSort(searchRequest.getSort()) ? "createdAt" : searchRequest.getSort()
         );
 
         return PageRequest.of(
@@ -0,0 +1,77 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.domain.ProductRepository;
+import com.ecommerce.product.domain.event.ProductStockChangedEvent;
+import com.ecommerce.product.exception.InsufficientStockException;
+import com.ecommerce.product.exception.ProductNotFoundException;
+import com.ecommerce.shared.infrastructure.DomainEventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 예약 서비스
+ * Product 엔티티를 로딩/저장하지 않고 조건부 UPDATE 배치로 재고를 차감/복구
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final ProductRepository productRepository;
+    private final DomainEventPublisher eventPublisher;
+
+    /**
+     * 재고 차감
+     * 한 상품이라도 재고가 부족하면 예외를 던져 호출 트랜잭션 전체를 롤백
+     *
+     * @param quantities 상품 ID → 차감 수량
+     */
+    @Transactional
+    public void reserve(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        List<Long> rejected = productRepository.decreaseStocks(quantities);
+        Map<Long, Integer> stocks = productRepository.findStockQuantities(quantities.keySet());
+
+        if (!rejected.isEmpty()) {
+            Long productId = rejected.get(0);
+            Integer currentStock = stocks.get(productId);
+            if (currentStock == null) {
+                throw new ProductNotFoundException(productId);
+            }
+            throw new InsufficientStockException(productId, currentStock, quantities.get(productId));
+        }
+
+        publishStockChanged(stocks, quantities, -1);
+        log.debug("Stock reserved: {}", quantities);
+    }
+
+    /**
+     * 재고 복구 (주문 취소 등)
+     *
+     * @param quantities 상품 ID → 복구 수량
+     */
+    @Transactional
+    public void release(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        productRepository.increaseStocks(quantities);
+        publishStockChanged(productRepository.findStockQuantities(quantities.keySet()), quantities, 1);
+        log.debug("Stock released: {}", quantities);
+    }
+
+    // 변경 전 재고 = 현재 재고 - (부호 * 변경 수량)
+    private void publishStockChanged(Map<Long, Integer> stocks, Map<Long, Integer> quantities, int sign) {
+        stocks.forEach((productId, currentStock) -> eventPublisher.publishEvent(new ProductStockChangedEvent(
+                productId, currentStock - sign * quantities.get(productId), currentStock)));
+    }
+}
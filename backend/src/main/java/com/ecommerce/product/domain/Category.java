@@ -6,11 +6,17 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * 카테고리 Entity
+ * path 는 최상위부터 자신까지의 ID 경로("/1/5/12/")로, 하위 카테고리 검색 시 접두어 비교에 사용
  */
 @Entity
-@Table(name = "categories")
+@Table(name = "categories", indexes = {
+        @Index(name = "idx_category_path", columnList = "path")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Category extends BaseEntity {
@@ -25,6 +31,12 @@ public class Category extends BaseEntity {
     @Column(name = "display_order")
     private Integer displayOrder;
 
+    /**
+     * 부모가 바뀌지 않으므로 저장 후 한 번만 기록
+     */
+    @Column(length = 500)
+    private String path;
+
     private Category(String name, Category parent, Integer displayOrder) {
         this.name = name;
         this.parent = parent;
@@ -38,6 +50,24 @@ public class Category extends BaseEntity {
         return new Category(name, parent, displayOrder);
     }
 
+    /**
+     * 최상위부터 자신까지의 ID 경로
+     */
+    public static String pathOf(List<Long> idsFromRoot) {
+        return idsFromRoot.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining("/", "/", "/"));
+    }
+
+    /**
+     * 저장으로 ID 가 정해진 뒤 부모 경로에 자신의 ID 를 붙여 경로 기록
+     */
+    @PostPersist
+    void assignPath() {
+        String parentPath = parent != null ? parent.getPath() : "/";
+        this.path = parentPath + getId() + "/";
+    }
+
     public void update(String name, Integer displayOrder) {
         if (name != null && !name.isBlank()) {
             this.name = name;
@@ -0,0 +1,45 @@
+package com.ecommerce.product.domain;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 검색 가격 구간
+ * 검색 색인과 DB 집계가 같은 구간 라벨("10000-50000", 마지막 구간은 "500000-")로 상품 수를 셈
+ */
+public final class PriceRange {
+
+    // 가격 구간 경계 (원)
+    private static final long[] BOUNDARIES = {10_000L, 50_000L, 100_000L, 500_000L};
+
+    private PriceRange() {
+    }
+
+    /**
+     * 가격이 속한 구간 라벨
+     */
+    public static String labelOf(BigDecimal price) {
+        long value = price.longValue();
+        for (int i = 0; i < BOUNDARIES.length; i++) {
+            if (value < BOUNDARIES[i]) {
+                return (i == 0 ? 0 : BOUNDARIES[i - 1]) + "-" + BOUNDARIES[i];
+            }
+        }
+        return BOUNDARIES[BOUNDARIES.length - 1] + "-";
+    }
+
+    /**
+     * 전체 구간 라벨 (낮은 가격순)
+     */
+    public static List<String> labels() {
+        List<String> labels = new ArrayList<>(BOUNDARIES.length + 1);
+        long lower = 0;
+        for (long boundary : BOUNDARIES) {
+            labels.add(lower + "-" + boundary);
+            lower = boundary;
+        }
+        labels.add(lower + "-");
+        return labels;
+    }
+}
@@ -3,12 +3,11 @@ package com.ecommerce.product.domain;
 import com.ecommerce.shared.domain.AggregateRoot;
 import com.ecommerce.product.domain.event.ProductCreatedEvent;
 import com.ecommerce.product.domain.event.ProductPublishedEvent;
-import com.ecommerce.product.domain.event.ProductStockChangedEvent;
-import com.ecommerce.product.exception.InsufficientStockException;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -18,14 +17,18 @@ import java.util.List;
 
 /**
  * 상품 Aggregate Root
+ * 재고/조회수/판매수는 조건부 UPDATE(StockReservationService, ProductCounterBuffer)로만 변경하고
+ * 엔티티 저장 시에는 변경된 컬럼만 UPDATE
  */
 @Entity
 @Table(name = "products", indexes = {
         @Index(name = "idx_category", columnList = "category_id"),
         @Index(name = "idx_status", columnList = "status"),
-        @Index(name = "idx_name", columnList = "name")
+        @Index(name = "idx_name", columnList = "name"),
+        @Index(name = "idx_created", columnList = "created_at")
 })
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends AggregateRoot {
 
@@ -38,7 +41,7 @@ public class Product extends AggregateRoot {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer stockQuantity;
 
     @Enumerated(EnumType.STRING)
@@ -50,10 +53,10 @@ public class Product extends AggregateRoot {
     @Column(precision = 10, scale = 2)
     private BigDecimal discountPrice;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer viewCount = 0;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer salesCount = 0;
 
     private LocalDateTime publishedAt;
@@ -114,52 +117,6 @@ public class Product extends AggregateRoot {
         this.status = ProductStatus.INACTIVE;
     }
 
-    /**
-     * 재고 감소
-     */
-    public void decreaseStock(int quantity) {
-        if (quantity <= 0) {
-            throw new IllegalArgumentException("감소할 재고 수량은 0보다 커야 합니다");
-        }
-
-        if (this.stockQuantity < quantity) {
-            throw new InsufficientStockException(
-                this.getId() != null ? this.getId() : 0L,
-                this.stockQuantity,
-                quantity
-            );
-        }
-
-        this.stockQuantity -= quantity;
-
-        if (this.stockQuantity == 0) {
-            this.status = ProductStatus.OUT_OF_STOCK;
-        }
-
-        if (this.getId() != null) {
-            addDomainEvent(new ProductStockChangedEvent(this.getId(), this.stockQuantity));
-        }
-    }
-
-    /**
-     * 재고 증가
-     */
-    public void increaseStock(int quantity) {
-        if (quantity <= 0) {
-            throw new IllegalArgumentException("증가할 재고 수량은 0보다 커야 합니다");
-        }
-
-        this.stockQuantity += quantity;
-
-        if (this.status == ProductStatus.OUT_OF_STOCK) {
-            this.status = ProductStatus.ACTIVE;
-        }
-
-        if (this.getId() != null) {
-            addDomainEvent(new ProductStockChangedEvent(this.getId(), this.stockQuantity));
-        }
-    }
-
     /**
      * 가격 변경
      */
@@ -257,23 +214,6 @@ public class Product extends AggregateRoot {
         this.discountPrice = discountPrice;
     }
 
-    /**
-     * 조회수 증가
-     */
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    /**
-     * 판매량 증가
-     */
-    public void incrementSalesCount(int quantity) {
-        if (quantity <= 0) {
-            throw new IllegalArgumentException("판매 수량은 0보다 커야 합니다");
-        }
-        this.salesCount += quantity;
-    }
-
     // Validation
     private static void validateCreate(String name, BigDecimal price, Integer stockQuantity) {
         if (name == null || name.isBlank()) {
@@ -3,6 +3,9 @@ package com.ecommerce.product.domain;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -14,6 +17,8 @@ public interface ProductRepository {
 
     Optional<Product> findById(Long id);
 
+    List<Product> findAllByIdIn(Collection<Long> ids);
+
     Page<Product> findAll(Pageable pageable);
 
     Page<Product> findByStatus(ProductStatus status, Pageable pageable);
@@ -24,7 +29,34 @@ public interface ProductRepository {
 
     boolean existsById(Long id);
 
+    /**
+     * 조건부 재고 차감 (stock >= quantity 인 경우에만 반영)
+     * 재고 부족으로 차감되지 않은 상품 ID 목록을 반환
+     */
+    List<Long> decreaseStocks(Map<Long, Integer> quantities);
+
+    /**
+     * 재고 증가
+     */
+    void increaseStocks(Map<Long, Integer> quantities);
+
+    /**
+     * 현재 재고 수량 조회 (상품 ID → 재고)
+     */
+    Map<Long, Integer> findStockQuantities(Collection<Long> ids);
+
+    /**
+     * 조회수/판매량 누적분 일괄 반영
+     */
+    void addCounters(Map<Long, CounterDelta> deltas);
+
     void delete(Product product);
 
     void deleteById(Long id);
+
+    /**
+     * 조회수/판매량 증가분
+     */
+    record CounterDelta(long viewCount, long salesCount) {
+    }
 }
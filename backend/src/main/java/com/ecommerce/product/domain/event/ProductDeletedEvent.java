@@ -0,0 +1,18 @@
+package com.ecommerce.product.domain.event;
+
+import com.ecommerce.shared.domain.BaseDomainEvent;
+import lombok.Getter;
+
+/**
+ * 상품 삭제 이벤트
+ */
+@Getter
+public class ProductDeletedEvent extends BaseDomainEvent {
+
+    private final Long productId;
+
+    public ProductDeletedEvent(Long productId) {
+        super();
+        this.productId = productId;
+    }
+}
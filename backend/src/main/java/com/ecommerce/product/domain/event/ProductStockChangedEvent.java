@@ -10,11 +10,26 @@ import lombok.Getter;
 public class ProductStockChangedEvent extends BaseDomainEvent {
 
     private final Long productId;
+    private final Integer previousStock;
     private final Integer currentStock;
 
-    public ProductStockChangedEvent(Long productId, Integer currentStock) {
+    public ProductStockChangedEvent(Long productId, Integer previousStock, Integer currentStock) {
         super();
         this.productId = productId;
+        this.previousStock = previousStock;
         this.currentStock = currentStock;
     }
+
+    /**
+     * 품절 ↔ 재고 있음 사이를 오갔는지 여부 (이전 재고를 모르면 현재 재고가 0 인지로 판단)
+     */
+    public boolean crossesZero() {
+        if (currentStock == null) {
+            return false;
+        }
+        if (previousStock == null) {
+            return currentStock == 0;
+        }
+        return (previousStock == 0) != (currentStock == 0);
+    }
 }
@@ -0,0 +1,18 @@
+package com.ecommerce.product.domain.event;
+
+import com.ecommerce.shared.domain.BaseDomainEvent;
+import lombok.Getter;
+
+/**
+ * 상품 수정 이벤트 (상품명, 가격, 카테고리 등 기본 정보 변경)
+ */
+@Getter
+public class ProductUpdatedEvent extends BaseDomainEvent {
+
+    private final Long productId;
+
+    public ProductUpdatedEvent(Long productId) {
+        super();
+        this.productId = productId;
+    }
+}
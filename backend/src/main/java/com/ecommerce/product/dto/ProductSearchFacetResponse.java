@@ -0,0 +1,23 @@
+package com.ecommerce.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 상품 검색 필터별 상품 수 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSearchFacetResponse {
+
+    private long totalElements;
+    private Map<String, Long> brands;
+    private Map<Long, Long> categories;
+    private Map<String, Long> priceRanges;
+}
@@ -19,9 +19,16 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 public class ProductSearchRequest {
 
+    public static final String SORT_RELEVANCE = "relevance";
+
     private String keyword;
     private ProductStatus status;
     private Long categoryId;
+
+    // 카테고리 검색 시 하위 카테고리 상품 포함 여부
+    @Builder.Default
+    private Boolean includeSubcategories = true;
+
     private String brand;
     private BigDecimal minPrice;
     private BigDecimal maxPrice;
@@ -29,12 +36,30 @@ public class ProductSearchRequest {
     @Builder.Default
     private Integer page = 0;
 
+    // 커서 페이지네이션용 (이전 응답의 nextCursor)
+    private String cursor;
+
     @Builder.Default
     private Integer size = 20;
 
-    @Builder.Default
-    private String sort = "createdAt";
+    // 미지정 또는 relevance 이면 키워드 검색은 관련도순, 그 외에는 최신순
+    private String sort;
 
     @Builder.Default
     private String direction = "DESC";
+
+    @Builder.Default
+    private CountMode countMode = CountMode.EXACT;
+
+    /**
+     * 전체 건수 계산 방식
+     */
+    public enum CountMode {
+        // 매 요청 COUNT 쿼리 실행
+        EXACT,
+        // 같은 검색 조건의 COUNT 결과를 잠시 캐시하여 재사용
+        APPROXIMATE,
+        // COUNT 쿼리 없이 다음 페이지 여부만 확인 (무한 스크롤)
+        NONE
+    }
 }
@@ -0,0 +1,30 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import java.util.Set;
+
+/**
+ * 상품 검색 카테고리 조건
+ * 하위 카테고리가 많으면 ID 목록(IN) 대신 기준 카테고리 경로의 접두어로 비교
+ *
+ * @param categoryId  기준 카테고리 ID (null 이면 카테고리 조건 없음)
+ * @param categoryIds 기준 카테고리를 포함한 검색 대상 카테고리 ID
+ * @param path        기준 카테고리 경로 (Category.path)
+ */
+public record CategoryFilter(Long categoryId, Set<Long> categoryIds, String path) {
+
+    public static final CategoryFilter NONE = new CategoryFilter(null, null, null);
+
+    /**
+     * 단일 카테고리
+     */
+    public static CategoryFilter of(Long categoryId) {
+        return categoryId != null ? new CategoryFilter(categoryId, Set.of(categoryId), null) : NONE;
+    }
+
+    /**
+     * 하위 카테고리 포함
+     */
+    public static CategoryFilter subtree(Long categoryId, Set<Long> categoryIds, String path) {
+        return new CategoryFilter(categoryId, categoryIds, path);
+    }
+}
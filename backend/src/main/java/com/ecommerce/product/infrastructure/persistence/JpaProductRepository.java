@@ -9,6 +9,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Spring Data JPA Product Repository
  */
@@ -20,6 +23,11 @@ public interface JpaProductRepository extends JpaRepository<Product, Long> {
 
     Page<Product> findByNameContaining(String name, Pageable pageable);
 
+    /**
+     * ID 목록으로 상품 일괄 조회 (IN 절 단일 쿼리)
+     */
+    List<Product> findAllByIdIn(Collection<Long> ids);
+
     @Query("SELECT p FROM Product p " +
            "LEFT JOIN FETCH p.category " +
            "LEFT JOIN FETCH p.images " +
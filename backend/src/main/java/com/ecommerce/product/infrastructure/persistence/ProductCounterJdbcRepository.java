@@ -0,0 +1,50 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.product.domain.ProductRepository.CounterDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 조회수/판매량 전용 JDBC Repository
+ * 버퍼에 모인 증가분을 상품당 UPDATE 한 건으로 묶어 JDBC 배치로 반영
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductCounterJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    // updated_at 은 상품 정보 변경 시각이므로 갱신하지 않음
+    private static final String ADD_COUNTERS_SQL =
+            "UPDATE products " +
+            "SET view_count = view_count + ?, sales_count = sales_count + ? " +
+            "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 상품 ID 순으로 실행하여 재고 차감 등 다른 UPDATE 와 락 순서를 맞춤
+     * 한 트랜잭션으로 실행하여 실패 시 일부만 반영되지 않음
+     */
+    @Transactional
+    public void addCounters(Map<Long, CounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, CounterDelta>> entries = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+
+        jdbcTemplate.batchUpdate(ADD_COUNTERS_SQL, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, entry.getValue().viewCount());
+            ps.setLong(2, entry.getValue().salesCount());
+            ps.setLong(3, entry.getKey());
+        });
+    }
+}
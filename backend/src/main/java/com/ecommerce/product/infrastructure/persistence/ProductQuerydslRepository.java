@@ -1,19 +1,31 @@
 package com.ecommerce.product.infrastructure.persistence;
 
+import com.ecommerce.product.domain.PriceRange;
 import com.ecommerce.product.domain.Product;
 import com.ecommerce.product.domain.ProductStatus;
+import com.ecommerce.product.domain.QCategory;
+import com.ecommerce.product.dto.ProductSearchFacetResponse;
 import com.ecommerce.product.dto.ProductSearchRequest;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.ecommerce.product.domain.QProduct.product;
 import static com.ecommerce.product.domain.QCategory.category;
@@ -26,6 +38,8 @@ import static com.ecommerce.product.domain.QCategory.category;
 @RequiredArgsConstructor
 public class ProductQuerydslRepository {
 
+    private static final int MAX_CATEGORY_IDS = 100;
+
     private final JPAQueryFactory queryFactory;
 
     /**
@@ -64,36 +78,117 @@ public class ProductQuerydslRepository {
      * 상태, 카테고리, 키워드, 가격 범위, 브랜드를 조합한 검색
      */
     public Page<Product> searchProducts(ProductSearchRequest request, Pageable pageable) {
-        List<Product> products = queryFactory
+        return searchProducts(request, CategoryFilter.of(request.getCategoryId()), pageable);
+    }
+
+    /**
+     * 고급 동적 검색 쿼리 (카테고리 조건 지정)
+     * 하위 카테고리까지 검색할 때 호출하는 쪽에서 카테고리 트리로 계산한 조건을 전달
+     */
+    public Page<Product> searchProducts(ProductSearchRequest request, CategoryFilter categoryFilter, Pageable pageable) {
+        List<Product> products = findProducts(request, categoryFilter, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(products, pageable, countProducts(request, categoryFilter));
+    }
+
+    /**
+     * 고급 동적 검색 쿼리 (전체 건수 없이 다음 페이지 여부만 확인)
+     * 한 건 더 조회하여 다음 페이지 여부를 판단하고 COUNT 쿼리는 실행하지 않음
+     */
+    public Slice<Product> searchProductsSlice(ProductSearchRequest request, CategoryFilter categoryFilter, Pageable pageable) {
+        List<Product> products = findProducts(request, categoryFilter, pageable.getOffset(), pageable.getPageSize() + 1);
+
+        boolean hasNext = products.size() > pageable.getPageSize();
+        List<Product> content = hasNext ? products.subList(0, pageable.getPageSize()) : products;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * 검색 조건에 맞는 상품 조회 (정렬, offset/limit 적용)
+     */
+    public List<Product> findProducts(ProductSearchRequest request, CategoryFilter categoryFilter, long offset, int limit) {
+        return queryFactory
                 .selectFrom(product)
                 .leftJoin(product.category, category).fetchJoin()
-                .where(
-                        statusEq(request.getStatus()),
-                        categoryIdEq(request.getCategoryId()),
-                        keywordContains(request.getKeyword()),
-                        brandEq(request.getBrand()),
-                        priceGoe(request.getMinPrice()),
-                        priceLoe(request.getMaxPrice())
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .where(searchConditions(request, categoryFilter))
+                .offset(offset)
+                .limit(limit)
                 .orderBy(getOrderSpecifier(request.getSort(), request.getDirection()))
                 .fetch();
+    }
 
+    /**
+     * 검색 조건에 맞는 상품 수
+     */
+    public long countProducts(ProductSearchRequest request, CategoryFilter categoryFilter) {
         Long total = queryFactory
                 .select(product.count())
                 .from(product)
-                .where(
-                        statusEq(request.getStatus()),
-                        categoryIdEq(request.getCategoryId()),
-                        keywordContains(request.getKeyword()),
-                        brandEq(request.getBrand()),
-                        priceGoe(request.getMinPrice()),
-                        priceLoe(request.getMaxPrice())
-                )
+                .where(searchConditions(request, categoryFilter))
                 .fetchOne();
 
-        return new PageImpl<>(products, pageable, total != null ? total : 0L);
+        return total != null ? total : 0L;
+    }
+
+    /**
+     * 검색 조건별 브랜드/카테고리/가격 구간 상품 수 (검색 색인 적재 전 대체 경로)
+     * 가격 구간은 검색 색인과 같은 구간으로 집계
+     */
+    public ProductSearchFacetResponse countFacets(ProductSearchRequest request, CategoryFilter categoryFilter) {
+        Predicate[] conditions = searchConditions(request, categoryFilter);
+
+        Map<String, Long> brandCounts = new LinkedHashMap<>();
+        queryFactory.select(product.brand, product.count())
+                .from(product)
+                .where(conditions)
+                .where(product.brand.isNotNull(), product.brand.ne(""))
+                .groupBy(product.brand)
+                .fetch()
+                .forEach(row -> brandCounts.put(row.get(product.brand), row.get(product.count())));
+
+        Map<Long, Long> categoryCounts = new LinkedHashMap<>();
+        queryFactory.select(product.category.id, product.count())
+                .from(product)
+                .where(conditions)
+                .where(product.category.isNotNull())
+                .groupBy(product.category.id)
+                .fetch()
+                .forEach(row -> categoryCounts.put(row.get(product.category.id), row.get(product.count())));
+
+        Map<String, Long> priceCounts = new LinkedHashMap<>();
+        PriceRange.labels().forEach(range -> priceCounts.put(range, 0L));
+        long total = 0;
+        for (Tuple row : queryFactory.select(product.price, product.count())
+                .from(product)
+                .where(conditions)
+                .groupBy(product.price)
+                .fetch()) {
+            long count = row.get(product.count());
+            priceCounts.merge(PriceRange.labelOf(row.get(product.price)), count, Long::sum);
+            total += count;
+        }
+
+        return ProductSearchFacetResponse.builder()
+                .totalElements(total)
+                .brands(brandCounts)
+                .categories(categoryCounts)
+                .priceRanges(priceCounts)
+                .build();
+    }
+
+    /**
+     * 고급 동적 검색 키셋 조회 (최신순)
+     * 커서(생성일시, ID)보다 오래된 상품을 limit 건 조회, 커서가 null 이면 첫 페이지
+     */
+    public List<Product> searchProductsAfter(ProductSearchRequest request, CategoryFilter categoryFilter,
+                                             LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        return queryFactory
+                .selectFrom(product)
+                .leftJoin(product.category, category).fetchJoin()
+                .where(searchConditions(request, categoryFilter))
+                .where(createdBefore(cursorCreatedAt, cursorId))
+                .orderBy(product.createdAt.desc(), product.id.desc())
+                .limit(limit)
+                .fetch();
     }
 
     /**
@@ -143,6 +238,48 @@ public class ProductQuerydslRepository {
         return categoryId != null ? product.category.id.eq(categoryId) : null;
     }
 
+    /**
+     * 카테고리 조건
+     * 검색 대상이 MAX_CATEGORY_IDS 개를 넘으면 바인딩 파라미터가 끝없이 늘지 않도록
+     * 기준 카테고리 경로로 시작하는 카테고리를 경로 인덱스 범위 조회로 찾아 비교
+     */
+    private BooleanExpression categoryIn(CategoryFilter categoryFilter) {
+        if (categoryFilter == null || categoryFilter.categoryId() == null) {
+            return null;
+        }
+        Set<Long> categoryIds = categoryFilter.categoryIds();
+        if (categoryIds.size() == 1) {
+            return product.category.id.eq(categoryIds.iterator().next());
+        }
+        if (categoryIds.size() <= MAX_CATEGORY_IDS || categoryFilter.path() == null) {
+            return product.category.id.in(categoryIds);
+        }
+
+        QCategory subtree = new QCategory("subtree");
+        return product.category.id.in(JPAExpressions.select(subtree.id)
+                .from(subtree)
+                .where(subtree.path.startsWith(categoryFilter.path())));
+    }
+
+    private Predicate[] searchConditions(ProductSearchRequest request, CategoryFilter categoryFilter) {
+        return new Predicate[]{
+                statusEq(request.getStatus()),
+                categoryIn(categoryFilter),
+                keywordContains(request.getKeyword()),
+                brandEq(request.getBrand()),
+                priceGoe(request.getMinPrice()),
+                priceLoe(request.getMaxPrice())
+        };
+    }
+
+    private BooleanExpression createdBefore(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null) {
+            return null;
+        }
+        return product.createdAt.lt(cursorCreatedAt)
+                .or(product.createdAt.eq(cursorCreatedAt).and(product.id.lt(cursorId)));
+    }
+
     private BooleanExpression keywordContains(String keyword) {
         return keyword != null && !keyword.isBlank()
                 ? product.name.containsIgnoreCase(keyword)
@@ -168,7 +305,7 @@ public class ProductQuerydslRepository {
     private OrderSpecifier<?> getOrderSpecifier(String sort, String direction) {
         boolean isDesc = "DESC".equalsIgnoreCase(direction);
 
-        return switch (sort) {
+        return switch (sort != null ? sort : "createdAt") {
             case "price" -> isDesc ? product.price.desc() : product.price.asc();
             case "name" -> isDesc ? product.name.desc() : product.name.asc();
             case "salesCount" -> isDesc ? product.salesCount.desc() : product.salesCount.asc();
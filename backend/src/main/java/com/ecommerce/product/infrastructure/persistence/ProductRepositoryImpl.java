@@ -9,6 +9,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,6 +24,8 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     private final JpaProductRepository jpaProductRepository;
     private final ProductQuerydslRepository querydslRepository;
+    private final ProductStockJdbcRepository stockJdbcRepository;
+    private final ProductCounterJdbcRepository counterJdbcRepository;
 
     @Override
     public Product save(Product product) {
@@ -34,6 +39,14 @@ public class ProductRepositoryImpl implements ProductRepository {
         return Optional.ofNullable(product);
     }
 
+    @Override
+    public List<Product> findAllByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaProductRepository.findAllByIdIn(ids);
+    }
+
     @Override
     public Page<Product> findAll(Pageable pageable) {
         return jpaProductRepository.findAll(pageable);
@@ -59,6 +72,26 @@ public class ProductRepositoryImpl implements ProductRepository {
         return jpaProductRepository.existsById(id);
     }
 
+    @Override
+    public List<Long> decreaseStocks(Map<Long, Integer> quantities) {
+        return stockJdbcRepository.decreaseStocks(quantities);
+    }
+
+    @Override
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        stockJdbcRepository.increaseStocks(quantities);
+    }
+
+    @Override
+    public Map<Long, Integer> findStockQuantities(Collection<Long> ids) {
+        return stockJdbcRepository.findStockQuantities(ids);
+    }
+
+    @Override
+    public void addCounters(Map<Long, CounterDelta> deltas) {
+        counterJdbcRepository.addCounters(deltas);
+    }
+
     @Override
     public void delete(Product product) {
         jpaProductRepository.delete(product);
@@ -0,0 +1,116 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.product.domain.ProductStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 전용 JDBC Repository
+ * 엔티티를 로딩하지 않고 조건부 UPDATE를 JDBC 배치로 실행
+ */
+@Repository
+public class ProductStockJdbcRepository {
+
+    // status 를 먼저 평가해야 MySQL(좌→우 평가)에서도 변경 전 재고 기준으로 판단됨
+    private static final String DECREASE_SQL =
+            "UPDATE products " +
+            "SET status = CASE WHEN stock_quantity = ? THEN '" + ProductStatus.OUT_OF_STOCK.name() + "' ELSE status END, " +
+            "    stock_quantity = stock_quantity - ?, " +
+            "    updated_at = ? " +
+            "WHERE id = ? AND stock_quantity >= ?";
+
+    private static final String INCREASE_SQL =
+            "UPDATE products " +
+            "SET status = CASE WHEN status = '" + ProductStatus.OUT_OF_STOCK.name() + "' " +
+            "                  THEN '" + ProductStatus.ACTIVE.name() + "' ELSE status END, " +
+            "    stock_quantity = stock_quantity + ?, " +
+            "    updated_at = ? " +
+            "WHERE id = ?";
+
+    private static final String SELECT_STOCK_SQL =
+            "SELECT id, stock_quantity FROM products WHERE id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ProductStockJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * 조건부 재고 차감 (배치)
+     * 상품 ID 순으로 실행하여 동시 주문 간 락 획득 순서를 고정 (데드락 방지)
+     *
+     * @return 재고 부족으로 반영되지 않은 상품 ID 목록
+     */
+    public List<Long> decreaseStocks(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(new TreeMap<>(quantities).entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int[] updated = jdbcTemplate.batchUpdate(DECREASE_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setInt(2, entry.getValue());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, entry.getKey());
+            ps.setInt(5, entry.getValue());
+        })[0];
+
+        List<Long> rejected = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                rejected.add(entries.get(i).getKey());
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * 재고 증가 (배치)
+     */
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(new TreeMap<>(quantities).entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INCREASE_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, entry.getKey());
+        });
+    }
+
+    /**
+     * 현재 재고 수량 일괄 조회
+     */
+    public Map<Long, Integer> findStockQuantities(Collection<Long> ids) {
+        Map<Long, Integer> stocks = new HashMap<>();
+        if (ids.isEmpty()) {
+            return stocks;
+        }
+
+        namedParameterJdbcTemplate.query(SELECT_STOCK_SQL, new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    stocks.put(rs.getLong("id"), rs.getInt("stock_quantity"));
+                });
+        return stocks;
+    }
+}
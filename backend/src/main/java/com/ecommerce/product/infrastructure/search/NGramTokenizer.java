@@ -0,0 +1,71 @@
+package com.ecommerce.product.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 2-gram 토크나이저
+ * 형태소 분석 없이 한글 복합어/붙여쓰기 부분 검색이 되도록 글자 단위 2-gram 으로 분해
+ *
+ * - NFKC 정규화, 소문자 변환 후 글자/숫자가 아닌 문자로 단어를 나눔
+ * - 두 글자 이상 단어는 2-gram, 한 글자 단어는 그대로 사용
+ * - 예) "무선 이어폰" → [무선, 이어, 어폰]
+ */
+public final class NGramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 토큰 목록으로 분해 (중복 포함, 출현 빈도 계산용)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() < GRAM_SIZE) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+                tokens.add(word.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 색인으로 검색할 수 있는 검색어인지 여부
+     * 한 글자 단어는 2-gram 색인과 맞출 수 없으므로 제외
+     */
+    public static boolean isSearchable(String keyword) {
+        List<String> words = words(keyword);
+        return !words.isEmpty() && words.stream().allMatch(word -> word.length() >= GRAM_SIZE);
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                word.append(ch);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (!word.isEmpty()) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
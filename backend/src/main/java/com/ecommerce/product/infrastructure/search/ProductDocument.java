@@ -0,0 +1,31 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.domain.Product;
+import com.ecommerce.product.domain.ProductStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * 검색 색인에 저장하는 상품 정보
+ */
+public record ProductDocument(
+        Long productId,
+        String name,
+        String description,
+        String brand,
+        Long categoryId,
+        BigDecimal price,
+        ProductStatus status
+) {
+
+    public static ProductDocument from(Product product) {
+        return new ProductDocument(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getBrand(),
+                product.getCategory() != null ? product.getCategory().getId() : null,
+                product.getPrice(),
+                product.getStatus());
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.product.infrastructure.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 색인 조회 결과
+ *
+ * @param productIds     요청한 페이지의 상품 ID (관련도 순)
+ * @param total          조건에 맞는 전체 상품 수
+ * @param brandCounts    브랜드별 상품 수
+ * @param categoryCounts 카테고리 ID 별 상품 수
+ * @param priceCounts    가격 구간별 상품 수
+ */
+public record ProductSearchHits(
+        List<Long> productIds,
+        long total,
+        Map<String, Long> brandCounts,
+        Map<Long, Long> categoryCounts,
+        Map<String, Long> priceCounts
+) {
+}
@@ -0,0 +1,244 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.domain.PriceRange;
+import com.ecommerce.product.domain.ProductStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색용 메모리 역색인
+ * LIKE '%검색어%' 전체 스캔 대신 2-gram 역색인으로 후보를 좁히고 BM25 로 관련도 순 정렬
+ *
+ * - 상품명/브랜드/설명 순으로 가중치를 두어 하나의 필드처럼 점수 계산
+ * - 검색어의 모든 2-gram 을 포함하는 상품만 결과에 포함 (AND)
+ * - 필터 적용 후 결과 전체에 대해 브랜드/카테고리/가격 구간별 상품 수 집계
+ * - 단일 인스턴스 메모리 색인이며, 재시작 시 DB 에서 다시 적재
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float BRAND_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private double totalLength;
+
+    private volatile boolean ready;
+
+    /**
+     * 상품 색인 (이미 있으면 교체)
+     */
+    public void index(ProductDocument document) {
+        Map<String, Float> termFrequencies = new HashMap<>();
+        addTerms(termFrequencies, document.name(), NAME_WEIGHT);
+        addTerms(termFrequencies, document.brand(), BRAND_WEIGHT);
+        addTerms(termFrequencies, document.description(), DESCRIPTION_WEIGHT);
+        float length = (float) termFrequencies.values().stream().mapToDouble(Float::doubleValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.productId());
+            documents.put(document.productId(), new IndexedDocument(document, termFrequencies.keySet(), length));
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.productId(), frequency));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 색인 제거
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 상품 상태 (색인되지 않은 상품은 null)
+     */
+    public ProductStatus statusOf(Long productId) {
+        lock.readLock().lock();
+        try {
+            IndexedDocument indexed = documents.get(productId);
+            return indexed != null ? indexed.document().status() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 초기 적재 완료 표시
+     * 적재 전에는 호출하는 쪽에서 DB 검색을 사용
+     */
+    public void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     */
+    public ProductSearchHits search(ProductSearchQuery query) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(NGramTokenizer.tokenize(query.keyword())));
+
+        lock.readLock().lock();
+        try {
+            List<ScoredProduct> matched = new ArrayList<>();
+            for (Long productId : candidates(terms)) {
+                IndexedDocument indexed = documents.get(productId);
+                if (indexed != null && matches(indexed.document(), query)) {
+                    matched.add(new ScoredProduct(productId, score(productId, indexed, terms)));
+                }
+            }
+
+            Map<String, Long> brandCounts = new LinkedHashMap<>();
+            Map<Long, Long> categoryCounts = new LinkedHashMap<>();
+            Map<String, Long> priceCounts = new LinkedHashMap<>();
+            for (String range : PriceRange.labels()) {
+                priceCounts.put(range, 0L);
+            }
+            for (ScoredProduct scored : matched) {
+                ProductDocument document = documents.get(scored.productId()).document();
+                if (document.brand() != null && !document.brand().isBlank()) {
+                    brandCounts.merge(document.brand(), 1L, Long::sum);
+                }
+                if (document.categoryId() != null) {
+                    categoryCounts.merge(document.categoryId(), 1L, Long::sum);
+                }
+                if (document.price() != null) {
+                    priceCounts.merge(PriceRange.labelOf(document.price()), 1L, Long::sum);
+                }
+            }
+
+            matched.sort(Comparator.comparingDouble(ScoredProduct::score).reversed()
+                    .thenComparing(ScoredProduct::productId, Comparator.reverseOrder()));
+            List<Long> page = matched.stream()
+                    .skip(query.offset())
+                    .limit(query.limit())
+                    .map(ScoredProduct::productId)
+                    .toList();
+
+            return new ProductSearchHits(page, matched.size(), brandCounts, categoryCounts, priceCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 모든 검색어 토큰을 포함하는 상품 ID (가장 짧은 posting 부터 교집합)
+    private Set<Long> candidates(List<String> terms) {
+        if (terms.isEmpty()) {
+            return documents.keySet();
+        }
+
+        List<Map<Long, Float>> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Float> list = postings.get(term);
+            if (list == null) {
+                return Set.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        Set<Long> result = new LinkedHashSet<>(lists.get(0).keySet());
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i).keySet());
+        }
+        return result;
+    }
+
+    private double score(Long productId, IndexedDocument indexed, List<String> terms) {
+        int documentCount = documents.size();
+        double averageLength = documentCount > 0 ? totalLength / documentCount : 1.0;
+        double lengthNorm = 1 - B + B * (averageLength > 0 ? indexed.length() / averageLength : 1.0);
+
+        double score = 0;
+        for (String term : terms) {
+            Map<Long, Float> list = postings.get(term);
+            double tf = list.get(productId);
+            double idf = Math.log(1 + (documentCount - list.size() + 0.5) / (list.size() + 0.5));
+            score += idf * tf * (K1 + 1) / (tf + K1 * lengthNorm);
+        }
+        return score;
+    }
+
+    private boolean matches(ProductDocument document, ProductSearchQuery query) {
+        if (query.status() != null && query.status() != document.status()) {
+            return false;
+        }
+        if (query.categoryIds() != null
+                && (document.categoryId() == null || !query.categoryIds().contains(document.categoryId()))) {
+            return false;
+        }
+        if (query.brand() != null && !query.brand().isBlank() && !query.brand().equalsIgnoreCase(document.brand())) {
+            return false;
+        }
+        if (query.minPrice() != null && (document.price() == null || document.price().compareTo(query.minPrice()) < 0)) {
+            return false;
+        }
+        return query.maxPrice() == null || (document.price() != null && document.price().compareTo(query.maxPrice()) <= 0);
+    }
+
+    private void removeInternal(Long productId) {
+        IndexedDocument previous = documents.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Map<Long, Float> list = postings.get(term);
+            if (list != null) {
+                list.remove(productId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= previous.length();
+    }
+
+    private void addTerms(Map<String, Float> termFrequencies, String text, float weight) {
+        for (String term : NGramTokenizer.tokenize(text)) {
+            termFrequencies.merge(term, weight, Float::sum);
+        }
+    }
+
+    private record ScoredProduct(Long productId, double score) {
+    }
+
+    private record IndexedDocument(ProductDocument document, Set<String> terms, float length) {
+    }
+}
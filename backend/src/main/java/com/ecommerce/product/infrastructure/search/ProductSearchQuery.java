@@ -0,0 +1,24 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.domain.ProductStatus;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * 검색 색인 조회 조건
+ *
+ * @param keyword     검색어 (비어 있으면 필터만 적용)
+ * @param categoryIds 카테고리 ID (null 이면 조건 없음)
+ */
+public record ProductSearchQuery(
+        String keyword,
+        ProductStatus status,
+        Collection<Long> categoryIds,
+        String brand,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        long offset,
+        int limit
+) {
+}
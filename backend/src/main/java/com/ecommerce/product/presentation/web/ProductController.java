@@ -3,6 +3,7 @@ package com.ecommerce.product.presentation.web;
 import com.ecommerce.product.application.ProductService;
 import com.ecommerce.product.dto.*;
 import com.ecommerce.shared.dto.ApiResponse;
+import com.ecommerce.shared.dto.CursorPageResponse;
 import com.ecommerce.shared.dto.PageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -48,6 +49,16 @@ public class ProductController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 상품 목록 조회 (커서 페이지네이션, 최신순)
+     */
+    @GetMapping("/cursor")
+    public ApiResponse<CursorPageResponse<ProductResponse>> getProductsByCursor(
+            @ModelAttribute ProductSearchRequest searchRequest) {
+        CursorPageResponse<ProductResponse> response = productService.searchProductsByCursor(searchRequest);
+        return ApiResponse.success(response);
+    }
+
     /**
      * 상품 검색 (키워드 필수)
      */
@@ -58,6 +69,16 @@ public class ProductController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 검색 조건별 브랜드/카테고리/가격 구간 상품 수
+     */
+    @GetMapping("/search/facets")
+    public ApiResponse<ProductSearchFacetResponse> getSearchFacets(
+            @ModelAttribute ProductSearchRequest searchRequest) {
+        ProductSearchFacetResponse response = productService.getSearchFacets(searchRequest);
+        return ApiResponse.success(response);
+    }
+
     /**
      * 상품 수정
      */
@@ -5,7 +5,6 @@ import com.ecommerce.promotion.domain.event.CouponUsedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
@@ -19,7 +18,6 @@ public class CouponEventHandler {
     /**
      * 쿠폰 발급 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleCouponIssued(CouponIssuedEvent event) {
         log.info("쿠폰 발급됨 - 쿠폰ID: {}, 쿠폰코드: {}, 쿠폰명: {}, 고객ID: {}",
@@ -36,7 +34,6 @@ public class CouponEventHandler {
     /**
      * 쿠폰 사용 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleCouponUsed(CouponUsedEvent event) {
         log.info("쿠폰 사용됨 - 쿠폰ID: {}, 쿠폰코드: {}, 고객ID: {}, 주문ID: {}, 할인금액: {}",
@@ -0,0 +1,105 @@
+package com.ecommerce.promotion.application;
+
+import com.ecommerce.promotion.domain.CouponRepository;
+import com.ecommerce.promotion.domain.PendingCouponIssue;
+import com.ecommerce.promotion.domain.event.CouponIssuedEvent;
+import com.ecommerce.shared.infrastructure.DomainEventPublisher;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 선착순 쿠폰 발급 버퍼
+ * CouponQuotaGate 를 통과한 발급 건을 모아 주기적으로 일괄 저장
+ * 발급 이벤트는 저장과 같은 트랜잭션에서 아웃박스에 기록하여, 저장된 건만 이벤트가 전달되도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueBuffer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final CouponRepository couponRepository;
+    private final CouponQuotaGate couponQuotaGate;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 게이트를 통과한 건만 적재되므로 쿠폰 총 수량 이상으로 커지지 않음
+    private final BlockingQueue<PendingCouponIssue> queue = new LinkedBlockingQueue<>();
+
+    public void add(PendingCouponIssue issue) {
+        queue.add(issue);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * 대기 중인 발급 건 저장
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.flush-interval-ms:200}")
+    public synchronized void flush() {
+        List<PendingCouponIssue> batch = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            Map<Long, List<PendingCouponIssue>> byCoupon = batch.stream()
+                    .collect(Collectors.groupingBy(PendingCouponIssue::couponId));
+            byCoupon.forEach(this::persist);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void persist(Long couponId, List<PendingCouponIssue> issues) {
+        try {
+            saveAndPublish(couponId, issues);
+            log.debug("쿠폰 발급 일괄 저장 - 쿠폰ID: {}, 건수: {}", couponId, issues.size());
+        } catch (DataAccessException | IllegalStateException e) {
+            // 배치 중 한 건이라도 실패하면 건별로 재시도하여 실패 건만 할당량 반환
+            log.warn("쿠폰 발급 일괄 저장 실패, 건별 재시도 - 쿠폰ID: {}, 건수: {}", couponId, issues.size(), e);
+            issues.forEach(issue -> persistSingle(couponId, issue));
+        }
+    }
+
+    private void persistSingle(Long couponId, PendingCouponIssue issue) {
+        try {
+            saveAndPublish(couponId, List.of(issue));
+        } catch (DataAccessException | IllegalStateException e) {
+            couponQuotaGate.release(couponId, issue.customerId());
+            log.error("쿠폰 발급 저장 실패 - 쿠폰ID: {}, 고객ID: {}", couponId, issue.customerId(), e);
+        }
+    }
+
+    private void saveAndPublish(Long couponId, List<PendingCouponIssue> issues) {
+        transactionTemplate.executeWithoutResult(status -> {
+            couponRepository.saveIssuesInBatch(couponId, issues);
+            issues.forEach(this::publishIssued);
+        });
+    }
+
+    private void publishIssued(PendingCouponIssue issue) {
+        CouponQuotaGate.CouponQuota quota = couponQuotaGate.getQuota(issue.couponId());
+        eventPublisher.publishEvent(new CouponIssuedEvent(
+                quota.getCouponId(),
+                quota.getCode(),
+                quota.getName(),
+                issue.customerId()
+        ));
+    }
+}
@@ -2,6 +2,7 @@ package com.ecommerce.promotion.application;
 
 import com.ecommerce.promotion.domain.Coupon;
 import com.ecommerce.promotion.domain.CouponIssue;
+import com.ecommerce.promotion.domain.PendingCouponIssue;
 import com.ecommerce.promotion.dto.CouponIssueResponse;
 import com.ecommerce.promotion.dto.CouponResponse;
 import com.ecommerce.promotion.dto.MyCouponResponse;
@@ -62,6 +63,22 @@ public class CouponMapper {
                 .build();
     }
 
+    /**
+     * 저장 대기 중인 선착순 발급 건 -> CouponIssueResponse 변환
+     * 발급 ID 는 비동기 저장 이후에 생성되므로 비어 있음
+     */
+    public CouponIssueResponse toCouponIssueResponse(PendingCouponIssue issue, CouponQuotaGate.CouponQuota quota) {
+        return CouponIssueResponse.builder()
+                .couponId(quota.getCouponId())
+                .couponCode(quota.getCode())
+                .couponName(quota.getName())
+                .customerId(issue.customerId())
+                .issuedAt(issue.issuedAt())
+                .used(false)
+                .usable(true)
+                .build();
+    }
+
     /**
      * CouponIssue + Coupon -> MyCouponResponse 변환
      */
@@ -0,0 +1,164 @@
+package com.ecommerce.promotion.application;
+
+import com.ecommerce.promotion.domain.Coupon;
+import com.ecommerce.promotion.domain.CouponRepository;
+import com.ecommerce.promotion.exception.CouponNotFoundException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 선착순 쿠폰 발급 게이트
+ * 쿠폰별 남은 수량을 메모리에서 CAS 로 차감하여, DB 의 쿠폰 행을 건드리기 전에 발급 여부를 결정
+ *
+ * 쿠폰 최초 요청 시 DB 의 발급 수량으로 초기화되며, 이후 발급 건은 CouponIssueBuffer 가 비동기로 저장한다.
+ * 단일 인스턴스 기준이며, 다중 인스턴스 배포 시에는 인스턴스별 할당량을 나눠야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponQuotaGate {
+
+    private final CouponRepository couponRepository;
+    private final Map<Long, CouponQuota> quotas = new ConcurrentHashMap<>();
+
+    /**
+     * 쿠폰 할당량 조회 (최초 1회만 DB 조회)
+     */
+    public CouponQuota getQuota(Long couponId) {
+        return quotas.computeIfAbsent(couponId, id -> couponRepository.findByIdWithoutIssues(id)
+                .map(CouponQuota::from)
+                .orElseThrow(() -> new CouponNotFoundException(id)));
+    }
+
+    /**
+     * 발급 실패 시 할당량 반환
+     */
+    public void release(Long couponId, Long customerId) {
+        CouponQuota quota = quotas.get(couponId);
+        if (quota != null) {
+            quota.release(customerId);
+        }
+    }
+
+    /**
+     * 쿠폰 활성 상태 반영 (활성화/비활성화)
+     * 트랜잭션 안이면 커밋 후, 아니면 즉시 반영
+     */
+    public void updateActive(Long couponId, boolean active) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyActive(couponId, active);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyActive(couponId, active);
+            }
+        });
+    }
+
+    private void applyActive(Long couponId, boolean active) {
+        CouponQuota quota = quotas.get(couponId);
+        if (quota != null) {
+            quota.active = active;
+        }
+    }
+
+    /**
+     * 발급 요청 결과
+     */
+    public enum Admission {
+        ADMITTED,
+        SOLD_OUT,
+        ALREADY_ISSUED,
+        NOT_ISSUABLE
+    }
+
+    /**
+     * 쿠폰별 메모리 할당량
+     */
+    @Getter
+    public static class CouponQuota {
+
+        private final Long couponId;
+        private final String code;
+        private final String name;
+        private final Integer totalQuantity;
+        private final LocalDateTime validFrom;
+        private final LocalDateTime validUntil;
+        private volatile boolean active;
+
+        private final AtomicInteger remaining;
+        private final Set<Long> admittedCustomers = ConcurrentHashMap.newKeySet();
+
+        CouponQuota(Long couponId, String code, String name, Integer totalQuantity, int issuedQuantity,
+                    LocalDateTime validFrom, LocalDateTime validUntil, boolean active) {
+            this.couponId = couponId;
+            this.code = code;
+            this.name = name;
+            this.totalQuantity = totalQuantity;
+            this.validFrom = validFrom;
+            this.validUntil = validUntil;
+            this.active = active;
+            this.remaining = new AtomicInteger(
+                    totalQuantity != null ? Math.max(totalQuantity - issuedQuantity, 0) : 0);
+        }
+
+        static CouponQuota from(Coupon coupon) {
+            return new CouponQuota(coupon.getId(), coupon.getCode(), coupon.getName(),
+                    coupon.getTotalQuantity(), coupon.getIssuedQuantity(),
+                    coupon.getValidFrom(), coupon.getValidUntil(), coupon.getActive());
+        }
+
+        /**
+         * 선착순(수량 제한) 쿠폰 여부
+         */
+        public boolean isLimited() {
+            return totalQuantity != null;
+        }
+
+        public int getRemainingQuantity() {
+            return remaining.get();
+        }
+
+        /**
+         * 발급 시도
+         * 동일 고객 중복 요청은 Set 으로, 수량 초과는 CAS 루프로 차단
+         */
+        public Admission tryAcquire(Long customerId) {
+            LocalDateTime now = LocalDateTime.now();
+            if (!active || !now.isAfter(validFrom) || !now.isBefore(validUntil)) {
+                return Admission.NOT_ISSUABLE;
+            }
+
+            if (!admittedCustomers.add(customerId)) {
+                return Admission.ALREADY_ISSUED;
+            }
+
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    admittedCustomers.remove(customerId);
+                    return Admission.SOLD_OUT;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+
+            return Admission.ADMITTED;
+        }
+
+        void release(Long customerId) {
+            if (admittedCustomers.remove(customerId)) {
+                remaining.incrementAndGet();
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.ecommerce.promotion.application;
 import com.ecommerce.promotion.domain.Coupon;
 import com.ecommerce.promotion.domain.CouponIssue;
 import com.ecommerce.promotion.domain.CouponRepository;
+import com.ecommerce.promotion.domain.PendingCouponIssue;
 import com.ecommerce.promotion.dto.CouponCreateRequest;
 import com.ecommerce.promotion.dto.CouponDiscountRequest;
 import com.ecommerce.promotion.dto.CouponDiscountResponse;
@@ -13,10 +14,11 @@ import com.ecommerce.promotion.exception.CouponAlreadyUsedException;
 import com.ecommerce.promotion.exception.CouponExpiredException;
 import com.ecommerce.promotion.exception.CouponNotFoundException;
 import com.ecommerce.promotion.exception.CouponNotIssuedException;
+import com.ecommerce.promotion.exception.CouponSoldOutException;
 import com.ecommerce.promotion.exception.DuplicateCouponCodeException;
 import com.ecommerce.shared.dto.PageResponse;
+import com.ecommerce.shared.infrastructure.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -37,7 +39,9 @@ public class CouponService {
 
     private final CouponRepository couponRepository;
     private final CouponMapper couponMapper;
-    private final ApplicationEventPublisher eventPublisher;
+    private final CouponQuotaGate couponQuotaGate;
+    private final CouponIssueBuffer couponIssueBuffer;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * 쿠폰 생성
@@ -108,6 +112,12 @@ public class CouponService {
      */
     @Transactional
     public CouponIssueResponse issueCoupon(Long couponId, Long customerId) {
+        // 선착순 쿠폰은 메모리 게이트에서 수량을 판정하고 저장은 비동기 배치로 처리
+        CouponQuotaGate.CouponQuota quota = couponQuotaGate.getQuota(couponId);
+        if (quota.isLimited()) {
+            return issueLimitedCoupon(quota, customerId);
+        }
+
         Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(() -> new CouponNotFoundException(couponId));
 
@@ -117,8 +127,7 @@ public class CouponService {
         Coupon savedCoupon = couponRepository.save(coupon);
 
         // 도메인 이벤트 발행
-        savedCoupon.getDomainEvents().forEach(eventPublisher::publishEvent);
-        savedCoupon.clearDomainEvents();
+        eventPublisher.publishEvents(savedCoupon);
 
         return couponMapper.toCouponIssueResponse(issue, coupon);
     }
@@ -131,16 +140,52 @@ public class CouponService {
         Coupon coupon = couponRepository.findByCode(code)
                 .orElseThrow(() -> new CouponNotFoundException(code));
 
+        CouponQuotaGate.CouponQuota quota = couponQuotaGate.getQuota(coupon.getId());
+        if (quota.isLimited()) {
+            return issueLimitedCoupon(quota, customerId);
+        }
+
         CouponIssue issue = coupon.issue(customerId);
 
         Coupon savedCoupon = couponRepository.save(coupon);
 
-        savedCoupon.getDomainEvents().forEach(eventPublisher::publishEvent);
-        savedCoupon.clearDomainEvents();
+        eventPublisher.publishEvents(savedCoupon);
 
         return couponMapper.toCouponIssueResponse(issue, coupon);
     }
 
+    /**
+     * 선착순 쿠폰 발급
+     * 수량 소진/중복 요청은 DB 접근 없이 거절하고, 통과한 건은 CouponIssueBuffer 에 적재
+     */
+    private CouponIssueResponse issueLimitedCoupon(CouponQuotaGate.CouponQuota quota, Long customerId) {
+        Long couponId = quota.getCouponId();
+
+        switch (quota.tryAcquire(customerId)) {
+            case NOT_ISSUABLE -> throw new IllegalStateException("발급할 수 없는 쿠폰입니다.");
+            case ALREADY_ISSUED -> throw new IllegalStateException("이미 발급받은 쿠폰입니다.");
+            case SOLD_OUT -> throw new CouponSoldOutException(couponId);
+            case ADMITTED -> { }
+        }
+
+        // 버퍼에 적재하기 전에 실패하면(중복 발급, DB 조회 오류 등) 확보한 수량을 반환
+        PendingCouponIssue issue;
+        try {
+            // 게이트 초기화 이전에 발급받은 고객인지 확인 (coupon_issues 인덱스 조회, 쿠폰 행은 건드리지 않음)
+            if (couponRepository.countIssuedCouponsByCustomerId(couponId, customerId) > 0) {
+                throw new IllegalStateException("이미 발급받은 쿠폰입니다.");
+            }
+
+            issue = new PendingCouponIssue(couponId, customerId, LocalDateTime.now());
+            couponIssueBuffer.add(issue);
+        } catch (RuntimeException e) {
+            couponQuotaGate.release(couponId, customerId);
+            throw e;
+        }
+
+        return couponMapper.toCouponIssueResponse(issue, quota);
+    }
+
     /**
      * 내 쿠폰 목록 조회
      */
@@ -225,8 +270,7 @@ public class CouponService {
         Coupon savedCoupon = couponRepository.save(coupon);
 
         // 도메인 이벤트 발행
-        savedCoupon.getDomainEvents().forEach(eventPublisher::publishEvent);
-        savedCoupon.clearDomainEvents();
+        eventPublisher.publishEvents(savedCoupon);
 
         return discountAmount;
     }
@@ -250,11 +294,11 @@ public class CouponService {
      */
     @Transactional
     public void deactivateCoupon(Long couponId) {
-        Coupon coupon = couponRepository.findById(couponId)
-                .orElseThrow(() -> new CouponNotFoundException(couponId));
-
-        coupon.deactivate();
-        couponRepository.save(coupon);
+        // 발급 버퍼가 올린 발급 수량을 덮어쓰지 않도록 활성 컬럼만 UPDATE
+        if (!couponRepository.updateActive(couponId, false)) {
+            throw new CouponNotFoundException(couponId);
+        }
+        couponQuotaGate.updateActive(couponId, false);
     }
 
     /**
@@ -262,10 +306,9 @@ public class CouponService {
      */
     @Transactional
     public void activateCoupon(Long couponId) {
-        Coupon coupon = couponRepository.findById(couponId)
-                .orElseThrow(() -> new CouponNotFoundException(couponId));
-
-        coupon.activate();
-        couponRepository.save(coupon);
+        if (!couponRepository.updateActive(couponId, true)) {
+            throw new CouponNotFoundException(couponId);
+        }
+        couponQuotaGate.updateActive(couponId, true);
     }
 }
@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -17,6 +18,7 @@ import java.util.List;
 
 /**
  * Coupon Aggregate Root
+ * 선착순 쿠폰의 발급 수량은 CouponIssueBuffer 가 조건부 UPDATE 로 올리므로, 엔티티 저장 시에는 변경된 컬럼만 UPDATE
  */
 @Entity
 @Table(name = "coupons", indexes = {
@@ -25,6 +27,7 @@ import java.util.List;
         @Index(name = "idx_coupon_valid_period", columnList = "valid_from, valid_until")
 })
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Coupon extends AggregateRoot {
 
@@ -16,6 +16,11 @@ public interface CouponRepository {
 
     Optional<Coupon> findById(Long id);
 
+    /**
+     * 발급 목록(issues)을 로딩하지 않고 쿠폰만 조회
+     */
+    Optional<Coupon> findByIdWithoutIssues(Long id);
+
     Optional<Coupon> findByCode(String code);
 
     Page<Coupon> findAll(Pageable pageable);
@@ -43,4 +48,17 @@ public interface CouponRepository {
      * 고객의 해당 쿠폰 발급 횟수 조회
      */
     int countIssuedCouponsByCustomerId(Long couponId, Long customerId);
+
+    /**
+     * 쿠폰 발급 일괄 저장
+     * 발급 행 INSERT 와 발급 수량 증가를 하나의 트랜잭션으로 처리
+     */
+    void saveIssuesInBatch(Long couponId, List<PendingCouponIssue> issues);
+
+    /**
+     * 활성 상태만 변경 (발급 수량 등 다른 컬럼은 덮어쓰지 않음)
+     *
+     * @return 쿠폰이 존재하면 true
+     */
+    boolean updateActive(Long couponId, boolean active);
 }
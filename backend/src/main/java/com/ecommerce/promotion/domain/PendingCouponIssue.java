@@ -0,0 +1,14 @@
+package com.ecommerce.promotion.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 쿠폰 발급 건
+ * 선착순 쿠폰 게이트를 통과한 발급 요청으로, CouponIssueBuffer 가 모아서 일괄 저장
+ */
+public record PendingCouponIssue(
+        Long couponId,
+        Long customerId,
+        LocalDateTime issuedAt
+) {
+}
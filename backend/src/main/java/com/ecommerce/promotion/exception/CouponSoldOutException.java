@@ -0,0 +1,13 @@
+package com.ecommerce.promotion.exception;
+
+import com.ecommerce.shared.exception.BusinessException;
+
+/**
+ * 선착순 쿠폰 수량이 모두 소진되었을 때 발생하는 예외
+ */
+public class CouponSoldOutException extends BusinessException {
+
+    public CouponSoldOutException(Long couponId) {
+        super("COUPON_SOLD_OUT", "쿠폰 수량이 모두 소진되었습니다. 쿠폰 ID: " + couponId);
+    }
+}
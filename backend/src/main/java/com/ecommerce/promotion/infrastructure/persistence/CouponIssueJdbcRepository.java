@@ -0,0 +1,55 @@
+package com.ecommerce.promotion.infrastructure.persistence;
+
+import com.ecommerce.promotion.domain.PendingCouponIssue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 쿠폰 발급 전용 JDBC Repository
+ * 선착순 쿠폰 발급 건을 JDBC 배치로 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueJdbcRepository {
+
+    private static final String INSERT_ISSUE_SQL =
+            "INSERT INTO coupon_issues (coupon_id, customer_id, issued_at, used, created_at, updated_at) " +
+            "VALUES (?, ?, ?, FALSE, ?, ?)";
+
+    // 메모리 게이트를 통과한 건만 들어오지만, DB 에서도 총 수량을 넘지 않도록 한 번 더 보호
+    private static final String INCREASE_ISSUED_QUANTITY_SQL =
+            "UPDATE coupons " +
+            "SET issued_quantity = issued_quantity + ?, updated_at = ? " +
+            "WHERE id = ? AND (total_quantity IS NULL OR issued_quantity + ? <= total_quantity)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void saveIssuesInBatch(Long couponId, List<PendingCouponIssue> issues) {
+        if (issues.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_ISSUE_SQL, issues, issues.size(), (ps, issue) -> {
+            ps.setLong(1, couponId);
+            ps.setLong(2, issue.customerId());
+            ps.setTimestamp(3, Timestamp.valueOf(issue.issuedAt()));
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+
+        int updated = jdbcTemplate.update(INCREASE_ISSUED_QUANTITY_SQL,
+                issues.size(), now, couponId, issues.size());
+        if (updated == 0) {
+            throw new IllegalStateException("쿠폰 수량이 모두 소진되었습니다. 쿠폰 ID: " + couponId);
+        }
+    }
+}
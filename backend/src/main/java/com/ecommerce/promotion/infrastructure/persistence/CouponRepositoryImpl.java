@@ -3,6 +3,7 @@ package com.ecommerce.promotion.infrastructure.persistence;
 import com.ecommerce.promotion.domain.Coupon;
 import com.ecommerce.promotion.domain.CouponIssue;
 import com.ecommerce.promotion.domain.CouponRepository;
+import com.ecommerce.promotion.domain.PendingCouponIssue;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +23,7 @@ public class CouponRepositoryImpl implements CouponRepository {
 
     private final JpaCouponRepository jpaCouponRepository;
     private final JpaCouponIssueRepository jpaCouponIssueRepository;
+    private final CouponIssueJdbcRepository couponIssueJdbcRepository;
 
     @Override
     public Coupon save(Coupon coupon) {
@@ -33,6 +35,11 @@ public class CouponRepositoryImpl implements CouponRepository {
         return jpaCouponRepository.findByIdWithIssues(id);
     }
 
+    @Override
+    public Optional<Coupon> findByIdWithoutIssues(Long id) {
+        return jpaCouponRepository.findById(id);
+    }
+
     @Override
     public Optional<Coupon> findByCode(String code) {
         return jpaCouponRepository.findByCode(code);
@@ -75,4 +82,14 @@ public class CouponRepositoryImpl implements CouponRepository {
     public int countIssuedCouponsByCustomerId(Long couponId, Long customerId) {
         return jpaCouponIssueRepository.countByCouponIdAndCustomerId(couponId, customerId);
     }
+
+    @Override
+    public void saveIssuesInBatch(Long couponId, List<PendingCouponIssue> issues) {
+        couponIssueJdbcRepository.saveIssuesInBatch(couponId, issues);
+    }
+
+    @Override
+    public boolean updateActive(Long couponId, boolean active) {
+        return jpaCouponRepository.updateActive(couponId, active, LocalDateTime.now()) > 0;
+    }
 }
@@ -4,6 +4,7 @@ import com.ecommerce.promotion.domain.Coupon;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -35,4 +36,8 @@ public interface JpaCouponRepository extends JpaRepository<Coupon, Long> {
                                          Pageable pageable);
 
     boolean existsByCode(String code);
+
+    @Modifying
+    @Query("UPDATE Coupon c SET c.active = :active, c.updatedAt = :updatedAt WHERE c.id = :id")
+    int updateActive(@Param("id") Long id, @Param("active") boolean active, @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,29 @@
+package com.ecommerce.review.application;
+
+import com.ecommerce.review.domain.ProductRatingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 평점 집계 보정 작업
+ * 이벤트 중복 전달, 신고/숨김/복구 등 이벤트로 반영되지 않는 상태 변경으로 생긴 차이를 주기적으로 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRatingReconciler {
+
+    private final ProductRatingRepository productRatingRepository;
+
+    @Scheduled(cron = "${review.rating.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        int corrected = productRatingRepository.reconcileAll();
+        if (corrected > 0) {
+            log.warn("상품 평점 집계 보정 - 보정된 상품 수: {}", corrected);
+        } else {
+            log.info("상품 평점 집계 보정 - 차이 없음");
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.ecommerce.review.application;
 
+import com.ecommerce.review.domain.ProductRatingRepository;
 import com.ecommerce.review.domain.event.ReviewCreatedEvent;
 import com.ecommerce.review.domain.event.ReviewDeletedEvent;
+import com.ecommerce.review.domain.event.ReviewRatingChangedEvent;
+import com.ecommerce.review.domain.event.ReviewVisibilityChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,28 +18,59 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ReviewEventHandler {
 
+    private final ProductRatingRepository productRatingRepository;
+
     /**
-     * 리뷰 생성 이벤트 처리
+     * 리뷰 생성 이벤트 처리 → 상품 평점 집계 반영
      */
-    @Async
     @EventListener
     public void handleReviewCreated(ReviewCreatedEvent event) {
         log.info("리뷰 생성 이벤트 수신: reviewId={}, productId={}, rating={}",
                 event.getReviewId(), event.getProductId(), event.getRating());
 
-        // TODO: 상품의 평균 평점 업데이트 (캐시 또는 비정규화)
+        productRatingRepository.addRating(event.getProductId(), event.getRating());
+
         // TODO: 리뷰 작성 포인트 지급
     }
 
     /**
-     * 리뷰 삭제 이벤트 처리
+     * 리뷰 평점 변경 이벤트 처리 → 상품 평점 집계 반영
+     */
+    @EventListener
+    public void handleReviewRatingChanged(ReviewRatingChangedEvent event) {
+        log.info("리뷰 평점 변경 이벤트 수신: reviewId={}, productId={}, rating={} → {}",
+                event.getReviewId(), event.getProductId(), event.getOldRating(), event.getNewRating());
+
+        productRatingRepository.changeRating(event.getProductId(), event.getOldRating(), event.getNewRating());
+    }
+
+    /**
+     * 리뷰 노출 여부 변경 이벤트 처리 → 상품 평점 집계 반영
+     * 신고 누적/숨김으로 비노출되면 집계에서 빼고, 복구되면 다시 더함
+     */
+    @EventListener
+    public void handleReviewVisibilityChanged(ReviewVisibilityChangedEvent event) {
+        log.info("리뷰 노출 여부 변경 이벤트 수신: reviewId={}, productId={}, rating={}, visible={}",
+                event.getReviewId(), event.getProductId(), event.getRating(), event.isVisible());
+
+        if (event.isVisible()) {
+            productRatingRepository.addRating(event.getProductId(), event.getRating());
+        } else {
+            productRatingRepository.removeRating(event.getProductId(), event.getRating());
+        }
+    }
+
+    /**
+     * 리뷰 삭제 이벤트 처리 → 상품 평점 집계 반영
      */
-    @Async
     @EventListener
     public void handleReviewDeleted(ReviewDeletedEvent event) {
         log.info("리뷰 삭제 이벤트 수신: reviewId={}, productId={}, rating={}",
                 event.getReviewId(), event.getProductId(), event.getRating());
 
-        // TODO: 상품의 평균 평점 업데이트 (캐시 또는 비정규화)
+        // 숨김/신고 상태였던 리뷰는 집계에 포함되어 있지 않음
+        if (event.isWasVisible()) {
+            productRatingRepository.removeRating(event.getProductId(), event.getRating());
+        }
     }
 }
@@ -4,6 +4,8 @@ import com.ecommerce.order.domain.Order;
 import com.ecommerce.order.domain.OrderRepository;
 import com.ecommerce.order.domain.OrderStatus;
 import com.ecommerce.order.exception.OrderNotFoundException;
+import com.ecommerce.review.domain.ProductRating;
+import com.ecommerce.review.domain.ProductRatingRepository;
 import com.ecommerce.review.domain.Review;
 import com.ecommerce.review.domain.ReviewRepository;
 import com.ecommerce.review.domain.ReviewStatus;
@@ -20,6 +22,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Review 애플리케이션 서비스
  */
@@ -30,6 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final ProductRatingRepository productRatingRepository;
     private final OrderRepository orderRepository;
     private final DomainEventPublisher eventPublisher;
     private final ReviewMapper reviewMapper;
@@ -109,6 +117,7 @@ public class ReviewService {
         }
 
         Review savedReview = reviewRepository.save(review);
+        eventPublisher.publishEvents(savedReview);
         log.info("리뷰 수정 완료: reviewId={}", reviewId);
 
         return reviewMapper.toResponse(savedReview);
@@ -173,16 +182,27 @@ public class ReviewService {
 
     /**
      * 상품 리뷰 요약 조회 (평균 평점, 리뷰 수)
+     * 리뷰 이벤트로 유지되는 집계를 조회하므로 리뷰 테이블을 스캔하지 않음
      */
     public ProductReviewSummary getProductReviewSummary(Long productId) {
-        Double avgRating = reviewRepository.getAverageRatingByProductId(productId);
-        Long reviewCount = reviewRepository.countByProductId(productId);
+        return productRatingRepository.findByProductId(productId)
+                .map(this::toSummary)
+                .orElseGet(() -> emptySummary(productId));
+    }
 
-        return ProductReviewSummary.builder()
-                .productId(productId)
-                .averageRating(avgRating != null ? avgRating : 0.0)
-                .reviewCount(reviewCount != null ? reviewCount : 0L)
-                .build();
+    /**
+     * 여러 상품의 리뷰 요약 일괄 조회 (상품 목록용)
+     */
+    public List<ProductReviewSummary> getProductReviewSummaries(List<Long> productIds) {
+        Map<Long, ProductRating> ratings = productRatingRepository.findAllByProductIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductRating::getProductId, Function.identity()));
+
+        return productIds.stream()
+                .distinct()
+                .map(productId -> ratings.containsKey(productId)
+                        ? toSummary(ratings.get(productId))
+                        : emptySummary(productId))
+                .toList();
     }
 
     /**
@@ -198,7 +218,28 @@ public class ReviewService {
         review.report(request.getReason());
         Review savedReview = reviewRepository.save(review);
 
+        // 신고 누적으로 비노출되면 평점 집계에서 제외
+        eventPublisher.publishEvents(savedReview);
+
         log.info("리뷰 신고 완료: reviewId={}, reportCount={}", reviewId, savedReview.getReportCount());
         return reviewMapper.toResponse(savedReview);
     }
+
+    private ProductReviewSummary toSummary(ProductRating rating) {
+        return ProductReviewSummary.builder()
+                .productId(rating.getProductId())
+                .averageRating(rating.getAverageRating())
+                .reviewCount(rating.getReviewCount())
+                .ratingCounts(rating.getRatingCounts())
+                .build();
+    }
+
+    private ProductReviewSummary emptySummary(Long productId) {
+        return ProductReviewSummary.builder()
+                .productId(productId)
+                .averageRating(0.0)
+                .reviewCount(0L)
+                .ratingCounts(Map.of())
+                .build();
+    }
 }
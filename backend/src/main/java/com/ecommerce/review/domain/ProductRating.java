@@ -0,0 +1,73 @@
+package com.ecommerce.review.domain;
+
+import com.ecommerce.shared.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품별 평점 집계 (비정규화)
+ * 리뷰 이벤트로 증감하며, 노출(ACTIVE) 상태의 리뷰만 집계
+ */
+@Entity
+@Table(name = "product_ratings", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_rating_product", columnNames = "product_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductRating extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "rating1_count", nullable = false)
+    private Long rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private Long rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private Long rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private Long rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private Long rating5Count;
+
+    /**
+     * 평균 평점 (소수점 첫째 자리 반올림)
+     */
+    public double getAverageRating() {
+        if (reviewCount == null || reviewCount == 0) {
+            return 0.0;
+        }
+        return Math.round((double) ratingSum / reviewCount * 10) / 10.0;
+    }
+
+    /**
+     * 평점별 리뷰 수 (5점 → 1점 순)
+     */
+    public Map<Integer, Long> getRatingCounts() {
+        Map<Integer, Long> counts = new LinkedHashMap<>();
+        counts.put(5, rating5Count);
+        counts.put(4, rating4Count);
+        counts.put(3, rating3Count);
+        counts.put(2, rating2Count);
+        counts.put(1, rating1Count);
+        return counts;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.review.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ProductRating Repository 인터페이스 (도메인 계층)
+ */
+public interface ProductRatingRepository {
+
+    Optional<ProductRating> findByProductId(Long productId);
+
+    List<ProductRating> findAllByProductIdIn(Collection<Long> productIds);
+
+    /**
+     * 평점 추가 (리뷰 작성)
+     */
+    void addRating(Long productId, int rating);
+
+    /**
+     * 평점 제거 (리뷰 삭제)
+     */
+    void removeRating(Long productId, int rating);
+
+    /**
+     * 평점 변경 (리뷰 수정)
+     */
+    void changeRating(Long productId, int oldRating, int newRating);
+
+    /**
+     * 리뷰 테이블 기준으로 전체 집계 재계산
+     * @return 값이 달라 보정된 상품 수
+     */
+    int reconcileAll();
+}
@@ -2,6 +2,8 @@ package com.ecommerce.review.domain;
 
 import com.ecommerce.review.domain.event.ReviewCreatedEvent;
 import com.ecommerce.review.domain.event.ReviewDeletedEvent;
+import com.ecommerce.review.domain.event.ReviewRatingChangedEvent;
+import com.ecommerce.review.domain.event.ReviewVisibilityChangedEvent;
 import com.ecommerce.shared.domain.AggregateRoot;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -89,6 +91,9 @@ public class Review extends AggregateRoot {
             throw new IllegalStateException("수정할 수 없는 상태입니다: " + this.reviewStatus.getDescription());
         }
         validateRating(rating);
+        if (!rating.equals(this.rating)) {
+            registerEvent(new ReviewRatingChangedEvent(this.getId(), this.productId, this.rating, rating));
+        }
         this.rating = rating;
         this.content = content;
     }
@@ -122,13 +127,15 @@ public class Review extends AggregateRoot {
         if (!this.reviewStatus.canDelete()) {
             throw new IllegalStateException("삭제할 수 없는 상태입니다: " + this.reviewStatus.getDescription());
         }
+        boolean wasVisible = this.reviewStatus.isVisible();
         this.reviewStatus = ReviewStatus.DELETED;
 
         registerEvent(new ReviewDeletedEvent(
                 this.getId(),
                 this.productId,
                 this.customerId,
-                this.rating
+                this.rating,
+                wasVisible
         ));
     }
 
@@ -141,7 +148,7 @@ public class Review extends AggregateRoot {
 
         // 신고 3회 이상 시 자동 숨김 처리
         if (this.reportCount >= 3 && this.reviewStatus == ReviewStatus.ACTIVE) {
-            this.reviewStatus = ReviewStatus.REPORTED;
+            changeStatus(ReviewStatus.REPORTED);
         }
     }
 
@@ -149,7 +156,7 @@ public class Review extends AggregateRoot {
      * 리뷰 숨김 처리 (관리자)
      */
     public void hide() {
-        this.reviewStatus = ReviewStatus.HIDDEN;
+        changeStatus(ReviewStatus.HIDDEN);
     }
 
     /**
@@ -159,7 +166,7 @@ public class Review extends AggregateRoot {
         if (this.reviewStatus == ReviewStatus.DELETED) {
             throw new IllegalStateException("삭제된 리뷰는 복구할 수 없습니다.");
         }
-        this.reviewStatus = ReviewStatus.ACTIVE;
+        changeStatus(ReviewStatus.ACTIVE);
         this.reportCount = 0;
         this.reportReason = null;
     }
@@ -180,6 +187,21 @@ public class Review extends AggregateRoot {
                 .toList();
     }
 
+    // 노출 여부가 바뀌면 상품 평점 집계에 반영하도록 이벤트 등록
+    private void changeStatus(ReviewStatus newStatus) {
+        boolean wasVisible = this.reviewStatus.isVisible();
+        this.reviewStatus = newStatus;
+
+        if (wasVisible != newStatus.isVisible()) {
+            registerEvent(new ReviewVisibilityChangedEvent(
+                    this.getId(),
+                    this.productId,
+                    this.rating,
+                    newStatus.isVisible()
+            ));
+        }
+    }
+
     private void validateRating(Integer rating) {
         if (rating == null || rating < 1 || rating > 5) {
             throw new IllegalArgumentException("평점은 1~5 사이여야 합니다.");
@@ -13,12 +13,14 @@ public class ReviewDeletedEvent extends BaseDomainEvent {
     private final Long productId;
     private final Long customerId;
     private final Integer rating;
+    private final boolean wasVisible; // 삭제 전 노출(ACTIVE) 상태였는지
 
-    public ReviewDeletedEvent(Long reviewId, Long productId, Long customerId, Integer rating) {
+    public ReviewDeletedEvent(Long reviewId, Long productId, Long customerId, Integer rating, boolean wasVisible) {
         super();
         this.reviewId = reviewId;
         this.productId = productId;
         this.customerId = customerId;
         this.rating = rating;
+        this.wasVisible = wasVisible;
     }
 }
@@ -0,0 +1,24 @@
+package com.ecommerce.review.domain.event;
+
+import com.ecommerce.shared.domain.BaseDomainEvent;
+import lombok.Getter;
+
+/**
+ * 리뷰 평점 변경 이벤트
+ */
+@Getter
+public class ReviewRatingChangedEvent extends BaseDomainEvent {
+
+    private final Long reviewId;
+    private final Long productId;
+    private final Integer oldRating;
+    private final Integer newRating;
+
+    public ReviewRatingChangedEvent(Long reviewId, Long productId, Integer oldRating, Integer newRating) {
+        super();
+        this.reviewId = reviewId;
+        this.productId = productId;
+        this.oldRating = oldRating;
+        this.newRating = newRating;
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.review.domain.event;
+
+import com.ecommerce.shared.domain.BaseDomainEvent;
+import lombok.Getter;
+
+/**
+ * 리뷰 노출 여부 변경 이벤트 (신고 누적, 숨김, 복구)
+ */
+@Getter
+public class ReviewVisibilityChangedEvent extends BaseDomainEvent {
+
+    private final Long reviewId;
+    private final Long productId;
+    private final Integer rating;
+    private final boolean visible; // 변경 후 노출(ACTIVE) 상태인지
+
+    public ReviewVisibilityChangedEvent(Long reviewId, Long productId, Integer rating, boolean visible) {
+        super();
+        this.reviewId = reviewId;
+        this.productId = productId;
+        this.rating = rating;
+        this.visible = visible;
+    }
+}
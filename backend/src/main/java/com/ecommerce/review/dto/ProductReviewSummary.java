@@ -3,6 +3,8 @@ package com.ecommerce.review.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 /**
  * 상품 리뷰 요약 DTO
  */
@@ -13,4 +15,5 @@ public class ProductReviewSummary {
     private Long productId;
     private Double averageRating;
     private Long reviewCount;
+    private Map<Integer, Long> ratingCounts; // 평점별 리뷰 수
 }
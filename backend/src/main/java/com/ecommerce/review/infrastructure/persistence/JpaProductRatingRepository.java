@@ -0,0 +1,18 @@
+package com.ecommerce.review.infrastructure.persistence;
+
+import com.ecommerce.review.domain.ProductRating;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ProductRating JPA Repository
+ */
+public interface JpaProductRatingRepository extends JpaRepository<ProductRating, Long> {
+
+    Optional<ProductRating> findByProductId(Long productId);
+
+    List<ProductRating> findAllByProductIdIn(Collection<Long> productIds);
+}
@@ -0,0 +1,169 @@
+package com.ecommerce.review.infrastructure.persistence;
+
+import com.ecommerce.review.domain.ReviewStatus;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 평점 집계 전용 JDBC Repository
+ * 동시에 들어오는 리뷰 이벤트가 서로 덮어쓰지 않도록 증감을 단일 UPDATE 로 반영
+ */
+@Repository
+public class ProductRatingJdbcRepository {
+
+    private static final String APPLY_DELTA_SQL =
+            "UPDATE product_ratings " +
+            "SET rating_sum = rating_sum + ?, review_count = review_count + ?, " +
+            "    rating1_count = rating1_count + ?, rating2_count = rating2_count + ?, " +
+            "    rating3_count = rating3_count + ?, rating4_count = rating4_count + ?, " +
+            "    rating5_count = rating5_count + ?, updated_at = ? " +
+            "WHERE product_id = ?";
+
+    private static final String REPLACE_SQL =
+            "UPDATE product_ratings " +
+            "SET rating_sum = ?, review_count = ?, " +
+            "    rating1_count = ?, rating2_count = ?, rating3_count = ?, rating4_count = ?, rating5_count = ?, " +
+            "    updated_at = ? " +
+            "WHERE product_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO product_ratings (product_id, rating_sum, review_count, " +
+            "rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_ACTUAL_SQL =
+            "SELECT product_id, rating, COUNT(*) AS cnt FROM reviews " +
+            "WHERE review_status = '" + ReviewStatus.ACTIVE.name() + "' " +
+            "GROUP BY product_id, rating";
+
+    private static final String SELECT_STORED_SQL =
+            "SELECT product_id, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count " +
+            "FROM product_ratings";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductRatingJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 평점별 리뷰 수 증감 반영
+     *
+     * @param histogramDelta 인덱스 1~5 에 평점별 증감 (인덱스 0 미사용)
+     */
+    public void applyDelta(Long productId, long[] histogramDelta) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Object[] args = updateArgs(productId, histogramDelta, now);
+
+        if (jdbcTemplate.update(APPLY_DELTA_SQL, args) > 0) {
+            return;
+        }
+
+        // 첫 리뷰 - 집계 행 생성, 동시에 생성된 경우 UPDATE 로 재시도
+        try {
+            jdbcTemplate.update(INSERT_SQL, insertArgs(productId, clampToZero(histogramDelta), now));
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(APPLY_DELTA_SQL, args);
+        }
+    }
+
+    /**
+     * 리뷰 테이블 기준으로 전체 집계 재계산
+     *
+     * @return 값이 달라 보정된 상품 수
+     */
+    @Transactional
+    public int reconcileAll() {
+        Map<Long, long[]> actual = new HashMap<>();
+        jdbcTemplate.query(SELECT_ACTUAL_SQL, rs -> {
+            int rating = rs.getInt("rating");
+            if (rating >= 1 && rating <= 5) {
+                actual.computeIfAbsent(rs.getLong("product_id"), id -> new long[6])[rating] = rs.getLong("cnt");
+            }
+        });
+
+        Map<Long, long[]> stored = new HashMap<>();
+        jdbcTemplate.query(SELECT_STORED_SQL, rs -> {
+            long[] histogram = new long[6];
+            for (int rating = 1; rating <= 5; rating++) {
+                histogram[rating] = rs.getLong("rating" + rating + "_count");
+            }
+            stored.put(rs.getLong("product_id"), histogram);
+        });
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+
+        stored.forEach((productId, histogram) -> {
+            long[] expected = actual.getOrDefault(productId, new long[6]);
+            if (!Arrays.equals(histogram, expected)) {
+                updates.add(updateArgs(productId, expected, now));
+            }
+        });
+        actual.forEach((productId, histogram) -> {
+            if (!stored.containsKey(productId)) {
+                inserts.add(insertArgs(productId, histogram, now));
+            }
+        });
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(REPLACE_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        return updates.size() + inserts.size();
+    }
+
+    // APPLY_DELTA_SQL, REPLACE_SQL 공통 파라미터
+    private Object[] updateArgs(Long productId, long[] histogram, Timestamp now) {
+        return new Object[]{
+                ratingSum(histogram), reviewCount(histogram),
+                histogram[1], histogram[2], histogram[3], histogram[4], histogram[5],
+                now, productId
+        };
+    }
+
+    private Object[] insertArgs(Long productId, long[] histogram, Timestamp now) {
+        return new Object[]{
+                productId, ratingSum(histogram), reviewCount(histogram),
+                histogram[1], histogram[2], histogram[3], histogram[4], histogram[5],
+                now, now
+        };
+    }
+
+    private long ratingSum(long[] histogram) {
+        long sum = 0;
+        for (int rating = 1; rating <= 5; rating++) {
+            sum += rating * histogram[rating];
+        }
+        return sum;
+    }
+
+    private long reviewCount(long[] histogram) {
+        long count = 0;
+        for (int rating = 1; rating <= 5; rating++) {
+            count += histogram[rating];
+        }
+        return count;
+    }
+
+    private long[] clampToZero(long[] histogram) {
+        long[] clamped = new long[histogram.length];
+        for (int i = 0; i < histogram.length; i++) {
+            clamped[i] = Math.max(0, histogram[i]);
+        }
+        return clamped;
+    }
+}
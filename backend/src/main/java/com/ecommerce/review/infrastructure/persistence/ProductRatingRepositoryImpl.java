@@ -0,0 +1,64 @@
+package com.ecommerce.review.infrastructure.persistence;
+
+import com.ecommerce.review.domain.ProductRating;
+import com.ecommerce.review.domain.ProductRatingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ProductRating Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductRatingRepositoryImpl implements ProductRatingRepository {
+
+    private final JpaProductRatingRepository jpaProductRatingRepository;
+    private final ProductRatingJdbcRepository productRatingJdbcRepository;
+
+    @Override
+    public Optional<ProductRating> findByProductId(Long productId) {
+        return jpaProductRatingRepository.findByProductId(productId);
+    }
+
+    @Override
+    public List<ProductRating> findAllByProductIdIn(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaProductRatingRepository.findAllByProductIdIn(productIds);
+    }
+
+    @Override
+    public void addRating(Long productId, int rating) {
+        long[] delta = new long[6];
+        delta[rating] = 1;
+        productRatingJdbcRepository.applyDelta(productId, delta);
+    }
+
+    @Override
+    public void removeRating(Long productId, int rating) {
+        long[] delta = new long[6];
+        delta[rating] = -1;
+        productRatingJdbcRepository.applyDelta(productId, delta);
+    }
+
+    @Override
+    public void changeRating(Long productId, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        long[] delta = new long[6];
+        delta[oldRating] = -1;
+        delta[newRating] = 1;
+        productRatingJdbcRepository.applyDelta(productId, delta);
+    }
+
+    @Override
+    public int reconcileAll() {
+        return productRatingJdbcRepository.reconcileAll();
+    }
+}
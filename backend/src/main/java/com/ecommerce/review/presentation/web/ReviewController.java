@@ -6,12 +6,15 @@ import com.ecommerce.review.dto.*;
 import com.ecommerce.shared.dto.ApiResponse;
 import com.ecommerce.shared.dto.PageResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 리뷰 API 컨트롤러
  */
@@ -94,6 +97,17 @@ public class ReviewController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 여러 상품의 리뷰 요약 일괄 조회 (상품 목록용, 최대 100개)
+     * GET /api/v1/reviews/products/summaries?productIds=1,2,3
+     */
+    @GetMapping("/products/summaries")
+    public ResponseEntity<ApiResponse<List<ProductReviewSummary>>> getProductReviewSummaries(
+            @RequestParam @Size(max = 100, message = "상품은 한 번에 100개까지 조회할 수 있습니다.") List<Long> productIds) {
+        List<ProductReviewSummary> response = reviewService.getProductReviewSummaries(productIds);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 내 리뷰 목록 조회
      * GET /api/v1/reviews/me
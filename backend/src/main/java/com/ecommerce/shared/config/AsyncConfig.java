@@ -1,12 +1,141 @@
 package com.ecommerce.shared.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리 설정
+ * 바운디드 컨텍스트별로 분리된 Executor 를 사용하여 한 컨텍스트의 폭주가 다른 컨텍스트를 막지 않도록 함
+ *
+ * - 큐 크기와 동시 실행 수를 제한하고, 큐가 가득 차면 거절 (RejectedExecutionException)
+ *   작업은 스케줄러 스레드(아웃박스 릴레이, 알림 재발송)에서 제출되므로 호출 스레드에서 대신 실행하지 않고 다음 주기로 미룸
+ * - 외부 I/O 대기가 대부분인 알림/배송/결제는 가상 스레드 사용
+ * - executor.* 메트릭(큐 길이, 활성 작업 수)과 executor.rejected 카운터 제공
+ *
+ * 설정: async.executor.{name}.concurrency, async.executor.{name}.queue-capacity
  */
+@Slf4j
 @Configuration
 @EnableAsync
-public class AsyncConfig {
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String DOMAIN_EVENT_EXECUTOR = "domainEventExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String SHIPPING_EXECUTOR = "shippingExecutor";
+    public static final String PAYMENT_EXECUTOR = "paymentExecutor";
+    public static final String ORDER_EXECUTOR = "orderExecutor";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 기본 Executor (고객, 장바구니, 위시리스트, 리뷰, 쿠폰 등 가벼운 핸들러)
+     */
+    @Bean(name = DOMAIN_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor domainEventExecutor() {
+        return createExecutor("domain-event", 8, 1_000, false);
+    }
+
+    /**
+     * 알림 발송 - 이벤트가 몰리기 쉬우므로 큐를 크게 잡음
+     */
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        return createExecutor("notification", 64, 5_000, true);
+    }
+
+    /**
+     * 배송 생성/상태 변경
+     */
+    @Bean(name = SHIPPING_EXECUTOR)
+    public ThreadPoolTaskExecutor shippingExecutor() {
+        return createExecutor("shipping", 32, 1_000, true);
+    }
+
+    /**
+     * 결제 후속 처리
+     */
+    @Bean(name = PAYMENT_EXECUTOR)
+    public ThreadPoolTaskExecutor paymentExecutor() {
+        return createExecutor("payment", 32, 1_000, true);
+    }
+
+    /**
+     * 주문 상태 후속 처리
+     */
+    @Bean(name = ORDER_EXECUTOR)
+    public ThreadPoolTaskExecutor orderExecutor() {
+        return createExecutor("order", 8, 1_000, false);
+    }
+
+    /**
+     * Executor 를 지정하지 않은 @Async 는 기본 Executor 사용
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return domainEventExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                log.error("비동기 처리 실패: {}.{}", method.getDeclaringClass().getSimpleName(), method.getName(), ex);
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String name, int defaultConcurrency,
+                                                  int defaultQueueCapacity, boolean virtualThreads) {
+        int concurrency = environment.getProperty(
+                "async.executor." + name + ".concurrency", Integer.class, defaultConcurrency);
+        int queueCapacity = environment.getProperty(
+                "async.executor." + name + ".queue-capacity", Integer.class, defaultQueueCapacity);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix(name + "-");
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(name + "-", 0).factory());
+        }
+        executor.setRejectedExecutionHandler(abortWithCount(name));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty())
+                .bindTo(meterRegistry);
+        return executor;
+    }
+
+    private ThreadPoolExecutor.AbortPolicy abortWithCount(String name) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("큐가 가득 차 거절된 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        return new ThreadPoolExecutor.AbortPolicy() {
+            @Override
+            public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+                rejected.increment();
+                log.warn("{} executor 포화 - 작업 거절 (queue={})", name, executor.getQueue().size());
+                super.rejectedExecution(task, executor);
+            }
+        };
+    }
 }
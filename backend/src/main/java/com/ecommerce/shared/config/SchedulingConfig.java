@@ -0,0 +1,58 @@
+package com.ecommerce.shared.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄링 설정
+ * 배치 flush, 재시도 등 주기 작업 처리
+ *
+ * - 기본 스케줄러는 주기 작업 수(약 10개)만큼 스레드를 두어 오래 걸리는 작업이 다른 작업을 밀어내지 않도록 함
+ * - 아웃박스 릴레이와 결제 대사는 전용 스레드에서 실행 (@Scheduled(scheduler = ...))
+ *
+ * 설정: scheduling.pool-size
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String TASK_SCHEDULER = "taskScheduler";
+    public static final String OUTBOX_SCHEDULER = "outboxScheduler";
+    public static final String PAYMENT_RECONCILE_SCHEDULER = "paymentReconcileScheduler";
+
+    /**
+     * 기본 스케줄러 (scheduler 를 지정하지 않은 @Scheduled, 관리자 요청으로 당겨 실행하는 주기 작업)
+     */
+    @Bean(name = TASK_SCHEDULER)
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:10}") int poolSize) {
+        return createScheduler("scheduling-", poolSize);
+    }
+
+    /**
+     * 아웃박스 릴레이 전용
+     */
+    @Bean(name = OUTBOX_SCHEDULER)
+    public ThreadPoolTaskScheduler outboxScheduler() {
+        return createScheduler("outbox-relay-", 1);
+    }
+
+    /**
+     * 결제 대사 전용
+     */
+    @Bean(name = PAYMENT_RECONCILE_SCHEDULER)
+    public ThreadPoolTaskScheduler paymentReconcileScheduler() {
+        return createScheduler("payment-reconcile-", 1);
+    }
+
+    private ThreadPoolTaskScheduler createScheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
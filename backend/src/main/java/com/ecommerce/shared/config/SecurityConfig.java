@@ -4,6 +4,7 @@ import com.ecommerce.customer.infrastructure.oauth2.CustomOAuth2UserService;
 import com.ecommerce.customer.infrastructure.oauth2.OAuth2AuthenticationFailureHandler;
 import com.ecommerce.customer.infrastructure.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.ecommerce.customer.infrastructure.security.JwtAuthenticationFilter;
+import com.ecommerce.customer.infrastructure.security.VerifiedTokenCache;
 import com.ecommerce.customer.infrastructure.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -33,6 +34,7 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
@@ -144,7 +146,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider);
+        return new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache);
     }
 
     @Bean
@@ -0,0 +1,56 @@
+package com.ecommerce.shared.dto;
+
+import com.ecommerce.shared.exception.ValidationException;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * 전체 건수를 세지 않고, 다음 페이지가 있으면 nextCursor 를 전달
+ */
+@Getter
+public class CursorPageResponse<T> {
+
+    private static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorPageResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 다음 페이지 여부 판단을 위해 조회할 건수 (size + 1)
+     */
+    public static int fetchSizeOf(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ValidationException("페이지 크기는 1 ~ " + MAX_SIZE + " 사이여야 합니다");
+        }
+        return size + 1;
+    }
+
+    /**
+     * size + 1 건 조회한 결과로 응답 생성
+     *
+     * @param rows     size 보다 한 건 더 조회한 결과 (초과분으로 다음 페이지 여부 판단)
+     * @param mapper   응답 변환
+     * @param cursorOf 마지막 행의 커서
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+                                                 Function<E, T> mapper,
+                                                 Function<E, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return new CursorPageResponse<>(page.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
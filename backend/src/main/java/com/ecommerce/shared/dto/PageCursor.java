@@ -0,0 +1,49 @@
+package com.ecommerce.shared.dto;
+
+import com.ecommerce.shared.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (생성일시, ID)
+ * 클라이언트에는 내용을 알 수 없는 문자열로 전달하고, 다음 요청에서 받아 마지막 행 다음부터 조회
+ */
+public record PageCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석
+     * @return 첫 페이지 요청이면 null
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ValidationException("INVALID_CURSOR", "잘못된 페이지 커서입니다");
+        }
+    }
+
+    public static LocalDateTime createdAtOf(PageCursor cursor) {
+        return cursor != null ? cursor.createdAt() : null;
+    }
+
+    public static Long idOf(PageCursor cursor) {
+        return cursor != null ? cursor.id() : null;
+    }
+}
@@ -2,12 +2,16 @@ package com.ecommerce.shared.dto;
 
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 @Getter
 public class PageResponse<T> {
 
+    // 전체 건수를 세지 않은 경우 totalElements, totalPages 값
+    public static final int UNKNOWN_TOTAL = -1;
+
     private final List<T> content;
     private final int pageNumber;
     private final int pageSize;
@@ -26,7 +30,24 @@ public class PageResponse<T> {
         this.last = page.isLast();
     }
 
+    private PageResponse(Slice<T> slice) {
+        this.content = slice.getContent();
+        this.pageNumber = slice.getNumber();
+        this.pageSize = slice.getSize();
+        this.totalElements = UNKNOWN_TOTAL;
+        this.totalPages = UNKNOWN_TOTAL;
+        this.first = slice.isFirst();
+        this.last = slice.isLast();
+    }
+
     public static <T> PageResponse<T> of(Page<T> page) {
         return new PageResponse<>(page);
     }
+
+    /**
+     * 전체 건수 없이 다음 페이지 여부(last)만 전달
+     */
+    public static <T> PageResponse<T> ofSlice(Slice<T> slice) {
+        return new PageResponse<>(slice);
+    }
 }
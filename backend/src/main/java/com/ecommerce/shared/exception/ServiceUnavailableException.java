@@ -0,0 +1,16 @@
+package com.ecommerce.shared.exception;
+
+/**
+ * 외부 시스템이 일시적으로 응답할 수 없을 때 발생하는 예외
+ * 요청 자체는 올바르므로 잠시 후 다시 시도할 수 있음
+ */
+public class ServiceUnavailableException extends BusinessException {
+
+    public ServiceUnavailableException(String errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public ServiceUnavailableException(String errorCode, String message, Throwable cause) {
+        super(errorCode, message, cause);
+    }
+}
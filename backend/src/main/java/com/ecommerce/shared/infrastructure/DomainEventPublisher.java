@@ -1,18 +1,36 @@
 package com.ecommerce.shared.infrastructure;
 
 import com.ecommerce.shared.domain.AggregateRoot;
+import com.ecommerce.shared.domain.DomainEvent;
+import com.ecommerce.shared.infrastructure.outbox.OutboxEventWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+/**
+ * 도메인 이벤트 발행
+ * 이벤트를 아웃박스에 기록하고, 실제 전달은 커밋 이후 OutboxRelay 가 담당
+ */
 @Component
 @RequiredArgsConstructor
 public class DomainEventPublisher {
 
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventWriter outboxEventWriter;
 
     public void publishEvents(AggregateRoot aggregate) {
-        aggregate.getDomainEvents().forEach(eventPublisher::publishEvent);
+        outboxEventWriter.append(
+                Hibernate.getClass(aggregate).getSimpleName(),
+                aggregate.getId(),
+                List.copyOf(aggregate.getDomainEvents()));
         aggregate.clearDomainEvents();
     }
+
+    /**
+     * Aggregate를 거치지 않는 단건 이벤트 발행 (벌크 연산 등)
+     */
+    public void publishEvent(DomainEvent event) {
+        outboxEventWriter.append(event.getClass().getSimpleName(), null, List.of(event));
+    }
 }
@@ -6,8 +6,8 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
- * 도메인 이벤트를 저장하고 추적하는 이벤트 스토어
- * (선택적 기능 - 이벤트 소싱이나 감사 로그에 활용 가능)
+ * 도메인 이벤트를 추적하는 이벤트 스토어
+ * 이벤트 저장은 아웃박스(outbox_events)가 담당하며, 여기서는 전달된 이벤트를 로깅
  */
 @Slf4j
 @Component
@@ -21,9 +21,5 @@ public class EventStore {
         log.info("Domain Event occurred: {} at {}",
                 event.getClass().getSimpleName(),
                 event.getOccurredOn());
-
-        // TODO: 이벤트를 데이터베이스에 저장하거나 외부 시스템으로 전송
-        // 예: eventRepository.save(event);
-        // 예: messageQueue.publish(event);
     }
 }
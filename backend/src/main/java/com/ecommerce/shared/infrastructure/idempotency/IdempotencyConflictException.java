@@ -0,0 +1,16 @@
+package com.ecommerce.shared.infrastructure.idempotency;
+
+import com.ecommerce.shared.exception.BusinessException;
+
+/**
+ * 같은 Idempotency-Key 로 다른 요청을 보냈거나, 같은 요청이 아직 처리 중일 때 발생하는 예외
+ */
+public class IdempotencyConflictException extends BusinessException {
+
+    public static final String KEY_REUSED = "IDEMPOTENCY_KEY_REUSED";
+    public static final String IN_PROGRESS = "IDEMPOTENCY_REQUEST_IN_PROGRESS";
+
+    public IdempotencyConflictException(String errorCode, String message) {
+        super(errorCode, message);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.shared.infrastructure.idempotency;
+
+import com.ecommerce.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 요청의 저장된 응답 Entity
+ * 같은 요청자와 Idempotency-Key 로 다시 요청하면 만료 전까지 이 응답을 그대로 돌려줌
+ */
+@Entity
+@Table(name = "idempotency_records",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_owner_key", columnNames = {"owner", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord extends BaseEntity {
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "response_status", nullable = false)
+    private int responseStatus;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public IdempotencyRecord(String owner, String idempotencyKey, String requestHash,
+                             IdempotentResponse response, LocalDateTime expiresAt) {
+        this.owner = owner;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.responseStatus = response.status();
+        this.contentType = response.contentType();
+        this.responseBody = new String(response.body(), StandardCharsets.UTF_8);
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public IdempotentResponse toResponse() {
+        byte[] body = responseBody != null ? responseBody.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        return new IdempotentResponse(responseStatus, contentType, body);
+    }
+}
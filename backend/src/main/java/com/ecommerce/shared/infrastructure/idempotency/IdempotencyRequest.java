@@ -0,0 +1,15 @@
+package com.ecommerce.shared.infrastructure.idempotency;
+
+/**
+ * 멱등 요청 식별 정보
+ *
+ * @param owner       요청자 (같은 키라도 요청자가 다르면 별개 요청)
+ * @param key         Idempotency-Key 헤더 값
+ * @param requestHash 메서드/경로/본문 해시 (같은 키로 다른 요청을 보냈는지 확인)
+ */
+public record IdempotencyRequest(String owner, String key, String requestHash) {
+
+    String storageKey() {
+        return owner + ":" + key;
+    }
+}
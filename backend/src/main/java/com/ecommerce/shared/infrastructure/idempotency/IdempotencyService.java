@@ -0,0 +1,190 @@
+package com.ecommerce.shared.infrastructure.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 멱등 요청 처리
+ * 같은 요청자와 Idempotency-Key 의 요청은 한 번만 실행하고, 이후 요청에는 그 응답을 다시 돌려줌
+ *
+ * - 처리 중인 요청과 같은 키로 동시에 들어온 요청은 실행하지 않고 먼저 들어온 요청의 응답을 기다림
+ * - 응답은 TTL 동안 DB 에 저장하며, 5xx 응답은 일시적 오류일 수 있으므로 저장하지 않음
+ * - 진행 중 목록은 인스턴스별 메모리이므로, 여러 인스턴스에서는 저장된 응답만 공유됨
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    private final JpaIdempotencyRecordRepository recordRepository;
+    private final Duration ttl;
+    private final long inFlightWaitMillis;
+
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+    private final Counter coalescedCounter;
+
+    public IdempotencyService(JpaIdempotencyRecordRepository recordRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${idempotency.in-flight-wait-ms:30000}") long inFlightWaitMillis) {
+        this.recordRepository = recordRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.inFlightWaitMillis = inFlightWaitMillis;
+
+        this.executedCounter = counter(meterRegistry, "executed");
+        this.replayedCounter = counter(meterRegistry, "replayed");
+        this.coalescedCounter = counter(meterRegistry, "coalesced");
+        Gauge.builder("idempotency.in-flight", inFlight, Map::size)
+                .description("처리 중인 멱등 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 멱등 요청 실행
+     *
+     * @param action 실제 요청 처리 (처리한 응답을 반환)
+     * @return 저장되었거나 동시에 처리된 응답을 재사용하면 그 응답, 직접 실행했으면 empty
+     */
+    public Optional<IdempotentResponse> execute(IdempotencyRequest request, ResponseAction action)
+            throws IOException, ServletException {
+        Optional<IdempotentResponse> stored = findStored(request);
+        if (stored.isPresent()) {
+            replayedCounter.increment();
+            return stored;
+        }
+
+        InFlight mine = new InFlight(request.requestHash(), new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(request.storageKey(), mine);
+        if (running != null) {
+            verifySameRequest(running.requestHash(), request);
+            coalescedCounter.increment();
+            return Optional.of(await(running.response()));
+        }
+
+        try {
+            // 진행 중 목록에 등록하기 전에 먼저 들어온 요청이 응답을 저장했을 수 있음
+            stored = findStored(request);
+            if (stored.isPresent()) {
+                mine.response().complete(stored.get());
+                replayedCounter.increment();
+                return stored;
+            }
+
+            IdempotentResponse response = action.execute();
+            if (response.status() < 500) {
+                save(request, response);
+            }
+            mine.response().complete(response);
+            executedCounter.increment();
+            return Optional.empty();
+        } catch (Throwable e) {
+            mine.response().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(request.storageKey(), mine);
+        }
+    }
+
+    /**
+     * 만료된 응답 정리
+     */
+    @Scheduled(cron = "${idempotency.cleanup-cron:0 30 4 * * *}")
+    public void cleanUp() {
+        int deleted = recordRepository.deleteExpiredBefore(LocalDateTime.now());
+        log.info("Idempotency records cleaned up: deleted={}", deleted);
+    }
+
+    private Optional<IdempotentResponse> findStored(IdempotencyRequest request) {
+        Optional<IdempotencyRecord> found = recordRepository.findByOwnerAndIdempotencyKey(request.owner(), request.key());
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IdempotencyRecord record = found.get();
+        if (record.isExpired(LocalDateTime.now())) {
+            recordRepository.delete(record);
+            return Optional.empty();
+        }
+        verifySameRequest(record.getRequestHash(), request);
+        return Optional.of(record.toResponse());
+    }
+
+    private void save(IdempotencyRequest request, IdempotentResponse response) {
+        try {
+            recordRepository.save(IdempotencyRecord.builder()
+                    .owner(request.owner())
+                    .idempotencyKey(request.key())
+                    .requestHash(request.requestHash())
+                    .response(response)
+                    .expiresAt(LocalDateTime.now().plus(ttl))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 키의 응답을 먼저 저장한 경우. 요청은 이미 처리되었으므로 응답은 그대로 반환
+            log.warn("멱등 요청 응답 저장 실패: key={}, error={}", request.storageKey(), e.getMessage());
+        }
+    }
+
+    private IdempotentResponse await(CompletableFuture<IdempotentResponse> response) {
+        try {
+            return response.get(inFlightWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException(IdempotencyConflictException.IN_PROGRESS,
+                    "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException(IdempotencyConflictException.IN_PROGRESS,
+                    "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("같은 키의 요청 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private static void verifySameRequest(String requestHash, IdempotencyRequest request) {
+        if (!requestHash.equals(request.requestHash())) {
+            throw new IdempotencyConflictException(IdempotencyConflictException.KEY_REUSED,
+                    "이미 다른 요청에 사용된 Idempotency-Key 입니다.");
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests")
+                .description("멱등 요청 처리 결과별 건수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실제 요청 처리
+     */
+    @FunctionalInterface
+    public interface ResponseAction {
+
+        IdempotentResponse execute() throws IOException, ServletException;
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<IdempotentResponse> response) {
+    }
+}
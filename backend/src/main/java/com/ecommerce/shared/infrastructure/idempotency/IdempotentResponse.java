@@ -0,0 +1,7 @@
+package com.ecommerce.shared.infrastructure.idempotency;
+
+/**
+ * 멱등 요청의 응답 (재사용을 위해 상태 코드와 본문만 보관)
+ */
+public record IdempotentResponse(int status, String contentType, byte[] body) {
+}
@@ -0,0 +1,52 @@
+package com.ecommerce.shared.infrastructure.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outbox JPA Repository
+ */
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전달할 차례인 미발행 이벤트 조회 (커서 기반, id 오름차순)
+     * 재시도 대기 중인 이벤트와, 같은 컨텍스트/Aggregate 의 앞선 이벤트가 재시도 대기 중인 이벤트는 제외
+     */
+    @Query("SELECT e FROM OutboxEvent e " +
+           "WHERE e.status = 'PENDING' AND e.id > :cursor AND e.attempts < :maxAttempts " +
+           "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) " +
+           "AND NOT EXISTS (SELECT 1 FROM OutboxEvent p " +
+           "                WHERE p.status = 'PENDING' AND p.consumer = e.consumer " +
+           "                AND p.aggregateType = e.aggregateType " +
+           "                AND p.aggregateId = e.aggregateId AND p.id < e.id AND p.nextAttemptAt > :now) " +
+           "ORDER BY e.id ASC")
+    List<OutboxEvent> findDueAfter(@Param("cursor") Long cursor,
+                                   @Param("maxAttempts") int maxAttempts,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+
+    @Query("SELECT MIN(e.occurredOn) FROM OutboxEvent e WHERE e.status = 'PENDING'")
+    Optional<LocalDateTime> findOldestPendingOccurredOn();
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.status = 'PENDING'")
+    long countPending();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = 'PUBLISHED', e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = 'PUBLISHED' AND e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
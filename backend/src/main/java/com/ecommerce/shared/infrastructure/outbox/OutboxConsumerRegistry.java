@@ -0,0 +1,100 @@
+package com.ecommerce.shared.infrastructure.outbox;
+
+import com.ecommerce.shared.domain.DomainEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.event.EventListenerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * 도메인 이벤트 리스너를 수신하는 바운디드 컨텍스트별로 보관
+ * 아웃박스는 이벤트를 컨텍스트별로 따로 기록하고, 릴레이는 해당 컨텍스트의 리스너만 호출
+ *
+ * - 도메인 이벤트를 받는 @EventListener 메서드를 만들 때 함께 등록 (EventListenerFactory)
+ * - 컨텍스트는 리스너 클래스 패키지의 com.ecommerce 바로 아래 이름 (예: notification, shipping)
+ */
+@Component
+public class OutboxConsumerRegistry implements EventListenerFactory, Ordered {
+
+    private static final String BASE_PACKAGE = "com.ecommerce.";
+
+    private final Map<String, List<ApplicationListenerMethodAdapter>> listenersByConsumer = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<String>> consumersByEventType = new ConcurrentHashMap<>();
+
+    /**
+     * 이벤트를 수신하는 컨텍스트 목록
+     */
+    public List<String> consumersOf(Class<? extends DomainEvent> eventType) {
+        return consumersByEventType.computeIfAbsent(eventType, type -> {
+            ResolvableType applicationEventType =
+                    ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, type);
+            List<String> consumers = new ArrayList<>();
+            listenersByConsumer.forEach((consumer, listeners) -> {
+                if (listeners.stream().anyMatch(listener -> listener.supportsEventType(applicationEventType))) {
+                    consumers.add(consumer);
+                }
+            });
+            consumers.sort(null);
+            return List.copyOf(consumers);
+        });
+    }
+
+    /**
+     * 한 컨텍스트의 리스너에만 이벤트 전달 (리스너 예외는 그대로 전파)
+     */
+    public void deliver(String consumer, DomainEvent event) {
+        PayloadApplicationEvent<DomainEvent> applicationEvent =
+                new PayloadApplicationEvent<>(this, event, ResolvableType.forInstance(event));
+        for (ApplicationListenerMethodAdapter listener : listenersByConsumer.getOrDefault(consumer, List.of())) {
+            if (listener.supportsEventType(applicationEvent.getResolvableType())) {
+                listener.onApplicationEvent(applicationEvent);
+            }
+        }
+    }
+
+    @Override
+    public boolean supportsMethod(Method method) {
+        EventListener annotation = AnnotatedElementUtils.findMergedAnnotation(method, EventListener.class);
+        Stream<Class<?>> eventTypes = annotation != null && annotation.classes().length > 0
+                ? Arrays.stream(annotation.classes())
+                : Arrays.stream(method.getParameterTypes());
+        return eventTypes.anyMatch(DomainEvent.class::isAssignableFrom);
+    }
+
+    @Override
+    public ApplicationListenerMethodAdapter createApplicationListener(String beanName, Class<?> type, Method method) {
+        ApplicationListenerMethodAdapter listener = new ApplicationListenerMethodAdapter(beanName, type, method);
+        listenersByConsumer.computeIfAbsent(consumerOf(type), consumer -> new CopyOnWriteArrayList<>()).add(listener);
+        consumersByEventType.clear();
+        return listener;
+    }
+
+    // 기본 리스너 팩토리(LOWEST_PRECEDENCE)보다 먼저, @TransactionalEventListener 팩토리보다는 나중에 적용
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    static String consumerOf(Class<?> listenerType) {
+        String packageName = listenerType.getPackageName();
+        if (!packageName.startsWith(BASE_PACKAGE)) {
+            return packageName;
+        }
+        String relative = packageName.substring(BASE_PACKAGE.length());
+        int end = relative.indexOf('.');
+        return end < 0 ? relative : relative.substring(0, end);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ecommerce.shared.infrastructure.outbox;
+
+import com.ecommerce.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 Entity
+ * Aggregate 와 같은 트랜잭션에서 저장되고, OutboxRelay 가 커밋 이후 이벤트 리스너로 전달
+ * 이벤트를 수신하는 바운디드 컨텍스트(consumer)마다 한 행
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_pending", columnList = "status, id"),
+        @Index(name = "idx_outbox_aggregate", columnList = "consumer, aggregate_type, aggregate_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+
+    @Column(nullable = false, length = 50)
+    private String consumer;
+
+    @Column(name = "aggregate_type", nullable = false, length = 100)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "occurred_on", nullable = false)
+    private LocalDateTime occurredOn;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Builder
+    public OutboxEvent(String consumer, String aggregateType, Long aggregateId, String eventType,
+                       String payload, LocalDateTime occurredOn) {
+        this.consumer = consumer;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredOn = occurredOn;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+    }
+
+    /**
+     * 전달 실패 기록
+     * 최대 시도 횟수에 도달하면 더 이상 재시도하지 않도록 DEAD 로 전환
+     *
+     * @param nextAttemptAt 이 시각 이후에 재시도
+     */
+    public void recordFailure(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        this.nextAttemptAt = nextAttemptAt;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.DEAD;
+        }
+    }
+
+    public boolean isDead() {
+        return this.status == OutboxStatus.DEAD;
+    }
+}
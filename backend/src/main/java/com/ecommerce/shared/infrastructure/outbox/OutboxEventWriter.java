@@ -0,0 +1,57 @@
+package com.ecommerce.shared.infrastructure.outbox;
+
+import com.ecommerce.shared.domain.DomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 도메인 이벤트를 아웃박스 테이블에 기록
+ * 호출한 서비스의 트랜잭션에 참여하므로 Aggregate 변경과 함께 커밋/롤백됨
+ *
+ * - 이벤트를 수신하는 바운디드 컨텍스트마다 한 행씩 기록하여 컨텍스트별로 따로 전달/재시도
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventWriter {
+
+    private final JpaOutboxEventRepository outboxEventRepository;
+    private final OutboxConsumerRegistry consumerRegistry;
+    private final ObjectMapper objectMapper;
+
+    public void append(String aggregateType, Long aggregateId, List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<OutboxEvent> outboxEvents = new ArrayList<>();
+        for (DomainEvent event : events) {
+            String payload = serialize(event);
+            for (String consumer : consumerRegistry.consumersOf(event.getClass())) {
+                outboxEvents.add(OutboxEvent.builder()
+                        .consumer(consumer)
+                        .aggregateType(aggregateType)
+                        .aggregateId(aggregateId)
+                        .eventType(event.getClass().getName())
+                        .payload(payload)
+                        .occurredOn(event.getOccurredOn())
+                        .build());
+            }
+        }
+
+        outboxEventRepository.saveAll(outboxEvents);
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            // 이벤트를 기록하지 못하면 Aggregate 변경도 롤백되어야 함
+            throw new IllegalStateException("도메인 이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.ecommerce.shared.infrastructure.outbox;
+
+import com.ecommerce.shared.config.AsyncConfig;
+import com.ecommerce.shared.config.SchedulingConfig;
+import com.ecommerce.shared.domain.DomainEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이
+ * 전달할 차례인 미발행 이벤트를 id 커서로 배치 조회하여 수신 컨텍스트의 @EventListener 핸들러로 전달
+ *
+ * - 이벤트는 수신 컨텍스트(consumer)별 행으로 기록되며, 각 행은 해당 컨텍스트의 핸들러에만 전달
+ * - 핸들러는 릴레이가 동기로 호출하며, 컨텍스트의 모든 핸들러가 끝난 행만 발행 완료로 표시
+ * - 같은 컨텍스트/Aggregate 의 이벤트는 id 순서대로 한 작업에서 전달하고, 앞선 이벤트가 실패하면 이번 주기에서 뒤 이벤트를 보류
+ * - 컨텍스트별 Executor 에서 병렬로 전달하므로 느리거나 실패하는 컨텍스트(알림 등)가 다른 컨텍스트(배송 등)를 막지 않음
+ * - 실패한 이벤트는 시도 횟수에 따라 대기 시간을 두 배씩 늘려 재시도 (최대 outbox.relay.backoff-max-ms)
+ * - 재시도 대기 중인 이벤트는 조회 단계에서 제외하므로, 대기 중인 이벤트가 쌓여도 새 이벤트 전달이 밀리지 않음
+ * - 최대 시도 횟수에 도달한 이벤트는 DEAD 로 전환하여 미발행 건수와 지연 시간 집계에서 제외
+ * - 핸들러 완료 후 발행 완료 표시 전에 종료되면 재전달될 수 있음 (at-least-once)
+ * - 단일 인스턴스에서 실행하는 것을 전제로 함
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    // 수신 컨텍스트별 전달 Executor (그 외는 기본 Executor)
+    private static final Map<String, String> EXECUTOR_BY_CONSUMER = Map.of(
+            "payment", AsyncConfig.PAYMENT_EXECUTOR,
+            "order", AsyncConfig.ORDER_EXECUTOR,
+            "shipping", AsyncConfig.SHIPPING_EXECUTOR,
+            "notification", AsyncConfig.NOTIFICATION_EXECUTOR);
+
+    private final JpaOutboxEventRepository outboxEventRepository;
+    private final OutboxConsumerRegistry consumerRegistry;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Executor> executors;
+
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final int maxAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+    private final long dispatchTimeoutMillis;
+    private final int retentionDays;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    public OutboxRelay(JpaOutboxEventRepository outboxEventRepository,
+                       OutboxConsumerRegistry consumerRegistry,
+                       ObjectMapper objectMapper,
+                       Map<String, Executor> executors,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.backoff-base-ms:1000}") long backoffBaseMillis,
+                       @Value("${outbox.relay.backoff-max-ms:600000}") long backoffMaxMillis,
+                       @Value("${outbox.relay.dispatch-timeout-ms:30000}") long dispatchTimeoutMillis,
+                       @Value("${outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.consumerRegistry = consumerRegistry;
+        // 이벤트 클래스는 기본 생성자가 없으므로 생성자 파라미터 이름으로 역직렬화
+        this.objectMapper = objectMapper.copy()
+                .setConstructorDetector(ConstructorDetector.USE_PROPERTIES_BASED);
+        this.executors = executors;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        this.dispatchTimeoutMillis = dispatchTimeoutMillis;
+        this.retentionDays = retentionDays;
+
+        this.publishedCounter = Counter.builder("outbox.relay.published")
+                .description("릴레이가 전달한 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed")
+                .description("릴레이 전달 실패 수")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("outbox.relay.dead")
+                .description("최대 시도 횟수를 넘겨 전달을 포기한 이벤트 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("배치 1회 전달 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("가장 오래된 미발행 이벤트의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.pending", pendingCount, AtomicLong::get)
+                .description("미발행 이벤트 수 (수신 컨텍스트별 행 기준)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 미발행 이벤트 전달
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}", scheduler = SchedulingConfig.OUTBOX_SCHEDULER)
+    public void relay() {
+        Set<String> blockedAggregates = new HashSet<>();
+        long cursor = 0L;
+
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<OutboxEvent> batch = outboxEventRepository.findDueAfter(
+                    cursor, maxAttempts, LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            batchTimer.record(() -> dispatch(batch, blockedAggregates));
+            cursor = batch.get(batch.size() - 1).getId();
+
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        updateLag();
+    }
+
+    /**
+     * 발행 완료된 이벤트 정리
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 0 4 * * *}")
+    public void cleanUp() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("Outbox cleaned up: deleted={}", deleted);
+    }
+
+    private void dispatch(List<OutboxEvent> batch, Set<String> blockedAggregates) {
+        // 컨텍스트/Aggregate 별로 묶어 순서를 유지 (이번 주기에 앞선 이벤트가 실패/보류된 묶음은 제외)
+        Map<String, List<OutboxEvent>> groups = new LinkedHashMap<>();
+        for (OutboxEvent outboxEvent : batch) {
+            String aggregateKey = aggregateKey(outboxEvent);
+            if (blockedAggregates.contains(aggregateKey)) {
+                continue;
+            }
+            groups.computeIfAbsent(aggregateKey, key -> new ArrayList<>()).add(outboxEvent);
+        }
+
+        Map<String, CompletableFuture<Delivery>> deliveries = new LinkedHashMap<>();
+        groups.forEach((aggregateKey, events) -> deliveries.put(aggregateKey, submit(events)));
+
+        List<Long> publishedIds = new ArrayList<>(batch.size());
+        deliveries.forEach((aggregateKey, future) -> {
+            List<OutboxEvent> events = groups.get(aggregateKey);
+            Delivery delivery = await(future, events.get(0));
+            publishedIds.addAll(delivery.publishedIds());
+
+            if (delivery.publishedIds().size() < events.size()) {
+                blockedAggregates.add(aggregateKey);
+            }
+            if (delivery.failed() != null) {
+                recordFailure(delivery.failed(), delivery.error());
+            }
+        });
+
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.markPublished(publishedIds, LocalDateTime.now());
+            publishedCounter.increment(publishedIds.size());
+        }
+    }
+
+    private CompletableFuture<Delivery> submit(List<OutboxEvent> events) {
+        try {
+            return CompletableFuture.supplyAsync(() -> deliver(events), executorFor(events.get(0)));
+        } catch (RejectedExecutionException e) {
+            // Executor 가 포화되면 다음 주기에 다시 전달 (실패로 기록하지 않음)
+            log.warn("Outbox dispatch deferred: consumer={}, aggregateType={}, events={}",
+                    events.get(0).getConsumer(), events.get(0).getAggregateType(), events.size());
+            return CompletableFuture.completedFuture(Delivery.deferred());
+        }
+    }
+
+    // 이벤트를 순서대로 핸들러에 전달하고, 실패하면 뒤 이벤트는 전달하지 않음
+    private Delivery deliver(List<OutboxEvent> events) {
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        for (OutboxEvent outboxEvent : events) {
+            try {
+                consumerRegistry.deliver(outboxEvent.getConsumer(), deserialize(outboxEvent));
+                publishedIds.add(outboxEvent.getId());
+            } catch (Exception e) {
+                return new Delivery(publishedIds, outboxEvent, e);
+            }
+        }
+        return new Delivery(publishedIds, null, null);
+    }
+
+    private Delivery await(CompletableFuture<Delivery> future, OutboxEvent first) {
+        try {
+            return future.get(dispatchTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 핸들러가 끝나지 않았으므로 발행 완료로 표시하지 않음 (늦게 끝나면 재전달될 수 있음)
+            return new Delivery(List.of(), first, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Delivery.deferred();
+        } catch (ExecutionException e) {
+            return new Delivery(List.of(), first, e.getCause());
+        }
+    }
+
+    private void recordFailure(OutboxEvent outboxEvent, Throwable error) {
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(outboxEvent.getAttempts() + 1));
+        String message = error instanceof TimeoutException ? "handler timeout" : String.valueOf(error.getMessage());
+        outboxEvent.recordFailure(message, nextAttemptAt, maxAttempts);
+        outboxEventRepository.save(outboxEvent);
+        failedCounter.increment();
+
+        if (outboxEvent.isDead()) {
+            deadCounter.increment();
+            log.error("Outbox event dead-lettered: id={}, consumer={}, type={}, attempts={}",
+                    outboxEvent.getId(), outboxEvent.getConsumer(), outboxEvent.getEventType(),
+                    outboxEvent.getAttempts(), error);
+            return;
+        }
+        log.warn("Outbox event dispatch failed: id={}, consumer={}, type={}, attempts={}, nextAttemptAt={}",
+                outboxEvent.getId(), outboxEvent.getConsumer(), outboxEvent.getEventType(),
+                outboxEvent.getAttempts(), nextAttemptAt, error);
+    }
+
+    // 시도 횟수에 따라 base, 2*base, 4*base ... (최대 backoffMax)
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        return Duration.ofMillis(Math.min(backoffBaseMillis << exponent, backoffMaxMillis));
+    }
+
+    private Executor executorFor(OutboxEvent outboxEvent) {
+        String executorName = EXECUTOR_BY_CONSUMER.getOrDefault(
+                outboxEvent.getConsumer(), AsyncConfig.DOMAIN_EVENT_EXECUTOR);
+        return executors.getOrDefault(executorName, executors.get(AsyncConfig.DOMAIN_EVENT_EXECUTOR));
+    }
+
+    private DomainEvent deserialize(OutboxEvent outboxEvent) throws Exception {
+        Class<?> eventType = Class.forName(outboxEvent.getEventType());
+        return (DomainEvent) objectMapper.readValue(outboxEvent.getPayload(), eventType);
+    }
+
+    // Aggregate 가 없는 이벤트는 단독으로 전달
+    private String aggregateKey(OutboxEvent outboxEvent) {
+        if (outboxEvent.getAggregateId() == null) {
+            return "event:" + outboxEvent.getId();
+        }
+        return outboxEvent.getConsumer() + ":" + outboxEvent.getAggregateType() + ":" + outboxEvent.getAggregateId();
+    }
+
+    private void updateLag() {
+        pendingCount.set(outboxEventRepository.countPending());
+        lagMillis.set(outboxEventRepository.findOldestPendingOccurredOn()
+                .map(oldest -> Duration.between(oldest, LocalDateTime.now()).toMillis())
+                .orElse(0L));
+    }
+
+    private record Delivery(List<Long> publishedIds, OutboxEvent failed, Throwable error) {
+
+        static Delivery deferred() {
+            return new Delivery(List.of(), null, null);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.shared.infrastructure.outbox;
+
+/**
+ * 아웃박스 이벤트 상태 Enum
+ */
+public enum OutboxStatus {
+
+    PENDING("발행 대기"),
+    PUBLISHED("발행 완료"),
+    DEAD("전달 포기");
+
+    private final String description;
+
+    OutboxStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
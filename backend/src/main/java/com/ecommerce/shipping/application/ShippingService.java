@@ -1,9 +1,13 @@
 package com.ecommerce.shipping.application;
 
+import com.ecommerce.customer.domain.CustomerSummary;
+import com.ecommerce.order.application.OrderCustomerHydrator;
+import com.ecommerce.order.domain.OrderRepository;
 import com.ecommerce.shared.dto.PageResponse;
 import com.ecommerce.shared.infrastructure.DomainEventPublisher;
 import com.ecommerce.shipping.domain.Shipping;
 import com.ecommerce.shipping.domain.ShippingAddress;
+import com.ecommerce.shipping.domain.ShippingOrderInfo;
 import com.ecommerce.shipping.domain.ShippingRepository;
 import com.ecommerce.shipping.domain.ShippingStatus;
 import com.ecommerce.shipping.dto.*;
@@ -17,6 +21,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+
 /**
  * Shipping 애플리케이션 서비스
  */
@@ -27,6 +32,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class ShippingService {
 
     private final ShippingRepository shippingRepository;
+    private final OrderRepository orderRepository;
+    private final OrderCustomerHydrator orderCustomerHydrator;
     private final DomainEventPublisher eventPublisher;
     private final ShippingMapper shippingMapper;
 
@@ -53,6 +60,7 @@ public class ShippingService {
         Shipping shipping = Shipping.builder()
                 .orderId(request.getOrderId())
                 .shippingAddress(address)
+                .orderInfo(loadOrderInfo(request.getOrderId()))
                 .shippingMemo(request.getShippingMemo())
                 .build();
 
@@ -185,4 +193,21 @@ public class ShippingService {
         log.info("배송 완료 처리 완료: shippingId={}", shippingId);
         return shippingMapper.toResponse(savedShipping);
     }
+
+    // 배송 이벤트에 담을 주문 고객 연락처와 상품 요약 (주문이 없으면 null)
+    private ShippingOrderInfo loadOrderInfo(Long orderId) {
+        return orderRepository.findById(orderId)
+                .map(order -> {
+                    CustomerSummary customer = orderCustomerHydrator.hydrate(order);
+                    return ShippingOrderInfo.builder()
+                            .orderNumber(order.getOrderNumber())
+                            .customerId(order.getCustomerId())
+                            .customerName(customer != null ? customer.name() : null)
+                            .customerEmail(customer != null ? customer.email() : null)
+                            .customerPhone(customer != null ? customer.phoneNumber() : null)
+                            .itemSummary(order.getItemSummary())
+                            .build();
+                })
+                .orElse(null);
+    }
 }
@@ -4,6 +4,7 @@ import com.ecommerce.shared.domain.AggregateRoot;
 import com.ecommerce.shipping.domain.event.ShippingDeliveredEvent;
 import com.ecommerce.shipping.domain.event.ShippingInTransitEvent;
 import com.ecommerce.shipping.domain.event.ShippingOutForDeliveryEvent;
+import com.ecommerce.shipping.domain.event.ShippingSnapshot;
 import com.ecommerce.shipping.domain.event.ShippingStartedEvent;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -42,6 +43,9 @@ public class Shipping extends AggregateRoot {
     @Embedded
     private ShippingAddress shippingAddress;
 
+    @Embedded
+    private ShippingOrderInfo orderInfo;
+
     @Column(name = "shipping_memo", columnDefinition = "TEXT")
     private String shippingMemo;
 
@@ -58,9 +62,10 @@ public class Shipping extends AggregateRoot {
     private LocalDateTime estimatedDeliveryDate;
 
     @Builder
-    public Shipping(Long orderId, ShippingAddress shippingAddress, String shippingMemo) {
+    public Shipping(Long orderId, ShippingAddress shippingAddress, ShippingOrderInfo orderInfo, String shippingMemo) {
         this.orderId = orderId;
         this.shippingAddress = shippingAddress;
+        this.orderInfo = orderInfo;
         this.shippingMemo = shippingMemo;
         this.shippingStatus = ShippingStatus.PENDING;
     }
@@ -79,7 +84,9 @@ public class Shipping extends AggregateRoot {
         registerEvent(new ShippingStartedEvent(
                 this.getId(),
                 this.orderId,
-                this.shippingCompany
+                this.shippingCompany,
+                this.trackingNumber,
+                toSnapshot()
         ));
     }
 
@@ -108,7 +115,8 @@ public class Shipping extends AggregateRoot {
         registerEvent(new ShippingInTransitEvent(
                 this.getId(),
                 this.orderId,
-                this.trackingNumber
+                this.trackingNumber,
+                toSnapshot()
         ));
     }
 
@@ -125,7 +133,8 @@ public class Shipping extends AggregateRoot {
                 this.getId(),
                 this.orderId,
                 this.trackingNumber,
-                this.shippingAddress.getRecipientName()
+                this.shippingAddress.getRecipientName(),
+                toSnapshot()
         ));
     }
 
@@ -143,7 +152,8 @@ public class Shipping extends AggregateRoot {
                 this.getId(),
                 this.orderId,
                 this.trackingNumber,
-                this.deliveredAt
+                this.deliveredAt,
+                toSnapshot()
         ));
     }
 
@@ -174,14 +184,14 @@ public class Shipping extends AggregateRoot {
         // 상태별 이벤트 발행
         switch (newStatus) {
             case IN_TRANSIT -> registerEvent(new ShippingInTransitEvent(
-                    this.getId(), this.orderId, this.trackingNumber));
+                    this.getId(), this.orderId, this.trackingNumber, toSnapshot()));
             case OUT_FOR_DELIVERY -> registerEvent(new ShippingOutForDeliveryEvent(
                     this.getId(), this.orderId, this.trackingNumber,
-                    this.shippingAddress.getRecipientName()));
+                    this.shippingAddress.getRecipientName(), toSnapshot()));
             case DELIVERED -> {
                 this.deliveredAt = LocalDateTime.now();
                 registerEvent(new ShippingDeliveredEvent(
-                        this.getId(), this.orderId, this.trackingNumber, this.deliveredAt));
+                        this.getId(), this.orderId, this.trackingNumber, this.deliveredAt, toSnapshot()));
             }
         }
     }
@@ -199,4 +209,22 @@ public class Shipping extends AggregateRoot {
     public boolean isDelivered() {
         return this.shippingStatus.isDelivered();
     }
+
+    // 이벤트에 담을 배송 정보 (주문 정보 없이 생성된 배송이면 해당 항목은 null)
+    private ShippingSnapshot toSnapshot() {
+        ShippingAddress address = this.shippingAddress;
+        ShippingOrderInfo info = this.orderInfo;
+        return new ShippingSnapshot(
+                info != null ? info.getOrderNumber() : null,
+                info != null ? info.getCustomerId() : null,
+                info != null ? info.getCustomerName() : null,
+                info != null ? info.getCustomerEmail() : null,
+                info != null ? info.getCustomerPhone() : null,
+                address != null ? address.getRecipientName() : null,
+                address != null ? address.getRecipientPhone() : null,
+                address != null ? address.getPostalCode() : null,
+                address != null ? address.getAddress() : null,
+                address != null ? address.getAddressDetail() : null,
+                info != null ? info.getItemSummary() : null);
+    }
 }
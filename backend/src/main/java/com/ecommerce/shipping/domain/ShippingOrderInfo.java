@@ -0,0 +1,50 @@
+package com.ecommerce.shipping.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배송 대상 주문 정보 Value Object
+ * 배송 생성 시점의 주문 고객 연락처와 상품 요약을 보관하여 배송 이벤트에 함께 담음
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShippingOrderInfo {
+
+    private static final int MAX_ITEM_SUMMARY_LENGTH = 255;
+
+    @Column(name = "order_number", length = 50)
+    private String orderNumber;
+
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(name = "customer_name", length = 100)
+    private String customerName;
+
+    @Column(name = "customer_email")
+    private String customerEmail;
+
+    @Column(name = "customer_phone", length = 20)
+    private String customerPhone;
+
+    @Column(name = "item_summary")
+    private String itemSummary;
+
+    @Builder
+    public ShippingOrderInfo(String orderNumber, Long customerId, String customerName,
+                             String customerEmail, String customerPhone, String itemSummary) {
+        this.orderNumber = orderNumber;
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.customerPhone = customerPhone;
+        this.itemSummary = itemSummary != null && itemSummary.length() > MAX_ITEM_SUMMARY_LENGTH
+                ? itemSummary.substring(0, MAX_ITEM_SUMMARY_LENGTH) : itemSummary;
+    }
+}
@@ -15,13 +15,16 @@ public class ShippingDeliveredEvent extends BaseDomainEvent {
     private final Long orderId;
     private final String trackingNumber;
     private final LocalDateTime deliveredAt;
+    private final ShippingSnapshot snapshot;
 
     public ShippingDeliveredEvent(Long shippingId, Long orderId,
-                                   String trackingNumber, LocalDateTime deliveredAt) {
+                                   String trackingNumber, LocalDateTime deliveredAt,
+                                   ShippingSnapshot snapshot) {
         super();
         this.shippingId = shippingId;
         this.orderId = orderId;
         this.trackingNumber = trackingNumber;
         this.deliveredAt = deliveredAt;
+        this.snapshot = snapshot;
     }
 }
@@ -12,11 +12,14 @@ public class ShippingInTransitEvent extends BaseDomainEvent {
     private final Long shippingId;
     private final Long orderId;
     private final String trackingNumber;
+    private final ShippingSnapshot snapshot;
 
-    public ShippingInTransitEvent(Long shippingId, Long orderId, String trackingNumber) {
+    public ShippingInTransitEvent(Long shippingId, Long orderId, String trackingNumber,
+                                  ShippingSnapshot snapshot) {
         super();
         this.shippingId = shippingId;
         this.orderId = orderId;
         this.trackingNumber = trackingNumber;
+        this.snapshot = snapshot;
     }
 }
@@ -13,13 +13,16 @@ public class ShippingOutForDeliveryEvent extends BaseDomainEvent {
     private final Long orderId;
     private final String trackingNumber;
     private final String recipientName;
+    private final ShippingSnapshot snapshot;
 
     public ShippingOutForDeliveryEvent(Long shippingId, Long orderId,
-                                        String trackingNumber, String recipientName) {
+                                        String trackingNumber, String recipientName,
+                                        ShippingSnapshot snapshot) {
         super();
         this.shippingId = shippingId;
         this.orderId = orderId;
         this.trackingNumber = trackingNumber;
         this.recipientName = recipientName;
+        this.snapshot = snapshot;
     }
 }
@@ -0,0 +1,20 @@
+package com.ecommerce.shipping.domain.event;
+
+/**
+ * 이벤트 발생 시점의 배송 정보 (불변)
+ * 이벤트를 받는 쪽이 주문/고객/배송을 다시 조회하지 않고 알림을 보낼 수 있도록 수령인, 주소, 고객 연락처, 상품 요약을 담음
+ */
+public record ShippingSnapshot(
+        String orderNumber,
+        Long customerId,
+        String customerName,
+        String customerEmail,
+        String customerPhone,
+        String recipientName,
+        String recipientPhone,
+        String postalCode,
+        String address,
+        String addressDetail,
+        String itemSummary
+) {
+}
@@ -12,11 +12,16 @@ public class ShippingStartedEvent extends BaseDomainEvent {
     private final Long shippingId;
     private final Long orderId;
     private final String shippingCompany;
+    private final String trackingNumber;
+    private final ShippingSnapshot snapshot;
 
-    public ShippingStartedEvent(Long shippingId, Long orderId, String shippingCompany) {
+    public ShippingStartedEvent(Long shippingId, Long orderId, String shippingCompany,
+                                String trackingNumber, ShippingSnapshot snapshot) {
         super();
         this.shippingId = shippingId;
         this.orderId = orderId;
         this.shippingCompany = shippingCompany;
+        this.trackingNumber = trackingNumber;
+        this.snapshot = snapshot;
     }
 }
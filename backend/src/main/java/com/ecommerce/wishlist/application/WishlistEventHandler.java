@@ -8,7 +8,6 @@ import com.ecommerce.wishlist.domain.event.WishlistItemRemovedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -26,7 +25,6 @@ public class WishlistEventHandler {
     /**
      * 찜 아이템 추가 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleWishlistItemAdded(WishlistItemAddedEvent event) {
         log.info("찜 아이템 추가됨 - 고객ID: {}, 상품ID: {}, 상품명: {}",
@@ -38,7 +36,6 @@ public class WishlistEventHandler {
     /**
      * 찜 아이템 삭제 이벤트 처리
      */
-    @Async
     @EventListener
     public void handleWishlistItemRemoved(WishlistItemRemovedEvent event) {
         log.info("찜 아이템 삭제됨 - 고객ID: {}, 상품ID: {}",
@@ -49,7 +46,6 @@ public class WishlistEventHandler {
     /**
      * 상품 재고 변경 이벤트 처리 - 재입고 알림
      */
-    @Async
     @EventListener
     public void handleProductStockChanged(ProductStockChangedEvent event) {
         // 재고가 양수인 경우 (재입고 가능성)
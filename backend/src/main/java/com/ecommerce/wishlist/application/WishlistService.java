@@ -3,6 +3,7 @@ package com.ecommerce.wishlist.application;
 import com.ecommerce.product.domain.Product;
 import com.ecommerce.product.domain.ProductRepository;
 import com.ecommerce.product.exception.ProductNotFoundException;
+import com.ecommerce.shared.infrastructure.DomainEventPublisher;
 import com.ecommerce.wishlist.domain.Wishlist;
 import com.ecommerce.wishlist.domain.WishlistItem;
 import com.ecommerce.wishlist.domain.WishlistRepository;
@@ -13,7 +14,6 @@ import com.ecommerce.wishlist.dto.WishlistResponse;
 import com.ecommerce.wishlist.exception.WishlistItemNotFoundException;
 import com.ecommerce.wishlist.exception.WishlistNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +30,7 @@ public class WishlistService {
     private final WishlistRepository wishlistRepository;
     private final ProductRepository productRepository;
     private final WishlistMapper wishlistMapper;
-    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * 내 찜 목록 조회
@@ -72,8 +72,7 @@ public class WishlistService {
         Wishlist savedWishlist = wishlistRepository.save(wishlist);
 
         // 도메인 이벤트 발행
-        savedWishlist.getDomainEvents().forEach(eventPublisher::publishEvent);
-        savedWishlist.clearDomainEvents();
+        eventPublisher.publishEvents(savedWishlist);
 
         return wishlistMapper.toWishlistItemResponse(item, product);
     }
@@ -90,8 +89,7 @@ public class WishlistService {
 
         Wishlist savedWishlist = wishlistRepository.save(wishlist);
 
-        savedWishlist.getDomainEvents().forEach(eventPublisher::publishEvent);
-        savedWishlist.clearDomainEvents();
+        eventPublisher.publishEvents(savedWishlist);
     }
 
     /**
@@ -106,8 +104,7 @@ public class WishlistService {
 
         Wishlist savedWishlist = wishlistRepository.save(wishlist);
 
-        savedWishlist.getDomainEvents().forEach(eventPublisher::publishEvent);
-        savedWishlist.clearDomainEvents();
+        eventPublisher.publishEvents(savedWishlist);
     }
 
     /**
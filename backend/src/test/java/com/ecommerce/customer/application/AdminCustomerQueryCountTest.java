@@ -0,0 +1,102 @@
+package com.ecommerce.customer.application;
+
+import com.ecommerce.customer.domain.Customer;
+import com.ecommerce.customer.dto.AdminCustomerListResponse;
+import com.ecommerce.customer.dto.AdminCustomerSearchRequest;
+import com.ecommerce.customer.infrastructure.persistence.CustomerRepositoryImpl;
+import com.ecommerce.order.domain.Order;
+import com.ecommerce.order.infrastructure.persistence.OrderRepositoryImpl;
+import com.ecommerce.shared.config.JpaAuditingConfig;
+import com.ecommerce.shared.dto.PageResponse;
+import com.ecommerce.shared.infrastructure.DomainEventPublisher;
+import com.ecommerce.shared.support.QueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({CustomerService.class, CustomerMapper.class,
+        CustomerRepositoryImpl.class, OrderRepositoryImpl.class, JpaAuditingConfig.class})
+@DisplayName("관리자 고객 목록 쿼리 수 테스트")
+class AdminCustomerQueryCountTest {
+
+    private static final int CUSTOMER_COUNT = 30;
+
+    // 고객 목록 + COUNT + 주문 수 GROUP BY
+    private static final long MAX_LIST_QUERIES = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        // i 번째 고객은 i % 4 건 주문
+        for (int i = 0; i < CUSTOMER_COUNT; i++) {
+            Customer customer = Customer.builder()
+                    .email("customer" + i + "@test.com")
+                    .password("password")
+                    .name("고객" + i)
+                    .build();
+            entityManager.persist(customer);
+            for (int j = 0; j < i % 4; j++) {
+                entityManager.persist(Order.builder()
+                        .customerId(customer.getId())
+                        .recipientName("수령인")
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        queryCounter = QueryCounter.of(entityManager);
+    }
+
+    @Test
+    @DisplayName("고객 목록의 주문 수를 페이지 크기와 관계없이 같은 수의 쿼리로 조회한다")
+    void getAllCustomersCountsOrdersInOneQuery() {
+        // given
+        AdminCustomerSearchRequest smallPage = request(5);
+        AdminCustomerSearchRequest largePage = request(20);
+
+        // when
+        long smallCount = queryCounter.count(() -> customerService.getAllCustomers(smallPage));
+        entityManager.clear();
+        QueryCounter.Measured<PageResponse<AdminCustomerListResponse>> large =
+                queryCounter.measure(() -> customerService.getAllCustomers(largePage));
+
+        // then
+        assertThat(large.queryCount()).isEqualTo(smallCount)
+                .isLessThanOrEqualTo(MAX_LIST_QUERIES);
+
+        assertThat(large.result().getContent()).hasSize(20)
+                .allSatisfy(customer -> assertThat(customer.getOrderCount()).isEqualTo(indexOf(customer) % 4));
+    }
+
+    private int indexOf(AdminCustomerListResponse customer) {
+        return Integer.parseInt(customer.getName().substring("고객".length()));
+    }
+
+    private AdminCustomerSearchRequest request(int size) {
+        AdminCustomerSearchRequest request = new AdminCustomerSearchRequest();
+        request.setSize(size);
+        return request;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ecommerce.customer.infrastructure.security;
+
+import com.ecommerce.customer.domain.CustomerRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 인증 필터 벤치마크
+ * 검증 토큰 캐시 없이 요청마다 토큰을 파싱하는 필터와 검증 토큰 캐시를 사용하는 필터를 비교
+ *
+ * 기본 테스트에서는 제외되며, ./gradlew benchmark 로 실행하고 아래 시스템 프로퍼티로 크기 조절
+ * -Dbenchmark.jwt.tokens=1000 -Dbenchmark.jwt.requests=1000000
+ */
+@Tag("benchmark")
+@DisplayName("JWT 인증 필터 벤치마크")
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final String SECRET =
+            "dGhpc2lzYXZlcnlsb25nc2VjcmV0a2V5Zm9yand0dG9rZW5nZW5lcmF0aW9uYW5kdmFsaWRhdGlvbjEyMzQ1Njc4OTA=";
+
+    private static final int TOKENS = Integer.getInteger("benchmark.jwt.tokens", 100);
+    private static final int REQUESTS = Integer.getInteger("benchmark.jwt.requests", 10_000);
+    private static final int WARMUP = Integer.getInteger("benchmark.jwt.warmup", 2_000);
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("검증 토큰 캐시를 사용한 필터는 매번 파싱하는 필터와 같은 인증 정보를 더 빨리 만든다")
+    void cachedFilterIsFasterThanParsingEveryRequest() throws Exception {
+        // given
+        List<String> tokens = new ArrayList<>(TOKENS);
+        for (long i = 1; i <= TOKENS; i++) {
+            tokens.add(jwtTokenProvider.createAccessToken(i, "user" + i + "@test.com", CustomerRole.CUSTOMER));
+        }
+        // 최대 개수 0 이면 저장 즉시 정리되어 매 요청 파싱
+        JwtAuthenticationFilter uncachedFilter = new JwtAuthenticationFilter(jwtTokenProvider, new VerifiedTokenCache(0));
+        JwtAuthenticationFilter cachedFilter = new JwtAuthenticationFilter(jwtTokenProvider, new VerifiedTokenCache(TOKENS));
+
+        for (int i = 0; i < WARMUP; i++) {
+            String token = tokens.get(i % TOKENS);
+            doFilter(uncachedFilter, token);
+            doFilter(cachedFilter, token);
+        }
+
+        // when
+        long uncachedNanos = 0;
+        long cachedNanos = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            String token = tokens.get(i % TOKENS);
+
+            long start = System.nanoTime();
+            CustomUserPrincipal expected = doFilter(uncachedFilter, token);
+            uncachedNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            CustomUserPrincipal actual = doFilter(cachedFilter, token);
+            cachedNanos += System.nanoTime() - start;
+
+            // then
+            assertThat(actual.getCustomerId()).isEqualTo(expected.getCustomerId());
+            assertThat(actual.getEmail()).isEqualTo(expected.getEmail());
+            assertThat(actual.getRole()).isEqualTo(expected.getRole());
+        }
+
+        assertThat(cachedNanos).isLessThan(uncachedNanos);
+    }
+
+    private CustomUserPrincipal doFilter(JwtAuthenticationFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return (CustomUserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+}
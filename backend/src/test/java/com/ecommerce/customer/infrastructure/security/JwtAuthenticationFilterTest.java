@@ -0,0 +1,123 @@
+package com.ecommerce.customer.infrastructure.security;
+
+import com.ecommerce.customer.domain.CustomerRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("JwtAuthenticationFilter 테스트")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET =
+            "dGhpc2lzYXZlcnlsb25nc2VjcmV0a2V5Zm9yand0dG9rZW5nZW5lcmF0aW9uYW5kdmFsaWRhdGlvbjEyMzQ1Njc4OTA=";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = spy(new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L));
+        verifiedTokenCache = new VerifiedTokenCache(100);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 반복 요청하면 서명 검증은 최초 1회만 실행된다")
+    void verifiesTokenOnce() throws Exception {
+        // given
+        String token = jwtTokenProvider.createAccessToken(1L, "user@test.com", CustomerRole.ADMIN);
+
+        // when
+        Authentication authentication = null;
+        for (int i = 0; i < 100; i++) {
+            authentication = doFilter(token);
+        }
+
+        // then
+        verify(jwtTokenProvider, times(1)).parseToken(anyString());
+        assertThat(authentication).isNotNull();
+        CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
+        assertThat(principal.getCustomerId()).isEqualTo(1L);
+        assertThat(principal.getEmail()).isEqualTo("user@test.com");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("Refresh Token 이나 서명이 잘못된 토큰으로는 인증하지 않는다")
+    void rejectsRefreshAndTamperedTokens() throws Exception {
+        // given
+        String refreshToken = jwtTokenProvider.createRefreshToken(1L, "user@test.com");
+        String accessToken = jwtTokenProvider.createAccessToken(1L, "user@test.com", CustomerRole.CUSTOMER);
+        String tampered = accessToken.substring(0, accessToken.length() - 2)
+                + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThat(doFilter(refreshToken)).isNull();
+        assertThat(doFilter(tampered)).isNull();
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 캐시에서 사용하지 않는다")
+    void expiredEntriesAreIgnored() {
+        // given
+        CustomUserPrincipal principal = new CustomUserPrincipal(1L, "user@test.com", "CUSTOMER");
+
+        // when
+        verifiedTokenCache.put("expired", principal, Instant.now().minusSeconds(1));
+        verifiedTokenCache.put("valid", principal, Instant.now().plusSeconds(60));
+
+        // then
+        assertThat(verifiedTokenCache.get("expired")).isNull();
+        assertThat(verifiedTokenCache.get("valid")).isSameAs(principal);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 만료가 가까운 토큰부터 제거한다")
+    void trimsEntriesClosestToExpiry() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        CustomUserPrincipal principal = new CustomUserPrincipal(1L, "user@test.com", "CUSTOMER");
+        for (int i = 1; i <= 10; i++) {
+            cache.put("token" + i, principal, Instant.now().plusSeconds(60L * i));
+        }
+
+        // when
+        cache.put("token11", principal, Instant.now().plusSeconds(3_600));
+
+        // then
+        assertThat(cache.size()).isEqualTo(9);
+        assertThat(cache.get("token1")).isNull();
+        assertThat(cache.get("token2")).isNull();
+        assertThat(cache.get("token10")).isSameAs(principal);
+        assertThat(cache.get("token11")).isSameAs(principal);
+    }
+
+    private Authentication doFilter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecommerce.notification.application;
+
+import com.ecommerce.customer.domain.CustomerRepository;
+import com.ecommerce.notification.domain.NotificationChannel;
+import com.ecommerce.notification.domain.NotificationType;
+import com.ecommerce.order.domain.OrderRepository;
+import com.ecommerce.order.domain.event.OrderConfirmedEvent;
+import com.ecommerce.order.domain.event.OrderSnapshot;
+import com.ecommerce.shipping.domain.event.ShippingDeliveredEvent;
+import com.ecommerce.shipping.domain.event.ShippingSnapshot;
+import com.ecommerce.shipping.domain.event.ShippingStartedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("NotificationEventHandler 테스트")
+@ExtendWith(MockitoExtension.class)
+class NotificationEventHandlerTest {
+
+    private static final ShippingSnapshot SNAPSHOT = new ShippingSnapshot(
+            "ORD-1", 7L, "구매자", "buyer@test.com", "010-9999-8888",
+            "수령인", "010-1234-5678", "12345", "서울시 강남구", "101호", "상품A 외 1건");
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private NotificationEventHandler notificationEventHandler;
+
+    @Test
+    @DisplayName("배송 시작 알림은 이벤트 스냅샷의 연락처로 발송하고 주문/고객을 조회하지 않는다")
+    void shippingStartedUsesSnapshot() {
+        // when
+        notificationEventHandler.handleShippingStarted(
+                new ShippingStartedEvent(1L, 2L, "CJ대한통운", "123456789", SNAPSHOT));
+
+        // then
+        verify(notificationService).sendNotification(eq(7L), eq(NotificationType.SHIPPING_STARTED),
+                eq(NotificationChannel.IN_APP), any(), contains("123456789"), isNull(), eq(1L), eq("SHIPPING"));
+        verify(notificationService).sendNotification(eq(7L), eq(NotificationType.SHIPPING_STARTED),
+                eq(NotificationChannel.SMS), any(), any(), eq("010-9999-8888"), eq(1L), eq("SHIPPING"));
+        verifyNoInteractions(orderRepository, customerRepository);
+    }
+
+    @Test
+    @DisplayName("배송 완료 알림은 주문을 조회하지 않는다")
+    void shippingDeliveredUsesSnapshot() {
+        // when
+        notificationEventHandler.handleShippingDelivered(
+                new ShippingDeliveredEvent(1L, 2L, "123456789", LocalDateTime.now(), SNAPSHOT));
+
+        // then
+        verify(notificationService).sendNotification(eq(7L), eq(NotificationType.SHIPPING_DELIVERED),
+                eq(NotificationChannel.IN_APP), any(), any(), isNull(), eq(1L), eq("SHIPPING"));
+        verifyNoInteractions(orderRepository, customerRepository);
+    }
+
+    @Test
+    @DisplayName("주문 확인 시 고객 이메일이 없으면 이메일 없이 인앱 알림만 보낸다")
+    void orderConfirmedSkipsEmailWithoutAddress() {
+        // given
+        OrderSnapshot snapshot = new OrderSnapshot("ORD-1", new OrderSnapshot.Customer(7L, null, null, null),
+                "수령인", "010-1234-5678", "12345", "서울시 강남구", "101호", null,
+                List.of(new OrderSnapshot.Item(3L, "상품A", 1)), BigDecimal.valueOf(10_000));
+
+        // when
+        notificationEventHandler.handleOrderConfirmed(new OrderConfirmedEvent(1L, "ORD-1", 7L, 2L, snapshot));
+
+        // then
+        verify(notificationService).sendNotification(eq(7L), eq(NotificationType.ORDER_CONFIRMED),
+                eq(NotificationChannel.IN_APP), any(), any(), isNull(), eq(1L), eq("ORDER"));
+        verify(notificationService, never()).sendNotification(any(), any(), eq(NotificationChannel.EMAIL),
+                any(), any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecommerce.notification.application;
+
+import com.ecommerce.notification.domain.Notification;
+import com.ecommerce.notification.domain.NotificationChannel;
+import com.ecommerce.notification.domain.NotificationRepository;
+import com.ecommerce.notification.domain.NotificationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("NotificationRetryScheduler 테스트")
+@ExtendWith(MockitoExtension.class)
+class NotificationRetrySchedulerTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private NotificationRetryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new NotificationRetryScheduler(notificationRepository, notificationDispatcher,
+                Runnable::run, taskScheduler, 200, 4, 300_000);
+    }
+
+    @Test
+    @DisplayName("관리자 재발송 요청은 요청 스레드에서 실행하지 않고, 진행 중이면 다시 시작하지 않는다")
+    void requestSweepRunsInBackgroundOnce() {
+        // given
+        given(notificationRepository.findRetryableAfter(anyLong(), any(), anyInt())).willReturn(List.of());
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+
+        // when
+        boolean first = scheduler.requestSweep();
+        boolean second = scheduler.requestSweep();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(scheduler.retryDueNotifications()).isZero();
+        verifyNoInteractions(notificationRepository);
+
+        verify(taskScheduler).schedule(task.capture(), any(Instant.class));
+        task.getValue().run();
+        assertThat(scheduler.requestSweep()).isTrue();
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("발송 대기/발송 중 상태로 오래 남은 알림을 다시 발송한다")
+    void redispatchesStalledNotifications() {
+        // given
+        Notification stalled = Notification.builder()
+                .customerId(1L)
+                .notificationType(NotificationType.ORDER_PLACED)
+                .channel(NotificationChannel.EMAIL)
+                .title("주문 완료")
+                .content("내용")
+                .build();
+        ReflectionTestUtils.setField(stalled, "id", 10L);
+        given(notificationRepository.findRetryableAfter(anyLong(), any(), anyInt())).willReturn(List.of());
+        given(notificationRepository.findStalledAfter(eq(0L), any(), anyInt())).willReturn(List.of(stalled));
+
+        // when
+        int count = scheduler.retryDueNotifications();
+
+        // then
+        ArgumentCaptor<LocalDateTime> stalledBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationRepository).findStalledAfter(eq(0L), stalledBefore.capture(), anyInt());
+        assertThat(stalledBefore.getValue()).isBefore(LocalDateTime.now().minusMinutes(4));
+        assertThat(count).isEqualTo(1);
+        verify(notificationDispatcher).redispatch(Map.of(10L, stalled));
+    }
+}
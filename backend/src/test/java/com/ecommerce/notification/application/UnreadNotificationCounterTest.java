@@ -0,0 +1,84 @@
+package com.ecommerce.notification.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UnreadNotificationCounter 테스트")
+class UnreadNotificationCounterTest {
+
+    @Test
+    @DisplayName("반복 폴링 시 DB 조회는 최초 1회만 실행된다")
+    void pollingHitsDatabaseOnce() {
+        // given
+        UnreadNotificationCounter counter = new UnreadNotificationCounter(100, 300);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            counter.get(1L, () -> {
+                loads.incrementAndGet();
+                return 3;
+            });
+        }
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(counter.get(1L, () -> 0)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("발송/읽음/전체 읽음 시 캐시된 개수가 증감된다")
+    void incrementalUpdates() {
+        // given
+        UnreadNotificationCounter counter = new UnreadNotificationCounter(100, 300);
+        counter.get(1L, () -> 2);
+
+        // when & then
+        counter.increment(1L);
+        assertThat(counter.get(1L, () -> -1)).isEqualTo(3);
+
+        counter.decrement(1L);
+        assertThat(counter.get(1L, () -> -1)).isEqualTo(2);
+
+        counter.reset(1L);
+        assertThat(counter.get(1L, () -> -1)).isZero();
+
+        counter.decrement(1L);
+        assertThat(counter.get(1L, () -> -1)).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 고객의 증감은 무시되고 다음 조회 시 DB 값을 사용한다")
+    void missIgnoresUpdates() {
+        // given
+        UnreadNotificationCounter counter = new UnreadNotificationCounter(100, 300);
+
+        // when
+        counter.increment(1L);
+
+        // then
+        assertThat(counter.get(1L, () -> 5)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 조회되지 않은 고객이 제거된다")
+    void evictsLeastRecentlyUsed() {
+        // given
+        UnreadNotificationCounter counter = new UnreadNotificationCounter(2, 300);
+        counter.get(1L, () -> 1);
+        counter.get(2L, () -> 2);
+        counter.get(1L, () -> -1);
+
+        // when
+        counter.get(3L, () -> 3);
+
+        // then
+        assertThat(counter.size()).isEqualTo(2);
+        assertThat(counter.get(1L, () -> -1)).isEqualTo(1);
+        assertThat(counter.get(2L, () -> 20)).isEqualTo(20);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.notification.infrastructure.persistence;
+
+import com.ecommerce.notification.domain.Notification;
+import com.ecommerce.notification.domain.NotificationChannel;
+import com.ecommerce.notification.domain.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NotificationJdbcRepository 테스트")
+class NotificationJdbcRepositoryTest {
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private NotificationJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE notifications (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "customer_id BIGINT NOT NULL, " +
+                "notification_type VARCHAR(50) NOT NULL, " +
+                "channel VARCHAR(30) NOT NULL, " +
+                "title VARCHAR(255) NOT NULL, " +
+                "content TEXT NOT NULL, " +
+                "recipient VARCHAR(255), " +
+                "status VARCHAR(30) NOT NULL, " +
+                "sent_at TIMESTAMP, " +
+                "read_at TIMESTAMP, " +
+                "failed_reason VARCHAR(255), " +
+                "reference_id BIGINT, " +
+                "reference_type VARCHAR(50), " +
+                "retry_count INT NOT NULL, " +
+                "next_retry_at TIMESTAMP, " +
+                "created_at TIMESTAMP NOT NULL, " +
+                "updated_at TIMESTAMP NOT NULL)");
+        repository = new NotificationJdbcRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("일괄 저장 시 입력 순서대로 생성된 ID를 반환한다")
+    void insertAllReturnsIdsInOrder() {
+        // given
+        List<Notification> notifications = List.of(
+                notification(1L, NotificationChannel.IN_APP),
+                notification(2L, NotificationChannel.EMAIL),
+                notification(3L, NotificationChannel.SMS));
+
+        // when
+        List<Long> ids = repository.insertAll(notifications);
+
+        // then
+        assertThat(ids).hasSize(3);
+        for (int i = 0; i < ids.size(); i++) {
+            Long customerId = jdbcTemplate.queryForObject(
+                    "SELECT customer_id FROM notifications WHERE id = ?", Long.class, ids.get(i));
+            assertThat(customerId).isEqualTo(notifications.get(i).getCustomerId());
+        }
+    }
+
+    @Test
+    @DisplayName("발송 결과를 일괄 반영한다")
+    void updateResults() {
+        // given
+        Notification sent = notification(1L, NotificationChannel.IN_APP);
+        Notification failed = notification(2L, NotificationChannel.EMAIL);
+        List<Long> ids = repository.insertAll(List.of(sent, failed));
+
+        sent.markAsSent();
+        failed.markAsFailed("발송 실패");
+        Map<Long, Notification> results = new LinkedHashMap<>();
+        results.put(ids.get(0), sent);
+        results.put(ids.get(1), failed);
+
+        // when
+        repository.updateResults(results);
+
+        // then
+        assertThat(statusOf(ids.get(0))).isEqualTo("SENT");
+        assertThat(statusOf(ids.get(1))).isEqualTo("FAILED");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT retry_count FROM notifications WHERE id = ?", Integer.class, ids.get(1))).isEqualTo(1);
+    }
+
+    private Notification notification(Long customerId, NotificationChannel channel) {
+        return Notification.builder()
+                .customerId(customerId)
+                .notificationType(NotificationType.ORDER_PLACED)
+                .channel(channel)
+                .title("주문이 접수되었습니다")
+                .content("주문 접수 알림")
+                .referenceId(100L)
+                .referenceType("ORDER")
+                .build();
+    }
+
+    private String statusOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM notifications WHERE id = ?", String.class, id);
+    }
+}
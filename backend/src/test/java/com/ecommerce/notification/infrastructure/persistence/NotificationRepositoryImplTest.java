@@ -0,0 +1,105 @@
+package com.ecommerce.notification.infrastructure.persistence;
+
+import com.ecommerce.notification.domain.Notification;
+import com.ecommerce.notification.domain.NotificationChannel;
+import com.ecommerce.notification.domain.NotificationRepository;
+import com.ecommerce.notification.domain.NotificationType;
+import com.ecommerce.shared.config.JpaAuditingConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({NotificationRepositoryImpl.class, NotificationJdbcRepository.class, JpaAuditingConfig.class})
+@DisplayName("NotificationRepository 테스트")
+class NotificationRepositoryImplTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Test
+    @DisplayName("생성일시가 같은 알림도 ID 로 이어서 빠짐없이 다음 페이지를 조회한다")
+    void seeksAcrossEqualCreatedAt() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(notificationRepository.save(notification(1L, "알림" + i)).getId());
+        }
+        notificationRepository.save(notification(2L, "다른 고객 알림"));
+        entityManager.flush();
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        entityManager.createNativeQuery("UPDATE notifications SET created_at = ?")
+                .setParameter(1, createdAt)
+                .executeUpdate();
+        entityManager.clear();
+
+        // when
+        List<Notification> first = notificationRepository.findByCustomerIdAfter(1L, null, null, 2);
+        Notification last = first.get(first.size() - 1);
+        List<Notification> second = notificationRepository.findByCustomerIdAfter(
+                1L, last.getCreatedAt(), last.getId(), 2);
+        last = second.get(second.size() - 1);
+        List<Notification> third = notificationRepository.findByCustomerIdAfter(
+                1L, last.getCreatedAt(), last.getId(), 2);
+
+        // then
+        List<Long> seen = new ArrayList<>();
+        first.forEach(n -> seen.add(n.getId()));
+        second.forEach(n -> seen.add(n.getId()));
+        third.forEach(n -> seen.add(n.getId()));
+        assertThat(seen).containsExactlyElementsOf(ids.reversed());
+        assertThat(third).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("발송 대기/발송 중 상태로 오래 남은 알림만 다시 발송 대상으로 조회한다")
+    void findsStalledNotifications() {
+        // given
+        Long stalled = notificationRepository.save(notification(1L, "대기 중")).getId();
+        Notification sending = notification(1L, "발송 중");
+        sending.startSending();
+        Long stalledSending = notificationRepository.save(sending).getId();
+        Notification sent = notification(1L, "발송 완료");
+        sent.markAsSent();
+        notificationRepository.save(sent);
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE notifications SET updated_at = ?")
+                .setParameter(1, LocalDateTime.now().minusMinutes(10))
+                .executeUpdate();
+        Long recent = notificationRepository.save(notification(1L, "방금 저장")).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Notification> result = notificationRepository.findStalledAfter(
+                0L, LocalDateTime.now().minusMinutes(5), 10);
+
+        // then
+        assertThat(result).extracting(Notification::getId)
+                .containsExactly(stalled, stalledSending)
+                .doesNotContain(recent);
+    }
+
+    private Notification notification(Long customerId, String title) {
+        return Notification.builder()
+                .customerId(customerId)
+                .notificationType(NotificationType.ORDER_PLACED)
+                .channel(NotificationChannel.EMAIL)
+                .title(title)
+                .content("내용")
+                .recipient("user@test.com")
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.ecommerce.notification.infrastructure.stream;
+
+import com.ecommerce.customer.infrastructure.security.CustomUserPrincipal;
+import com.ecommerce.notification.application.NotificationService;
+import com.ecommerce.notification.presentation.web.NotificationController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@DisplayName("NotificationStreamRegistry 테스트")
+class NotificationStreamRegistryTest {
+
+    private final NotificationStreamRegistry registry = new NotificationStreamRegistry(60_000, 10);
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("고객당 연결 수를 넘으면 오래된 연결부터 종료된다")
+    void limitsConnectionsPerCustomer() {
+        // when
+        for (int i = 0; i < 7; i++) {
+            registry.connect(1L);
+        }
+        registry.connect(2L);
+
+        // then
+        assertThat(registry.connectionCount()).isEqualTo(6);
+        assertThat(registry.isConnected(1L)).isTrue();
+        assertThat(registry.isConnected(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("연결되지 않은 고객에게 푸시하면 무시된다")
+    void publishToDisconnectedCustomerIsIgnored() {
+        // when & then
+        assertThatCode(() -> registry.publish(99L, "notification", "message"))
+                .doesNotThrowAnyException();
+        assertThat(registry.isConnected(99L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("인증된 고객의 스트림으로 연결되고, 그 고객에게 푸시한 이벤트만 전달된다")
+    void deliversPublishedEventsToAuthenticatedCustomer() throws Exception {
+        // given
+        MockMvc mockMvc = MockMvcBuilders
+                .standaloneSetup(new NotificationController(mock(NotificationService.class), registry))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        CustomUserPrincipal principal = new CustomUserPrincipal(1L, "user@test.com", "CUSTOMER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+
+        MvcResult result = mockMvc.perform(get("/api/notifications/my/stream").param("customerId", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        registry.publish(2L, "notification", "other");
+        registry.publish(1L, "notification", "hello");
+
+        // then
+        assertThat(registry.isConnected(1L)).isTrue();
+        assertThat(registry.isConnected(2L)).isFalse();
+        String body = awaitContent(result, "data:hello");
+        assertThat(body).contains("event:connected", "event:notification", "data:hello").doesNotContain("other");
+    }
+
+    @Test
+    @DisplayName("전송이 밀려 버퍼가 가득 차면 느린 연결을 종료한다")
+    void closesSlowConnectionWhenBufferOverflows() {
+        // given
+        SseEmitter emitter = registry.connect(1L);
+
+        // when
+        // 전송은 emitter 잠금을 잡으므로, 잠금을 쥐고 있는 동안 전송이 밀린 상태가 됨
+        synchronized (emitter) {
+            for (int i = 0; i < 12; i++) {
+                registry.publish(1L, "notification", "message" + i);
+            }
+
+            // then
+            assertThat(registry.isConnected(1L)).isFalse();
+            assertThat(registry.connectionCount()).isZero();
+        }
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,137 @@
+package com.ecommerce.order.application;
+
+import com.ecommerce.cart.domain.CartRepository;
+import com.ecommerce.customer.domain.Customer;
+import com.ecommerce.customer.infrastructure.persistence.CustomerRepositoryImpl;
+import com.ecommerce.order.domain.Order;
+import com.ecommerce.order.dto.AdminOrderListResponse;
+import com.ecommerce.order.dto.AdminOrderSearchRequest;
+import com.ecommerce.order.infrastructure.persistence.OrderRepositoryImpl;
+import com.ecommerce.product.application.StockReservationService;
+import com.ecommerce.product.domain.ProductRepository;
+import com.ecommerce.shared.config.JpaAuditingConfig;
+import com.ecommerce.shared.dto.CursorPageResponse;
+import com.ecommerce.shared.dto.PageResponse;
+import com.ecommerce.shared.infrastructure.DomainEventPublisher;
+import com.ecommerce.shared.support.QueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({OrderService.class, OrderMapper.class, OrderCustomerHydrator.class,
+        OrderRepositoryImpl.class, CustomerRepositoryImpl.class, JpaAuditingConfig.class})
+@DisplayName("관리자 주문 조회 쿼리 수 테스트")
+class AdminOrderQueryCountTest {
+
+    private static final int CUSTOMER_COUNT = 5;
+    private static final int ORDER_COUNT = 30;
+
+    // 주문 목록 + COUNT + 고객 일괄 조회 + 주문 상품 일괄 조회
+    private static final long MAX_LIST_QUERIES = 4;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderService orderService;
+
+    @MockBean
+    private CartRepository cartRepository;
+
+    @MockBean
+    private ProductRepository productRepository;
+
+    @MockBean
+    private StockReservationService stockReservationService;
+
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < CUSTOMER_COUNT; i++) {
+            Customer customer = Customer.builder()
+                    .email("customer" + i + "@test.com")
+                    .password("password")
+                    .name("고객" + i)
+                    .phoneNumber("010-0000-000" + i)
+                    .build();
+            entityManager.persist(customer);
+            customers.add(customer);
+        }
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.builder()
+                    .customerId(customers.get(i % CUSTOMER_COUNT).getId())
+                    .recipientName("수령인")
+                    .recipientPhone("010-1234-5678")
+                    .shippingPostalCode("12345")
+                    .shippingAddress("서울시")
+                    .build();
+            order.addItem(1L, "상품A", null, 1, BigDecimal.valueOf(1000));
+            order.addItem(2L, "상품B", null, 2, BigDecimal.valueOf(2000));
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        queryCounter = QueryCounter.of(entityManager);
+    }
+
+    @Test
+    @DisplayName("전체 주문 목록은 페이지 크기와 관계없이 같은 수의 쿼리로 조회한다")
+    void getAllOrdersDoesNotQueryPerRow() {
+        // given
+        AdminOrderSearchRequest smallPage = request(5);
+        AdminOrderSearchRequest largePage = request(20);
+
+        // when
+        QueryCounter.Measured<PageResponse<AdminOrderListResponse>> small =
+                queryCounter.measure(() -> orderService.getAllOrders(smallPage));
+        entityManager.clear();
+        QueryCounter.Measured<PageResponse<AdminOrderListResponse>> large =
+                queryCounter.measure(() -> orderService.getAllOrders(largePage));
+
+        // then
+        assertThat(large.result().getContent()).hasSize(20)
+                .allSatisfy(order -> assertThat(order.getCustomerName()).startsWith("고객"))
+                .allSatisfy(order -> assertThat(order.getItemCount()).isEqualTo(2));
+        assertThat(large.queryCount()).isEqualTo(small.queryCount())
+                .isLessThanOrEqualTo(MAX_LIST_QUERIES);
+    }
+
+    @Test
+    @DisplayName("커서 기반 주문 목록도 주문마다 고객을 조회하지 않는다")
+    void getAllOrdersByCursorDoesNotQueryPerRow() {
+        // given
+        AdminOrderSearchRequest request = request(20);
+
+        // when
+        CursorPageResponse<AdminOrderListResponse> response =
+                queryCounter.assertAtMost(MAX_LIST_QUERIES, () -> orderService.getAllOrdersByCursor(request));
+
+        // then
+        assertThat(response.getContent()).hasSize(20)
+                .allSatisfy(order -> assertThat(order.getCustomerEmail()).endsWith("@test.com"));
+        assertThat(response.isHasNext()).isTrue();
+    }
+
+    private AdminOrderSearchRequest request(int size) {
+        AdminOrderSearchRequest request = new AdminOrderSearchRequest();
+        request.setSize(size);
+        return request;
+    }
+}
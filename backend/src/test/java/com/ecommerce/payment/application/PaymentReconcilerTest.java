@@ -0,0 +1,247 @@
+package com.ecommerce.payment.application;
+
+import com.ecommerce.payment.domain.Payment;
+import com.ecommerce.payment.domain.PaymentGateway;
+import com.ecommerce.payment.domain.PaymentMethod;
+import com.ecommerce.payment.domain.PaymentRepository;
+import com.ecommerce.payment.domain.PaymentStatus;
+import com.ecommerce.payment.exception.PaymentGatewayUnavailableException;
+import com.ecommerce.payment.infrastructure.gateway.AsyncPaymentGateway;
+import com.ecommerce.payment.infrastructure.persistence.PaymentRepositoryImpl;
+import com.ecommerce.shared.config.JpaAuditingConfig;
+import com.ecommerce.shared.infrastructure.DomainEventPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({PaymentReconciler.class, PaymentRepositoryImpl.class, JpaAuditingConfig.class,
+        PaymentReconcilerTest.MetricsConfig.class})
+@TestPropertySource(properties = {
+        "payment.reconcile.stale-after-minutes=0",
+        "payment.reconcile.page-size=2",
+        "payment.reconcile.max-concurrency=2",
+        "payment.reconcile.max-failures=2"
+})
+@DisplayName("결제 대사 테스트")
+class PaymentReconcilerTest {
+
+    private static final BigDecimal AMOUNT = BigDecimal.valueOf(10000);
+    private static final String[] OUTCOMES = {"completed", "failed", "pending", "mismatch", "error"};
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PaymentReconciler paymentReconciler;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private AsyncPaymentGateway asyncPaymentGateway;
+
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    private Payment completed;
+    private Payment failed;
+    private Payment stillProcessing;
+    private Payment mismatched;
+    private Payment unavailable;
+    private Payment pending;
+
+    @BeforeEach
+    void setUp() {
+        completed = processing(1L, "key-completed");
+        failed = processing(2L, "key-failed");
+        stillProcessing = processing(3L, "key-processing");
+        mismatched = processing(4L, "key-mismatch");
+        unavailable = processing(5L, "key-unavailable");
+        pending = Payment.builder().orderId(6L).amount(AMOUNT).paymentMethod(PaymentMethod.CARD).build();
+        entityManager.persist(pending);
+        entityManager.flush();
+        entityManager.clear();
+
+        givenStatus("key-completed", PaymentStatus.COMPLETED, AMOUNT);
+        givenStatus("key-failed", PaymentStatus.CANCELLED, AMOUNT);
+        givenStatus("key-processing", PaymentStatus.PROCESSING, AMOUNT);
+        givenStatus("key-mismatch", PaymentStatus.COMPLETED, BigDecimal.valueOf(500));
+        given(asyncPaymentGateway.getStatus("key-unavailable")).willReturn(
+                CompletableFuture.failedFuture(new PaymentGatewayUnavailableException("PG 응답 없음")));
+    }
+
+    @Test
+    @DisplayName("처리중에 머문 결제를 PG 상태에 따라 완료/실패 처리한다")
+    void reconcileStaleProcessing() {
+        // when
+        int checked = paymentReconciler.reconcileStaleProcessing();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(checked).isEqualTo(5);
+        assertThat(statusOf(completed)).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(statusOf(failed)).isEqualTo(PaymentStatus.FAILED);
+        assertThat(statusOf(stillProcessing)).isEqualTo(PaymentStatus.PROCESSING);
+        assertThat(statusOf(mismatched)).isEqualTo(PaymentStatus.PROCESSING);
+        assertThat(statusOf(unavailable)).isEqualTo(PaymentStatus.PROCESSING);
+        assertThat(statusOf(pending)).isEqualTo(PaymentStatus.PENDING);
+
+        Payment reconciled = paymentRepository.findById(completed.getId()).orElseThrow();
+        assertThat(reconciled.getTransactionId()).isEqualTo("txn-key-completed");
+        assertThat(reconciled.getPgTransactionId()).isEqualTo("txn-key-completed");
+        verify(domainEventPublisher, times(2)).publishEvents(any());
+    }
+
+    @Test
+    @DisplayName("금액이 다른 결제와 상태 조회가 반복 실패한 결제는 수동 확인 대상으로 표시하고 대사에서 제외한다")
+    void marksUnresolvablePaymentsForReview() {
+        // given
+        paymentReconciler.reconcileStaleProcessing();
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(paymentRepository.findById(mismatched.getId()).orElseThrow().isReviewRequired()).isTrue();
+        assertThat(paymentRepository.findById(unavailable.getId()).orElseThrow().isReviewRequired()).isFalse();
+
+        // when
+        int checked = paymentReconciler.reconcileStaleProcessing();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(checked).isEqualTo(2);
+        Payment reviewed = paymentRepository.findById(unavailable.getId()).orElseThrow();
+        assertThat(reviewed.isReviewRequired()).isTrue();
+        assertThat(reviewed.getReconcileFailures()).isEqualTo(2);
+        assertThat(reviewed.getPaymentStatus()).isEqualTo(PaymentStatus.PROCESSING);
+        assertThat(paymentReconciler.reconcileStaleProcessing()).isEqualTo(1);
+        assertThat(meterRegistry.get("payment.reconcile.review-required").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("PG 에서 아직 처리중인 결제는 확인 횟수를 기록하고 변경 시각을 갱신한다")
+    void recordsPendingCheck() {
+        // given
+        LocalDateTime updatedAt = paymentRepository.findById(stillProcessing.getId()).orElseThrow().getUpdatedAt();
+
+        // when
+        paymentReconciler.reconcileStaleProcessing();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Payment checked = paymentRepository.findById(stillProcessing.getId()).orElseThrow();
+        assertThat(checked.getReconcileChecks()).isEqualTo(1);
+        assertThat(checked.getUpdatedAt()).isAfter(updatedAt);
+        assertThat(checked.isReviewRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지나도 처리중이면 수동 확인 대상으로, PG 에 기록이 없으면 실패로 처리한다")
+    void expiresLongRunningPayments() {
+        // given
+        Payment notFound = processing(7L, "key-not-found");
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE payments SET created_at = ? WHERE id IN (?, ?)")
+                .setParameter(1, LocalDateTime.now().minusHours(2))
+                .setParameter(2, stillProcessing.getId())
+                .setParameter(3, notFound.getId())
+                .executeUpdate();
+        entityManager.clear();
+        given(asyncPaymentGateway.getStatus("key-not-found")).willReturn(CompletableFuture.completedFuture(
+                new PaymentGateway.PaymentStatusResponse(false, null, null, null, null,
+                        PaymentGateway.PaymentStatusResponse.NOT_FOUND, "404")));
+
+        // when
+        paymentReconciler.reconcileStaleProcessing();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Payment stuck = paymentRepository.findById(stillProcessing.getId()).orElseThrow();
+        assertThat(stuck.getPaymentStatus()).isEqualTo(PaymentStatus.PROCESSING);
+        assertThat(stuck.isReviewRequired()).isTrue();
+        assertThat(statusOf(notFound)).isEqualTo(PaymentStatus.FAILED);
+        verify(domainEventPublisher, times(3)).publishEvents(any());
+    }
+
+    @Test
+    @DisplayName("대사 건수와 남은 처리중 결제 수를 메트릭으로 남긴다")
+    void recordsMetrics() {
+        // given (같은 컨텍스트를 쓰는 다른 테스트의 누적값 제외)
+        double checkedBefore = meterRegistry.get("payment.reconcile.checked").counter().count();
+        long sweepsBefore = meterRegistry.get("payment.reconcile.sweep").timer().count();
+        double[] resolvedBefore = resolvedCounts();
+
+        // when
+        paymentReconciler.reconcileStaleProcessing();
+
+        // then
+        double[] resolvedAfter = resolvedCounts();
+        assertThat(meterRegistry.get("payment.reconcile.checked").counter().count() - checkedBefore).isEqualTo(5);
+        for (int i = 0; i < OUTCOMES.length; i++) {
+            assertThat(resolvedAfter[i] - resolvedBefore[i]).as(OUTCOMES[i]).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get("payment.reconcile.backlog").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("payment.reconcile.review-required").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("payment.reconcile.sweep").timer().count() - sweepsBefore).isEqualTo(1);
+    }
+
+    private Payment processing(Long orderId, String paymentKey) {
+        Payment payment = Payment.builder().orderId(orderId).amount(AMOUNT).paymentMethod(PaymentMethod.CARD).build();
+        payment.startProcessing("TOSS", paymentKey);
+        entityManager.persist(payment);
+        return payment;
+    }
+
+    private void givenStatus(String paymentKey, PaymentStatus status, BigDecimal amount) {
+        given(asyncPaymentGateway.getStatus(paymentKey)).willReturn(CompletableFuture.completedFuture(
+                new PaymentGateway.PaymentStatusResponse(true, status, amount, BigDecimal.ZERO,
+                        "txn-" + paymentKey, null, null)));
+    }
+
+    private PaymentStatus statusOf(Payment payment) {
+        return paymentRepository.findById(payment.getId()).orElseThrow().getPaymentStatus();
+    }
+
+    private double[] resolvedCounts() {
+        double[] counts = new double[OUTCOMES.length];
+        for (int i = 0; i < OUTCOMES.length; i++) {
+            counts[i] = meterRegistry.get("payment.reconcile.resolved").tag("outcome", OUTCOMES[i]).counter().count();
+        }
+        return counts;
+    }
+}
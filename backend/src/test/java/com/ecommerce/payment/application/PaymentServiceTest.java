@@ -0,0 +1,75 @@
+package com.ecommerce.payment.application;
+
+import com.ecommerce.payment.domain.Payment;
+import com.ecommerce.payment.domain.PaymentMethod;
+import com.ecommerce.payment.domain.PaymentRepository;
+import com.ecommerce.payment.dto.PaymentConfirmRequest;
+import com.ecommerce.payment.exception.PaymentProcessingException;
+import com.ecommerce.payment.infrastructure.gateway.AsyncPaymentGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("PaymentService 테스트")
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    private static final BigDecimal AMOUNT = BigDecimal.valueOf(10000);
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private AsyncPaymentGateway asyncPaymentGateway;
+
+    @Mock
+    private PaymentMapper paymentMapper;
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    @Test
+    @DisplayName("이미 승인된 결제는 PG 를 다시 호출하지 않는다")
+    void skipsGatewayWhenAlreadyCompleted() {
+        // given
+        Payment payment = processing("pk_done");
+        payment.complete("txn_1", "pk_done");
+        given(paymentRepository.findByPaymentKey("pk_done")).willReturn(Optional.of(payment));
+
+        // when
+        paymentService.confirmPayment(new PaymentConfirmRequest("pk_done", "ORD-1", AMOUNT));
+
+        // then
+        verifyNoInteractions(asyncPaymentGateway);
+    }
+
+    @Test
+    @DisplayName("실패 처리된 결제는 PG 를 호출하지 않고 예외가 발생한다")
+    void rejectsFailedPayment() {
+        // given
+        Payment payment = processing("pk_failed");
+        payment.fail("카드 거절");
+        given(paymentRepository.findByPaymentKey("pk_failed")).willReturn(Optional.of(payment));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.confirmPayment(new PaymentConfirmRequest("pk_failed", "ORD-1", AMOUNT)))
+                .isInstanceOf(PaymentProcessingException.class);
+        verifyNoInteractions(asyncPaymentGateway);
+    }
+
+    private Payment processing(String paymentKey) {
+        Payment payment = Payment.builder().orderId(1L).amount(AMOUNT).paymentMethod(PaymentMethod.CARD).build();
+        payment.startProcessing("TOSS", paymentKey);
+        return payment;
+    }
+}
@@ -0,0 +1,257 @@
+package com.ecommerce.payment.infrastructure.gateway;
+
+import com.ecommerce.payment.domain.PaymentGateway;
+import com.ecommerce.payment.domain.PaymentStatus;
+import com.ecommerce.payment.exception.PaymentGatewayUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AsyncPaymentGateway 테스트")
+class AsyncPaymentGatewayTest {
+
+    private HttpServer stubServer;
+    private ExecutorService gatewayExecutor;
+    private SimpleMeterRegistry meterRegistry;
+
+    private volatile long latencyMillis;
+    private volatile int responseStatus = 200;
+    private volatile String errorCode = "ERROR";
+    private volatile String paymentStatus = "DONE";
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 응답 지연을 주입하는 로컬 PG 서버
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/v1/payments/confirm", this::handleConfirm);
+        stubServer.createContext("/v1/payments/", this::handleStatus);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.start();
+
+        PaymentGatewayConfig config = new PaymentGatewayConfig();
+        gatewayExecutor = config.paymentGatewayExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+        gatewayExecutor.close();
+    }
+
+    @Test
+    @DisplayName("PG 동시 호출 수는 작업별 한도를 넘지 않는다")
+    void bulkheadCapsConcurrentCalls() {
+        // given
+        latencyMillis = 100;
+        AsyncPaymentGateway gateway = gateway(3, 10_000, 5_000);
+
+        // when
+        List<CompletableFuture<PaymentGateway.PaymentConfirmResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            futures.add(gateway.confirm(confirmRequest(i)));
+        }
+        List<PaymentGateway.PaymentConfirmResponse> responses = futures.stream()
+                .map(AsyncPaymentGateway::await)
+                .toList();
+
+        // then
+        assertThat(responses).hasSize(12)
+                .allSatisfy(response -> {
+                    assertThat(response.success()).isTrue();
+                    assertThat(response.status()).isEqualTo(PaymentStatus.COMPLETED);
+                });
+        assertThat(maxActive.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한도가 가득 차면 최대 대기 시간 후 거절한다")
+    void rejectsWhenBulkheadIsFull() throws InterruptedException {
+        // given
+        latencyMillis = 1_000;
+        AsyncPaymentGateway gateway = gateway(1, 50, 5_000);
+        CompletableFuture<PaymentGateway.PaymentConfirmResponse> first = gateway.confirm(confirmRequest(1));
+        waitUntilActive();
+
+        // when & then
+        assertThatThrownBy(() -> AsyncPaymentGateway.await(gateway.confirm(confirmRequest(2))))
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+        assertThat(meterRegistry.get("payment.gateway.rejected")
+                .tag("operation", "confirm").tag("reason", "limit").counter().count()).isEqualTo(1.0);
+        assertThat(AsyncPaymentGateway.await(first).success()).isTrue();
+    }
+
+    @Test
+    @DisplayName("PG 응답이 읽기 타임아웃을 넘으면 실패 응답 대신 재시도 가능한 예외로 알린다")
+    void readTimeoutIsReportedAsUnavailable() {
+        // given
+        latencyMillis = 1_000;
+        AsyncPaymentGateway gateway = gateway(3, 1_000, 200);
+
+        // when & then
+        assertThatThrownBy(() -> AsyncPaymentGateway.await(gateway.confirm(confirmRequest(1))))
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("PG 5xx 응답은 승인 여부를 알 수 없으므로 실패 응답 대신 재시도 가능한 예외로 알린다")
+    void serverErrorIsReportedAsUnavailable() {
+        // given
+        responseStatus = 503;
+        AsyncPaymentGateway gateway = gateway(3, 1_000, 5_000);
+
+        // when & then
+        assertThatThrownBy(() -> AsyncPaymentGateway.await(gateway.confirm(confirmRequest(1))))
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("PG 가 4xx 로 승인을 거절하면 실패 응답으로 확정한다")
+    void clientErrorIsReportedAsFailure() {
+        // given
+        responseStatus = 400;
+        AsyncPaymentGateway gateway = gateway(3, 1_000, 5_000);
+
+        // when
+        PaymentGateway.PaymentConfirmResponse response = AsyncPaymentGateway.await(gateway.confirm(confirmRequest(1)));
+
+        // then
+        assertThat(response.success()).isFalse();
+        assertThat(response.status()).isEqualTo(PaymentStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 결제라는 4xx 응답은 PG 상태를 조회하여 승인 완료로 확정한다")
+    void alreadyProcessedPaymentIsResolvedByStatus() {
+        // given
+        responseStatus = 400;
+        errorCode = "ALREADY_PROCESSED_PAYMENT";
+        AsyncPaymentGateway gateway = gateway(3, 1_000, 5_000);
+
+        // when
+        PaymentGateway.PaymentConfirmResponse response = AsyncPaymentGateway.await(gateway.confirm(confirmRequest(1)));
+
+        // then
+        assertThat(response.success()).isTrue();
+        assertThat(response.status()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(response.transactionId()).isEqualTo("txn_1");
+    }
+
+    @Test
+    @DisplayName("이미 처리된 결제의 PG 상태가 확정되지 않았으면 재시도 가능한 예외로 알린다")
+    void alreadyProcessedPaymentInProgressIsReportedAsUnavailable() {
+        // given
+        responseStatus = 400;
+        errorCode = "ALREADY_PROCESSED_PAYMENT";
+        paymentStatus = "IN_PROGRESS";
+        AsyncPaymentGateway gateway = gateway(3, 1_000, 5_000);
+
+        // when & then
+        assertThatThrownBy(() -> AsyncPaymentGateway.await(gateway.confirm(confirmRequest(1))))
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("처리 여부를 알 수 없는 4xx 응답은 실패 응답 대신 재시도 가능한 예외로 알린다")
+    void ambiguousClientErrorIsReportedAsUnavailable() {
+        // given
+        responseStatus = 400;
+        errorCode = "PROVIDER_ERROR";
+        AsyncPaymentGateway gateway = gateway(3, 1_000, 5_000);
+
+        // when & then
+        assertThatThrownBy(() -> AsyncPaymentGateway.await(gateway.confirm(confirmRequest(1))))
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+    }
+
+    private AsyncPaymentGateway gateway(int maxConcurrent, long maxWaitMillis, long readTimeoutMillis) {
+        PaymentGatewayConfig config = new PaymentGatewayConfig();
+        HttpClient httpClient = config.paymentHttpClient(gatewayExecutor, 1_000);
+        RestTemplate restTemplate = config.paymentRestTemplate(new RestTemplateBuilder(), httpClient, readTimeoutMillis);
+
+        TossPaymentGateway tossPaymentGateway = new TossPaymentGateway(restTemplate);
+        ReflectionTestUtils.setField(tossPaymentGateway, "apiUrl", "http://127.0.0.1:" + stubServer.getAddress().getPort());
+        ReflectionTestUtils.setField(tossPaymentGateway, "secretKey", "test_sk");
+        ReflectionTestUtils.setField(tossPaymentGateway, "mockEnabled", false);
+
+        ResilientPaymentGateway resilientGateway = new ResilientPaymentGateway(tossPaymentGateway, gatewayExecutor,
+                new PaymentCircuitBreaker(50, 20, 50, 60_000, 5),
+                operation -> new ResilientPaymentGateway.OperationPolicy(
+                        maxConcurrent, maxWaitMillis, AdaptiveTimeout.fixed(readTimeoutMillis + 1_000)),
+                meterRegistry);
+        return new AsyncPaymentGateway(resilientGateway, gatewayExecutor);
+    }
+
+    private PaymentGateway.PaymentConfirmRequest confirmRequest(int index) {
+        return new PaymentGateway.PaymentConfirmRequest("pk_" + index, "ORD-" + index, BigDecimal.valueOf(10_000));
+    }
+
+    private void waitUntilActive() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (active.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void handleConfirm(HttpExchange exchange) throws IOException {
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(latencyMillis);
+            byte[] body = (responseStatus == 200
+                    ? "{\"paymentKey\":\"pk\",\"status\":\"DONE\",\"lastTransactionKey\":\"txn_1\"}"
+                    : "{\"code\":\"" + errorCode + "\",\"message\":\"error\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        } finally {
+            active.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private void handleStatus(HttpExchange exchange) throws IOException {
+        byte[] body = ("{\"paymentKey\":\"pk\",\"status\":\"" + paymentStatus + "\"," +
+                "\"totalAmount\":10000,\"balanceAmount\":10000,\"lastTransactionKey\":\"txn_1\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+        exchange.close();
+    }
+}
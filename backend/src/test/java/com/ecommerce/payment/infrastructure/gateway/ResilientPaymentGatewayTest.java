@@ -0,0 +1,233 @@
+package com.ecommerce.payment.infrastructure.gateway;
+
+import com.ecommerce.payment.domain.PaymentGateway;
+import com.ecommerce.payment.domain.PaymentStatus;
+import com.ecommerce.payment.exception.PaymentGatewayUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ResilientPaymentGateway 테스트")
+class ResilientPaymentGatewayTest {
+
+    private FaultInjectingGateway fake;
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        fake = new FaultInjectingGateway();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fake.release();
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 회로가 열려 PG 를 호출하지 않고 거절한다")
+    void opensCircuitOnFailures() {
+        // given
+        ResilientPaymentGateway gateway = gateway(new PaymentCircuitBreaker(10, 5, 50, 60_000, 2), 10);
+        fake.failing = true;
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> gateway.confirm(confirmRequest())).isInstanceOf(IllegalStateException.class);
+        }
+
+        // then
+        assertThat(gateway.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> gateway.confirm(confirmRequest()))
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+        assertThat(fake.calls.get()).isEqualTo(5);
+        assertThat(meterRegistry.get("payment.gateway.rejected")
+                .tag("operation", "confirm").tag("reason", "circuit_open").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나 시험 호출이 모두 성공하면 회로가 다시 닫힌다")
+    void closesCircuitAfterSuccessfulTrialCalls() throws InterruptedException {
+        // given
+        ResilientPaymentGateway gateway = gateway(new PaymentCircuitBreaker(10, 5, 50, 100, 2), 10);
+        fake.failing = true;
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> gateway.confirm(confirmRequest())).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(gateway.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+
+        // when
+        Thread.sleep(150);
+        fake.failing = false;
+        gateway.confirm(confirmRequest());
+        assertThat(gateway.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.HALF_OPEN);
+        gateway.confirm(confirmRequest());
+
+        // then
+        assertThat(gateway.getCircuitState()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("평소 응답 시간에 맞춰 상태 조회 타임아웃이 줄어들고, 이를 넘는 호출은 기다리지 않고 취소한다")
+    void adaptsTimeoutToObservedLatency() {
+        // given
+        ResilientPaymentGateway gateway = gateway(new PaymentCircuitBreaker(50, 20, 50, 60_000, 2), 10);
+        fake.latencyMillis = 10;
+        for (int i = 0; i < 20; i++) {
+            assertThat(gateway.getStatus("pk").success()).isTrue();
+        }
+        double timeoutMillis = meterRegistry.get("payment.gateway.timeout").tag("operation", "status").gauge().value();
+
+        // when
+        fake.latencyMillis = 5_000;
+        long startedAt = System.nanoTime();
+
+        // then
+        assertThatThrownBy(() -> gateway.getStatus("pk"))
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1_000);
+        assertThat(timeoutMillis).isLessThan(1_000);
+        assertThat(meterRegistry.get("payment.gateway.calls")
+                .tag("operation", "status").tag("outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("승인은 평소보다 느려도 고정 타임아웃 안에서는 중단하지 않는다")
+    void doesNotCutMoneyMovingCallsShort() {
+        // given
+        ResilientPaymentGateway gateway = gateway(new PaymentCircuitBreaker(50, 20, 50, 60_000, 2), 10);
+        fake.latencyMillis = 10;
+        for (int i = 0; i < 20; i++) {
+            assertThat(gateway.confirm(confirmRequest()).success()).isTrue();
+        }
+
+        // when
+        fake.latencyMillis = 500;
+
+        // then
+        assertThat(gateway.confirm(confirmRequest()).success()).isTrue();
+        assertThat(meterRegistry.get("payment.gateway.timeout").tag("operation", "confirm").gauge().value())
+                .isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("작업별 동시 호출 한도를 넘으면 해당 작업만 거절한다")
+    void limitsConcurrencyPerOperation() throws InterruptedException {
+        // given
+        ResilientPaymentGateway gateway = gateway(new PaymentCircuitBreaker(10, 5, 50, 60_000, 2), 1);
+        fake.blockRefunds();
+        CompletableFuture<PaymentGateway.PaymentRefundResponse> first =
+                CompletableFuture.supplyAsync(() -> gateway.refund("pk", BigDecimal.TEN, "테스트"), executor);
+        fake.awaitRefundStarted();
+
+        // when & then
+        assertThatThrownBy(() -> gateway.refund("pk", BigDecimal.TEN, "테스트"))
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+        assertThat(gateway.confirm(confirmRequest()).success()).isTrue();
+
+        fake.release();
+        assertThat(first.join().success()).isTrue();
+    }
+
+    // 승인/취소/환불은 고정 타임아웃, 그 외는 적응형 타임아웃 (PaymentGatewayConfig 와 같은 구성)
+    private ResilientPaymentGateway gateway(PaymentCircuitBreaker circuitBreaker, int refundLimit) {
+        return new ResilientPaymentGateway(fake, executor, circuitBreaker,
+                operation -> new ResilientPaymentGateway.OperationPolicy(
+                        operation == ResilientPaymentGateway.Operation.REFUND ? refundLimit : 10,
+                        0,
+                        switch (operation) {
+                            case CONFIRM, CANCEL, REFUND -> AdaptiveTimeout.fixed(2_000);
+                            case INITIATE, STATUS -> new AdaptiveTimeout(0.99, 3.0, 50, 2_000, 100);
+                        }),
+                meterRegistry);
+    }
+
+    private PaymentGateway.PaymentConfirmRequest confirmRequest() {
+        return new PaymentGateway.PaymentConfirmRequest("pk", "ORD-1", BigDecimal.valueOf(10_000));
+    }
+
+    /**
+     * 실패/지연을 주입하는 가짜 PG
+     */
+    private static class FaultInjectingGateway implements PaymentGateway {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean failing;
+        private volatile long latencyMillis;
+        private volatile CountDownLatch refundGate = new CountDownLatch(0);
+        private final CountDownLatch refundStarted = new CountDownLatch(1);
+
+        @Override
+        public PaymentConfirmResponse confirm(PaymentConfirmRequest request) {
+            calls.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("PG 장애");
+            }
+            sleep(latencyMillis);
+            return new PaymentConfirmResponse(true, "txn", "pg_txn", PaymentStatus.COMPLETED, null, null);
+        }
+
+        @Override
+        public PaymentRefundResponse refund(String paymentKey, BigDecimal amount, String reason) {
+            refundStarted.countDown();
+            try {
+                refundGate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new PaymentRefundResponse(true, "refund", amount, null, null);
+        }
+
+        @Override
+        public PaymentInitResponse initiate(PaymentInitRequest request) {
+            return new PaymentInitResponse("pk", null, true, null, null);
+        }
+
+        @Override
+        public PaymentCancelResponse cancel(String paymentKey, String reason) {
+            return new PaymentCancelResponse(true, "cancel", null, null);
+        }
+
+        @Override
+        public PaymentStatusResponse getStatus(String paymentKey) {
+            sleep(latencyMillis);
+            return new PaymentStatusResponse(true, PaymentStatus.COMPLETED, BigDecimal.TEN, BigDecimal.ZERO, "txn", null, null);
+        }
+
+        private void blockRefunds() {
+            refundGate = new CountDownLatch(1);
+        }
+
+        private void awaitRefundStarted() throws InterruptedException {
+            refundStarted.await(5, TimeUnit.SECONDS);
+        }
+
+        private void release() {
+            refundGate.countDown();
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.dto.CategoryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하위 카테고리 검색 벤치마크
+ * 깊은 카테고리 트리와 큰 상품 테이블에서 상품 검색이 실제로 사용하는 조건을 재귀 CTE 조회와 비교
+ * - 하위 카테고리가 MAX_CATEGORY_IDS 개 이하: 스냅샷 ID 집합(IN)
+ * - 그보다 많으면: 카테고리 경로 접두어(LIKE 'path%') 서브쿼리
+ *
+ * 기본 테스트에서는 제외되며, ./gradlew benchmark 로 실행하고 아래 시스템 프로퍼티로 크기 조절
+ * -Dbenchmark.category.depth=8 -Dbenchmark.category.fanout=4 -Dbenchmark.products=1000000
+ * 측정 시간은 테스트 리포트(report entry)에 기록
+ */
+@Tag("benchmark")
+@DisplayName("하위 카테고리 검색 벤치마크")
+class CategorySubtreeFilterBenchmarkTest {
+
+    private static final int DEPTH = Integer.getInteger("benchmark.category.depth", 6);
+    private static final int FANOUT = Integer.getInteger("benchmark.category.fanout", 3);
+    private static final int PRODUCTS = Integer.getInteger("benchmark.products", 50_000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 5);
+
+    // ProductQuerydslRepository.categoryIn 과 같은 기준
+    private static final int MAX_CATEGORY_IDS = 100;
+
+    private static final String COUNT_IN_SQL =
+            "SELECT COUNT(*) FROM products WHERE category_id IN (:categoryIds)";
+
+    private static final String COUNT_PATH_SQL =
+            "SELECT COUNT(*) FROM products WHERE category_id IN (" +
+            "  SELECT id FROM categories WHERE path LIKE ?" +
+            ")";
+
+    private static final String COUNT_RECURSIVE_SQL =
+            "WITH RECURSIVE subtree(id) AS (" +
+            "  SELECT id FROM categories WHERE id = ? " +
+            "  UNION ALL " +
+            "  SELECT c.id FROM categories c JOIN subtree s ON c.parent_id = s.id" +
+            ") SELECT COUNT(*) FROM products p JOIN subtree s ON p.category_id = s.id";
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final List<CategoryResponse> categories = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        jdbcTemplate.execute("CREATE TABLE categories (id BIGINT PRIMARY KEY, parent_id BIGINT, path VARCHAR(500))");
+        jdbcTemplate.execute("CREATE INDEX idx_categories_parent ON categories (parent_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_category_path ON categories (path)");
+        jdbcTemplate.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, category_id BIGINT)");
+        jdbcTemplate.execute("CREATE INDEX idx_products_category ON products (category_id)");
+
+        // 완전 트리 생성 (최상위 1개, 깊이 DEPTH, 자식 FANOUT 개)
+        List<Long> level = List.of(1L);
+        categories.add(category(1L, null));
+        long nextId = 2L;
+        for (int depth = 1; depth < DEPTH; depth++) {
+            List<Long> nextLevel = new ArrayList<>();
+            for (Long parentId : level) {
+                for (int i = 0; i < FANOUT; i++) {
+                    categories.add(category(nextId, parentId));
+                    nextLevel.add(nextId++);
+                }
+            }
+            level = nextLevel;
+        }
+        CategoryTree paths = CategoryTree.of(categories);
+        jdbcTemplate.batchUpdate("INSERT INTO categories (id, parent_id, path) VALUES (?, ?, ?)",
+                categories.stream()
+                        .map(c -> new Object[]{c.getId(), c.getParentId(), paths.getPath(c.getId())})
+                        .toList());
+
+        List<Object[]> products = new ArrayList<>(PRODUCTS);
+        for (long id = 1; id <= PRODUCTS; id++) {
+            products.add(new Object[]{id, categories.get((int) (id % categories.size())).getId()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (id, category_id) VALUES (?, ?)", products);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("상품 검색의 하위 카테고리 조건은 재귀 CTE 와 같은 결과를 반환한다")
+    void subtreeFilterMatchesRecursiveQuery(TestReporter reporter) {
+        // given
+        long buildStart = System.nanoTime();
+        CategoryTree tree = CategoryTree.of(categories);
+        long buildNanos = System.nanoTime() - buildStart;
+        List<Long> targets = List.of(1L, 2L, categories.get(categories.size() / 2).getId());
+
+        // when
+        Map<String, Long> nanosByStrategy = new TreeMap<>();
+        long recursiveNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (Long categoryId : targets) {
+                long start = System.nanoTime();
+                long searchCount = countBySubtree(tree, categoryId);
+                nanosByStrategy.merge(strategyOf(tree, categoryId), System.nanoTime() - start, Long::sum);
+
+                start = System.nanoTime();
+                Long recursiveCount = jdbcTemplate.queryForObject(COUNT_RECURSIVE_SQL, Long.class, categoryId);
+                recursiveNanos += System.nanoTime() - start;
+
+                // then
+                assertThat(searchCount).isEqualTo(recursiveCount);
+            }
+        }
+
+        Map<String, String> entries = new TreeMap<>();
+        entries.put("categories", String.valueOf(categories.size()));
+        entries.put("products", String.valueOf(PRODUCTS));
+        entries.put("tree-build-ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(buildNanos)));
+        entries.put("recursive-ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(recursiveNanos)));
+        nanosByStrategy.forEach((strategy, nanos) ->
+                entries.put(strategy + "-ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(nanos))));
+        reporter.publishEntry(entries);
+        assertThat(tree.getDepth(categories.get(categories.size() - 1).getId())).isEqualTo(DEPTH - 1);
+    }
+
+    private String strategyOf(CategoryTree tree, Long categoryId) {
+        return tree.getSubtreeIds(categoryId).size() <= MAX_CATEGORY_IDS ? "in" : "path";
+    }
+
+    private long countBySubtree(CategoryTree tree, Long categoryId) {
+        Long count = "in".equals(strategyOf(tree, categoryId))
+                ? namedJdbcTemplate.queryForObject(COUNT_IN_SQL,
+                        new MapSqlParameterSource("categoryIds", tree.getSubtreeIds(categoryId)), Long.class)
+                : jdbcTemplate.queryForObject(COUNT_PATH_SQL, Long.class, tree.getPath(categoryId) + "%");
+        return count != null ? count : 0L;
+    }
+
+    private CategoryResponse category(Long id, Long parentId) {
+        return CategoryResponse.builder()
+                .id(id)
+                .name("카테고리" + id)
+                .parentId(parentId)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.dto.CategoryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CategoryTree 테스트")
+class CategoryTreeTest {
+
+    // 1 전자제품 ─ 2 노트북 ─ 4 게이밍
+    //           └ 3 휴대폰
+    // 5 의류
+    private final CategoryTree tree = CategoryTree.of(List.of(
+            category(4L, "게이밍", 2L, 1),
+            category(3L, "휴대폰", 1L, 2),
+            category(5L, "의류", null, 2),
+            category(2L, "노트북", 1L, 1),
+            category(1L, "전자제품", null, 1)
+    ));
+
+    @Test
+    @DisplayName("최상위/자식 카테고리를 표시 순서대로 반환한다")
+    void rootsAndChildren() {
+        assertThat(tree.getRoots()).extracting(CategoryResponse::getId).containsExactly(1L, 5L);
+        assertThat(tree.getChildren(1L)).extracting(CategoryResponse::getId).containsExactly(2L, 3L);
+        assertThat(tree.getChildren(4L)).isEmpty();
+        assertThat(tree.getAll()).extracting(CategoryResponse::getId).containsExactly(1L, 2L, 4L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("조상 경로와 하위 카테고리 ID 를 반환한다")
+    void ancestorsAndSubtree() {
+        assertThat(tree.getAncestorIds(4L)).containsExactly(1L, 2L);
+        assertThat(tree.getDepth(4L)).isEqualTo(2);
+        assertThat(tree.getSubtreeIds(1L)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(tree.getSubtreeIds(5L)).containsExactly(5L);
+        assertThat(tree.getSubtreeIds(99L)).isEmpty();
+        assertThat(tree.getDepth(99L)).isEqualTo(-1);
+        assertThat(tree.getHeight(1L)).isEqualTo(2);
+        assertThat(tree.getHeight(4L)).isZero();
+        assertThat(tree.getHeight(99L)).isEqualTo(-1);
+        assertThat(tree.getPath(4L)).isEqualTo("/1/2/4/");
+        assertThat(tree.getPath(99L)).isNull();
+    }
+
+    private CategoryResponse category(Long id, String name, Long parentId, Integer displayOrder) {
+        return CategoryResponse.builder()
+                .id(id)
+                .name(name)
+                .parentId(parentId)
+                .displayOrder(displayOrder)
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.domain.ProductRepository;
+import com.ecommerce.product.domain.ProductRepository.CounterDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ProductCounterBuffer 테스트")
+@ExtendWith(MockitoExtension.class)
+class ProductCounterBufferTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductCounterBuffer buffer;
+
+    @Test
+    @DisplayName("동시에 기록된 조회수/판매량을 상품별로 합산하여 한 번에 반영한다")
+    @SuppressWarnings("unchecked")
+    void flushAggregatesConcurrentRecords() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            executor.submit(() -> buffer.recordView(1L));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        buffer.recordSales(1L, 3);
+        buffer.recordSales(2L, 2);
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<Map<Long, CounterDelta>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(productRepository).addCounters(captor.capture());
+        assertThat(captor.getValue())
+                .containsEntry(1L, new CounterDelta(1_000, 3))
+                .containsEntry(2L, new CounterDelta(0, 2));
+        assertThat(buffer.pendingSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 누적분을 되돌려 다음 주기에 재시도한다")
+    @SuppressWarnings("unchecked")
+    void failedFlushIsRetried() {
+        // given
+        buffer.recordView(1L);
+        buffer.recordView(1L);
+        doThrow(new QueryTimeoutException("timeout"))
+                .doNothing()
+                .when(productRepository).addCounters(anyMap());
+
+        // when
+        buffer.flush();
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<Map<Long, CounterDelta>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(productRepository, times(2)).addCounters(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsEntry(1L, new CounterDelta(2, 0));
+    }
+
+    @Test
+    @DisplayName("여러 배치 중 일부만 실패하면 반영된 배치는 제외하고 실패한 배치부터 재시도한다")
+    @SuppressWarnings("unchecked")
+    void onlyUncommittedBatchesAreRetried() {
+        // given
+        for (long productId = 1; productId <= 1_200; productId++) {
+            buffer.recordView(productId);
+        }
+        doNothing()
+                .doThrow(new QueryTimeoutException("timeout"))
+                .doNothing()
+                .when(productRepository).addCounters(anyMap());
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.pendingSize()).isEqualTo(700);
+        buffer.flush();
+        ArgumentCaptor<Map<Long, CounterDelta>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(productRepository, times(4)).addCounters(captor.capture());
+        assertThat(captor.getAllValues().get(0)).containsKey(1L).doesNotContainKey(501L);
+        assertThat(captor.getAllValues().get(2)).containsKey(501L).doesNotContainKey(1L);
+    }
+
+    @Test
+    @DisplayName("누적분이 없으면 DB에 반영하지 않는다")
+    void emptyFlushSkipsDatabase() {
+        // when
+        buffer.flush();
+
+        // then
+        verify(productRepository, never()).addCounters(anyMap());
+    }
+}
@@ -0,0 +1,112 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.dto.ProductResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductDetailCache 테스트")
+class ProductDetailCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 상품을 동시에 조회하면 DB 조회는 한 번만 실행된다")
+    void concurrentMissesLoadOnce() throws Exception {
+        // given
+        ProductDetailCache cache = new ProductDetailCache(meterRegistry, 100, 60);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<ProductResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                await(release);
+                return product(1L);
+            })));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        for (Future<ProductResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        }
+        executor.shutdown();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.get(1L, () -> product(99L)).getId()).isEqualTo(1L);
+        assertThat(meterRegistry.counter("product.detail-cache.hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회 시 다시 적재하고, 적재 실패는 캐시하지 않는다")
+    void evictAndFailure() {
+        // given
+        ProductDetailCache cache = new ProductDetailCache(meterRegistry, 100, 60);
+        cache.get(1L, () -> product(1L));
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw new IllegalStateException("not found");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(1L, () -> product(1L)).getId()).isEqualTo(1L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 조회되지 않은 상품부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        // given
+        ProductDetailCache cache = new ProductDetailCache(meterRegistry, 2, 60);
+        cache.get(1L, () -> product(1L));
+        cache.get(2L, () -> product(2L));
+        cache.get(1L, () -> product(1L));
+
+        // when
+        cache.get(3L, () -> product(3L));
+
+        // then
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return product(1L);
+        });
+        cache.get(2L, () -> {
+            loads.incrementAndGet();
+            return product(2L);
+        });
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("product.detail-cache.eviction").count()).isGreaterThanOrEqualTo(1);
+    }
+
+    private ProductResponse product(Long id) {
+        return ProductResponse.builder().id(id).name("상품" + id).build();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.domain.event.ProductStockChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ProductEventHandler 테스트")
+@ExtendWith(MockitoExtension.class)
+class ProductEventHandlerTest {
+
+    @Mock
+    private ProductCounterBuffer productCounterBuffer;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Mock
+    private ProductSearchCountCache productSearchCountCache;
+
+    @InjectMocks
+    private ProductEventHandler productEventHandler;
+
+    @Test
+    @DisplayName("재고가 소진되거나 다시 들어오면 검색 건수 캐시를 무효화한다")
+    void invalidatesSearchCountWhenStockCrossesZero() {
+        // when
+        productEventHandler.handleProductStockChanged(new ProductStockChangedEvent(1L, 2, 0));
+        productEventHandler.handleProductStockChanged(new ProductStockChangedEvent(1L, 0, 3));
+
+        // then
+        verify(productSearchCountCache, times(2)).invalidateAll();
+        verify(productDetailCache, times(2)).evict(1L);
+    }
+
+    @Test
+    @DisplayName("판매 상태가 바뀌지 않는 재고 변경은 검색 건수 캐시를 유지한다")
+    void keepsSearchCountWhenStockStaysAboveZero() {
+        // when
+        productEventHandler.handleProductStockChanged(new ProductStockChangedEvent(1L, 2, 1));
+
+        // then
+        verify(productSearchCountCache, never()).invalidateAll();
+        verify(productDetailCache).evict(1L);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.dto.ProductSearchRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductSearchCountCache 테스트")
+class ProductSearchCountCacheTest {
+
+    @Test
+    @DisplayName("정렬/페이지가 달라도 같은 필터 조건이면 COUNT 결과를 재사용한다")
+    void reusesCountForSameFilter() {
+        // given
+        ProductSearchCountCache cache = new ProductSearchCountCache(100, 60);
+        AtomicInteger loads = new AtomicInteger();
+        ProductSearchRequest first = ProductSearchRequest.builder()
+                .keyword("  Phone ").brand("Apple").minPrice(new BigDecimal("1000.00")).page(0).build();
+        ProductSearchRequest next = ProductSearchRequest.builder()
+                .keyword("phone").brand("APPLE").minPrice(new BigDecimal("1000")).page(3).sort("price").build();
+
+        // when
+        long firstCount = cache.get(first, Set.of(2L, 1L), () -> loads.incrementAndGet() * 10L);
+        long nextCount = cache.get(next, List.of(1L, 2L), () -> loads.incrementAndGet() * 10L);
+
+        // then
+        assertThat(firstCount).isEqualTo(10L);
+        assertThat(nextCount).isEqualTo(10L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터 조건이 다르거나 TTL 이 지나면 다시 COUNT 한다")
+    void reloadsForDifferentFilterOrExpired() {
+        // given
+        ProductSearchCountCache cache = new ProductSearchCountCache(100, 0);
+        AtomicInteger loads = new AtomicInteger();
+        ProductSearchRequest request = ProductSearchRequest.builder().keyword("phone").build();
+
+        // when
+        cache.get(request, null, loads::incrementAndGet);
+        cache.get(request, Set.of(1L), loads::incrementAndGet);
+        cache.get(request, null, loads::incrementAndGet);
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("보정한 건수를 저장하면 다음 조회부터 보정값을 사용한다")
+    void usesCorrectedCount() {
+        // given
+        ProductSearchCountCache cache = new ProductSearchCountCache(100, 60);
+        ProductSearchRequest request = ProductSearchRequest.builder().keyword("phone").build();
+        cache.get(request, null, () -> 100L);
+
+        // when
+        cache.put(request, null, 42L);
+
+        // then
+        assertThat(cache.get(request, null, () -> 100L)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("상품이 바뀌면 트랜잭션 커밋 후에도 다시 비워 이전 건수를 사용하지 않는다")
+    void invalidatesAfterCommit() {
+        // given
+        ProductSearchCountCache cache = new ProductSearchCountCache(100, 60);
+        ProductSearchRequest request = ProductSearchRequest.builder().keyword("phone").build();
+        cache.get(request, null, () -> 10L);
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAll();
+            assertThat(cache.size()).isZero();
+
+            // 커밋 전 다른 요청이 이전 건수로 다시 채운 경우
+            cache.get(request, null, () -> 10L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(request, null, () -> 11L)).isEqualTo(11L);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.product.application;
+
+import com.ecommerce.product.domain.Product;
+import com.ecommerce.product.domain.ProductRepository;
+import com.ecommerce.product.domain.ProductStatus;
+import com.ecommerce.product.domain.event.ProductStockChangedEvent;
+import com.ecommerce.product.infrastructure.search.ProductDocument;
+import com.ecommerce.product.infrastructure.search.ProductSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("ProductSearchIndexer 테스트")
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex productSearchIndex;
+    private ProductSearchIndexer productSearchIndexer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex();
+        productSearchIndexer = new ProductSearchIndexer(productRepository, productSearchIndex);
+
+        product = Product.create("블루투스 스피커", null, BigDecimal.valueOf(80_000), 2, "소니", null);
+        ReflectionTestUtils.setField(product, "id", 1L);
+        product.publish();
+        productSearchIndex.index(ProductDocument.from(product));
+    }
+
+    @Test
+    @DisplayName("재고가 0이 되면 품절 상태로 다시 색인하고, 재고가 다시 들어오면 판매중으로 색인한다")
+    void reindexesOnStockStatusChange() {
+        // given
+        given(productRepository.findAllByIdIn(List.of(1L))).willReturn(List.of(product));
+
+        // when
+        ReflectionTestUtils.setField(product, "stockQuantity", 0);
+        ReflectionTestUtils.setField(product, "status", ProductStatus.OUT_OF_STOCK);
+        productSearchIndexer.handleProductStockChanged(new ProductStockChangedEvent(1L, 2, 0));
+
+        // then
+        assertThat(productSearchIndex.statusOf(1L)).isEqualTo(ProductStatus.OUT_OF_STOCK);
+
+        ReflectionTestUtils.setField(product, "stockQuantity", 3);
+        ReflectionTestUtils.setField(product, "status", ProductStatus.ACTIVE);
+        productSearchIndexer.handleProductStockChanged(new ProductStockChangedEvent(1L, 0, 3));
+        assertThat(productSearchIndex.statusOf(1L)).isEqualTo(ProductStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("판매 상태가 바뀌지 않는 재고 변경은 다시 색인하지 않는다")
+    void skipsStockChangeWithoutStatusChange() {
+        // when
+        productSearchIndexer.handleProductStockChanged(new ProductStockChangedEvent(1L, 2, 1));
+
+        // then
+        verifyNoInteractions(productRepository);
+        assertThat(productSearchIndex.statusOf(1L)).isEqualTo(ProductStatus.ACTIVE);
+    }
+}
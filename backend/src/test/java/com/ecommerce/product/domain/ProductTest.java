@@ -1,6 +1,5 @@
 package com.ecommerce.product.domain;
 
-import com.ecommerce.product.exception.InsufficientStockException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -44,59 +43,6 @@ class ProductTest {
         assertThat(product.getDomainEvents()).hasSize(2); // Created + Published
     }
 
-    @Test
-    @DisplayName("재고를 감소시킬 수 있다")
-    void decreaseStock() {
-        // given
-        Product product = createTestProduct();
-        int decreaseAmount = 10;
-
-        // when
-        product.decreaseStock(decreaseAmount);
-
-        // then
-        assertThat(product.getStockQuantity()).isEqualTo(90);
-    }
-
-    @Test
-    @DisplayName("재고를 증가시킬 수 있다")
-    void increaseStock() {
-        // given
-        Product product = createTestProduct();
-        int increaseAmount = 50;
-
-        // when
-        product.increaseStock(increaseAmount);
-
-        // then
-        assertThat(product.getStockQuantity()).isEqualTo(150);
-    }
-
-    @Test
-    @DisplayName("재고가 부족하면 예외가 발생한다")
-    void decreaseStockWithInsufficientStock() {
-        // given
-        Product product = createTestProduct();
-
-        // when & then
-        assertThatThrownBy(() -> product.decreaseStock(150))
-                .isInstanceOf(InsufficientStockException.class);
-    }
-
-    @Test
-    @DisplayName("재고가 0이 되면 품절 상태로 변경된다")
-    void changeToOutOfStockWhenStockIsZero() {
-        // given
-        Product product = createTestProduct();
-
-        // when
-        product.decreaseStock(100);
-
-        // then
-        assertThat(product.getStockQuantity()).isEqualTo(0);
-        assertThat(product.getStatus()).isEqualTo(ProductStatus.OUT_OF_STOCK);
-    }
-
     @Test
     @DisplayName("가격을 변경할 수 있다")
     void updatePrice() {
@@ -126,9 +72,8 @@ class ProductTest {
     @DisplayName("품절 상태에서는 판매 불가능하다")
     void isNotAvailableWhenOutOfStock() {
         // given
-        Product product = createTestProduct();
+        Product product = Product.create("품절 상품", null, new BigDecimal("10000"), 0, "테스트 브랜드", null);
         product.publish();
-        product.decreaseStock(100);
 
         // when & then
         assertThat(product.isAvailable()).isFalse();
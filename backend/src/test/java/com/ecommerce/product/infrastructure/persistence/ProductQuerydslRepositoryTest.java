@@ -0,0 +1,131 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.product.domain.Category;
+import com.ecommerce.product.domain.Product;
+import com.ecommerce.product.dto.ProductSearchFacetResponse;
+import com.ecommerce.product.dto.ProductSearchRequest;
+import com.ecommerce.shared.config.JpaAuditingConfig;
+import com.ecommerce.shared.config.QuerydslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DataJpaTest
+@Import({ProductQuerydslRepository.class, QuerydslConfig.class, JpaAuditingConfig.class})
+@DisplayName("ProductQuerydslRepository 테스트")
+class ProductQuerydslRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProductQuerydslRepository productQuerydslRepository;
+
+    private Category audio;
+    private Category laptop;
+
+    @BeforeEach
+    void setUp() {
+        audio = persist(Category.create("오디오", null, 1));
+        laptop = persist(Category.create("노트북", null, 2));
+
+        persist(Product.create("블루투스 스피커", null, BigDecimal.valueOf(80_000), 10, "소니", audio));
+        persist(Product.create("무선 이어폰", null, BigDecimal.valueOf(150_000), 10, "소니", audio));
+        persist(Product.create("유선 이어폰", null, BigDecimal.valueOf(9_900), 10, "삼성", audio));
+        persist(Product.create("게이밍 노트북", null, BigDecimal.valueOf(1_500_000), 10, "삼성", laptop));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("검색 조건별 브랜드/카테고리/가격 구간 상품 수를 DB 에서 집계한다")
+    void countsFacets() {
+        // given
+        ProductSearchRequest request = ProductSearchRequest.builder().keyword("이어폰").build();
+
+        // when
+        ProductSearchFacetResponse facets = productQuerydslRepository.countFacets(request, null);
+
+        // then
+        assertThat(facets.getTotalElements()).isEqualTo(2);
+        assertThat(facets.getBrands()).containsOnly(entry("소니", 1L), entry("삼성", 1L));
+        assertThat(facets.getCategories()).containsOnly(entry(audio.getId(), 2L));
+        assertThat(facets.getPriceRanges())
+                .containsEntry("0-10000", 1L)
+                .containsEntry("100000-500000", 1L)
+                .containsEntry("500000-", 0L);
+    }
+
+    @Test
+    @DisplayName("하위 카테고리를 포함하면 손자 카테고리 상품까지 조회한다")
+    void searchesSubtree() {
+        // given
+        Category electronics = persist(Category.create("전자제품", null, 3));
+        Category phone = persist(Category.create("휴대폰", electronics, 1));
+        Category accessory = persist(Category.create("휴대폰 액세서리", phone, 1));
+        persist(Product.create("휴대폰 케이스", null, BigDecimal.valueOf(15_000), 10, "삼성", accessory));
+        persist(Product.create("스마트폰", null, BigDecimal.valueOf(1_000_000), 10, "삼성", phone));
+        entityManager.flush();
+        CategoryFilter filter = CategoryFilter.subtree(electronics.getId(),
+                Set.of(electronics.getId(), phone.getId(), accessory.getId()), electronics.getPath());
+
+        // when
+        Page<Product> result = productQuerydslRepository.searchProducts(
+                ProductSearchRequest.builder().build(), filter, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).extracting(Product::getName)
+                .containsExactlyInAnyOrder("휴대폰 케이스", "스마트폰");
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("하위 카테고리가 많으면 ID 목록 대신 경로 접두어로 같은 결과를 조회한다")
+    void searchesLargeSubtreeByPathPrefix() {
+        // given
+        Category electronics = persist(Category.create("전자제품", null, 3));
+        Set<Long> subtreeIds = new HashSet<>(Set.of(electronics.getId()));
+        Category lastChild = null;
+        for (int i = 0; i < 120; i++) {
+            lastChild = persist(Category.create("하위" + i, electronics, i));
+            subtreeIds.add(lastChild.getId());
+        }
+        Category grandchild = persist(Category.create("손자", lastChild, 1));
+        subtreeIds.add(grandchild.getId());
+        persist(Product.create("휴대폰 케이스", null, BigDecimal.valueOf(15_000), 10, "삼성", grandchild));
+        persist(Product.create("스마트폰", null, BigDecimal.valueOf(1_000_000), 10, "삼성", lastChild));
+        entityManager.flush();
+        CategoryFilter filter = CategoryFilter.subtree(electronics.getId(), subtreeIds, electronics.getPath());
+        entityManager.clear();
+
+        // when
+        long count = productQuerydslRepository.countProducts(ProductSearchRequest.builder().build(), filter);
+        ProductSearchFacetResponse facets = productQuerydslRepository.countFacets(
+                ProductSearchRequest.builder().build(), filter);
+
+        // then
+        assertThat(grandchild.getPath())
+                .isEqualTo(Category.pathOf(List.of(electronics.getId(), lastChild.getId(), grandchild.getId())));
+        assertThat(count).isEqualTo(2);
+        assertThat(facets.getCategories()).containsOnly(entry(lastChild.getId(), 1L), entry(grandchild.getId(), 1L));
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.product.domain.Product;
+import com.ecommerce.product.domain.ProductRepository;
+import com.ecommerce.product.domain.ProductRepository.CounterDelta;
+import com.ecommerce.shared.config.JpaAuditingConfig;
+import com.ecommerce.shared.config.QuerydslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({ProductRepositoryImpl.class, ProductQuerydslRepository.class, ProductStockJdbcRepository.class,
+        ProductCounterJdbcRepository.class, QuerydslConfig.class, JpaAuditingConfig.class})
+@DisplayName("ProductRepository 테스트")
+class ProductRepositoryImplTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("상품 정보를 저장해도 먼저 반영된 재고 차감과 조회수/판매량 증가분을 덮어쓰지 않는다")
+    void saveDoesNotOverwriteStockAndCounters() {
+        // given
+        Product product = productRepository.save(
+                Product.create("노트북", "설명", BigDecimal.valueOf(1_000_000), 10, "브랜드", null));
+        entityManager.flush();
+        entityManager.clear();
+        Product loaded = entityManager.find(Product.class, product.getId());
+
+        productRepository.decreaseStocks(Map.of(product.getId(), 3));
+        productRepository.addCounters(Map.of(product.getId(), new CounterDelta(5, 3)));
+
+        // when
+        loaded.update("노트북 Pro", null, null, null, null);
+        productRepository.save(loaded);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Product saved = entityManager.find(Product.class, product.getId());
+        assertThat(saved.getName()).isEqualTo("노트북 Pro");
+        assertThat(saved.getStockQuantity()).isEqualTo(7);
+        assertThat(saved.getViewCount()).isEqualTo(5);
+        assertThat(saved.getSalesCount()).isEqualTo(3);
+        assertThat(productRepository.findStockQuantities(List.of(product.getId()))).containsEntry(product.getId(), 7);
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductStockJdbcRepository 테스트")
+class ProductStockJdbcRepositoryTest {
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ProductStockJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE products (" +
+                "id BIGINT PRIMARY KEY, " +
+                "stock_quantity INT NOT NULL, " +
+                "status VARCHAR(50) NOT NULL, " +
+                "updated_at TIMESTAMP)");
+        repository = new ProductStockJdbcRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("재고가 부족한 상품은 차감되지 않고 ID가 반환된다")
+    void decreaseStocksRejectsInsufficientStock() {
+        // given
+        insertProduct(1L, 10, "ACTIVE");
+        insertProduct(2L, 1, "ACTIVE");
+
+        // when
+        List<Long> rejected = repository.decreaseStocks(Map.of(1L, 3, 2L, 5));
+
+        // then
+        assertThat(rejected).containsExactly(2L);
+        assertThat(repository.findStockQuantities(List.of(1L, 2L)))
+                .containsEntry(1L, 7)
+                .containsEntry(2L, 1);
+    }
+
+    @Test
+    @DisplayName("재고가 0이 되면 품절, 재고가 증가하면 판매중으로 변경된다")
+    void statusFollowsStock() {
+        // given
+        insertProduct(1L, 2, "ACTIVE");
+
+        // when & then
+        repository.decreaseStocks(Map.of(1L, 2));
+        assertThat(statusOf(1L)).isEqualTo("OUT_OF_STOCK");
+
+        repository.increaseStocks(Map.of(1L, 5));
+        assertThat(statusOf(1L)).isEqualTo("ACTIVE");
+        assertThat(repository.findStockQuantities(List.of(1L))).containsEntry(1L, 5);
+    }
+
+    @Test
+    @DisplayName("동시 차감 요청이 몰려도 재고 이상으로 차감되지 않는다")
+    void concurrentDecreaseNeverOversells() throws InterruptedException {
+        // given
+        int stock = 100;
+        int requests = 300;
+        insertProduct(1L, stock, "ACTIVE");
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < requests; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (repository.decreaseStocks(Map.of(1L, 1)).isEmpty()) {
+                        succeeded.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(stock);
+        assertThat(repository.findStockQuantities(List.of(1L))).containsEntry(1L, 0);
+        assertThat(statusOf(1L)).isEqualTo("OUT_OF_STOCK");
+    }
+
+    private void insertProduct(Long id, int stock, String status) {
+        jdbcTemplate.update("INSERT INTO products (id, stock_quantity, status) VALUES (?, ?, ?)",
+                id, stock, status);
+    }
+
+    private String statusOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM products WHERE id = ?", String.class, id);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.domain.ProductStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductSearchIndex 테스트")
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.index(document(1L, "무선 블루투스 이어폰", "노이즈 캔슬링 지원", "소니", 10L, 150_000));
+        index.index(document(2L, "유선 이어폰", "가성비 이어폰, 이어폰 케이스 포함", "삼성", 10L, 9_900));
+        index.index(document(3L, "블루투스 스피커", "휴대용 무선 스피커", "소니", 20L, 80_000));
+    }
+
+    @Test
+    @DisplayName("한글 검색어를 2-gram 으로 부분 일치 검색한다")
+    void searchesKoreanByNGram() {
+        // when
+        ProductSearchHits hits = index.search(query("루투스", null, null));
+
+        // then
+        assertThat(hits.productIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search(query("이어폰", null, null)).productIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search(query("블루투스 키보드", null, null)).productIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품명에 일치하는 상품이 설명에만 일치하는 상품보다 앞에 온다")
+    void ranksNameMatchesFirst() {
+        // given
+        index.index(document(4L, "스피커 거치대", "무선 이어폰과 함께 쓰기 좋은", "기타", 30L, 20_000));
+
+        // when
+        ProductSearchHits hits = index.search(query("스피커", null, null));
+
+        // then
+        assertThat(hits.productIds()).containsExactly(3L, 4L);
+        assertThat(hits.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("필터 적용 후 브랜드/카테고리/가격 구간별 상품 수를 집계한다")
+    void countsFacetsAfterFilters() {
+        // when
+        ProductSearchHits hits = index.search(query("", "소니", null));
+
+        // then
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.brandCounts()).containsOnlyKeys("소니");
+        assertThat(hits.categoryCounts()).containsEntry(10L, 1L).containsEntry(20L, 1L);
+        assertThat(hits.priceCounts()).containsEntry("50000-100000", 1L).containsEntry("100000-500000", 1L);
+        assertThat(index.search(query("이어폰", null, Set.of(20L))).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 상품은 이전 내용으로 검색되지 않는다")
+    void replacesAndRemovesDocuments() {
+        // when
+        index.index(document(2L, "유선 헤드폰", null, "삼성", 10L, 9_900));
+        index.remove(1L);
+
+        // then
+        assertThat(index.search(query("이어폰", null, null)).productIds()).isEmpty();
+        assertThat(index.search(query("헤드폰", null, null)).productIds()).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private ProductSearchQuery query(String keyword, String brand, Set<Long> categoryIds) {
+        return new ProductSearchQuery(keyword, null, categoryIds, brand, null, null, 0, 20);
+    }
+
+    private ProductDocument document(Long id, String name, String description, String brand,
+                                     Long categoryId, long price) {
+        return new ProductDocument(id, name, description, brand, categoryId,
+                BigDecimal.valueOf(price), ProductStatus.ACTIVE);
+    }
+}
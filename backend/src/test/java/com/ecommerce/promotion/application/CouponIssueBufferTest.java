@@ -0,0 +1,98 @@
+package com.ecommerce.promotion.application;
+
+import com.ecommerce.promotion.application.CouponQuotaGate.CouponQuota;
+import com.ecommerce.promotion.domain.CouponRepository;
+import com.ecommerce.promotion.domain.PendingCouponIssue;
+import com.ecommerce.promotion.domain.event.CouponIssuedEvent;
+import com.ecommerce.shared.infrastructure.DomainEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueBuffer 테스트")
+class CouponIssueBufferTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponQuotaGate couponQuotaGate;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CouponIssueBuffer couponIssueBuffer;
+
+    @BeforeEach
+    void setUp() {
+        couponIssueBuffer = new CouponIssueBuffer(couponRepository, couponQuotaGate, eventPublisher,
+                new TransactionTemplate(transactionManager));
+        given(couponQuotaGate.getQuota(1L)).willReturn(new CouponQuota(1L, "FCFS", "선착순 쿠폰", 10, 0,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), true));
+    }
+
+    @Test
+    @DisplayName("발급 이벤트는 발급 건 저장과 같은 트랜잭션에서 아웃박스에 기록한다")
+    void publishesIssuedEventInsideInsertTransaction() {
+        // given
+        couponIssueBuffer.add(new PendingCouponIssue(1L, 100L, LocalDateTime.now()));
+
+        // when
+        couponIssueBuffer.flush();
+
+        // then
+        InOrder inOrder = inOrder(transactionManager, couponRepository, eventPublisher);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(couponRepository).saveIssuesInBatch(eq(1L), argThat(issues -> issues.size() == 1));
+        inOrder.verify(eventPublisher).publishEvent(argThat(event ->
+                ((CouponIssuedEvent) event).getCustomerId().equals(100L)));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 발급 건은 이벤트를 기록하지 않고 할당량을 반환한다")
+    void releasesQuotaWithoutEventWhenInsertFails() {
+        // given
+        PendingCouponIssue saved = new PendingCouponIssue(1L, 100L, LocalDateTime.now());
+        PendingCouponIssue failed = new PendingCouponIssue(1L, 200L, LocalDateTime.now());
+        willThrow(new DataIntegrityViolationException("duplicate"))
+                .given(couponRepository).saveIssuesInBatch(eq(1L), argThat(issues -> issues.contains(failed)));
+        couponIssueBuffer.add(saved);
+        couponIssueBuffer.add(failed);
+
+        // when
+        couponIssueBuffer.flush();
+
+        // then
+        verify(eventPublisher, times(1)).publishEvent(argThat(event ->
+                ((CouponIssuedEvent) event).getCustomerId().equals(100L)));
+        verify(eventPublisher, never()).publishEvent(argThat(event ->
+                ((CouponIssuedEvent) event).getCustomerId().equals(200L)));
+        verify(couponQuotaGate).release(1L, 200L);
+        verify(transactionManager, times(2)).rollback(any());
+    }
+}
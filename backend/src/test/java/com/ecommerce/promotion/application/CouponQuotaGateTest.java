@@ -0,0 +1,155 @@
+package com.ecommerce.promotion.application;
+
+import com.ecommerce.promotion.application.CouponQuotaGate.Admission;
+import com.ecommerce.promotion.application.CouponQuotaGate.CouponQuota;
+import com.ecommerce.promotion.domain.Coupon;
+import com.ecommerce.promotion.domain.CouponRepository;
+import com.ecommerce.promotion.domain.CouponType;
+import com.ecommerce.promotion.domain.DiscountType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("CouponQuotaGate 테스트")
+class CouponQuotaGateTest {
+
+    @Test
+    @DisplayName("동시 발급 요청이 몰려도 총 수량을 초과하여 발급하지 않는다")
+    void neverIssuesMoreThanTotalQuantity() throws InterruptedException {
+        // given
+        int totalQuantity = 100;
+        int customers = 2_000;
+        CouponQuota quota = createQuota(totalQuantity, 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(customers);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        // when
+        for (long customerId = 1; customerId <= customers; customerId++) {
+            long id = customerId;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    Admission admission = quota.tryAcquire(id);
+                    if (admission == Admission.ADMITTED) {
+                        admitted.incrementAndGet();
+                    } else if (admission == Admission.SOLD_OUT) {
+                        soldOut.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(admitted.get()).isEqualTo(totalQuantity);
+        assertThat(soldOut.get()).isEqualTo(customers - totalQuantity);
+        assertThat(quota.getRemainingQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 고객의 중복 요청은 한 번만 통과한다")
+    void rejectsDuplicateCustomer() {
+        // given
+        CouponQuota quota = createQuota(10, 0);
+
+        // when & then
+        assertThat(quota.tryAcquire(1L)).isEqualTo(Admission.ADMITTED);
+        assertThat(quota.tryAcquire(1L)).isEqualTo(Admission.ALREADY_ISSUED);
+        assertThat(quota.getRemainingQuantity()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("이미 발급된 수량을 제외하고 남은 수량만 발급한다")
+    void startsFromIssuedQuantity() {
+        // given
+        CouponQuota quota = createQuota(3, 2);
+
+        // when & then
+        assertThat(quota.tryAcquire(1L)).isEqualTo(Admission.ADMITTED);
+        assertThat(quota.tryAcquire(2L)).isEqualTo(Admission.SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("반환된 할당량은 다시 발급할 수 있다")
+    void releaseReturnsQuota() {
+        // given
+        CouponQuota quota = createQuota(1, 0);
+        quota.tryAcquire(1L);
+
+        // when
+        quota.release(1L);
+
+        // then
+        assertThat(quota.tryAcquire(2L)).isEqualTo(Admission.ADMITTED);
+    }
+
+    @Test
+    @DisplayName("비활성화된 쿠폰은 발급할 수 없다")
+    void rejectsInactiveCoupon() {
+        // given
+        CouponQuota quota = new CouponQuota(1L, "FCFS", "선착순 쿠폰", 10, 0,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), false);
+
+        // when & then
+        assertThat(quota.tryAcquire(1L)).isEqualTo(Admission.NOT_ISSUABLE);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 바꾼 활성 상태는 커밋 후에 게이트에 반영한다")
+    void appliesActiveAfterCommit() {
+        // given
+        CouponRepository couponRepository = mock(CouponRepository.class);
+        Coupon coupon = Coupon.builder().code("FCFS").name("선착순 쿠폰")
+                .couponType(CouponType.EVENT).discountType(DiscountType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(1_000)).totalQuantity(10)
+                .validFrom(LocalDateTime.now().minusDays(1)).validUntil(LocalDateTime.now().plusDays(1))
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", 1L);
+        given(couponRepository.findByIdWithoutIssues(1L)).willReturn(Optional.of(coupon));
+        CouponQuotaGate gate = new CouponQuotaGate(couponRepository);
+        CouponQuota quota = gate.getQuota(1L);
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            gate.updateActive(1L, false);
+
+            // then
+            assertThat(quota.isActive()).isTrue();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(quota.isActive()).isFalse();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private CouponQuota createQuota(int totalQuantity, int issuedQuantity) {
+        return new CouponQuota(1L, "FCFS", "선착순 쿠폰", totalQuantity, issuedQuantity,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), true);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecommerce.promotion.application;
+
+import com.ecommerce.promotion.application.CouponQuotaGate.CouponQuota;
+import com.ecommerce.promotion.domain.CouponRepository;
+import com.ecommerce.shared.infrastructure.DomainEventPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponService 테스트")
+class CouponServiceTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponMapper couponMapper;
+
+    @Mock
+    private CouponQuotaGate couponQuotaGate;
+
+    @Mock
+    private CouponIssueBuffer couponIssueBuffer;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CouponService couponService;
+
+    @Test
+    @DisplayName("선착순 쿠폰의 중복 발급 확인 조회가 실패하면 확보한 수량을 반환한다")
+    void releasesQuotaWhenDuplicateCheckFails() {
+        // given
+        CouponQuota quota = new CouponQuota(1L, "FCFS", "선착순 쿠폰", 1, 0,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), true);
+        given(couponQuotaGate.getQuota(1L)).willReturn(quota);
+        given(couponRepository.countIssuedCouponsByCustomerId(1L, 100L))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(1L, 100L))
+                .isInstanceOf(QueryTimeoutException.class);
+        verify(couponIssueBuffer, never()).add(any());
+        verify(couponQuotaGate).release(1L, 100L);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.review.domain;
+
+import com.ecommerce.review.domain.event.ReviewVisibilityChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Review 도메인 테스트")
+class ReviewTest {
+
+    @Test
+    @DisplayName("신고가 3회 누적되어 비노출되면 노출 여부 변경 이벤트를 등록한다")
+    void reportRegistersVisibilityChange() {
+        // given
+        Review review = review(4);
+
+        // when
+        review.report("스팸");
+        review.report("스팸");
+        assertThat(review.getDomainEvents()).isEmpty();
+        review.report("스팸");
+
+        // then
+        assertThat(review.getReviewStatus()).isEqualTo(ReviewStatus.REPORTED);
+        assertThat(review.getDomainEvents()).singleElement()
+                .isInstanceOfSatisfying(ReviewVisibilityChangedEvent.class, event -> {
+                    assertThat(event.getProductId()).isEqualTo(10L);
+                    assertThat(event.getRating()).isEqualTo(4);
+                    assertThat(event.isVisible()).isFalse();
+                });
+    }
+
+    @Test
+    @DisplayName("숨김 후 복구하면 비노출/노출 이벤트를 차례로 등록하고, 상태가 그대로면 등록하지 않는다")
+    void hideAndRestoreRegisterVisibilityChanges() {
+        // given
+        Review review = review(5);
+
+        // when
+        review.hide();
+        review.hide();
+        review.restore();
+        review.restore();
+
+        // then
+        assertThat(review.getDomainEvents())
+                .extracting(event -> ((ReviewVisibilityChangedEvent) event).isVisible())
+                .containsExactly(false, true);
+    }
+
+    private Review review(int rating) {
+        return Review.builder()
+                .productId(10L)
+                .customerId(1L)
+                .orderId(100L)
+                .rating(rating)
+                .content("좋아요")
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.ecommerce.review.infrastructure.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductRatingJdbcRepository 테스트")
+class ProductRatingJdbcRepositoryTest {
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ProductRatingJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE product_ratings (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "product_id BIGINT NOT NULL UNIQUE, " +
+                "rating_sum BIGINT NOT NULL, " +
+                "review_count BIGINT NOT NULL, " +
+                "rating1_count BIGINT NOT NULL, " +
+                "rating2_count BIGINT NOT NULL, " +
+                "rating3_count BIGINT NOT NULL, " +
+                "rating4_count BIGINT NOT NULL, " +
+                "rating5_count BIGINT NOT NULL, " +
+                "created_at TIMESTAMP NOT NULL, " +
+                "updated_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE reviews (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "product_id BIGINT NOT NULL, " +
+                "rating INT NOT NULL, " +
+                "review_status VARCHAR(50) NOT NULL)");
+        repository = new ProductRatingJdbcRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("첫 평점은 집계 행을 만들고 이후 평점은 증감으로 반영된다")
+    void applyDeltaCreatesThenUpdates() {
+        // when
+        repository.applyDelta(1L, histogram(5, 1));
+        repository.applyDelta(1L, histogram(3, 1));
+        repository.applyDelta(1L, histogram(5, -1));
+
+        // then
+        Map<String, Object> row = ratingOf(1L);
+        assertThat(((Number) row.get("RATING_SUM")).longValue()).isEqualTo(3L);
+        assertThat(((Number) row.get("REVIEW_COUNT")).longValue()).isEqualTo(1L);
+        assertThat(((Number) row.get("RATING3_COUNT")).longValue()).isEqualTo(1L);
+        assertThat(((Number) row.get("RATING5_COUNT")).longValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("보정 작업은 활성 리뷰 기준으로 틀어진 집계만 고친다")
+    void reconcileCorrectsDrift() {
+        // given
+        insertReview(1L, 4, "ACTIVE");
+        insertReview(1L, 2, "ACTIVE");
+        insertReview(1L, 5, "HIDDEN");
+        insertReview(2L, 5, "ACTIVE");
+        repository.applyDelta(1L, histogram(4, 1));
+        repository.applyDelta(1L, histogram(2, 1));
+        repository.applyDelta(1L, histogram(5, 1)); // 숨김 처리가 반영되지 않은 상태
+        repository.applyDelta(3L, histogram(1, 1)); // 리뷰가 모두 사라진 상품
+
+        // when
+        int corrected = repository.reconcileAll();
+
+        // then
+        assertThat(corrected).isEqualTo(3);
+        assertThat(((Number) ratingOf(1L).get("RATING_SUM")).longValue()).isEqualTo(6L);
+        assertThat(((Number) ratingOf(2L).get("REVIEW_COUNT")).longValue()).isEqualTo(1L);
+        assertThat(((Number) ratingOf(3L).get("REVIEW_COUNT")).longValue()).isZero();
+        assertThat(repository.reconcileAll()).isZero();
+    }
+
+    private long[] histogram(int rating, long delta) {
+        long[] histogram = new long[6];
+        histogram[rating] = delta;
+        return histogram;
+    }
+
+    private void insertReview(Long productId, int rating, String status) {
+        jdbcTemplate.update("INSERT INTO reviews (product_id, rating, review_status) VALUES (?, ?, ?)",
+                productId, rating, status);
+    }
+
+    private Map<String, Object> ratingOf(Long productId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM product_ratings WHERE product_id = ?", productId);
+    }
+}
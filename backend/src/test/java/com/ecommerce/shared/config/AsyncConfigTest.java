@@ -0,0 +1,50 @@
+package com.ecommerce.shared.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AsyncConfig 테스트")
+class AsyncConfigTest {
+
+    @Test
+    @DisplayName("큐가 가득 차면 제출한 스레드에서 실행하지 않고 거절한다")
+    void rejectsInsteadOfRunningOnCaller() throws InterruptedException {
+        // given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("async.executor.domain-event.concurrency", "1")
+                .withProperty("async.executor.domain-event.queue-capacity", "1");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ThreadPoolTaskExecutor executor = new AsyncConfig(environment, meterRegistry).domainEventExecutor();
+
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocking);
+        executor.execute(blocking);
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> executor.execute(blocking))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(meterRegistry.get("executor.rejected").tag("name", "domain-event").counter().count())
+                    .isEqualTo(1.0);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecommerce.shared.dto;
+
+import com.ecommerce.shared.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CursorPageResponse 테스트")
+class CursorPageResponseTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+
+    @Test
+    @DisplayName("size 보다 많이 조회되면 초과분을 버리고 마지막 행의 커서를 반환한다")
+    void returnsNextCursorWhenMoreRows() {
+        // given
+        List<PageCursor> rows = List.of(new PageCursor(NOW, 3L), new PageCursor(NOW, 2L), new PageCursor(NOW, 1L));
+
+        // when
+        CursorPageResponse<Long> response = CursorPageResponse.of(rows, 2, PageCursor::id, row -> row);
+
+        // then
+        assertThat(response.getContent()).containsExactly(3L, 2L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(PageCursor.decode(response.getNextCursor())).isEqualTo(new PageCursor(NOW, 2L));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 nextCursor 가 없다")
+    void lastPageHasNoCursor() {
+        // when
+        CursorPageResponse<Long> response =
+                CursorPageResponse.of(List.of(new PageCursor(NOW, 1L)), 2, PageCursor::id, row -> row);
+
+        // then
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서와 페이지 크기는 검증 예외가 발생한다")
+    void rejectsInvalidInput() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThatThrownBy(() -> PageCursor.decode("not-a-cursor")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> CursorPageResponse.fetchSizeOf(0)).isInstanceOf(ValidationException.class);
+        assertThat(CursorPageResponse.fetchSizeOf(20)).isEqualTo(21);
+    }
+}
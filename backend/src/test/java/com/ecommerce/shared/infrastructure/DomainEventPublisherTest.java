@@ -2,18 +2,19 @@ package com.ecommerce.shared.infrastructure;
 
 import com.ecommerce.shared.domain.AggregateRoot;
 import com.ecommerce.shared.domain.BaseDomainEvent;
-import com.ecommerce.shared.domain.DomainEvent;
+import com.ecommerce.shared.infrastructure.outbox.OutboxEventWriter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 
 @DisplayName("DomainEventPublisher 테스트")
@@ -21,7 +22,7 @@ import static org.mockito.Mockito.verify;
 class DomainEventPublisherTest {
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private OutboxEventWriter outboxEventWriter;
 
     @InjectMocks
     private DomainEventPublisher domainEventPublisher;
@@ -37,7 +38,7 @@ class DomainEventPublisherTest {
     }
 
     @Test
-    @DisplayName("Aggregate의 이벤트를 발행하고 클리어한다")
+    @DisplayName("Aggregate의 이벤트를 아웃박스에 기록하고 클리어한다")
     void publishEventsAndClear() {
         // given
         TestAggregate aggregate = new TestAggregate();
@@ -48,7 +49,17 @@ class DomainEventPublisherTest {
         domainEventPublisher.publishEvents(aggregate);
 
         // then
-        verify(eventPublisher, times(2)).publishEvent(any(DomainEvent.class));
+        verify(outboxEventWriter).append(eq("TestAggregate"), isNull(), argThat(events -> events.size() == 2));
         assertThat(aggregate.getDomainEvents()).isEmpty();
     }
+
+    @Test
+    @DisplayName("단건 이벤트는 이벤트 타입을 Aggregate 타입으로 기록한다")
+    void publishSingleEvent() {
+        // when
+        domainEventPublisher.publishEvent(new TestEvent());
+
+        // then
+        verify(outboxEventWriter).append(eq("TestEvent"), isNull(), anyList());
+    }
 }
@@ -0,0 +1,159 @@
+package com.ecommerce.shared.infrastructure.idempotency;
+
+import com.ecommerce.shared.config.JpaAuditingConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({IdempotencyService.class, JpaAuditingConfig.class, IdempotencyServiceTest.MetricsConfig.class})
+@DisplayName("멱등 요청 처리 테스트")
+class IdempotencyServiceTest {
+
+    private static final IdempotentResponse CREATED =
+            new IdempotentResponse(201, "application/json", "{\"success\":true}".getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 한 번만 실행하고 같은 응답을 돌려준다")
+    void coalescesConcurrentDuplicates() throws Exception {
+        // given
+        IdempotencyRequest request = request("hash-a");
+        int requests = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<Optional<IdempotentResponse>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> idempotencyService.execute(request, () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                release.orTimeout(5, TimeUnit.SECONDS).join();
+                return CREATED;
+            })));
+            started.await(5, TimeUnit.SECONDS);
+
+            // when
+            for (int i = 1; i < requests; i++) {
+                results.add(executor.submit(() -> idempotencyService.execute(request, () -> {
+                    executions.incrementAndGet();
+                    return CREATED;
+                })));
+            }
+            Thread.sleep(100);
+            release.complete(null);
+
+            // then
+            assertThat(results.get(0).get(5, TimeUnit.SECONDS)).isEmpty();
+            for (int i = 1; i < requests; i++) {
+                assertThat(results.get(i).get(5, TimeUnit.SECONDS)).contains(CREATED);
+            }
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 요청을 다시 보내면 저장된 응답을 돌려준다")
+    void replaysStoredResponse() throws Exception {
+        // given
+        IdempotencyRequest request = request("hash-a");
+        AtomicInteger executions = new AtomicInteger();
+        idempotencyService.execute(request, () -> {
+            executions.incrementAndGet();
+            return CREATED;
+        });
+
+        // when
+        Optional<IdempotentResponse> replayed = idempotencyService.execute(request, () -> {
+            executions.incrementAndGet();
+            return CREATED;
+        });
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(replayed).isPresent();
+        assertThat(replayed.get().status()).isEqualTo(201);
+        assertThat(replayed.get().body()).isEqualTo(CREATED.body());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 예외가 발생한다")
+    void rejectsReusedKey() throws Exception {
+        // given
+        IdempotencyRequest request = request("hash-a");
+        idempotencyService.execute(request, () -> CREATED);
+
+        // when & then
+        IdempotencyRequest other = new IdempotencyRequest(request.owner(), request.key(), "hash-b");
+        assertThatThrownBy(() -> idempotencyService.execute(other, () -> CREATED))
+                .isInstanceOf(IdempotencyConflictException.class)
+                .hasMessageContaining("Idempotency-Key");
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 저장하지 않아 재시도 시 다시 실행한다")
+    void doesNotStoreServerErrors() throws Exception {
+        // given
+        IdempotencyRequest request = request("hash-a");
+        AtomicInteger executions = new AtomicInteger();
+        IdempotentResponse unavailable = new IdempotentResponse(503, "application/json", new byte[0]);
+        idempotencyService.execute(request, () -> {
+            executions.incrementAndGet();
+            return unavailable;
+        });
+
+        // when
+        Optional<IdempotentResponse> result = idempotencyService.execute(request, () -> {
+            executions.incrementAndGet();
+            return CREATED;
+        });
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private static IdempotencyRequest request(String requestHash) {
+        return new IdempotencyRequest("customer:1", UUID.randomUUID().toString(), requestHash);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.shared.infrastructure.outbox;
+
+import com.ecommerce.notification.application.NotificationEventHandler;
+import com.ecommerce.shared.domain.BaseDomainEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("아웃박스 수신 컨텍스트 레지스트리 테스트")
+class OutboxConsumerRegistryTest {
+
+    private static final List<String> received = new CopyOnWriteArrayList<>();
+
+    private AnnotationConfigApplicationContext context;
+    private OutboxConsumerRegistry consumerRegistry;
+
+    static class TestEvent extends BaseDomainEvent {
+    }
+
+    static class OtherEvent extends BaseDomainEvent {
+    }
+
+    static class TestListener {
+
+        @EventListener
+        public void handle(TestEvent event) {
+            received.add("test");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        received.clear();
+        context = new AnnotationConfigApplicationContext(OutboxConsumerRegistry.class, TestListener.class);
+        consumerRegistry = context.getBean(OutboxConsumerRegistry.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("리스너 패키지의 바운디드 컨텍스트를 수신 컨텍스트로 등록한다")
+    void registersConsumersByListenerPackage() {
+        assertThat(OutboxConsumerRegistry.consumerOf(NotificationEventHandler.class)).isEqualTo("notification");
+        assertThat(consumerRegistry.consumersOf(TestEvent.class)).containsExactly("shared");
+        assertThat(consumerRegistry.consumersOf(OtherEvent.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지정한 컨텍스트의 리스너에만 이벤트를 전달한다")
+    void deliversOnlyToGivenConsumer() {
+        // when
+        consumerRegistry.deliver("notification", new TestEvent());
+        consumerRegistry.deliver("shared", new TestEvent());
+
+        // then
+        assertThat(received).containsExactly("test");
+    }
+}
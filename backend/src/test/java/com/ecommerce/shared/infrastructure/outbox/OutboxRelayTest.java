@@ -0,0 +1,196 @@
+package com.ecommerce.shared.infrastructure.outbox;
+
+import com.ecommerce.shared.config.AsyncConfig;
+import com.ecommerce.shared.config.JpaAuditingConfig;
+import com.ecommerce.shared.domain.BaseDomainEvent;
+import com.ecommerce.shared.domain.DomainEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(JpaAuditingConfig.class)
+@DisplayName("아웃박스 릴레이 테스트")
+class OutboxRelayTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Autowired
+    private JpaOutboxEventRepository outboxEventRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private final Set<String> failing = new CopyOnWriteArraySet<>();
+
+    private OutboxRelay outboxRelay;
+
+    static class TestEvent extends BaseDomainEvent {
+
+        private final String name;
+
+        TestEvent(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = relay(100, 10, 10);
+    }
+
+    private OutboxRelay relay(int batchSize, int maxBatchesPerPoll, int maxAttempts) {
+        OutboxConsumerRegistry consumerRegistry = new OutboxConsumerRegistry() {
+            @Override
+            public void deliver(String consumer, DomainEvent event) {
+                String name = consumer + ":" + ((TestEvent) event).getName();
+                if (failing.contains(name)) {
+                    throw new IllegalStateException("handler failed: " + name);
+                }
+                delivered.add(name);
+            }
+        };
+        return new OutboxRelay(outboxEventRepository, consumerRegistry, objectMapper, Map.of(AsyncConfig.DOMAIN_EVENT_EXECUTOR, DIRECT), new SimpleMeterRegistry(),
+                batchSize, maxBatchesPerPoll, maxAttempts, 60_000, 600_000, 5_000, 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("핸들러가 끝난 이벤트만 발행 완료로 표시한다")
+    void marksPublishedAfterHandlerCompletes() throws Exception {
+        // given
+        OutboxEvent event = append("shipping", "Order", 1L, "placed");
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(delivered).containsExactly("shipping:placed");
+        OutboxEvent relayed = outboxEventRepository.findById(event.getId()).orElseThrow();
+        assertThat(relayed.getPublishedAt()).isNotNull();
+        assertThat(relayed.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("핸들러가 실패한 이벤트는 미발행으로 남기고, 대기 시간 동안 같은 Aggregate 의 뒤 이벤트와 함께 보류한다")
+    void keepsFailedEventPendingWithBackoff() throws Exception {
+        // given
+        failing.add("shipping:confirmed");
+        OutboxEvent failed = append("shipping", "Order", 1L, "confirmed");
+        OutboxEvent next = append("shipping", "Order", 1L, "completed");
+        OutboxEvent other = append("shipping", "Order", 2L, "placed");
+
+        // when
+        outboxRelay.relay();
+        failing.clear();
+        outboxRelay.relay();
+
+        // then
+        assertThat(delivered).containsExactly("shipping:placed");
+
+        OutboxEvent pending = outboxEventRepository.findById(failed.getId()).orElseThrow();
+        assertThat(pending.getPublishedAt()).isNull();
+        assertThat(pending.getAttempts()).isEqualTo(1);
+        assertThat(pending.getLastError()).contains("handler failed");
+        assertThat(pending.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+
+        assertThat(outboxEventRepository.findById(next.getId()).orElseThrow().getPublishedAt()).isNull();
+        assertThat(outboxEventRepository.findById(other.getId()).orElseThrow().getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("재시도 대기 중인 이벤트가 배치를 채워도 새 이벤트를 전달한다")
+    void skipsBackedOffEventsWhenQuerying() throws Exception {
+        // given
+        OutboxRelay singleRowRelay = relay(1, 1, 10);
+        failing.add("shipping:confirmed");
+        OutboxEvent failed = append("shipping", "Order", 1L, "confirmed");
+        singleRowRelay.relay();
+        failing.clear();
+        append("shipping", "Order", 2L, "placed");
+
+        // when
+        singleRowRelay.relay();
+
+        // then
+        assertThat(delivered).containsExactly("shipping:placed");
+        assertThat(outboxEventRepository.findById(failed.getId()).orElseThrow().getStatus())
+                .isEqualTo(OutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 이벤트는 DEAD 로 전환하고 미발행 건수에서 제외한다")
+    void deadLettersExhaustedEvents() throws Exception {
+        // given
+        OutboxRelay singleAttemptRelay = relay(100, 10, 1);
+        failing.add("shipping:confirmed");
+        OutboxEvent failed = append("shipping", "Order", 1L, "confirmed");
+
+        // when
+        singleAttemptRelay.relay();
+
+        // then
+        OutboxEvent dead = outboxEventRepository.findById(failed.getId()).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(1);
+        assertThat(outboxEventRepository.countPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 컨텍스트의 핸들러가 실패해도 같은 Aggregate 이벤트를 다른 컨텍스트에는 계속 전달한다")
+    void isolatesConsumers() throws Exception {
+        // given
+        failing.add("notification:confirmed");
+        OutboxEvent notification = append("notification", "Order", 1L, "confirmed");
+        OutboxEvent shipping = append("shipping", "Order", 1L, "confirmed");
+        append("notification", "Order", 1L, "completed");
+        append("shipping", "Order", 1L, "completed");
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(delivered).containsExactly("shipping:confirmed", "shipping:completed");
+        assertThat(outboxEventRepository.findById(notification.getId()).orElseThrow().getAttempts()).isEqualTo(1);
+        assertThat(outboxEventRepository.findById(shipping.getId()).orElseThrow().getStatus())
+                .isEqualTo(OutboxStatus.PUBLISHED);
+    }
+
+    private OutboxEvent append(String consumer, String aggregateType, Long aggregateId, String name) throws Exception {
+        TestEvent event = new TestEvent(name);
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .consumer(consumer)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(TestEvent.class.getName())
+                .payload(objectMapper.writeValueAsString(event))
+                .occurredOn(event.getOccurredOn())
+                .build());
+    }
+}
@@ -0,0 +1,63 @@
+package com.ecommerce.shared.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+/**
+ * 테스트용 SQL 실행 횟수 측정
+ * Hibernate 통계의 PreparedStatement 수로 측정하며, 목록 크기에 따라 쿼리 수가 늘어나는 N+1 회귀를 잡는 데 사용
+ */
+public final class QueryCounter {
+
+    private final Statistics statistics;
+
+    private QueryCounter(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    public static QueryCounter of(EntityManager entityManager) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        return new QueryCounter(statistics);
+    }
+
+    /**
+     * 작업 중 실행된 SQL 수
+     */
+    public long count(Runnable action) {
+        return measure(() -> {
+            action.run();
+            return null;
+        }).queryCount();
+    }
+
+    /**
+     * 작업 결과와 실행된 SQL 수
+     */
+    public <T> Measured<T> measure(Supplier<T> action) {
+        statistics.clear();
+        T result = action.get();
+        return new Measured<>(result, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * 실행된 SQL 이 최대 개수를 넘으면 실패
+     */
+    public <T> T assertAtMost(long maxQueries, Supplier<T> action) {
+        Measured<T> measured = measure(action);
+        if (measured.queryCount() > maxQueries) {
+            throw new AssertionError("SQL 실행 횟수 초과 - 허용: " + maxQueries
+                    + ", 실행: " + measured.queryCount()
+                    + ", 쿼리: " + String.join(" | ", statistics.getQueries()));
+        }
+        return measured.result();
+    }
+
+    public record Measured<T>(T result, long queryCount) {
+    }
+}
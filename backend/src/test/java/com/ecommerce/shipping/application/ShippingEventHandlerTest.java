@@ -0,0 +1,92 @@
+package com.ecommerce.shipping.application;
+
+import com.ecommerce.order.domain.Order;
+import com.ecommerce.order.domain.event.OrderConfirmedEvent;
+import com.ecommerce.order.domain.event.OrderSnapshot;
+import com.ecommerce.shipping.domain.Shipping;
+import com.ecommerce.shipping.domain.ShippingRepository;
+import com.ecommerce.shipping.domain.event.ShippingStartedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ShippingEventHandler 테스트")
+@ExtendWith(MockitoExtension.class)
+class ShippingEventHandlerTest {
+
+    // OutboxRelay 와 같은 역직렬화 설정 (아웃박스를 거쳐도 스냅샷이 유지되는지 확인)
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .setConstructorDetector(ConstructorDetector.USE_PROPERTIES_BASED);
+
+    @Mock
+    private ShippingRepository shippingRepository;
+
+    @InjectMocks
+    private ShippingEventHandler shippingEventHandler;
+
+    @Test
+    @DisplayName("주문 확인 이벤트의 스냅샷으로 실제 배송지와 고객 연락처를 가진 배송을 생성한다")
+    void createsShippingFromSnapshot() throws Exception {
+        // given
+        OrderConfirmedEvent event = roundTrip(confirmedEvent());
+        given(shippingRepository.existsByOrderId(any())).willReturn(false);
+        given(shippingRepository.save(any(Shipping.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        shippingEventHandler.handleOrderConfirmed(event);
+
+        // then
+        ArgumentCaptor<Shipping> captor = ArgumentCaptor.forClass(Shipping.class);
+        verify(shippingRepository).save(captor.capture());
+        Shipping shipping = captor.getValue();
+        assertThat(shipping.getShippingAddress().getRecipientName()).isEqualTo("수령인");
+        assertThat(shipping.getShippingAddress().getFullAddress()).isEqualTo("서울시 강남구 101호");
+        assertThat(shipping.getShippingMemo()).isEqualTo("문 앞");
+        assertThat(shipping.getOrderInfo().getCustomerPhone()).isEqualTo("010-9999-8888");
+        assertThat(shipping.getOrderInfo().getItemSummary()).isEqualTo("상품A 외 1건");
+
+        // 배송 이벤트에도 같은 정보가 담김
+        shipping.startPreparing("CJ대한통운");
+        ShippingStartedEvent started = (ShippingStartedEvent) shipping.getDomainEvents().get(0);
+        assertThat(started.getSnapshot().customerId()).isEqualTo(7L);
+        assertThat(started.getSnapshot().customerEmail()).isEqualTo("buyer@test.com");
+        assertThat(started.getSnapshot().postalCode()).isEqualTo("12345");
+    }
+
+    private static OrderConfirmedEvent confirmedEvent() {
+        Order order = Order.builder()
+                .customerId(7L)
+                .recipientName("수령인")
+                .recipientPhone("010-1234-5678")
+                .shippingPostalCode("12345")
+                .shippingAddress("서울시 강남구")
+                .shippingAddressDetail("101호")
+                .shippingMemo("문 앞")
+                .build();
+        order.addItem(1L, "상품A", null, 1, BigDecimal.valueOf(1000));
+        order.addItem(2L, "상품B", null, 2, BigDecimal.valueOf(2000));
+        order.place();
+        order.clearDomainEvents();
+
+        order.confirm(10L, new OrderSnapshot.Customer(7L, "구매자", "buyer@test.com", "010-9999-8888"));
+        return (OrderConfirmedEvent) order.getDomainEvents().get(0);
+    }
+
+    private static OrderConfirmedEvent roundTrip(OrderConfirmedEvent event) throws Exception {
+        return OBJECT_MAPPER.readValue(OBJECT_MAPPER.writeValueAsString(event), OrderConfirmedEvent.class);
+    }
+}